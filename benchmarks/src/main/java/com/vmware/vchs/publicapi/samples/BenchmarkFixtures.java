@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+
+/**
+ * BenchmarkFixtures
+ * 
+ * Loads the recorded vCHS and vCloud API responses under /fixtures on the classpath. Responses are
+ * kept as bytes and wrapped in a fresh HttpEntity per call, the way HttpUtils.unmarshal() sees them
+ * coming off the wire.
+ */
+final class BenchmarkFixtures {
+    static final Charset UTF8 = Charset.forName("UTF-8");
+
+    // Recorded vAppTemplate query page holding a single VAppTemplateRecord
+    static final String QUERY_RECORDS = "query-vapptemplate-records.xml";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Returns the bytes of the named fixture.
+     * 
+     * @param name
+     *            the file name of the fixture under /fixtures
+     * @return the fixture content
+     */
+    static byte[] load(String name) {
+        InputStream is = BenchmarkFixtures.class.getResourceAsStream("/fixtures/" + name);
+        if (null == is) {
+            throw new RuntimeException("Fixture not found: " + name);
+        }
+
+        try {
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                os.write(buffer, 0, read);
+            }
+
+            return os.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            try {
+                is.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * Builds a QueryResultRecords page holding the given number of records by repeating the record
+     * of the recorded vAppTemplate query, each one with its own name and href.
+     * 
+     * @param records
+     *            the number of records of the page
+     * @return the page content
+     */
+    static byte[] queryRecords(int records) {
+        String page = new String(load(QUERY_RECORDS), UTF8);
+
+        int start = page.indexOf("<VAppTemplateRecord ");
+        int end = page.indexOf("/>", start) + 2;
+        String record = page.substring(start, end);
+
+        StringBuilder sb = new StringBuilder(page.length() + records * record.length());
+        sb.append(page.substring(0, start).replace("total=\"1\"", "total=\"" + records + "\"")
+                .replace("pageSize=25", "pageSize=" + records)
+                .replace("pageSize=\"25\"", "pageSize=\"" + records + "\""));
+        for (int i = 0; i < records; i++) {
+            sb.append(record.replace("CentOS64-64BIT", "CentOS64-64BIT-" + i).replace(
+                    "vappTemplate-3e4f5a6b", String.format("vappTemplate-%08x", i)));
+            sb.append("\n    ");
+        }
+        sb.append(page.substring(end));
+
+        return sb.toString().getBytes(UTF8);
+    }
+
+    /**
+     * Wraps the content in an entity as returned by the transport.
+     * 
+     * @param content
+     *            the response body
+     * @return a new entity streaming the content
+     */
+    static HttpEntity entity(byte[] content) {
+        return new ByteArrayEntity(content);
+    }
+}
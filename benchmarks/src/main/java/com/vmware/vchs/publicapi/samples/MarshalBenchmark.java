@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBElement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MarshalBenchmark
+ * 
+ * Measures building and marshalling the request bodies VMCreateSample and GatewayRuleSample post,
+ * the same way XmlEntity does it for each request, with the generated StaxBinders writers and with
+ * JAXB, and rendering them from a PayloadTemplate compiled once (binding template) as the batch
+ * modes of the samples do.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MarshalBenchmark {
+    static final String VAPP_TEMPLATE_HREF = "https://p1v14-vcd.vchs.vmware.com/api/vAppTemplate/vappTemplate-3e4f5a6b-7c8d-4e9f-a0b1-2c3d4e5f6a7b";
+    static final String NETWORK_HREF = "https://p1v14-vcd.vchs.vmware.com/api/admin/network/e04b5c6d-7e8f-4a9b-8c1d-2e3f4a5b6c7d";
+
+    @Param({ "stax", "jaxb", "template" })
+    String binding;
+
+    private final PayloadTemplate.Slot<String> vappName = PayloadTemplate.slot("vappName");
+    private final PayloadTemplate.Slot<String> vappTemplateHref = PayloadTemplate
+            .slot("vappTemplateHref");
+    private final PayloadTemplate.Slot<String> networkHref = PayloadTemplate.slot("networkHref");
+    private final PayloadTemplate.Slot<String> externalIp = PayloadTemplate.slot("externalIp");
+    private final PayloadTemplate.Slot<String> internalIp = PayloadTemplate.slot("internalIp");
+
+    private PayloadTemplate instantiateTemplate;
+    private PayloadTemplate deployTemplate;
+    private PayloadTemplate gatewayTemplate;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        StaxBinding.setEnabled(!"jaxb".equals(binding));
+
+        instantiateTemplate = PayloadTemplate.compile(VMCreateSample
+                .createInstantiateVAppTemplateParams(vappName.marker(), vappTemplateHref.marker()),
+                SampleConstants.CONTENT_TYPE_INSTANTIATE_VAPP_TEMPLATE, vappName,
+                vappTemplateHref);
+        deployTemplate = PayloadTemplate.compile(VMCreateSample.createDeployVAppParams(),
+                SampleConstants.CONTENT_TYPE_DEPLOY_VAPP);
+        gatewayTemplate = PayloadTemplate.compile(GatewayRuleSample.createGatewayFeatures(
+                networkHref.marker(), externalIp.marker(), internalIp.marker()),
+                SampleConstants.CONTENT_TYPE_EDGE_GATEWAY, networkHref, externalIp, internalIp);
+    }
+
+    @Benchmark
+    public byte[] instantiateVAppTemplateParams() {
+        if ("template".equals(binding)) {
+            return instantiateTemplate.render(vappName.value("web-01"),
+                    vappTemplateHref.value(VAPP_TEMPLATE_HREF));
+        }
+
+        return marshal(VMCreateSample.createInstantiateVAppTemplateParams("web-01",
+                VAPP_TEMPLATE_HREF));
+    }
+
+    @Benchmark
+    public byte[] deployVAppParams() {
+        if ("template".equals(binding)) {
+            return deployTemplate.render();
+        }
+
+        return marshal(VMCreateSample.createDeployVAppParams());
+    }
+
+    @Benchmark
+    public byte[] edgeGatewayServiceConfiguration() {
+        if ("template".equals(binding)) {
+            return gatewayTemplate.render(networkHref.value(NETWORK_HREF),
+                    externalIp.value("23.92.225.21"), internalIp.value("192.168.109.2"));
+        }
+
+        return marshal(GatewayRuleSample.createGatewayFeatures(NETWORK_HREF, "23.92.225.21",
+                "192.168.109.2"));
+    }
+
+    // Same as XmlEntity: marshal compact XML, here to a buffer rather than the request stream
+    private static byte[] marshal(JAXBElement<?> element) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        XmlBinding.marshal(element, os, false);
+        return os.toByteArray();
+    }
+}
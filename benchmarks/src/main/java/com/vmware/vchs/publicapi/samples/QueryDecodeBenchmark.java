@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBElement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.vmware.vcloud.api.rest.schema.QueryResultRecordType;
+import com.vmware.vcloud.api.rest.schema.QueryResultRecordsType;
+import com.vmware.vcloud.api.rest.schema.QueryResultVAppTemplateRecordType;
+
+/**
+ * QueryDecodeBenchmark
+ * 
+ * Compares the decoders of a large vAppTemplate query page reading the name and href of every
+ * record: JAXB, QueryRecord (every attribute of every record, with a pull parser) and QueryRow
+ * (only the name and href, into a flyweight). Run with -prof gc to compare the bytes allocated
+ * per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueryDecodeBenchmark {
+    @Param({ "10000", "50000" })
+    int records;
+
+    byte[] content;
+    PagedQuery.PageDecoder<QueryRow> rowDecoder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        content = BenchmarkFixtures.queryRecords(records);
+        rowDecoder = QueryRow.decoder(Query.NAME, "href");
+
+        // Fail fast on a decoder that misses records rather than measuring less work
+        int decoded = QueryRecord.DECODER.decode(BenchmarkFixtures.entity(content)).records
+                .size();
+        if (decoded != records
+                || rowDecoder.decode(BenchmarkFixtures.entity(content)).records.size() != records) {
+            throw new RuntimeException("Expected " + records + " records but got " + decoded);
+        }
+    }
+
+    @Benchmark
+    public void jaxb(Blackhole blackhole) {
+        QueryResultRecordsType page = HttpUtils.unmarshal(BenchmarkFixtures.entity(content),
+                QueryResultRecordsType.class);
+
+        for (JAXBElement<? extends QueryResultRecordType> record : page.getRecord()) {
+            QueryResultVAppTemplateRecordType template =
+                    (QueryResultVAppTemplateRecordType) record.getValue();
+            blackhole.consume(template.getName());
+            blackhole.consume(template.getHref());
+        }
+    }
+
+    @Benchmark
+    public void queryRecord(Blackhole blackhole) {
+        for (QueryRecord record : QueryRecord.DECODER.decode(BenchmarkFixtures.entity(content))
+                .records) {
+            blackhole.consume(record.getName());
+            blackhole.consume(record.getHref());
+        }
+    }
+
+    @Benchmark
+    public void queryRow(Blackhole blackhole) {
+        for (QueryRow row : rowDecoder.decode(BenchmarkFixtures.entity(content)).records) {
+            blackhole.consume(row.get(0));
+            blackhole.consume(row.get(1));
+        }
+    }
+}
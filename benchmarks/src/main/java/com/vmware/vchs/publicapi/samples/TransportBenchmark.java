@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.vmware.vcloud.api.rest.schema.QueryResultRecordsType;
+
+/**
+ * TransportBenchmark
+ * 
+ * Compares the http transports available to the samples by making the same vCloud Query API
+ * request from 8 threads against a local stand-in server, which answers every request with the
+ * recorded vAppTemplate query page.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class TransportBenchmark {
+    @Param({ SampleConstants.TRANSPORT_APACHE, SampleConstants.TRANSPORT_JDK })
+    String transport;
+
+    DefaultSampleCommandLineOptions options;
+    HttpServer server;
+    String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        options = new DefaultSampleCommandLineOptions();
+        options.vcdVersion = SampleConstants.DEFAULT_VCD_VERSION;
+
+        server = startServer(BenchmarkFixtures.load(BenchmarkFixtures.QUERY_RECORDS));
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        HttpUtils.setTransport(HttpUtils.createTransport(transport));
+
+        // Fail fast on a transport that does not work rather than measuring an exception
+        if (null == query()) {
+            throw new RuntimeException("Query failed with transport " + transport);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public QueryResultRecordsType query() {
+        return HttpUtils.getQueryResults(baseUrl, "type=vAppTemplate", options, "token");
+    }
+
+    /**
+     * Starts the local stand-in server on a free port, answering every request with the passed
+     * in query page.
+     */
+    private static HttpServer startServer(final byte[] page) throws IOException {
+        // Without TCP_NODELAY the server's separate header and body writes stall on delayed ACKs,
+        // adding ~40ms to every request and hiding any difference between the transports
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getResponseHeaders().set("Content-Type",
+                        "application/vnd.vmware.vcloud.query.records+xml;version=5.6");
+                exchange.sendResponseHeaders(HttpStatus.SC_OK, page.length);
+                OutputStream os = exchange.getResponseBody();
+                os.write(page);
+                os.close();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool(HttpUtils
+                .daemonThreadFactory("transport-benchmark-server")));
+        server.start();
+
+        return server;
+    }
+}
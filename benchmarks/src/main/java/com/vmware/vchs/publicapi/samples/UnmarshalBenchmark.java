@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vmware.ares.pub.api.ComputeType;
+import com.vmware.ares.pub.api.ServiceListType;
+import com.vmware.ares.pub.api.SessionType;
+import com.vmware.ares.pub.api.VCloudSessionType;
+import com.vmware.vcloud.api.rest.schema.GatewayType;
+import com.vmware.vcloud.api.rest.schema.QueryResultRecordsType;
+import com.vmware.vcloud.api.rest.schema.TaskType;
+import com.vmware.vcloud.api.rest.schema.VAppType;
+import com.vmware.vcloud.api.rest.schema.VdcType;
+
+/**
+ * UnmarshalBenchmark
+ * 
+ * Measures HttpUtils.unmarshal() for each of the responses the samples read, from the vCHS login
+ * down to the vCloud Director task polled while a vApp is deployed. The vdc, vapp, task and
+ * edgegateway responses are read with the generated StaxBinders readers or with JAXB, depending on
+ * the binding.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnmarshalBenchmark {
+    @Param({ "session", "servicelist", "compute", "vcloudsession", "vdc", "vapp", "task",
+            "edgegateway" })
+    String fixture;
+
+    @Param({ "stax", "jaxb" })
+    String binding;
+
+    byte[] content;
+    Class<?> type;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        content = BenchmarkFixtures.load(fixture + ".xml");
+        type = typeOf(fixture);
+        StaxBinding.setEnabled("stax".equals(binding));
+
+        // Fail fast on a fixture that does not bind rather than measuring an exception
+        if (null == HttpUtils.unmarshal(BenchmarkFixtures.entity(content), type)) {
+            throw new RuntimeException("Fixture did not unmarshal: " + fixture);
+        }
+    }
+
+    @Benchmark
+    public Object unmarshal() {
+        return HttpUtils.unmarshal(BenchmarkFixtures.entity(content), type);
+    }
+
+    private static Class<?> typeOf(String fixture) {
+        if ("session".equals(fixture)) {
+            return SessionType.class;
+        } else if ("servicelist".equals(fixture)) {
+            return ServiceListType.class;
+        } else if ("compute".equals(fixture)) {
+            return ComputeType.class;
+        } else if ("vcloudsession".equals(fixture)) {
+            return VCloudSessionType.class;
+        } else if ("vdc".equals(fixture)) {
+            return VdcType.class;
+        } else if ("vapp".equals(fixture)) {
+            return VAppType.class;
+        } else if ("task".equals(fixture)) {
+            return TaskType.class;
+        } else if ("edgegateway".equals(fixture)) {
+            return GatewayType.class;
+        }
+
+        throw new IllegalArgumentException("Unknown fixture: " + fixture);
+    }
+
+    /**
+     * QueryRecords
+     * 
+     * Measures HttpUtils.unmarshal() of a QueryResultRecords page as the page size grows, the
+     * response VMCreateSample and GatewayRuleSample read to look up templates and gateways.
+     */
+    @BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    @State(Scope.Thread)
+    public static class QueryRecords {
+        @Param({ "10", "100", "1000", "10000" })
+        int records;
+
+        byte[] content;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            content = BenchmarkFixtures.queryRecords(records);
+
+            QueryResultRecordsType result = HttpUtils.unmarshal(
+                    BenchmarkFixtures.entity(content), QueryResultRecordsType.class);
+            if (result.getRecord().size() != records) {
+                throw new RuntimeException("Expected " + records + " records but got "
+                        + result.getRecord().size());
+            }
+        }
+
+        @Benchmark
+        public QueryResultRecordsType unmarshal() {
+            return HttpUtils.unmarshal(BenchmarkFixtures.entity(content),
+                    QueryResultRecordsType.class);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXB;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vmware.vcloud.api.rest.schema.DeployVAppParamsType;
+import com.vmware.vcloud.api.rest.schema.TaskType;
+
+/**
+ * XmlBindingBenchmark
+ * 
+ * Measures the per call cost of the XML binding done by the samples, comparing the way it used to
+ * be done (JAXB.unmarshal() and a new JAXBContext and Marshaller per request) with the shared
+ * XmlBinding JAXBContext and per thread Marshaller/Unmarshaller.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class XmlBindingBenchmark {
+    byte[] task;
+    JAXBElement<DeployVAppParamsType> deploy;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        task = BenchmarkFixtures.load("task.xml");
+        deploy = VMCreateSample.createDeployVAppParams();
+    }
+
+    @Benchmark
+    public TaskType unmarshalTaskJaxb() {
+        return JAXB.unmarshal(new ByteArrayInputStream(task), TaskType.class);
+    }
+
+    @Benchmark
+    public TaskType unmarshalTaskXmlBinding() {
+        return XmlBinding.unmarshal(new ByteArrayInputStream(task), TaskType.class);
+    }
+
+    @Benchmark
+    public byte[] marshalDeployNewContext() throws JAXBException {
+        JAXBContext jaxbContexts = JAXBContext.newInstance(DeployVAppParamsType.class);
+        Marshaller marshaller = jaxbContexts.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        marshaller.marshal(deploy, os);
+        return os.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] marshalDeployXmlBinding() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        XmlBinding.marshal(deploy, os);
+        return os.toByteArray();
+    }
+}
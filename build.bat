@@ -23,6 +23,14 @@ for %%i in ("lib\*.jar") do call lcp.bat %CD%\%%i
 @echo Compiling samples and adding to build\classes folder.
 
 mkdir .\build\classes
+
+REM StaxBinders.java is generated from the schema jar, regenerate it before compiling the samples
+@echo Generating StaxBinders.
+%JAVAHOME%\bin\javac -d ./build/classes -classpath "%LOCALCLASSPATH%" %SAMPLEDIR%\StaxBinderGenerator.java
+if ERRORLEVEL 1 goto END
+%JAVAHOME%\bin\java -classpath "%LOCALCLASSPATH%;%CD%\build\classes" com.vmware.vchs.publicapi.samples.StaxBinderGenerator .\src\main\java
+if ERRORLEVEL 1 goto END
+
 %JAVAHOME%\bin\javac -XDignore.symbol.file -d ./build/classes -classpath "%LOCALCLASSPATH%" %SAMPLEDIR%\*.java
 
 cd ..
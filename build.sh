@@ -13,4 +13,10 @@ echo cleaning...
 rm -rf ./build/classes
 
 mkdir -pv ./build/classes
+
+# StaxBinders.java is generated from the schema jar, regenerate it before compiling the samples
+echo generating StaxBinders...
+javac -cp "./lib/*" -d ./build/classes ./src/main/java/com/vmware/vchs/publicapi/samples/StaxBinderGenerator.java || exit 1
+java -cp "./lib/*:./build/classes" com.vmware.vchs.publicapi.samples.StaxBinderGenerator ./src/main/java || exit 1
+
 javac -cp "$JAVA_HOME/bin/tools.jar:./lib/*" -d ./build/classes ./src/main/java/com/vmware/vchs/publicapi/samples/*.java
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.IOException;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+
+/**
+ * This class provides an HttpTransport using the Apache HttpClient library. A single HttpClient
+ * backed by a pooling connection manager is shared by every request so that repeated calls to
+ * the same vCHS and vCloud hosts reuse already established (and TLS negotiated) connections.
+ */
+public class ApacheHttpTransport implements HttpTransport {
+    private final HttpClient httpClient = createHttpClient();
+
+    @Override
+    public HttpResponse execute(HttpRequestBase request) {
+        try {
+            return httpClient.execute(request);
+        } catch (ClientProtocolException e) {
+            request.abort();
+            throw new RuntimeException(e);
+        } catch (IOException e) {
+            request.abort();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        httpClient.getConnectionManager().shutdown();
+    }
+
+    /**
+     * This method returns an HttpClient instance wrapped to trust all HTTPS certificates. The
+     * instance is backed by a PoolingClientConnectionManager and is safe to share between threads.
+     * 
+     * @return HttpClient a new instance of HttpClient
+     */
+    static HttpClient createHttpClient() {
+        SSLSocketFactory ssf = new SSLSocketFactory(HttpUtils.createTrustAllSSLContext(),
+                SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+        SchemeRegistry sr = SchemeRegistryFactory.createDefault();
+        sr.register(new Scheme("https", 443, ssf));
+
+        PoolingClientConnectionManager ccm = new PoolingClientConnectionManager(sr);
+        ccm.setMaxTotal(SampleConstants.MAX_TOTAL_CONNECTIONS);
+        ccm.setDefaultMaxPerRoute(SampleConstants.MAX_CONNECTIONS_PER_ROUTE);
+
+        return new DefaultHttpClient(ccm);
+    }
+}
@@ -29,9 +29,9 @@ public class GatewayRuleCommandLineOptions extends DefaultSampleCommandLineOptio
 
     // Apache CLI Option array for GatewayRuleSample command line options
     Option[] options = new Option[] {
-        new Option(OPTION_INTERNALIP, true, "NAT rule internal IP address."),
-        new Option(OPTION_EXTERNALIP, true, "NAT rule external IP address."),
-        new Option(OPTION_EDGEGATEWAY, true, "The EdgeGateway where these NAT and Firewall rules are applied.")
+        new Option(OPTION_INTERNALIP, true, "NAT rule internal IP address, comma separated to configure several gateways."),
+        new Option(OPTION_EXTERNALIP, true, "NAT rule external IP address, comma separated to configure several gateways."),
+        new Option(OPTION_EDGEGATEWAY, true, "The EdgeGateway where these NAT and Firewall rules are applied, comma separated to configure several gateways.")
     };
 
     /*
@@ -14,26 +14,18 @@
  */
 package com.vmware.vchs.publicapi.samples;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
-import javax.xml.bind.JAXBException;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
-import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
 
 import com.vmware.ares.pub.api.ComputeType;
 import com.vmware.ares.pub.api.LinkType;
@@ -81,6 +73,10 @@ import com.vmware.vcloud.api.rest.schema.VdcType;
  * The command line option --edgegateway is the name of the gateway that the vApp connects to in
  * the VDC where the vApp resides.
  * 
+ * Several gateways can be configured at once by passing comma separated lists of the same length
+ * to --edgegateway, --externalip and --internalip, the nth gateway getting the rules for the nth
+ * ips. The request bodies are then rendered from a PayloadTemplate marshalled once.
+ * 
  * Steps:
  *   1) Log in to vCHS
  *   2) Get the list of the compute services
@@ -117,6 +113,20 @@ public class GatewayRuleSample {
     private Vcd vcd = null;
     private GatewayRuleCommandLineOptions options = null;
 
+    // Waits for the gateway task from its event, used only when a notification broker was given
+    private final TaskMonitor taskMonitor = new TaskMonitor();
+
+    // The slots of the gateway configuration body
+    private static final PayloadTemplate.Slot<String> NETWORK_HREF = PayloadTemplate
+            .slot("networkHref");
+    private static final PayloadTemplate.Slot<String> EXTERNAL_IP = PayloadTemplate
+            .slot("externalIp");
+    private static final PayloadTemplate.Slot<String> INTERNAL_IP = PayloadTemplate
+            .slot("internalIp");
+
+    // The gateway configuration body, compiled when configuring more than one gateway
+    private PayloadTemplate rulesTemplate = null;
+
     /**
      * @param args
      *            any arguments passed by the command line, if none, defaults are used where
@@ -139,6 +149,9 @@ public class GatewayRuleSample {
         options = new GatewayRuleCommandLineOptions();
         options.parseOptions(args);
 
+        // Subscribe before the gateway task is started so that its event is not missed
+        taskMonitor.listenToBroker(options);
+
         System.out.print("\nConnecting to vCHS...");
 
         // Instance of Vchs for this sample
@@ -165,8 +178,28 @@ public class GatewayRuleSample {
             // Find the details regarding the network on which nat rules are to be applied, the link
             // to action to be performed to update gateways and then add nat and firewall rules to
             // gateway
-            System.out.print("Adding NAT and Firewall rules...");
-            addRules(edgeGatewaysHref);
+            String[] edgeGateways = options.edgeGateway.split(",");
+            String[] externalIps = options.externalIp.split(",");
+            String[] internalIps = options.internalIp.split(",");
+            if (externalIps.length != edgeGateways.length
+                    || internalIps.length != edgeGateways.length) {
+                throw new IllegalArgumentException("Pass as many external and internal ips as "
+                        + "edge gateways");
+            }
+
+            if (edgeGateways.length > 1) {
+                rulesTemplate = PayloadTemplate.compile(createGatewayFeatures(
+                        NETWORK_HREF.marker(), EXTERNAL_IP.marker(), INTERNAL_IP.marker()),
+                        SampleConstants.CONTENT_TYPE_EDGE_GATEWAY, NETWORK_HREF, EXTERNAL_IP,
+                        INTERNAL_IP);
+            }
+
+            for (int i = 0; i < edgeGateways.length; i++) {
+                System.out.print((i > 0 ? "\n" : "") + "Adding NAT and Firewall rules to "
+                        + edgeGateways[i].trim() + "...");
+                addRules(edgeGatewaysHref, edgeGateways[i].trim(), externalIps[i].trim(),
+                        internalIps[i].trim());
+            }
         }
     }
     /**
@@ -205,8 +238,15 @@ public class GatewayRuleSample {
      * 
      * @param edgeGatewaysHref
      *            the Href to the edgegateways
+     * @param edgeGateway
+     *            the name of the gateway
+     * @param externalIp
+     *            the external ip of the nat rules
+     * @param internalIp
+     *            the internal ip of the nat rules
      */
-    private void addRules(String edgeGatewaysHref) {
+    private void addRules(String edgeGatewaysHref, String edgeGateway, String externalIp,
+            String internalIp) {
         // invoking API for EdgeGateways
         HttpResponse response = HttpUtils.httpInvoke(vcd.get(edgeGatewaysHref, options));
         QueryResultRecordsType queryRecords = HttpUtils.unmarshal(response.getEntity(),
@@ -219,7 +259,7 @@ public class GatewayRuleSample {
             QueryResultEdgeGatewayRecordType rslt = new QueryResultEdgeGatewayRecordType();
             rslt = (QueryResultEdgeGatewayRecordType) qResult.getValue();
 
-            if (rslt.getName().equalsIgnoreCase(options.edgeGateway)) {
+            if (rslt.getName().equalsIgnoreCase(edgeGateway)) {
                 gatewayHref = rslt.getHref();
                 // Found, break from loop
                 break;
@@ -233,10 +273,10 @@ public class GatewayRuleSample {
             String serviceConfHref = getServiceConfHref(gatewayHref);
 
             // Retrieving the Href for the network,on which nat rules to be applied on
-            String networkHref = getNetworkHref(gatewayHref);
+            String networkHref = getNetworkHref(gatewayHref, externalIp);
             if (networkHref != null) {
                 // Performing the main action of sample that is adding nat and firewall rules
-                configureRules(networkHref, serviceConfHref);
+                configureRules(networkHref, serviceConfHref, externalIp, internalIp);
             } else {
                 throw new RuntimeException("\nFailed to find network to be used to apply rules.");
             }
@@ -283,9 +323,11 @@ public class GatewayRuleSample {
      * 
      * @param gatewayHref
      *            the href to the gateway to be used
+     * @param externalIp
+     *            the external ip of the nat rules
      * @return href the interface on which the rules need to be applied
      */
-    private String getNetworkHref(String gatewayHref) {
+    private String getNetworkHref(String gatewayHref, String externalIp) {
         // Represents the Gateway
         HttpResponse response = HttpUtils.httpInvoke(vcd.get(gatewayHref, options));
         GatewayType gateway = HttpUtils.unmarshal(response.getEntity(), GatewayType.class);
@@ -315,7 +357,7 @@ public class GatewayRuleSample {
                         try {
                             startAddress = ipToLong(InetAddress.getByName(ipR.getStartAddress()));
                             endAddresss = ipToLong(InetAddress.getByName(ipR.getEndAddress()));
-                            ipToTest = ipToLong(InetAddress.getByName(options.externalIp));
+                            ipToTest = ipToLong(InetAddress.getByName(externalIp));
                         } catch (UnknownHostException e) {
                             e.printStackTrace();
                         }
@@ -356,15 +398,20 @@ public class GatewayRuleSample {
     }
 
     /**
-     * This method is to configure NAT and Firewall Rules to the EdgeGateway
+     * This method creates the EdgeGatewayServiceConfiguration request body adding a DNAT and SNAT
+     * rule between the external and internal ip, and a firewall rule allowing incoming access to
+     * the external ip.
      * 
      * @param networkHref
      *            the href to the network on which nat rules to be applied
-     * @param serviceConfHref
-     *            the href to the service configure action of gateway
-     * @return
+     * @param externalIp
+     *            the external ip of the nat rules
+     * @param internalIp
+     *            the internal ip of the nat rules
+     * @return the JAXB element to marshal as the request body
      */
-    private void configureRules(String networkHref, String serviceConfHref) {
+    static JAXBElement<GatewayFeaturesType> createGatewayFeatures(String networkHref,
+            String externalIp, String internalIp) {
         // NAT Rules
         NatServiceType natService = new NatServiceType();
 
@@ -385,10 +432,10 @@ public class GatewayRuleSample {
         dgatewayNat.setInterface(refd);
 
         // Setting Original IP
-        dgatewayNat.setOriginalIp(options.externalIp);
+        dgatewayNat.setOriginalIp(externalIp);
         dgatewayNat.setOriginalPort("any");
 
-        dgatewayNat.setTranslatedIp(options.internalIp);
+        dgatewayNat.setTranslatedIp(internalIp);
 
         // To allow all ports and all protocols
         // dgatewayNat.setTranslatedPort("any");
@@ -419,10 +466,10 @@ public class GatewayRuleSample {
         sgatewayNat.setInterface(refd);
 
         // Setting Original IP
-        sgatewayNat.setOriginalIp(options.internalIp);
+        sgatewayNat.setOriginalIp(internalIp);
         //sgatewayNat.setOriginalPort("any");
 
-        sgatewayNat.setTranslatedIp(options.externalIp);
+        sgatewayNat.setTranslatedIp(externalIp);
 
         // Setting Source IP
         snatRule.setGatewayNatRule(sgatewayNat);
@@ -451,7 +498,7 @@ public class GatewayRuleSample {
         firewallProtocol.setAny(Boolean.TRUE);
         firewallInRule.setProtocols(firewallProtocol);
         firewallInRule.setDestinationPortRange("any");
-        firewallInRule.setDestinationIp(options.externalIp);
+        firewallInRule.setDestinationIp(externalIp);
         firewallInRule.setSourcePortRange("Any");
         firewallInRule.setSourceIp("external");
         firewallInRule.setEnableLogging(Boolean.FALSE);
@@ -466,34 +513,40 @@ public class GatewayRuleSample {
                 .createNetworkService(firewallService);
         gatewayFeatures.getNetworkService().add(serviceType);
         gatewayFeatures.getNetworkService().add(firewallserviceType);
-        JAXBContext jaxbContexts = null;
 
-        try {
-            jaxbContexts = JAXBContext.newInstance(GatewayFeaturesType.class);
-        } catch (JAXBException ex) {
-            ex.printStackTrace();
-        }
+        return objectFactory.createEdgeGatewayServiceConfiguration(gatewayFeatures);
+    }
 
-        OutputStream os = null;
-        JAXBElement<GatewayFeaturesType> gateway_Features = objectFactory
-                .createEdgeGatewayServiceConfiguration(gatewayFeatures);
+    /**
+     * This method is to configure NAT and Firewall Rules to the EdgeGateway
+     * 
+     * @param networkHref
+     *            the href to the network on which nat rules to be applied
+     * @param serviceConfHref
+     *            the href to the service configure action of gateway
+     * @param externalIp
+     *            the external ip of the nat rules
+     * @param internalIp
+     *            the internal ip of the nat rules
+     * @return
+     */
+    private void configureRules(String networkHref, String serviceConfHref, String externalIp,
+            String internalIp) {
+        HttpPost httpPost = vcd.post(serviceConfHref, options);
 
-        try {
-            javax.xml.bind.Marshaller marshaller = jaxbContexts.createMarshaller();
-            marshaller.setProperty(javax.xml.bind.Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            os = new ByteArrayOutputStream();
+        if (null != rulesTemplate) {
+            // Only fill in the network and ips in the precompiled body
+            httpPost.setEntity(rulesTemplate.entity(NETWORK_HREF.value(networkHref),
+                    EXTERNAL_IP.value(externalIp), INTERNAL_IP.value(internalIp)));
+        } else {
+            JAXBElement<GatewayFeaturesType> gateway_Features = createGatewayFeatures(
+                    networkHref, externalIp, internalIp);
 
-            // Marshal the JAXB class to XML
-            marshaller.marshal(gateway_Features, os);
-        } catch (JAXBException e) {
-            e.printStackTrace();
+            // Stream the JAXB class as XML
+            httpPost.setEntity(new XmlEntity(gateway_Features,
+                    SampleConstants.CONTENT_TYPE_EDGE_GATEWAY));
         }
 
-        HttpPost httpPost = vcd.post(serviceConfHref, options);
-        ContentType contentType = ContentType.create(SampleConstants.CONTENT_TYPE_EDGE_GATEWAY,
-                "ISO-8859-1");
-        StringEntity rules = new StringEntity(os.toString(), contentType);
-        httpPost.setEntity(rules);
         InputStream is = null;
 
         // Invoking api to add rules to gateway
@@ -505,6 +558,8 @@ public class GatewayRuleSample {
             System.out.println("\nRequest To update Gateway initiated sucessfully");
             System.out.print("\nUpdating EdgeGateways to add NAT and Firewall Rules...");
             taskStatus(response);
+        } else {
+            HttpUtils.consume(response);
         }
     }
 
@@ -517,22 +572,16 @@ public class GatewayRuleSample {
     private void taskStatus(HttpResponse response) {
         // Represents the task configuring NAT and Firewall Rules
         TaskType task = HttpUtils.unmarshal(response.getEntity(), TaskType.class);
-        String taskHref = task.getHref();
-        HttpGet httpGet = vcd.get(taskHref, options);
-        HttpResponse resp = null;
-
-        // Check task status until it shows either success or error.
-        while (!(task.getStatus()).equals("success") && !(task.getStatus()).equals("error")) {
-            try {
-                // Wait 10 seconds before requesting the status again
-                TimeUnit.SECONDS.sleep(10);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
 
-            resp = HttpUtils.httpInvoke(httpGet);
-            System.out.print(".");
-            task = HttpUtils.unmarshal(resp.getEntity(), TaskType.class);
+        // Wait until the task shows either success or error, or the task timeout elapsed, from
+        // its event if a notification broker was given
+        if (null != options.notificationBroker) {
+            task = taskMonitor.waitFor(task, vcd, options);
+        } else {
+            // Print a dot after each poll while the rules are being configured
+            TaskPoller poller = new TaskPoller();
+            poller.pollListener = polled -> System.out.print(".");
+            task = poller.waitFor(task, vcd, options);
         }
 
         if ((task.getStatus()).equals("success")) {
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * This class limits the number of asynchronous operations in flight against each host. An
+ * operation submitted while its host is at the limit is queued and started, in submission order,
+ * as soon as an earlier operation against the same host completes. Waiting operations do not hold
+ * a thread, so a limited host never starves the shared pool of the requests to other hosts.
+ * Queued operations are started on the pool of the asynchronous requests, not by the thread
+ * completing the one before.
+ */
+public class HostLimiter {
+    // The maximum number of operations in flight against a single host
+    private final int maxPerHost;
+
+    // The state of every host an operation was submitted for, by base URL. Guarded by this.
+    private final Map<String, Host> hosts = new HashMap<String, Host>();
+
+    /**
+     * @param maxPerHost
+     *            the maximum number of operations in flight against a single host
+     */
+    public HostLimiter(int maxPerHost) {
+        if (maxPerHost < 1) {
+            throw new IllegalArgumentException("Invalid limit: " + maxPerHost);
+        }
+
+        this.maxPerHost = maxPerHost;
+    }
+
+    /**
+     * Starts the passed in operation once fewer than the limit of operations are in flight
+     * against the host of the passed in url.
+     * 
+     * @param url
+     *            any url of the host the operation makes requests to
+     * @param operation
+     *            starts the operation and returns its future
+     * @return a future completed with the result of the operation
+     */
+    public <T> CompletableFuture<T> submit(String url,
+            final Supplier<CompletableFuture<T>> operation) {
+        final CompletableFuture<T> result = new CompletableFuture<T>();
+        final Host host = host(HttpUtils.getHostname(url));
+
+        Runnable start = () -> {
+            CompletableFuture<T> started;
+
+            try {
+                started = operation.get();
+            } catch (RuntimeException e) {
+                started = new CompletableFuture<T>();
+                started.completeExceptionally(e);
+            }
+
+            started.whenComplete((value, failure) -> {
+                // Let the next operation in before handing the result over, so that the host is
+                // kept busy while the caller processes it
+                host.release();
+
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(value);
+                }
+            });
+        };
+
+        if (host.acquire(start)) {
+            start.run();
+        }
+
+        return result;
+    }
+
+    /*
+     * Returns the state of the passed in host, creating it on first use
+     */
+    private synchronized Host host(String hostname) {
+        Host host = hosts.get(hostname);
+
+        if (null == host) {
+            host = new Host();
+            hosts.put(hostname, host);
+        }
+
+        return host;
+    }
+
+    /**
+     * The operations in flight and waiting against one host
+     */
+    private final class Host {
+        // The number of operations in flight. Guarded by this.
+        private int running;
+
+        // The operations waiting for one in flight to complete. Guarded by this.
+        private final Queue<Runnable> waiting = new ArrayDeque<Runnable>();
+
+        /*
+         * Returns true if the operation may start at once, otherwise queues it and returns false
+         */
+        synchronized boolean acquire(Runnable start) {
+            if (running < maxPerHost) {
+                running++;
+                return true;
+            }
+
+            waiting.add(start);
+            return false;
+        }
+
+        /*
+         * Hands the slot of a completed operation over to the next waiting one, if any. It is
+         * started on the pool of the asynchronous requests: run from here, operations completing
+         * synchronously would each start the next one a frame deeper.
+         */
+        void release() {
+            Runnable next;
+
+            synchronized (this) {
+                next = waiting.poll();
+
+                if (null == next) {
+                    running--;
+                }
+            }
+
+            if (null != next) {
+                HttpUtils.runAsync(next);
+            }
+        }
+    }
+}
@@ -0,0 +1,535 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.entity.HttpEntityWrapper;
+
+/**
+ * This class keeps per endpoint counters and latency histograms of every request sent by
+ * HttpUtils.httpInvoke(), including the login and the asynchronous requests, so that the slow
+ * vCHS and vCloud calls can be told apart.
+ * 
+ * Requests are grouped by method and endpoint, the request path with its ids replaced by {id},
+ * e.g. POST /api/vApp/vapp-{id}/action/deploy or GET /api/task/{id}. For each endpoint the number
+ * of responses by status code, the bytes sent and received and the wall time of the requests are
+ * recorded. The wall time runs from sending the request until its response body has been read to
+ * the end or closed, so it includes unmarshalling the response as it streams in. Requests failing
+ * without a response are counted with the status 0.
+ * 
+ * Recording is always on. Call snapshot() to read the metrics, report() to print them, or set
+ * the --metrics option (or the SampleConstants.METRICS_PROPERTY system property) to print them when
+ * the JVM exits.
+ */
+public final class HttpMetrics {
+    // A path segment that is an id: a number or uuid, optionally after a name and a dash, as in
+    // vapp-<uuid> or vappTemplate-42
+    private static final Pattern ID_SEGMENT = Pattern
+            .compile("^([A-Za-z]+-)?[0-9a-fA-F-]*[0-9][0-9a-fA-F-]*$");
+
+    private static final String QUERY_PATH = "/api/query";
+
+    private static final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<String, Endpoint>();
+
+    private static final AtomicBoolean dumpAtExit = new AtomicBoolean();
+
+    static {
+        if (Boolean.getBoolean(SampleConstants.METRICS_PROPERTY)) {
+            dumpAtExit();
+        }
+    }
+
+    /*
+     * Prevent this class from being instantiated
+     */
+    private HttpMetrics() {
+    }
+
+    /**
+     * Sends the passed in request with the transport, recording it against its endpoint.
+     * 
+     * @param transport
+     *            the transport to send the request with
+     * @param request
+     *            the request to send
+     * @return the response of the request, whose entity records the request once it is consumed
+     */
+    static HttpResponse execute(HttpTransport transport, HttpRequestBase request) {
+        Endpoint endpoint = endpoint(request.getMethod(), request.getURI());
+
+        // The entity is counted only while this request is sent: the caller's entity is put back
+        // afterwards, so sending the request again does not count its bytes twice
+        HttpEntityEnclosingRequest enclosing = null;
+        CountingEntity sent = null;
+        if (request instanceof HttpEntityEnclosingRequest) {
+            enclosing = (HttpEntityEnclosingRequest) request;
+            if (null != enclosing.getEntity()) {
+                sent = new CountingEntity(enclosing.getEntity());
+                enclosing.setEntity(sent);
+            }
+        }
+
+        long start = System.nanoTime();
+        HttpResponse response;
+
+        try {
+            response = transport.execute(request);
+        } catch (RuntimeException e) {
+            endpoint.record(0, System.nanoTime() - start, null != sent ? sent.bytes : 0, 0);
+            throw e;
+        } finally {
+            if (null != sent) {
+                enclosing.setEntity(sent.getWrappedEntity());
+            }
+        }
+
+        int status = response.getStatusLine().getStatusCode();
+        long bytesOut = null != sent ? sent.bytes : 0;
+
+        if (null == response.getEntity()) {
+            endpoint.record(status, System.nanoTime() - start, bytesOut, 0);
+        } else {
+            response.setEntity(new MeteredEntity(response.getEntity(), endpoint, status, start,
+                    bytesOut));
+        }
+
+        return response;
+    }
+
+    /**
+     * Returns the endpoint a request to the passed in uri is recorded against, creating it if
+     * need be.
+     */
+    private static Endpoint endpoint(String method, URI uri) {
+        String template = template(uri);
+        String key = method + " " + template;
+
+        Endpoint endpoint = endpoints.get(key);
+        if (null == endpoint) {
+            Endpoint created = new Endpoint(method, template);
+            endpoint = endpoints.putIfAbsent(key, created);
+            endpoint = null != endpoint ? endpoint : created;
+        }
+
+        return endpoint;
+    }
+
+    /**
+     * Returns the path of the passed in uri with every id replaced by {id}. Queries keep their
+     * type parameter, e.g. /api/query?type=vAppTemplate, as each type is a different query.
+     * 
+     * @param uri
+     *            the uri of a request
+     * @return the templated endpoint
+     */
+    static String template(URI uri) {
+        String path = null != uri.getRawPath() ? uri.getRawPath() : "";
+        StringBuilder endpoint = new StringBuilder(path.length());
+
+        for (String segment : path.split("/", -1)) {
+            if (endpoint.length() > 0 || !segment.isEmpty()) {
+                endpoint.append('/');
+            }
+
+            Matcher matcher = ID_SEGMENT.matcher(segment);
+            if (matcher.matches()) {
+                endpoint.append(null != matcher.group(1) ? matcher.group(1) : "").append("{id}");
+            } else {
+                endpoint.append(segment);
+            }
+        }
+
+        if (QUERY_PATH.equals(path) && null != uri.getRawQuery()) {
+            for (NameValuePair parameter : URLEncodedUtils.parse(uri, "UTF-8")) {
+                if ("type".equals(parameter.getName())) {
+                    endpoint.append("?type=").append(parameter.getValue());
+                }
+            }
+        }
+
+        return endpoint.toString();
+    }
+
+    /**
+     * Returns the metrics recorded so far, one entry per endpoint sorted by endpoint and method.
+     * 
+     * @return the metrics of every endpoint called
+     */
+    public static List<EndpointSnapshot> snapshot() {
+        List<EndpointSnapshot> snapshots = new ArrayList<EndpointSnapshot>();
+
+        for (Endpoint endpoint : endpoints.values()) {
+            snapshots.add(endpoint.snapshot());
+        }
+
+        Collections.sort(snapshots, (a, b) -> {
+            int order = a.getEndpoint().compareTo(b.getEndpoint());
+            return order != 0 ? order : a.getMethod().compareTo(b.getMethod());
+        });
+
+        return snapshots;
+    }
+
+    /**
+     * Forgets every metric recorded so far, e.g. to leave out a warm up.
+     */
+    public static void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * Prints a table of the metrics recorded so far, one line per endpoint followed by a total.
+     * 
+     * @param out
+     *            the stream to print to
+     */
+    public static void report(PrintStream out) {
+        List<EndpointSnapshot> snapshots = snapshot();
+
+        out.println(String.format("%-6s %-56s %7s %6s %9s %9s %9s %9s %9s %10s %10s", "method",
+                "endpoint", "count", "errors", "mean ms", "p50 ms", "p95 ms", "p99 ms", "max ms",
+                "KB out", "KB in"));
+
+        long count = 0;
+        long errors = 0;
+        long bytesOut = 0;
+        long bytesIn = 0;
+
+        for (EndpointSnapshot snapshot : snapshots) {
+            LatencyHistogram latency = snapshot.getLatency();
+
+            out.println(String.format(
+                    "%-6s %-56s %7d %6d %9.1f %9.1f %9.1f %9.1f %9.1f %10.1f %10.1f",
+                    snapshot.getMethod(), snapshot.getEndpoint(), snapshot.getCount(),
+                    snapshot.getErrorCount(), latency.mean() / 1e6,
+                    latency.percentile(50) / 1e6, latency.percentile(95) / 1e6,
+                    latency.percentile(99) / 1e6, latency.max() / 1e6,
+                    snapshot.getBytesOut() / 1024.0, snapshot.getBytesIn() / 1024.0));
+
+            count += snapshot.getCount();
+            errors += snapshot.getErrorCount();
+            bytesOut += snapshot.getBytesOut();
+            bytesIn += snapshot.getBytesIn();
+        }
+
+        out.println(String.format("%-6s %-56s %7d %6d %49s %10.1f %10.1f", "", "total", count,
+                errors, "", bytesOut / 1024.0, bytesIn / 1024.0));
+    }
+
+    /**
+     * Prints the metrics to the console when the JVM exits. Calling it more than once has no
+     * further effect.
+     */
+    public static void dumpAtExit() {
+        if (dumpAtExit.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                System.out.println();
+                System.out.println("HTTP requests");
+                System.out.println("-------------");
+                report(System.out);
+            }, "vchs-http-metrics"));
+        }
+    }
+
+    /**
+     * The metrics of a single endpoint as they were when snapshot() was called.
+     */
+    public static final class EndpointSnapshot {
+        private final String method;
+        private final String endpoint;
+        private final Map<Integer, Long> statusCounts;
+        private final long bytesOut;
+        private final long bytesIn;
+        private final LatencyHistogram latency;
+
+        EndpointSnapshot(String method, String endpoint, Map<Integer, Long> statusCounts,
+                long bytesOut, long bytesIn, LatencyHistogram latency) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.statusCounts = Collections.unmodifiableMap(statusCounts);
+            this.bytesOut = bytesOut;
+            this.bytesIn = bytesIn;
+            this.latency = latency;
+        }
+
+        /**
+         * @return the http method, e.g. GET
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * @return the request path with its ids replaced by {id}
+         */
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        /**
+         * @return the number of responses by status code, 0 counting the requests that failed
+         *         without a response
+         */
+        public Map<Integer, Long> getStatusCounts() {
+            return statusCounts;
+        }
+
+        /**
+         * @return the number of requests
+         */
+        public long getCount() {
+            long count = 0;
+            for (Long statusCount : statusCounts.values()) {
+                count += statusCount;
+            }
+
+            return count;
+        }
+
+        /**
+         * @return the number of requests that failed without a response or with a 4xx or 5xx
+         *         status
+         */
+        public long getErrorCount() {
+            long errors = 0;
+            for (Map.Entry<Integer, Long> statusCount : statusCounts.entrySet()) {
+                if (statusCount.getKey() == 0 || statusCount.getKey() >= 400) {
+                    errors += statusCount.getValue();
+                }
+            }
+
+            return errors;
+        }
+
+        /**
+         * @return the number of request body bytes sent
+         */
+        public long getBytesOut() {
+            return bytesOut;
+        }
+
+        /**
+         * @return the number of response body bytes read
+         */
+        public long getBytesIn() {
+            return bytesIn;
+        }
+
+        /**
+         * @return the wall time of the requests, in nanoseconds
+         */
+        LatencyHistogram getLatency() {
+            return latency;
+        }
+    }
+
+    /**
+     * The live metrics of a single endpoint.
+     */
+    private static final class Endpoint {
+        private final String method;
+        private final String endpoint;
+        private final ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<Integer, LongAdder>();
+        private final LongAdder bytesOut = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        Endpoint(String method, String endpoint) {
+            this.method = method;
+            this.endpoint = endpoint;
+        }
+
+        void record(int status, long nanos, long sent, long received) {
+            LongAdder statusCount = statusCounts.get(status);
+            if (null == statusCount) {
+                LongAdder created = new LongAdder();
+                statusCount = statusCounts.putIfAbsent(status, created);
+                statusCount = null != statusCount ? statusCount : created;
+            }
+
+            statusCount.increment();
+            bytesOut.add(sent);
+            bytesIn.add(received);
+            latency.record(nanos);
+        }
+
+        EndpointSnapshot snapshot() {
+            Map<Integer, Long> statuses = new TreeMap<Integer, Long>();
+            for (Map.Entry<Integer, LongAdder> statusCount : statusCounts.entrySet()) {
+                statuses.put(statusCount.getKey(), statusCount.getValue().sum());
+            }
+
+            return new EndpointSnapshot(method, endpoint, statuses, bytesOut.sum(),
+                    bytesIn.sum(), latency.copy());
+        }
+    }
+
+    /**
+     * A request entity counting the bytes written by the transport.
+     */
+    private static final class CountingEntity extends HttpEntityWrapper {
+        volatile long bytes;
+
+        CountingEntity(HttpEntity entity) {
+            super(entity);
+        }
+
+        HttpEntity getWrappedEntity() {
+            return wrappedEntity;
+        }
+
+        @Override
+        public void writeTo(OutputStream os) throws IOException {
+            super.writeTo(new FilterOutputStream(os) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    bytes++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    bytes += len;
+                }
+            });
+        }
+    }
+
+    /**
+     * A response entity counting the bytes read, which records the request against its endpoint
+     * once its content has been read to the end or closed.
+     */
+    private static final class MeteredEntity extends HttpEntityWrapper {
+        private final Endpoint endpoint;
+        private final int status;
+        private final long start;
+        private final long bytesOut;
+        private InputStream content;
+
+        MeteredEntity(HttpEntity entity, Endpoint endpoint, int status, long start, long bytesOut) {
+            super(entity);
+            this.endpoint = endpoint;
+            this.status = status;
+            this.start = start;
+            this.bytesOut = bytesOut;
+        }
+
+        @Override
+        public synchronized InputStream getContent() throws IOException {
+            // Hand out the same stream every time so the request is only recorded once
+            if (null == content) {
+                content = new MeteredInputStream(super.getContent());
+            }
+
+            return content;
+        }
+
+        @Override
+        public void writeTo(OutputStream os) throws IOException {
+            InputStream is = getContent();
+
+            try {
+                byte[] buffer = new byte[4096];
+                int n;
+                while ((n = is.read(buffer)) != -1) {
+                    os.write(buffer, 0, n);
+                }
+            } finally {
+                is.close();
+            }
+        }
+
+        private final class MeteredInputStream extends FilterInputStream {
+            private long bytesIn;
+            private boolean recorded;
+
+            MeteredInputStream(InputStream in) {
+                super(in);
+            }
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b == -1) {
+                    record();
+                } else {
+                    bytesIn++;
+                }
+
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n == -1) {
+                    record();
+                } else {
+                    bytesIn += n;
+                }
+
+                return n;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = super.skip(n);
+                bytesIn += skipped;
+                return skipped;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    record();
+                }
+            }
+
+            private void record() {
+                if (!recorded) {
+                    recorded = true;
+                    endpoint.record(status, System.nanoTime() - start, bytesOut, bytesIn);
+                }
+            }
+        }
+    }
+}
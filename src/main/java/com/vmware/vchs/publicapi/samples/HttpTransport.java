@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+
+/**
+ * This interface defines the transport used by the samples to send http requests. Requests and
+ * responses are described with the Apache HttpCore message types so that Vchs, Vcd and HttpUtils
+ * can build requests and read responses the same way whichever backend actually sends them.
+ * 
+ * Implementations must be safe to use from multiple threads at once.
+ */
+public interface HttpTransport {
+    /**
+     * Sends the passed in request and returns its response. The connection used for the request
+     * is released once the response entity has been fully consumed or closed.
+     * 
+     * @param request
+     *            the HttpRequestBase subclass to make a request with
+     * @return the response of the request
+     */
+    HttpResponse execute(HttpRequestBase request);
+
+    /**
+     * Closes the connections kept open by this transport. Requests still in flight are aborted,
+     * and the transport must not be used afterwards.
+     */
+    void shutdown();
+}
@@ -15,69 +15,265 @@
 package com.vmware.vchs.publicapi.samples;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.security.cert.X509Certificate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
-import javax.xml.bind.JAXB;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.ParseException;
-import org.apache.http.client.ClientProtocolException;
-import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.apache.http.conn.ClientConnectionManager;
-import org.apache.http.conn.scheme.Scheme;
-import org.apache.http.conn.scheme.SchemeRegistry;
-import org.apache.http.conn.ssl.SSLSocketFactory;
-import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.entity.ContentType;
 import org.apache.http.util.EntityUtils;
 
 import com.vmware.ares.pub.api.VCloudSessionType;
 import com.vmware.ares.pub.api.VdcLinkType;
+import com.vmware.vcloud.api.rest.schema.QueryResultRecordType;
 import com.vmware.vcloud.api.rest.schema.QueryResultRecordsType;
 
 /**
- * This class provides the common http functionality using the Apache HttpClient library.
+ * This class provides the common http functionality. Requests are sent through a pluggable
+ * HttpTransport, by default the Apache HttpClient library.
  */
 public class HttpUtils {
+    /*
+     * The process wide transport used to send every request made by the samples. Defaults to the
+     * Apache HttpClient transport, see setTransport() to change it.
+     */
+    private static volatile HttpTransport transport = new ApacheHttpTransport();
+
+    /*
+     * When true every XML response is printed to the console as it is unmarshalled
+     */
+    private static volatile boolean debugXml = Boolean
+            .getBoolean(SampleConstants.DEBUG_XML_PROPERTY);
+
+    /*
+     * Bounded pool of daemon threads used to run asynchronous requests. It is sized to the
+     * connection pool so that no more requests are in flight than there are connections to
+     * serve them; further requests simply queue.
+     */
+    private static final ExecutorService asyncExecutor = Executors.newFixedThreadPool(
+            SampleConstants.MAX_TOTAL_CONNECTIONS, daemonThreadFactory("vchs-http-async"));
+
+    /*
+     * Single daemon thread used to complete futures after a delay, e.g. between task polls,
+     * without tying up a thread per waiting caller.
+     */
+    private static final ScheduledExecutorService scheduler = Executors
+            .newSingleThreadScheduledExecutor(daemonThreadFactory("vchs-http-scheduler"));
+
     /**
      * Executes an http request using the passed in request parameter.
      * 
+     * The connection used for the request is only returned to the pool once the response
+     * entity has been fully consumed, either by unmarshal() or by consume(). Callers that do not
+     * read the response body must call consume() on the response.
+     * 
+     * Every request is recorded against its endpoint by HttpMetrics.
+     * 
      * @param request
      *            the HttpRequestBase subclass to make a request with
      * @return the response of the request
      */
     public static HttpResponse httpInvoke(HttpRequestBase request) {
-        HttpResponse httpResponse = null;
-        HttpClient httpClient = null;
+        return HttpMetrics.execute(transport, request);
+    }
+
+    /**
+     * Replaces the transport used by httpInvoke() and httpInvokeAsync() for every subsequent
+     * request, and shuts down the transport it replaces. Meant to be called before any request is
+     * made, as the requests still in flight on the replaced transport are aborted.
+     * 
+     * @param httpTransport
+     *            the transport to use
+     */
+    public static synchronized void setTransport(HttpTransport httpTransport) {
+        HttpTransport replaced = transport;
+        transport = httpTransport;
+
+        if (replaced != httpTransport) {
+            replaced.shutdown();
+        }
+    }
+
+    /**
+     * Creates the transport matching the passed in name, either SampleConstants.TRANSPORT_APACHE
+     * or SampleConstants.TRANSPORT_JDK.
+     * 
+     * @param name
+     *            the name of the transport
+     * @return a new instance of the named transport
+     */
+    public static HttpTransport createTransport(String name) {
+        if (SampleConstants.TRANSPORT_APACHE.equalsIgnoreCase(name)) {
+            return new ApacheHttpTransport();
+        }
+
+        if (SampleConstants.TRANSPORT_JDK.equalsIgnoreCase(name)) {
+            return new JdkHttpTransport();
+        }
+
+        throw new IllegalArgumentException("Unknown transport: " + name);
+    }
+
+    /**
+     * Fully consumes the entity of the passed in response, if any, so that the underlying
+     * connection is released back to the pool.
+     * 
+     * @param response
+     *            the response to consume
+     */
+    public static void consume(HttpResponse response) {
+        if (null != response) {
+            try {
+                EntityUtils.consume(response.getEntity());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
 
+    /**
+     * Asynchronous counterpart of httpInvoke(). The request is executed on a bounded pool of
+     * threads sharing the pooled HttpClient and the returned future is completed with the
+     * response. As with httpInvoke() the response entity must be consumed by the caller.
+     * 
+     * @param request
+     *            the HttpRequestBase subclass to make a request with
+     * @return a future completed with the response of the request
+     */
+    public static CompletableFuture<HttpResponse> httpInvokeAsync(final HttpRequestBase request) {
+        return CompletableFuture.supplyAsync(() -> httpInvoke(request), asyncExecutor);
+    }
+
+    /**
+     * Asynchronously executes the request, checks the response status and unmarshals the
+     * response entity into the passed in class type. If the status does not match the expected
+     * status the response is consumed and the future completes exceptionally.
+     * 
+     * @param request
+     *            the HttpRequestBase subclass to make a request with
+     * @param expectedStatus
+     *            the http status code the response must have, e.g. HttpStatus.SC_OK
+     * @param clazz
+     *            the class type to unmarshal the response entity to
+     * @return a future completed with the unmarshalled response entity
+     */
+    public static <T> CompletableFuture<T> httpInvokeAsync(final HttpRequestBase request,
+            final int expectedStatus, final Class<T> clazz) {
+        return httpInvokeAsync(request).thenApply(response -> {
+            if (response.getStatusLine().getStatusCode() != expectedStatus) {
+                consume(response);
+                throw new RuntimeException("Failed : HTTP error code : "
+                        + response.getStatusLine().getStatusCode());
+            }
+
+            return unmarshal(response.getEntity(), clazz);
+        });
+    }
+
+    /**
+     * Runs blocking work, such as a sequence of synchronous requests, on the same bounded pool of
+     * threads as the asynchronous requests.
+     * 
+     * @param work
+     *            the work to run
+     * @return a future completed with the result of the work
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> work) {
+        return CompletableFuture.supplyAsync(work, asyncExecutor);
+    }
+
+    /**
+     * Runs the passed in task on the pool of the asynchronous requests.
+     * 
+     * @param task
+     *            the task to run
+     */
+    static void runAsync(Runnable task) {
+        asyncExecutor.execute(task);
+    }
+
+    /**
+     * Returns a future that completes after the given delay without blocking the calling thread.
+     * Useful to compose polling loops out of asynchronous requests.
+     * 
+     * @param delay
+     *            the time to wait
+     * @param unit
+     *            the unit of the delay
+     * @return a future completed once the delay has elapsed
+     */
+    public static CompletableFuture<Void> delay(long delay, TimeUnit unit) {
+        final CompletableFuture<Void> future = new CompletableFuture<Void>();
+        scheduler.schedule(() -> future.complete(null), delay, unit);
+        return future;
+    }
+
+    /**
+     * Waits for the passed in future and returns its result. Unlike CompletableFuture.join()
+     * a RuntimeException raised by the asynchronous work is rethrown as is rather than wrapped
+     * in a CompletionException, so synchronous callers see the same errors as before.
+     * 
+     * @param future
+     *            the future to wait for
+     * @return the result of the future
+     */
+    public static <T> T await(CompletableFuture<T> future) {
         try {
-            // Create a fresh HttpClient.. some samples will make calls to two (or more)
-            // urls in a single run, sharing a static non-multithreaded instance causes
-            // exceptions. This prevents that by ensuring each call to httpInvoke gets
-            // its own instance.
-            httpClient = createHttpClient();
-            httpResponse = httpClient.execute(request);
-        } catch (ClientProtocolException e) {
-            throw new RuntimeException(e);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
         }
+    }
 
-        return httpResponse;
+    /**
+     * Creates a ThreadFactory producing named daemon threads so that the shared executors never
+     * keep a sample JVM alive once main() returns.
+     * 
+     * @param name
+     *            the prefix of the thread names
+     * @return the ThreadFactory
+     */
+    static ThreadFactory daemonThreadFactory(final String name) {
+        return new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
     }
 
     /**
@@ -104,13 +300,12 @@ public class HttpUtils {
     }
 
     /**
-     * This method returns an HttpClient instance wrapped to trust all HTTPS certificates.
+     * This method returns an SSLContext that trusts all HTTPS certificates, shared by the
+     * transports.
      * 
-     * @return HttpClient a new instance of HttpClient
+     * @return SSLContext a new instance of SSLContext
      */
-    static HttpClient createHttpClient() {
-        HttpClient base = new DefaultHttpClient();
-
+    static SSLContext createTrustAllSSLContext() {
         try {
             SSLContext ctx = SSLContext.getInstance("TLS");
 
@@ -134,22 +329,20 @@ public class HttpUtils {
             };
 
             ctx.init(null, trustAllCerts, null);
-            SSLSocketFactory ssf = new SSLSocketFactory(ctx);
-            ssf.setHostnameVerifier(SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
-            ClientConnectionManager ccm = base.getConnectionManager();
-            SchemeRegistry sr = ccm.getSchemeRegistry();
-            sr.register(new Scheme("https", 443, ssf));
-
-            return new DefaultHttpClient(ccm, base.getParams());
+            return ctx;
         } catch (Exception ex) {
-            ex.printStackTrace();
-            return null;
+            throw new RuntimeException("Problem creating the SSLContext", ex);
         }
     }
 
     /**
      * This method will unmarshal the passed in entity using the passed in class type
      * 
+     * The entity content is parsed as it is read from the connection without first being copied
+     * into memory. If the Content-Type of the entity names a charset it is used to decode the
+     * content, otherwise the XML parser detects the encoding from the document itself. The entity
+     * is always fully consumed so that the connection is released.
+     * 
      * @param entity
      *            the entity to unmarshal
      * @param clazz
@@ -157,30 +350,64 @@ public class HttpUtils {
      * @return unmarshal an instance of the provided class type
      */
     public static <T> T unmarshal(HttpEntity entity, Class<T> clazz) {
-        InputStream is = null;
-
         try {
-            String s = EntityUtils.toString(entity);
-            // Uncomment this to print out all the XML responses to the console, useful for
-            // debugging
-             //System.out.println(s);
-            is = new ByteArrayInputStream(s.getBytes());
-            return JAXB.unmarshal(is, clazz);
+            InputStream is = content(entity);
+            ContentType contentType = ContentType.get(entity);
+
+            if (null != contentType && null != contentType.getCharset()) {
+                return XmlBinding.unmarshal(new InputStreamReader(is, contentType.getCharset()),
+                        clazz);
+            }
+
+            return XmlBinding.unmarshal(is, clazz);
         } catch (ParseException e) {
             throw new RuntimeException(e);
         } catch (IOException e) {
             throw new RuntimeException(e);
         } finally {
+            // The parser may stop before the end of the stream, e.g. at trailing whitespace
             try {
-                if (null != is) {
-                    is.close();
-                }
+                EntityUtils.consume(entity);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
+
+            if (debugXml) {
+                System.out.println();
+            }
         }
     }
 
+    /**
+     * Returns the content of the passed in response entity to be parsed. When printing of the XML
+     * responses is turned on the content is printed to the console as it is read, useful for
+     * debugging.
+     * 
+     * @param entity
+     *            the response entity
+     * @return the content of the entity
+     */
+    static InputStream content(HttpEntity entity) throws IOException {
+        InputStream is = entity.getContent();
+
+        if (debugXml) {
+            is = new TeeInputStream(is, System.out);
+        }
+
+        return is;
+    }
+
+    /**
+     * Turns printing of every unmarshalled XML response to the console on or off. It can also be
+     * turned on by setting the system property SampleConstants.DEBUG_XML_PROPERTY to true.
+     * 
+     * @param enabled
+     *            true to print the XML responses
+     */
+    public static void setDebugXml(boolean enabled) {
+        debugXml = enabled;
+    }
+
     /**
      * Gets the string content from the passed in InputStream
      * 
@@ -223,7 +450,8 @@ public class HttpUtils {
     }
 
     /**
-     * This method is to get the vCloud API EndPoint for the VDC.
+     * This method is to get the vCloud API EndPoint for the VDC. The session is reused if the
+     * vCHS login already opened one for the VDC, see VcdSessionCache.
      * 
      * @param href
      *            href to vcloudsession for VDC
@@ -231,11 +459,24 @@ public class HttpUtils {
      *         for vCloud API Call.
      */
     static Vcd getVCDEndPoint(Vchs vchs, DefaultSampleCommandLineOptions options, String vcdSessionHref) {
+        return vchs.vcdSessions.get(vchs, options, vcdSessionHref);
+    }
+
+    /**
+     * This method opens a new vCloud session for the VDC, posting to its vcloudsession href.
+     * 
+     * @param href
+     *            href to vcloudsession for VDC
+     * @return an object containing the link to vCloud API EndPoint for VDC and Authorization Token
+     *         for vCloud API Call.
+     */
+    static Vcd createVCDSession(Vchs vchs, DefaultSampleCommandLineOptions options, String vcdSessionHref) {
         // Create post request to get vCloudSession details
         HttpResponse response = HttpUtils.httpInvoke(vchs.post(vcdSessionHref, options));
 
         // Make sure the response status is 201 CREATED
         if (response.getStatusLine().getStatusCode() != HttpStatus.SC_CREATED) {
+            HttpUtils.consume(response);
             throw new RuntimeException("\nFailed : HTTP error code : "
                     + response.getStatusLine().getStatusCode());
         }
@@ -254,13 +495,15 @@ public class HttpUtils {
 
         // Set the vCloud token for subsequent requests to vCloud
         Vcd vcd = new Vcd();
+        vcd.vcdSessHref = vcdSessionHref;
         vcd.vcdToken = vdcLink.getAuthorizationToken();
         vcd.vdcHref = vdcLink.getHref();
         return vcd;
     }
 
     /**
-     * This method uses the vCloud API Query service
+     * This method uses the vCloud API Query service. Only the first page of the results is
+     * returned, use query() to iterate over all of them.
      * 
      * @param baseVcdUrl
      * @param queryParameters
@@ -290,8 +533,97 @@ public class HttpUtils {
         // make sure the status is 200 OK
         if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
             results = HttpUtils.unmarshal(response.getEntity(), QueryResultRecordsType.class);
+        } else {
+            HttpUtils.consume(response);
         }
 
         return results;
     }
+
+    /**
+     * Returns every record of a vCloud API Query service query, fetching its pages as they are
+     * iterated.
+     * 
+     * @param baseVcdUrl
+     *            the base url of the vCloud API
+     * @param queryParameters
+     *            the parameters of the query, e.g. type=vAppTemplate
+     * @param options
+     *            the command line options
+     * @param vCloudToken
+     *            the vCloud authorization token
+     * @return the query, to iterate over or stream
+     */
+    public static PagedQuery<QueryResultRecordType> query(String baseVcdUrl,
+            String queryParameters, DefaultSampleCommandLineOptions options, String vCloudToken) {
+        return PagedQuery.of(baseVcdUrl, queryParameters, queryInvoker(options, vCloudToken));
+    }
+
+    /**
+     * Returns every record of a query built with the Query class as lightweight records,
+     * fetching its pages as they are iterated.
+     * 
+     * @param baseVcdUrl
+     *            the base url of the vCloud API
+     * @param query
+     *            the query
+     * @param options
+     *            the command line options
+     * @param vCloudToken
+     *            the vCloud authorization token
+     * @return the query, to iterate over or stream
+     */
+    public static PagedQuery<QueryRecord> query(String baseVcdUrl, Query query,
+            DefaultSampleCommandLineOptions options, String vCloudToken) {
+        return PagedQuery.of(baseVcdUrl, query, queryInvoker(options, vCloudToken));
+    }
+
+    /*
+     * Returns a function sending a GET to the url of a page of query results with the passed in
+     * vCloud authorization token
+     */
+    private static Function<String, HttpResponse> queryInvoker(
+            final DefaultSampleCommandLineOptions options, final String vCloudToken) {
+        return url -> {
+            HttpGet httpGet = new HttpGet(url);
+            httpGet.setHeader(HttpHeaders.ACCEPT, SampleConstants.APPLICATION_PLUS_XML_VERSION
+                    + options.vcdVersion);
+            httpGet.setHeader(SampleConstants.VCD_AUTHORIZATION_HEADER, vCloudToken);
+
+            return httpInvoke(httpGet);
+        };
+    }
+
+    /**
+     * An InputStream that copies every byte read from the wrapped stream to an OutputStream as
+     * it is read, without buffering the content.
+     */
+    private static final class TeeInputStream extends FilterInputStream {
+        private final OutputStream copy;
+
+        TeeInputStream(InputStream in, OutputStream copy) {
+            super(in);
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                copy.write(b);
+            }
+
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                copy.write(b, off, n);
+            }
+
+            return n;
+        }
+    }
 }
\ No newline at end of file
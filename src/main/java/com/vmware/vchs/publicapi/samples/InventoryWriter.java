@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+
+import com.vmware.ares.pub.api.ServiceType;
+import com.vmware.ares.pub.api.VdcReferenceType;
+
+/**
+ * This class writes the inventory of VDCs and their vApp templates as machine readable records,
+ * one per line, either as NDJSON or CSV. Records are written as they are handed over and flushed
+ * after each VDC and each page of vApp templates, so that a downstream tool can process them
+ * while the inventory is crawled and nothing is retained once written.
+ * 
+ * Every record carries the VDC, service type and region it falls under so that it can be
+ * processed on its own; records of different VDCs come in the order their requests complete.
+ * Methods may be called from any thread.
+ */
+public abstract class InventoryWriter {
+    // The destination of the records. Guarded by this.
+    private final Writer out;
+
+    /**
+     * Creates the writer of the passed in format, either SampleConstants.FORMAT_NDJSON or
+     * SampleConstants.FORMAT_CSV.
+     * 
+     * @param format
+     *            the name of the format
+     * @param out
+     *            the stream to write the UTF-8 encoded records to
+     * @return a new writer of the named format
+     */
+    public static InventoryWriter create(String format, OutputStream out) {
+        if (SampleConstants.FORMAT_NDJSON.equalsIgnoreCase(format)) {
+            return new NdjsonWriter(out);
+        }
+
+        if (SampleConstants.FORMAT_CSV.equalsIgnoreCase(format)) {
+            return new CsvWriter(out);
+        }
+
+        throw new IllegalArgumentException("Unknown format: " + format);
+    }
+
+    InventoryWriter(OutputStream out) {
+        try {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, "UTF-8"));
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes the record of a VDC and flushes it.
+     * 
+     * @param service
+     *            the compute service the VDC falls under
+     * @param vdc
+     *            the VDC
+     */
+    public synchronized void writeVdc(ServiceType service, VdcReferenceType vdc) {
+        write(vdcRecord(service, vdc));
+        flush();
+    }
+
+    /**
+     * Writes the record of a vApp template of a VDC. The record is buffered until the next call
+     * to flush() or writeVdc().
+     * 
+     * @param service
+     *            the compute service the VDC falls under
+     * @param vdc
+     *            the VDC
+     * @param template
+     *            the name of the vApp template
+     */
+    public synchronized void writeTemplate(ServiceType service, VdcReferenceType vdc,
+            String template) {
+        write(templateRecord(service, vdc, template));
+    }
+
+    /**
+     * Flushes the records written so far to the destination
+     */
+    public synchronized void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /*
+     * Returns the line of the record of a VDC, without line terminator
+     */
+    abstract String vdcRecord(ServiceType service, VdcReferenceType vdc);
+
+    /*
+     * Returns the line of the record of a vApp template, without line terminator
+     */
+    abstract String templateRecord(ServiceType service, VdcReferenceType vdc, String template);
+
+    /*
+     * Writes a line to the destination. Called with the lock of this held.
+     */
+    void write(String line) {
+        try {
+            out.write(line);
+            out.write('\n');
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes every record as a JSON object on its own line, with a "type" of either "vdc" or
+     * "template"
+     */
+    static final class NdjsonWriter extends InventoryWriter {
+        NdjsonWriter(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        String vdcRecord(ServiceType service, VdcReferenceType vdc) {
+            return "{\"type\":\"vdc\",\"vdc\":" + quote(vdc.getName())
+                    + ",\"status\":" + quote(vdc.getStatus())
+                    + ",\"serviceId\":" + quote(service.getServiceId())
+                    + ",\"serviceType\":" + quote(service.getServiceType())
+                    + ",\"region\":" + quote(service.getRegion()) + "}";
+        }
+
+        @Override
+        String templateRecord(ServiceType service, VdcReferenceType vdc, String template) {
+            return "{\"type\":\"template\",\"vdc\":" + quote(vdc.getName())
+                    + ",\"serviceId\":" + quote(service.getServiceId())
+                    + ",\"serviceType\":" + quote(service.getServiceType())
+                    + ",\"region\":" + quote(service.getRegion())
+                    + ",\"template\":" + quote(template) + "}";
+        }
+
+        /*
+         * Returns the passed in value as a JSON string, or null
+         */
+        private static String quote(String value) {
+            if (null == value) {
+                return "null";
+            }
+
+            StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+
+                switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+
+            return sb.append('"').toString();
+        }
+    }
+
+    /**
+     * Writes every record as a line of comma separated values after a header line. The template
+     * column of a VDC record is empty.
+     */
+    static final class CsvWriter extends InventoryWriter {
+        CsvWriter(OutputStream out) {
+            super(out);
+            write("type,vdc,status,serviceId,serviceType,region,template");
+        }
+
+        @Override
+        String vdcRecord(ServiceType service, VdcReferenceType vdc) {
+            return "vdc," + quote(vdc.getName()) + "," + quote(vdc.getStatus()) + ","
+                    + quote(service.getServiceId()) + "," + quote(service.getServiceType()) + ","
+                    + quote(service.getRegion()) + ",";
+        }
+
+        @Override
+        String templateRecord(ServiceType service, VdcReferenceType vdc, String template) {
+            return "template," + quote(vdc.getName()) + "," + quote(vdc.getStatus()) + ","
+                    + quote(service.getServiceId()) + "," + quote(service.getServiceType()) + ","
+                    + quote(service.getRegion()) + "," + quote(template);
+        }
+
+        /*
+         * Returns the passed in value as a CSV field, quoted only when it has to be
+         */
+        private static String quote(String value) {
+            if (null == value) {
+                return "";
+            }
+
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) {
+                return value;
+            }
+
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.util.List;
+import java.util.Map;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.ConnectionReleaseTrigger;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.message.BasicHttpResponse;
+
+/**
+ * This class provides an HttpTransport using the HttpURLConnection built into the JDK, without
+ * any dependency on the Apache HttpClient connection management. Connections are kept alive and
+ * reused by the JDK once a response body has been fully read and closed. Aborting a request with
+ * HttpRequestBase.abort() disconnects its connection, as with the Apache transport.
+ */
+public class JdkHttpTransport implements HttpTransport {
+    // Trust all certificates and host names, the same as the Apache transport does.
+    // WARNING: This should not be used in production code.
+    private final SSLSocketFactory sslSocketFactory = HttpUtils.createTrustAllSSLContext()
+            .getSocketFactory();
+
+    private final HostnameVerifier allowAllHostnames = new HostnameVerifier() {
+        @Override
+        public boolean verify(String hostname, SSLSession session) {
+            return true;
+        }
+    };
+
+    @Override
+    public HttpResponse execute(HttpRequestBase request) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) request.getURI().toURL()
+                    .openConnection();
+
+            // Drop the connection when the request is aborted, e.g. to stop reading a feed
+            AbortTrigger trigger = new AbortTrigger(connection);
+            request.setReleaseTrigger(trigger);
+
+            if (connection instanceof HttpsURLConnection) {
+                ((HttpsURLConnection) connection).setSSLSocketFactory(sslSocketFactory);
+                ((HttpsURLConnection) connection).setHostnameVerifier(allowAllHostnames);
+            }
+
+            connection.setRequestMethod(request.getMethod());
+            connection.setInstanceFollowRedirects(false);
+
+            for (Header header : request.getAllHeaders()) {
+                connection.addRequestProperty(header.getName(), header.getValue());
+            }
+
+            if (request instanceof HttpEntityEnclosingRequest) {
+                writeEntity(connection, ((HttpEntityEnclosingRequest) request).getEntity());
+            }
+
+            return readResponse(connection, trigger);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        // Idle connections are kept alive by the JDK for every HttpURLConnection of the process,
+        // there is none of this transport to close
+    }
+
+    /**
+     * Writes the passed in request entity, if any, as the body of the connection.
+     * 
+     * @param connection
+     *            the connection to write the body to
+     * @param entity
+     *            the request entity, may be null
+     */
+    private void writeEntity(HttpURLConnection connection, HttpEntity entity) throws IOException {
+        if (null == entity) {
+            return;
+        }
+
+        connection.setDoOutput(true);
+
+        if (null != entity.getContentType()) {
+            connection.setRequestProperty(HttpHeaders.CONTENT_TYPE, entity.getContentType()
+                    .getValue());
+        }
+
+        long length = entity.getContentLength();
+        if (length >= 0) {
+            connection.setFixedLengthStreamingMode(length);
+        } else {
+            connection.setChunkedStreamingMode(0);
+        }
+
+        OutputStream os = connection.getOutputStream();
+
+        try {
+            entity.writeTo(os);
+        } finally {
+            os.close();
+        }
+    }
+
+    /**
+     * Converts the response of the passed in connection to an HttpResponse. The response body is
+     * not read, the entity streams it straight from the connection.
+     * 
+     * @param connection
+     *            the connection to read the response from
+     * @param trigger
+     *            the trigger aborting the request, told about the response body
+     * @return the response
+     */
+    private HttpResponse readResponse(HttpURLConnection connection, AbortTrigger trigger)
+            throws IOException {
+        int status = connection.getResponseCode();
+        BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, status,
+                connection.getResponseMessage());
+
+        for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+            // The status line is returned with a null header name
+            if (null != header.getKey()) {
+                for (String value : header.getValue()) {
+                    response.addHeader(header.getKey(), value);
+                }
+            }
+        }
+
+        InputStream content = status >= 400 ? connection.getErrorStream() : connection
+                .getInputStream();
+
+        BasicHttpEntity entity = new BasicHttpEntity();
+        if (null != content) {
+            trigger.content = new DrainOnCloseInputStream(content);
+            entity.setContent(trigger.content);
+        } else {
+            entity.setContent(new ByteArrayInputStream(new byte[0]));
+        }
+
+        entity.setContentLength(connection.getContentLengthLong());
+
+        if (null != connection.getContentType()) {
+            entity.setContentType(connection.getContentType());
+        }
+
+        if (null != connection.getContentEncoding()) {
+            entity.setContentEncoding(connection.getContentEncoding());
+        }
+
+        response.setEntity(entity);
+        return response;
+    }
+
+    /**
+     * The JDK only reuses a keep-alive connection if the response body was read to the end before
+     * it is closed. This stream reads whatever the caller left unread when it is closed, the same
+     * way the Apache HttpClient releases its connections.
+     */
+    private static final class DrainOnCloseInputStream extends FilterInputStream {
+        private volatile boolean closed;
+
+        DrainOnCloseInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            try {
+                byte[] buffer = new byte[4096];
+                while (read(buffer) != -1) {
+                    // discard
+                }
+            } finally {
+                super.close();
+            }
+        }
+
+        /**
+         * Closes the stream without reading what is left, the connection is then not reused.
+         */
+        void abort() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    /**
+     * Drops the connection of a request when it is aborted, closing its response body, if any,
+     * without reading it to the end.
+     */
+    private static final class AbortTrigger implements ConnectionReleaseTrigger {
+        private final HttpURLConnection connection;
+
+        // The body of the response, once received
+        volatile DrainOnCloseInputStream content;
+
+        AbortTrigger(HttpURLConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void releaseConnection() {
+            // The JDK releases the connection once the response body is closed
+        }
+
+        @Override
+        public void abortConnection() throws IOException {
+            DrainOnCloseInputStream stream = content;
+            if (null != stream) {
+                stream.abort();
+            }
+
+            connection.disconnect();
+        }
+    }
+}
\ No newline at end of file
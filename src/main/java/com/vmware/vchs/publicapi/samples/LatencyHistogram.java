@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class records latencies into a fixed set of log-linear buckets, the same layout as an HDR
+ * histogram: values below 32 have a bucket each, larger values are split into 32 buckets per
+ * power of two, so any value is counted within about 3% of its actual value whatever its
+ * magnitude. Recording is lock free and never allocates, so it can be called on every request
+ * from any number of threads.
+ * 
+ * Values are in nanoseconds, percentiles report the highest value of the matching bucket.
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    // One group of sub buckets for values below 32 and one for each power of two above it
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts;
+    private final LongAdder total;
+    private final LongAccumulator max;
+
+    LatencyHistogram() {
+        this(new AtomicLongArray(BUCKET_COUNT), new LongAdder(), new LongAccumulator(Math::max, 0));
+    }
+
+    private LatencyHistogram(AtomicLongArray counts, LongAdder total, LongAccumulator max) {
+        this.counts = counts;
+        this.total = total;
+        this.max = max;
+    }
+
+    /**
+     * Records one value, negative values are counted as 0.
+     * 
+     * @param nanos
+     *            the latency in nanoseconds
+     */
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+
+        counts.incrementAndGet(index(value));
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Returns a copy of this histogram as it is now, so that its count and percentiles are
+     * consistent with each other while values are still being recorded.
+     */
+    LatencyHistogram copy() {
+        AtomicLongArray countsCopy = new AtomicLongArray(BUCKET_COUNT);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            countsCopy.set(i, counts.get(i));
+        }
+
+        LongAdder totalCopy = new LongAdder();
+        totalCopy.add(total.sum());
+        LongAccumulator maxCopy = new LongAccumulator(Math::max, 0);
+        maxCopy.accumulate(max.get());
+
+        return new LatencyHistogram(countsCopy, totalCopy, maxCopy);
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+
+        return count;
+    }
+
+    /**
+     * @return the mean of the values recorded, 0 if there are none
+     */
+    double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) total.sum() / count;
+    }
+
+    /**
+     * @return the highest value recorded, 0 if there are none
+     */
+    long max() {
+        return max.get();
+    }
+
+    /**
+     * Returns the nearest rank percentile of the values recorded.
+     * 
+     * @param percentile
+     *            the percentile, between 0 and 100
+     * @return the highest value of the bucket holding the percentile, 0 if there are no values
+     */
+    long percentile(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValue(i), max());
+            }
+        }
+
+        return max();
+    }
+
+    /**
+     * @return the bucket counting the passed in value
+     */
+    static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        // The top SUB_BUCKET_BITS + 1 bits of the value pick the sub bucket in its power of two
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int group = exponent - SUB_BUCKET_BITS + 1;
+        long mantissa = value >>> (exponent - SUB_BUCKET_BITS);
+
+        return (group << SUB_BUCKET_BITS) + (int) (mantissa - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * @return the highest value counted by the passed in bucket
+     */
+    static long highestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int group = index >>> SUB_BUCKET_BITS;
+        long mantissa = (index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+        long lowest = mantissa << (group - 1);
+
+        return lowest + (1L << (group - 1)) - 1;
+    }
+}
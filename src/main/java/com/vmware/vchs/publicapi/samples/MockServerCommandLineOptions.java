@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.PosixParser;
+
+/**
+ * This class defines the command line arguments of the MockVchsServer. The defaults describe a
+ * stand-in that answers immediately and never fails, so an instance can also be created and
+ * changed in code to embed the server in a benchmark.
+ */
+public class MockServerCommandLineOptions {
+    static final String OPTION_PORT = "port";
+    static final String OPTION_THREADS = "threads";
+    static final String OPTION_LATENCY = "latency";
+    static final String OPTION_JITTER = "jitter";
+    static final String OPTION_ERROR_RATE = "errorrate";
+    static final String OPTION_ERROR_STATUS = "errorstatus";
+    static final String OPTION_TASK_DURATION = "taskduration";
+    static final String OPTION_TASK_ERROR_RATE = "taskerrorrate";
+    static final String OPTION_EVENT_LOSS_RATE = "eventlossrate";
+    static final String OPTION_SESSION_LIFETIME = "sessionlifetime";
+    static final String OPTION_SERVICES = "services";
+    static final String OPTION_VDCS = "vdcs";
+    static final String OPTION_TEMPLATES = "templates";
+    static final String OPTION_VDC_NAME = "vdcname";
+    static final String OPTION_NETWORK_NAME = "orgnet";
+    static final String OPTION_TEMPLATE_NAME = "vchstemplatename";
+    static final String OPTION_EDGE_GATEWAY = "edgegateway";
+    static final String OPTION_EXTERNAL_IP_RANGE = "externaliprange";
+
+    // Command line arguments
+    Option[] options = new Option[] {
+        new Option(OPTION_PORT, true, "The port to listen on, 0 to pick a free port. Defaults to 8080."),
+        new Option(OPTION_THREADS, true, "The number of threads serving requests. Defaults to 256."),
+        new Option(OPTION_LATENCY, true, "The time in milliseconds every response is delayed by. Defaults to 0."),
+        new Option(OPTION_JITTER, true, "The maximum time in milliseconds randomly added to or removed from the latency. Defaults to 0."),
+        new Option(OPTION_ERROR_RATE, true, "The fraction of requests, between 0 and 1, failing with the error status. Defaults to 0."),
+        new Option(OPTION_ERROR_STATUS, true, "The http status of the failed requests. Defaults to 503."),
+        new Option(OPTION_TASK_DURATION, true, "The time in milliseconds a task runs before it completes. Defaults to 2000."),
+        new Option(OPTION_TASK_ERROR_RATE, true, "The fraction of tasks, between 0 and 1, completing with an error. Defaults to 0."),
+        new Option(OPTION_EVENT_LOSS_RATE, true, "The fraction of task notifications, between 0 and 1, never posted to the notification feed. Defaults to 0."),
+        new Option(OPTION_SESSION_LIFETIME, true, "The time in seconds the vCHS and vCloud tokens are accepted after they were issued, 0 for ever. Defaults to 0."),
+        new Option(OPTION_SERVICES, true, "The number of compute services in the service list. Defaults to 2."),
+        new Option(OPTION_VDCS, true, "The number of VDCs in each compute service. Defaults to 2."),
+        new Option(OPTION_TEMPLATES, true, "The number of vApp templates in the catalog. Defaults to 10."),
+        new Option(OPTION_VDC_NAME, true, "The name of the first VDC, the others are named VDC2, VDC3... Defaults to VDC1."),
+        new Option(OPTION_NETWORK_NAME, true, "The name of the org network of every VDC. Defaults to default-routed."),
+        new Option(OPTION_TEMPLATE_NAME, true, "The name of the first vApp template, the others are named Template2, Template3... Defaults to CentOS64-64BIT."),
+        new Option(OPTION_EDGE_GATEWAY, true, "The name of the edge gateway of every VDC. Defaults to gateway."),
+        new Option(OPTION_EXTERNAL_IP_RANGE, true, "The external ip range of the edge gateway uplink, as start-end. Defaults to 192.0.2.1-192.0.2.254.")
+    };
+
+    /*
+     * The port the server listens on
+     */
+    int port = 8080;
+
+    /*
+     * The number of threads serving requests, i.e. the number of requests answered at once
+     */
+    int threads = 256;
+
+    /*
+     * The time in milliseconds every response is delayed by
+     */
+    long latency = 0;
+
+    /*
+     * The maximum time in milliseconds randomly added to or removed from the latency
+     */
+    long jitter = 0;
+
+    /*
+     * The fraction of requests failing with errorStatus
+     */
+    double errorRate = 0;
+
+    /*
+     * The http status of the requests failed by error injection
+     */
+    int errorStatus = 503;
+
+    /*
+     * The time in milliseconds a task runs before it completes
+     */
+    long taskDuration = 2000;
+
+    /*
+     * The fraction of tasks completing with an error
+     */
+    double taskErrorRate = 0;
+
+    /*
+     * The fraction of task notifications never posted to the notification feed
+     */
+    double eventLossRate = 0;
+
+    /*
+     * The time in seconds a token is accepted after it was issued, 0 for ever
+     */
+    long sessionLifetime = 0;
+
+    /*
+     * The number of compute services, the number of VDCs in each of them and the number of vApp
+     * templates in the catalog
+     */
+    int services = 2;
+    int vdcs = 2;
+    int templates = 10;
+
+    /*
+     * The names the samples look for, see the matching sample command line options
+     */
+    String vdcName = "VDC1";
+    String networkName = "default-routed";
+    String templateName = "CentOS64-64BIT";
+    String edgeGateway = "gateway";
+
+    /*
+     * The external ip range of the edge gateway uplink
+     */
+    String externalIpStart = "192.0.2.1";
+    String externalIpEnd = "192.0.2.254";
+
+    /**
+     * Returns the Apache Commons Cli Options instance holding the options of the server.
+     * 
+     * @return the Options of the server
+     */
+    protected Options getOptions() {
+        Options opts = new Options();
+
+        for (Option opt : options) {
+            opts.addOption(opt);
+        }
+
+        return opts;
+    }
+
+    /**
+     * Processes the passed in command line args, keeping the defaults of the options not given.
+     * Prints the syntax and exits if the args can not be parsed.
+     * 
+     * @param args
+     *            the command line String[] args to process
+     * @return the Apache cli CommandLine instance
+     */
+    protected CommandLine parseOptions(String[] args) {
+        CommandLineParser parser = new PosixParser();
+        HelpFormatter help = new HelpFormatter();
+        CommandLine cl = null;
+
+        try {
+            cl = parser.parse(getOptions(), args);
+
+            if (cl.hasOption(OPTION_PORT)) {
+                port = Integer.parseInt(cl.getOptionValue(OPTION_PORT));
+            }
+
+            if (cl.hasOption(OPTION_THREADS)) {
+                threads = Integer.parseInt(cl.getOptionValue(OPTION_THREADS));
+            }
+
+            if (cl.hasOption(OPTION_LATENCY)) {
+                latency = Long.parseLong(cl.getOptionValue(OPTION_LATENCY));
+            }
+
+            if (cl.hasOption(OPTION_JITTER)) {
+                jitter = Long.parseLong(cl.getOptionValue(OPTION_JITTER));
+            }
+
+            if (cl.hasOption(OPTION_ERROR_RATE)) {
+                errorRate = Double.parseDouble(cl.getOptionValue(OPTION_ERROR_RATE));
+            }
+
+            if (cl.hasOption(OPTION_ERROR_STATUS)) {
+                errorStatus = Integer.parseInt(cl.getOptionValue(OPTION_ERROR_STATUS));
+            }
+
+            if (cl.hasOption(OPTION_TASK_DURATION)) {
+                taskDuration = Long.parseLong(cl.getOptionValue(OPTION_TASK_DURATION));
+            }
+
+            if (cl.hasOption(OPTION_TASK_ERROR_RATE)) {
+                taskErrorRate = Double.parseDouble(cl.getOptionValue(OPTION_TASK_ERROR_RATE));
+            }
+
+            if (cl.hasOption(OPTION_EVENT_LOSS_RATE)) {
+                eventLossRate = Double.parseDouble(cl.getOptionValue(OPTION_EVENT_LOSS_RATE));
+            }
+
+            if (cl.hasOption(OPTION_SESSION_LIFETIME)) {
+                sessionLifetime = Long.parseLong(cl.getOptionValue(OPTION_SESSION_LIFETIME));
+            }
+
+            if (cl.hasOption(OPTION_SERVICES)) {
+                services = Integer.parseInt(cl.getOptionValue(OPTION_SERVICES));
+            }
+
+            if (cl.hasOption(OPTION_VDCS)) {
+                vdcs = Integer.parseInt(cl.getOptionValue(OPTION_VDCS));
+            }
+
+            if (cl.hasOption(OPTION_TEMPLATES)) {
+                templates = Integer.parseInt(cl.getOptionValue(OPTION_TEMPLATES));
+            }
+
+            if (cl.hasOption(OPTION_VDC_NAME)) {
+                vdcName = cl.getOptionValue(OPTION_VDC_NAME);
+            }
+
+            if (cl.hasOption(OPTION_NETWORK_NAME)) {
+                networkName = cl.getOptionValue(OPTION_NETWORK_NAME);
+            }
+
+            if (cl.hasOption(OPTION_TEMPLATE_NAME)) {
+                templateName = cl.getOptionValue(OPTION_TEMPLATE_NAME);
+            }
+
+            if (cl.hasOption(OPTION_EDGE_GATEWAY)) {
+                edgeGateway = cl.getOptionValue(OPTION_EDGE_GATEWAY);
+            }
+
+            if (cl.hasOption(OPTION_EXTERNAL_IP_RANGE)) {
+                String[] range = cl.getOptionValue(OPTION_EXTERNAL_IP_RANGE).split("-");
+                if (range.length != 2) {
+                    throw new org.apache.commons.cli.ParseException("Invalid "
+                            + OPTION_EXTERNAL_IP_RANGE + ": " + cl.getOptionValue(OPTION_EXTERNAL_IP_RANGE));
+                }
+
+                externalIpStart = range[0].trim();
+                externalIpEnd = range[1].trim();
+            }
+        } catch (org.apache.commons.cli.ParseException e) {
+            help.printHelp("vCHS stand-in server command line syntax", getOptions());
+            System.exit(1);
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number: " + e.getMessage());
+            help.printHelp("vCHS stand-in server command line syntax", getOptions());
+            System.exit(1);
+        }
+
+        return cl;
+    }
+}
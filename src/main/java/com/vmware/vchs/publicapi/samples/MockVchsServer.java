@@ -0,0 +1,1537 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.vmware.vcloud.api.rest.schema.InstantiateVAppTemplateParamsType;
+
+/**
+ * MockVchsServer
+ * 
+ * A local stand-in for vCHS and the vCloud Director API implementing the endpoints the samples
+ * use, so that VMCreateSample, VDCListSample and GatewayRuleSample can be run, load tested and
+ * benchmarked end to end without a vCHS account. Point the samples at it with the --url option.
+ * 
+ * Every response can be delayed by a fixed latency plus a random jitter, a fraction of the
+ * requests can be failed with an error status, and tasks run for a configurable duration before
+ * completing, optionally with an error. When a task completes, a vCloud Notification message is
+ * posted to the clients of the /api/notifications feed, standing in for the AMQP broker vCloud
+ * Director publishes its notifications to, one message per line. vApps created through the
+ * server are kept in memory for the lifetime of the server.
+ * 
+ * Each compute service is one organization: a vCloud token opened for one of its VDCs is valid
+ * for the others.
+ * 
+ * Any username and password is accepted. The tokens returned by the login and the vCloud session
+ * are required on the subsequent vCHS and vCloud requests respectively, as with the real service.
+ * 
+ * Parameters: see MockServerCommandLineOptions, every parameter is optional.
+ * 
+ * Argument Line:
+ * 
+ * --port [port] --latency [ms] --jitter [ms] --errorrate [0..1] --taskduration [ms]
+ * --vdcname [vdc name] --orgnet [org network name] --vchstemplatename [template name]
+ */
+public class MockVchsServer {
+    private static final String VCHS_NAMESPACE = "http://www.vmware.com/vchs/v5.6";
+    private static final String VCD_NAMESPACE = "http://www.vmware.com/vcloud/v1.5";
+    private static final String EXTENSION_NAMESPACE = "http://www.vmware.com/vcloud/extension/v1.5";
+    private static final String OVF_NAMESPACE = "http://schemas.dmtf.org/ovf/envelope/1";
+    private static final String RASD_NAMESPACE = "http://schemas.dmtf.org/wbem/wscim/1/cim-schema/2/CIM_ResourceAllocationSettingData";
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+
+    // vCD returns up to 128 records per query page, 25 unless asked otherwise
+    private static final int DEFAULT_PAGE_SIZE = 25;
+    private static final int MAX_PAGE_SIZE = 128;
+
+    // vCHS endpoints
+    private static final Pattern SESSIONS = Pattern.compile("/api/vchs/sessions");
+    private static final Pattern SERVICES = Pattern.compile("/api/vchs/services");
+    private static final Pattern COMPUTE = Pattern.compile("/api/vchs/compute/(\\d+)");
+    private static final Pattern VCLOUD_SESSION = Pattern
+            .compile("/api/vchs/compute/(\\d+)/vdc/(\\d+)/vcloudsession");
+
+    // vCloud endpoints
+    private static final Pattern ORG = Pattern.compile("/api/org/(\\d+)");
+    private static final Pattern VDC = Pattern.compile("/api/vdc/(\\d+)");
+    private static final Pattern INSTANTIATE = Pattern
+            .compile("/api/vdc/(\\d+)/action/instantiateVAppTemplate");
+    private static final Pattern NETWORK = Pattern.compile("/api/network/(\\d+)");
+    private static final Pattern QUERY = Pattern.compile("/api/query");
+
+    // The element and the attributes of a rendered query record
+    private static final Pattern RECORD_ELEMENT = Pattern.compile("<(\\w+)Record ");
+    private static final Pattern RECORD_ATTRIBUTE = Pattern.compile(" (\\w+)=\"([^\"]*)\"");
+    private static final Pattern TEMPLATE = Pattern.compile("/api/vAppTemplate/vappTemplate-(\\d+)");
+    private static final Pattern VAPP = Pattern.compile("/api/vApp/vapp-([0-9a-f-]+)");
+    private static final Pattern VAPP_NETWORK_CONFIG = Pattern
+            .compile("/api/vApp/vapp-([0-9a-f-]+)/networkConfigSection/?");
+    private static final Pattern DEPLOY = Pattern.compile("/api/vApp/vapp-([0-9a-f-]+)/action/deploy");
+    private static final Pattern VM_HARDWARE = Pattern
+            .compile("/api/vApp/vm-([0-9a-f-]+)/virtualHardwareSection/?");
+    private static final Pattern VM_NETWORK_CONNECTION = Pattern
+            .compile("/api/vApp/vm-([0-9a-f-]+)/networkConnectionSection/?");
+    private static final Pattern TASK = Pattern.compile("/api/task/([0-9a-f-]+)");
+    private static final Pattern NOTIFICATIONS = Pattern.compile(SampleConstants.NOTIFICATIONS_URL);
+    private static final Pattern EDGE_GATEWAYS = Pattern.compile("/api/admin/vdc/(\\d+)/edgeGateways");
+    private static final Pattern EDGE_GATEWAY = Pattern.compile("/api/admin/edgeGateway/(\\d+)");
+    private static final Pattern CONFIGURE_SERVICES = Pattern
+            .compile("/api/admin/edgeGateway/(\\d+)/action/configureServices");
+
+    private static final String SESSION_XML = XML_DECLARATION
+            + "<Session xmlns=\"" + VCHS_NAMESPACE + "\" href=\"${base}/api/vchs/session\" type=\"application/xml;class=vnd.vmware.vchs.session\">\n"
+            + "    <Link rel=\"down\" href=\"${base}/api/vchs/services\" type=\"" + SampleConstants.APPLICATION_XML_SERVICE_LIST + "\"/>\n"
+            + "    <Link rel=\"remove\" href=\"${base}/api/vchs/session\"/>\n"
+            + "</Session>\n";
+
+    private static final String SERVICE_XML = "    <Service region=\"${region}\" serviceId=\"${serviceId}\" serviceType=\"${serviceType}\" href=\"${base}/api/vchs/compute/${service}\" type=\"application/xml;class=vnd.vmware.vchs.compute\"/>\n";
+
+    private static final String VDC_REF_XML = "    <VdcRef status=\"ACTIVE\" name=\"${name}\" href=\"${base}/api/org/${service}\" type=\"application/xml;class=vnd.vmware.vchs.vdcref\">\n"
+            + "        <Link rel=\"down\" name=\"${name}\" href=\"${base}/api/vchs/compute/${service}/vdc/${vdc}/vcloudsession\" type=\"" + SampleConstants.APPLICATION_XML_VCD_SESSION + "\"/>\n"
+            + "    </VdcRef>\n";
+
+    private static final String VCLOUD_SESSION_XML = XML_DECLARATION
+            + "<VCloudSession xmlns=\"" + VCHS_NAMESPACE + "\" href=\"${base}/api/vchs/compute/${service}/vdc/${vdc}/vcloudsession\" type=\"" + SampleConstants.APPLICATION_XML_VCD_SESSION + "\">\n"
+            + "    <Link rel=\"up\" href=\"${base}/api/vchs/compute/${service}\" type=\"application/xml;class=vnd.vmware.vchs.compute\"/>\n"
+            + "    <VdcLink authorizationHeader=\"" + SampleConstants.VCD_AUTHORIZATION_HEADER + "\" authorizationToken=\"${token}\" rel=\"down\" name=\"${name}\" href=\"${base}/api/vdc/${vdc}\" type=\"application/xml;class=vnd.vmware.vchs.vdcref\"/>\n"
+            + "</VCloudSession>\n";
+
+    private static final String ORG_XML = XML_DECLARATION
+            + "<Org xmlns=\"" + VCD_NAMESPACE + "\" name=\"${name}\" id=\"urn:vcloud:org:${org}\" type=\"" + SampleConstants.ORG + "\" href=\"${base}/api/org/${org}\">\n"
+            + "${vdcs}"
+            + "    <Description/>\n"
+            + "    <FullName>${name}</FullName>\n"
+            + "</Org>\n";
+
+    private static final String ORG_VDC_LINK_XML = "    <Link rel=\"down\" type=\"" + SampleConstants.VDC + "\" name=\"${name}\" href=\"${base}/api/vdc/${vdc}\"/>\n";
+
+    private static final String VDC_XML = XML_DECLARATION
+            + "<Vdc xmlns=\"" + VCD_NAMESPACE + "\" status=\"1\" name=\"${name}\" id=\"urn:vcloud:vdc:${vdc}\" type=\"application/vnd.vmware.vcloud.vdc+xml\" href=\"${base}/api/vdc/${vdc}\">\n"
+            + "    <Link rel=\"up\" type=\"" + SampleConstants.ORG + "\" href=\"${base}/api/org/${org}\"/>\n"
+            + "    <Link rel=\"add\" type=\"application/vnd.vmware.vcloud.instantiateVAppTemplateParams+xml\" href=\"${base}/api/vdc/${vdc}/action/instantiateVAppTemplate\"/>\n"
+            + "    <Link rel=\"edgeGateways\" type=\"application/vnd.vmware.vcloud.query.records+xml\" href=\"${base}/api/admin/vdc/${vdc}/edgeGateways\"/>\n"
+            + "    <Link rel=\"orgVdcNetworks\" type=\"application/vnd.vmware.vcloud.query.records+xml\" href=\"${base}/api/admin/vdc/${vdc}/networks\"/>\n"
+            + "    <Description/>\n"
+            + "    <AllocationModel>AllocationPool</AllocationModel>\n"
+            + "    <AvailableNetworks>\n"
+            + "        <Network type=\"application/vnd.vmware.vcloud.network+xml\" name=\"${network}\" href=\"${base}/api/network/${vdc}\"/>\n"
+            + "    </AvailableNetworks>\n"
+            + "    <NicQuota>0</NicQuota>\n"
+            + "    <NetworkQuota>20</NetworkQuota>\n"
+            + "    <VmQuota>0</VmQuota>\n"
+            + "    <IsEnabled>true</IsEnabled>\n"
+            + "</Vdc>\n";
+
+    private static final String NETWORK_XML = XML_DECLARATION
+            + "<OrgVdcNetwork xmlns=\"" + VCD_NAMESPACE + "\" status=\"1\" name=\"${network}\" id=\"urn:vcloud:network:${vdc}\" type=\"application/vnd.vmware.vcloud.orgVdcNetwork+xml\" href=\"${base}/api/network/${vdc}\">\n"
+            + "    <Link rel=\"up\" type=\"application/vnd.vmware.vcloud.vdc+xml\" href=\"${base}/api/vdc/${vdc}\"/>\n"
+            + "    <Description/>\n"
+            + "    <Configuration>\n"
+            + "        <IpScopes>\n"
+            + "            <IpScope>\n"
+            + "                <IsInherited>false</IsInherited>\n"
+            + "                <Gateway>192.168.109.1</Gateway>\n"
+            + "                <Netmask>255.255.255.0</Netmask>\n"
+            + "                <IsEnabled>true</IsEnabled>\n"
+            + "            </IpScope>\n"
+            + "        </IpScopes>\n"
+            + "        <FenceMode>natRouted</FenceMode>\n"
+            + "        <RetainNetInfoAcrossDeployments>false</RetainNetInfoAcrossDeployments>\n"
+            + "    </Configuration>\n"
+            + "    <IsShared>false</IsShared>\n"
+            + "</OrgVdcNetwork>\n";
+
+    private static final String QUERY_RECORDS_XML = XML_DECLARATION
+            + "<QueryResultRecords xmlns=\"" + VCD_NAMESPACE + "\" total=\"${total}\" pageSize=\"${pageSize}\" page=\"${page}\" name=\"${name}\" type=\"application/vnd.vmware.vcloud.query.records+xml\" href=\"${href}\">\n"
+            + "${links}${records}</QueryResultRecords>\n";
+
+    private static final String QUERY_REFERENCES_XML = XML_DECLARATION
+            + "<References xmlns=\"" + VCD_NAMESPACE + "\" total=\"${total}\" pageSize=\"${pageSize}\" page=\"${page}\" name=\"${name}\" type=\"application/vnd.vmware.vcloud.query.references+xml\" href=\"${href}\">\n"
+            + "${links}${records}</References>\n";
+
+    private static final String QUERY_REFERENCE_XML = "    <${element}Reference type=\"${type}\" name=\"${name}\" id=\"${id}\" href=\"${href}\"/>\n";
+
+    private static final String QUERY_LINK_XML = "    <Link rel=\"${rel}\" type=\"application/vnd.vmware.vcloud.query.records+xml\" href=\"${href}\"/>\n";
+
+    private static final String VAPP_TEMPLATE_RECORD_XML = "    <VAppTemplateRecord vdcName=\"VMware System Catalog VDC\" storageProfileName=\"SSD-Accelerated\" status=\"RESOLVED\" ownerName=\"system\" name=\"${name}\" isPublished=\"true\" isGoldMaster=\"false\" isExpired=\"false\" isEnabled=\"true\" isDeployed=\"false\" isBusy=\"false\" catalogName=\"Public Catalog\" href=\"${base}/api/vAppTemplate/vappTemplate-${template}\"/>\n";
+
+    private static final String TASK_RECORD_XML = "    <TaskRecord status=\"${status}\" startDate=\"${startDate}\"${endDate} serviceNamespace=\"com.vmware.vcloud\" operationName=\"${operationName}\" objectType=\"${objectType}\" objectName=\"${objectName}\" object=\"${object}\" name=\"task\" id=\"urn:vcloud:task:${task}\" href=\"${base}/api/task/${task}\"/>\n";
+
+    private static final String EDGE_GATEWAY_RECORD_XML = "    <EdgeGatewayRecord vdc=\"${base}/api/vdc/${vdc}\" numberOfOrgNetworks=\"1\" numberOfExtNetworks=\"1\" name=\"${gateway}\" isBusy=\"false\" haStatus=\"DISABLED\" gatewayStatus=\"READY\" href=\"${base}/api/admin/edgeGateway/${vdc}\"/>\n";
+
+    private static final String VAPP_TEMPLATE_XML = XML_DECLARATION
+            + "<VAppTemplate xmlns=\"" + VCD_NAMESPACE + "\" ovfDescriptorUploaded=\"true\" goldMaster=\"false\" status=\"8\" name=\"${name}\" id=\"urn:vcloud:vapptemplate:${template}\" type=\"application/vnd.vmware.vcloud.vAppTemplate+xml\" href=\"${base}/api/vAppTemplate/vappTemplate-${template}\">\n"
+            + "    <Description/>\n"
+            + "</VAppTemplate>\n";
+
+    // The vApp as returned by the instantiate request, still being created by its task
+    private static final String VAPP_CREATING_XML = XML_DECLARATION
+            + "<VApp xmlns=\"" + VCD_NAMESPACE + "\" ovfDescriptorUploaded=\"true\" deployed=\"false\" status=\"0\" name=\"${name}\" id=\"urn:vcloud:vapp:${vapp}\" type=\"application/vnd.vmware.vcloud.vApp+xml\" href=\"${base}/api/vApp/vapp-${vapp}\">\n"
+            + "    <Link rel=\"up\" type=\"application/vnd.vmware.vcloud.vdc+xml\" href=\"${base}/api/vdc/${vdc}\"/>\n"
+            + "    <Description>${description}</Description>\n"
+            + "    <Tasks>\n"
+            + "${task}"
+            + "    </Tasks>\n"
+            + "</VApp>\n";
+
+    private static final String HARDWARE_ITEMS_XML = "    <ovf:Info>Virtual hardware requirements</ovf:Info>\n"
+            + "    <ovf:Item>\n"
+            + "        <rasd:Address>${mac}</rasd:Address>\n"
+            + "        <rasd:AddressOnParent>0</rasd:AddressOnParent>\n"
+            + "        <rasd:AutomaticAllocation>${connected}</rasd:AutomaticAllocation>\n"
+            + "        <rasd:Connection vcloud:ipAddressingMode=\"${ipMode}\" vcloud:primaryNetworkConnection=\"true\">${connection}</rasd:Connection>\n"
+            + "        <rasd:Description>E1000 ethernet adapter</rasd:Description>\n"
+            + "        <rasd:ElementName>Network adapter 0</rasd:ElementName>\n"
+            + "        <rasd:InstanceID>1</rasd:InstanceID>\n"
+            + "        <rasd:ResourceSubType>E1000</rasd:ResourceSubType>\n"
+            + "        <rasd:ResourceType>10</rasd:ResourceType>\n"
+            + "    </ovf:Item>\n"
+            + "    <ovf:Item>\n"
+            + "        <rasd:AllocationUnits>hertz * 10^6</rasd:AllocationUnits>\n"
+            + "        <rasd:Description>Number of Virtual CPUs</rasd:Description>\n"
+            + "        <rasd:ElementName>1 virtual CPU(s)</rasd:ElementName>\n"
+            + "        <rasd:InstanceID>2</rasd:InstanceID>\n"
+            + "        <rasd:Reservation>0</rasd:Reservation>\n"
+            + "        <rasd:ResourceType>3</rasd:ResourceType>\n"
+            + "        <rasd:VirtualQuantity>1</rasd:VirtualQuantity>\n"
+            + "        <rasd:Weight>0</rasd:Weight>\n"
+            + "    </ovf:Item>\n"
+            + "    <ovf:Item>\n"
+            + "        <rasd:AllocationUnits>byte * 2^20</rasd:AllocationUnits>\n"
+            + "        <rasd:Description>Memory Size</rasd:Description>\n"
+            + "        <rasd:ElementName>1024 MB of memory</rasd:ElementName>\n"
+            + "        <rasd:InstanceID>3</rasd:InstanceID>\n"
+            + "        <rasd:Reservation>0</rasd:Reservation>\n"
+            + "        <rasd:ResourceType>4</rasd:ResourceType>\n"
+            + "        <rasd:VirtualQuantity>1024</rasd:VirtualQuantity>\n"
+            + "        <rasd:Weight>0</rasd:Weight>\n"
+            + "    </ovf:Item>\n";
+
+    private static final String VIRTUAL_HARDWARE_SECTION_XML = XML_DECLARATION
+            + "<ovf:VirtualHardwareSection xmlns:ovf=\"" + OVF_NAMESPACE + "\" xmlns:rasd=\"" + RASD_NAMESPACE + "\" xmlns:vcloud=\"" + VCD_NAMESPACE + "\" ovf:transport=\"\" vcloud:type=\"application/vnd.vmware.vcloud.virtualHardwareSection+xml\" vcloud:href=\"${base}/api/vApp/vm-${vapp}/virtualHardwareSection/\">\n"
+            + "${items}"
+            + "</ovf:VirtualHardwareSection>\n";
+
+    private static final String NETWORK_CONNECTION_XML = "    <PrimaryNetworkConnectionIndex>0</PrimaryNetworkConnectionIndex>\n"
+            + "    <NetworkConnection needsCustomization=\"false\" network=\"${network}\">\n"
+            + "        <NetworkConnectionIndex>0</NetworkConnectionIndex>\n"
+            + "        <IpAddress>${ip}</IpAddress>\n"
+            + "        <IsConnected>true</IsConnected>\n"
+            + "        <MACAddress>${mac}</MACAddress>\n"
+            + "        <IpAddressAllocationMode>POOL</IpAddressAllocationMode>\n"
+            + "    </NetworkConnection>\n";
+
+    private static final String NETWORK_CONNECTION_SECTION_XML = XML_DECLARATION
+            + "<NetworkConnectionSection xmlns=\"" + VCD_NAMESPACE + "\" xmlns:ovf=\"" + OVF_NAMESPACE + "\" type=\"application/vnd.vmware.vcloud.networkConnectionSection+xml\" href=\"${base}/api/vApp/vm-${vapp}/networkConnectionSection/\" ovf:required=\"false\">\n"
+            + "    <ovf:Info>Specifies the available VM network connections</ovf:Info>\n"
+            + "${connection}"
+            + "    <Link rel=\"edit\" type=\"application/vnd.vmware.vcloud.networkConnectionSection+xml\" href=\"${base}/api/vApp/vm-${vapp}/networkConnectionSection/\"/>\n"
+            + "</NetworkConnectionSection>\n";
+
+    private static final String VAPP_XML = XML_DECLARATION
+            + "<VApp xmlns=\"" + VCD_NAMESPACE + "\" xmlns:ovf=\"" + OVF_NAMESPACE + "\" xmlns:rasd=\"" + RASD_NAMESPACE + "\" xmlns:vcloud=\"" + VCD_NAMESPACE + "\" ovfDescriptorUploaded=\"true\" deployed=\"${deployed}\" status=\"${status}\" name=\"${name}\" id=\"urn:vcloud:vapp:${vapp}\" type=\"application/vnd.vmware.vcloud.vApp+xml\" href=\"${base}/api/vApp/vapp-${vapp}\">\n"
+            + "    <Link rel=\"deploy\" type=\"application/vnd.vmware.vcloud.deployVAppParams+xml\" href=\"${base}/api/vApp/vapp-${vapp}/action/deploy\"/>\n"
+            + "    <Link rel=\"up\" type=\"application/vnd.vmware.vcloud.vdc+xml\" href=\"${base}/api/vdc/${vdc}\"/>\n"
+            + "    <Link rel=\"edit\" type=\"application/vnd.vmware.vcloud.vApp+xml\" href=\"${base}/api/vApp/vapp-${vapp}\"/>\n"
+            + "    <Description>${description}</Description>\n"
+            + "    <NetworkConfigSection type=\"application/vnd.vmware.vcloud.networkConfigSection+xml\" href=\"${base}/api/vApp/vapp-${vapp}/networkConfigSection/\" ovf:required=\"false\">\n"
+            + "        <ovf:Info>The configuration parameters for logical networks</ovf:Info>\n"
+            + "        <Link rel=\"edit\" type=\"application/vnd.vmware.vcloud.networkConfigSection+xml\" href=\"${base}/api/vApp/vapp-${vapp}/networkConfigSection/\"/>\n"
+            + "    </NetworkConfigSection>\n"
+            + "    <InMaintenanceMode>false</InMaintenanceMode>\n"
+            + "    <Children>\n"
+            + "        <Vm needsCustomization=\"false\" deployed=\"${deployed}\" status=\"${status}\" name=\"${name}\" id=\"urn:vcloud:vm:${vapp}\" type=\"application/vnd.vmware.vcloud.vm+xml\" href=\"${base}/api/vApp/vm-${vapp}\">\n"
+            + "            <Link rel=\"up\" type=\"application/vnd.vmware.vcloud.vApp+xml\" href=\"${base}/api/vApp/vapp-${vapp}\"/>\n"
+            + "            <Description/>\n"
+            + "            <ovf:VirtualHardwareSection ovf:transport=\"\" vcloud:type=\"application/vnd.vmware.vcloud.virtualHardwareSection+xml\" vcloud:href=\"${base}/api/vApp/vm-${vapp}/virtualHardwareSection/\">\n"
+            + "${items}"
+            + "            </ovf:VirtualHardwareSection>\n"
+            + "            <NetworkConnectionSection type=\"application/vnd.vmware.vcloud.networkConnectionSection+xml\" href=\"${base}/api/vApp/vm-${vapp}/networkConnectionSection/\" ovf:required=\"false\">\n"
+            + "                <ovf:Info>Specifies the available VM network connections</ovf:Info>\n"
+            + "${connection}"
+            + "            </NetworkConnectionSection>\n"
+            + "            <VAppScopedLocalId>${name}</VAppScopedLocalId>\n"
+            + "        </Vm>\n"
+            + "    </Children>\n"
+            + "</VApp>\n";
+
+    private static final String EDGE_GATEWAY_XML = XML_DECLARATION
+            + "<EdgeGateway xmlns=\"" + VCD_NAMESPACE + "\" status=\"1\" name=\"${gateway}\" id=\"urn:vcloud:gateway:${vdc}\" type=\"application/vnd.vmware.admin.edgeGateway+xml\" href=\"${base}/api/admin/edgeGateway/${vdc}\">\n"
+            + "    <Link rel=\"up\" type=\"application/vnd.vmware.vcloud.vdc+xml\" href=\"${base}/api/vdc/${vdc}\"/>\n"
+            + "    <Link rel=\"edgeGateway:configureServices\" type=\"" + SampleConstants.CONTENT_TYPE_EDGE_GATEWAY + "\" href=\"${base}/api/admin/edgeGateway/${vdc}/action/configureServices\"/>\n"
+            + "    <Description/>\n"
+            + "    <Configuration>\n"
+            + "        <GatewayBackingConfig>compact</GatewayBackingConfig>\n"
+            + "        <GatewayInterfaces>\n"
+            + "            <GatewayInterface>\n"
+            + "                <Name>external</Name>\n"
+            + "                <DisplayName>external</DisplayName>\n"
+            + "                <Network type=\"application/vnd.vmware.admin.network+xml\" name=\"external\" href=\"${base}/api/admin/network/external-${vdc}\"/>\n"
+            + "                <InterfaceType>uplink</InterfaceType>\n"
+            + "                <SubnetParticipation>\n"
+            + "                    <Gateway>${ipStart}</Gateway>\n"
+            + "                    <Netmask>255.255.255.0</Netmask>\n"
+            + "                    <IpRanges>\n"
+            + "                        <IpRange>\n"
+            + "                            <StartAddress>${ipStart}</StartAddress>\n"
+            + "                            <EndAddress>${ipEnd}</EndAddress>\n"
+            + "                        </IpRange>\n"
+            + "                    </IpRanges>\n"
+            + "                </SubnetParticipation>\n"
+            + "                <ApplyRateLimit>false</ApplyRateLimit>\n"
+            + "                <UseForDefaultRoute>true</UseForDefaultRoute>\n"
+            + "            </GatewayInterface>\n"
+            + "            <GatewayInterface>\n"
+            + "                <Name>${network}</Name>\n"
+            + "                <DisplayName>${network}</DisplayName>\n"
+            + "                <Network type=\"application/vnd.vmware.admin.network+xml\" name=\"${network}\" href=\"${base}/api/admin/network/${vdc}\"/>\n"
+            + "                <InterfaceType>internal</InterfaceType>\n"
+            + "                <SubnetParticipation>\n"
+            + "                    <Gateway>192.168.109.1</Gateway>\n"
+            + "                    <Netmask>255.255.255.0</Netmask>\n"
+            + "                </SubnetParticipation>\n"
+            + "                <ApplyRateLimit>false</ApplyRateLimit>\n"
+            + "                <UseForDefaultRoute>false</UseForDefaultRoute>\n"
+            + "            </GatewayInterface>\n"
+            + "        </GatewayInterfaces>\n"
+            + "        <HaEnabled>false</HaEnabled>\n"
+            + "        <UseDefaultRouteForDnsRelay>false</UseDefaultRouteForDnsRelay>\n"
+            + "    </Configuration>\n"
+            + "</EdgeGateway>\n";
+
+    private static final String TASK_XML = "<Task xmlns=\"" + VCD_NAMESPACE + "\" status=\"${status}\" startTime=\"${startTime}\"${endTime} serviceNamespace=\"com.vmware.vcloud\" operationName=\"${operationName}\" operation=\"${operation}\" expiryTime=\"${expiryTime}\" cancelRequested=\"false\" name=\"task\" id=\"urn:vcloud:task:${task}\" type=\"application/vnd.vmware.vcloud.task+xml\" href=\"${base}/api/task/${task}\">\n"
+            + "    <Owner type=\"${ownerType}\" name=\"${ownerName}\" href=\"${ownerHref}\"/>\n"
+            + "${error}"
+            + "    <Progress>${progress}</Progress>\n"
+            + "    <Details/>\n"
+            + "</Task>\n";
+
+    private static final String NOTIFICATION_XML = "<vmext:Notification xmlns:vmext=\"" + EXTENSION_NAMESPACE + "\" xmlns:vcloud=\"" + VCD_NAMESPACE + "\" type=\"com/vmware/vcloud/event/task/complete\" eventId=\"${eventId}\">"
+            + "<vmext:EntityLink rel=\"entity\" type=\"vcloud:task\" name=\"${operationName}\" id=\"urn:vcloud:task:${task}\"/>"
+            + "<vmext:Timestamp>${timestamp}</vmext:Timestamp>"
+            + "<vmext:OperationSuccess>${success}</vmext:OperationSuccess>"
+            + "</vmext:Notification>\n";
+
+    private static final String ERROR_XML = "<Error xmlns=\"" + VCD_NAMESPACE + "\" minorErrorCode=\"${minorErrorCode}\" message=\"${message}\" majorErrorCode=\"${majorErrorCode}\"/>\n";
+
+    private final MockServerCommandLineOptions options;
+
+    // The tokens handed out by the vCHS login and the vCloud sessions, with the time in
+    // milliseconds they expire at, Long.MAX_VALUE if they never do
+    private final Map<String, Long> vchsTokens = new ConcurrentHashMap<String, Long>();
+    private final Map<String, Long> vcdTokens = new ConcurrentHashMap<String, Long>();
+
+    // The vApps created through the server and the tasks started on them, by id
+    private final Map<String, VApp> vApps = new ConcurrentHashMap<String, VApp>();
+    private final Map<String, Task> tasks = new ConcurrentHashMap<String, Task>();
+
+    // Used to hand out a distinct ip and MAC address to the Vm of each vApp
+    private final AtomicInteger vmCount = new AtomicInteger();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+
+    // The queues of the messages waiting to be sent to each client of the notification feed
+    private final Set<BlockingQueue<String>> subscribers = ConcurrentHashMap.newKeySet();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    // Posts the notification of each task when it completes
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param args
+     *            any arguments passed by the command line, see MockServerCommandLineOptions
+     */
+    public static void main(String[] args) throws IOException {
+        MockServerCommandLineOptions options = new MockServerCommandLineOptions();
+        options.parseOptions(args);
+
+        final MockVchsServer server = new MockVchsServer(options);
+        server.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+            @Override
+            public void run() {
+                server.stop();
+                System.out.println("Served " + server.getRequestCount() + " requests, "
+                        + server.getErrorCount() + " failed by error injection");
+            }
+        });
+
+        System.out.println("vCHS stand-in server listening on " + server.getBaseUrl());
+        System.out.println("Run the samples with --url " + server.getBaseUrl() + " --vdcname "
+                + options.vdcName + ", press Ctrl-C to stop");
+    }
+
+    /**
+     * Creates a server configured by the passed in options. The server is not started.
+     * 
+     * @param options
+     *            the configuration of the server
+     */
+    public MockVchsServer(MockServerCommandLineOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Starts listening on the configured port.
+     */
+    public void start() throws IOException {
+        // Answer small requests without waiting on Nagle's algorithm, must be set before the
+        // server classes are first used
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+
+        executor = Executors.newFixedThreadPool(options.threads,
+                HttpUtils.daemonThreadFactory("vchs-mock-server"));
+
+        server = HttpServer.create(new InetSocketAddress("localhost", options.port), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                serve(exchange);
+            }
+        });
+        server.setExecutor(executor);
+        scheduler = Executors.newSingleThreadScheduledExecutor(HttpUtils
+                .daemonThreadFactory("vchs-mock-notifications"));
+        server.start();
+    }
+
+    /**
+     * Stops the server, dropping the requests in progress.
+     */
+    public void stop() {
+        if (null != server) {
+            server.stop(0);
+            executor.shutdownNow();
+            scheduler.shutdownNow();
+            server = null;
+        }
+    }
+
+    /**
+     * Returns the url to pass to the samples with the --url option.
+     * 
+     * @return the base url of the running server
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * @return the number of requests received since the server started
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return the number of requests failed by error injection since the server started
+     */
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    /**
+     * Serves a single request: waits for the configured latency, injects an error if its turn
+     * came, otherwise dispatches the request to the endpoint matching its path.
+     */
+    private void serve(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+
+        try {
+            delay();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (options.errorRate > 0 && random.nextDouble() < options.errorRate) {
+                errorCount.incrementAndGet();
+                drain(exchange.getRequestBody());
+                sendError(exchange, options.errorStatus, "SERVICE_UNAVAILABLE",
+                        "Injected error");
+                return;
+            }
+
+            dispatch(exchange);
+        } catch (RuntimeException e) {
+            sendError(exchange, HttpStatus.SC_INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR",
+                    String.valueOf(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Sleeps for the configured latency plus or minus a random jitter.
+     */
+    private void delay() {
+        long millis = options.latency;
+        if (options.jitter > 0) {
+            millis += ThreadLocalRandom.current().nextLong(-options.jitter, options.jitter + 1);
+        }
+
+        if (millis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Finds the endpoint matching the method and path of the request and answers it, or answers
+     * 404 Not Found if there is none.
+     */
+    private void dispatch(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        Matcher m;
+
+        if ("POST".equals(method)) {
+            if (SESSIONS.matcher(path).matches()) {
+                login(exchange);
+                return;
+            }
+
+            if ((m = VCLOUD_SESSION.matcher(path)).matches()) {
+                if (authorized(exchange, SampleConstants.VCHS_AUTHORIZATION_HEADER, vchsTokens)) {
+                    createVCloudSession(exchange, Integer.parseInt(m.group(1)),
+                            Integer.parseInt(m.group(2)));
+                }
+                return;
+            }
+
+            if (!authorized(exchange, SampleConstants.VCD_AUTHORIZATION_HEADER, vcdTokens)) {
+                return;
+            }
+
+            if ((m = INSTANTIATE.matcher(path)).matches()) {
+                instantiate(exchange, Integer.parseInt(m.group(1)));
+                return;
+            }
+
+            if ((m = DEPLOY.matcher(path)).matches()) {
+                deploy(exchange, m.group(1));
+                return;
+            }
+
+            if ((m = CONFIGURE_SERVICES.matcher(path)).matches()) {
+                configureServices(exchange, Integer.parseInt(m.group(1)));
+                return;
+            }
+        } else if ("PUT".equals(method)) {
+            if (!authorized(exchange, SampleConstants.VCD_AUTHORIZATION_HEADER, vcdTokens)) {
+                return;
+            }
+
+            if ((m = VAPP_NETWORK_CONFIG.matcher(path)).matches()) {
+                updateSection(exchange, m.group(1), "vappUpdateNetwork",
+                        "Updating Virtual Application ");
+                return;
+            }
+
+            if ((m = VM_HARDWARE.matcher(path)).matches()) {
+                updateSection(exchange, m.group(1), "vappUpdateVm", "Updating Virtual Machine ");
+                return;
+            }
+        } else if ("GET".equals(method)) {
+            if (SERVICES.matcher(path).matches()) {
+                if (authorized(exchange, SampleConstants.VCHS_AUTHORIZATION_HEADER, vchsTokens)) {
+                    getServices(exchange);
+                }
+                return;
+            }
+
+            // The feed stands in for the AMQP broker, which has its own credentials
+            if (NOTIFICATIONS.matcher(path).matches()) {
+                streamNotifications(exchange);
+                return;
+            }
+
+            if ((m = COMPUTE.matcher(path)).matches()) {
+                if (authorized(exchange, SampleConstants.VCHS_AUTHORIZATION_HEADER, vchsTokens)) {
+                    getCompute(exchange, Integer.parseInt(m.group(1)));
+                }
+                return;
+            }
+
+            if (!authorized(exchange, SampleConstants.VCD_AUTHORIZATION_HEADER, vcdTokens)) {
+                return;
+            }
+
+            if ((m = ORG.matcher(path)).matches()) {
+                getOrg(exchange, Integer.parseInt(m.group(1)));
+                return;
+            }
+
+            if ((m = VDC.matcher(path)).matches()) {
+                getVdc(exchange, Integer.parseInt(m.group(1)));
+                return;
+            }
+
+            if ((m = NETWORK.matcher(path)).matches()) {
+                getNetwork(exchange, Integer.parseInt(m.group(1)));
+                return;
+            }
+
+            if (QUERY.matcher(path).matches()) {
+                query(exchange);
+                return;
+            }
+
+            if ((m = TEMPLATE.matcher(path)).matches()) {
+                getVAppTemplate(exchange, Integer.parseInt(m.group(1)));
+                return;
+            }
+
+            if ((m = VAPP.matcher(path)).matches()) {
+                getVApp(exchange, m.group(1));
+                return;
+            }
+
+            if ((m = VM_HARDWARE.matcher(path)).matches()) {
+                getVirtualHardwareSection(exchange, m.group(1));
+                return;
+            }
+
+            if ((m = VM_NETWORK_CONNECTION.matcher(path)).matches()) {
+                getNetworkConnectionSection(exchange, m.group(1));
+                return;
+            }
+
+            if ((m = TASK.matcher(path)).matches()) {
+                getTask(exchange, m.group(1));
+                return;
+            }
+
+            if ((m = EDGE_GATEWAYS.matcher(path)).matches()) {
+                getEdgeGateways(exchange, Integer.parseInt(m.group(1)));
+                return;
+            }
+
+            if ((m = EDGE_GATEWAY.matcher(path)).matches()) {
+                getEdgeGateway(exchange, Integer.parseInt(m.group(1)));
+                return;
+            }
+        }
+
+        notFound(exchange);
+    }
+
+    /*
+     * vCHS endpoints
+     */
+
+    private void login(HttpExchange exchange) throws IOException {
+        drain(exchange.getRequestBody());
+
+        String authorization = exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (null == authorization || !authorization.startsWith("Basic ")) {
+            sendError(exchange, HttpStatus.SC_UNAUTHORIZED, "UNAUTHORIZED",
+                    "Basic authentication is required");
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        vchsTokens.put(token, expiry());
+
+        exchange.getResponseHeaders().set(SampleConstants.VCHS_AUTHORIZATION_HEADER, token);
+        send(exchange, HttpStatus.SC_CREATED, "application/xml;class=vnd.vmware.vchs.session",
+                render(SESSION_XML, "base", baseUrl(exchange)));
+    }
+
+    private void getServices(HttpExchange exchange) throws IOException {
+        String base = baseUrl(exchange);
+        StringBuilder sb = new StringBuilder(XML_DECLARATION);
+        sb.append("<Services xmlns=\"" + VCHS_NAMESPACE + "\" href=\"" + base
+                + "/api/vchs/services\" type=\"" + SampleConstants.APPLICATION_XML_SERVICE_LIST
+                + "\">\n");
+
+        for (int service = 1; service <= options.services; service++) {
+            sb.append(render(SERVICE_XML, "base", base, "service", String.valueOf(service),
+                    "region", "mock-region-" + service + ".vchs.vmware.com",
+                    "serviceId", String.format("M%09d-%04d", service, service),
+                    "serviceType", service % 2 == 1 ? "compute:dedicatedcloud" : "compute:vpc"));
+        }
+
+        sb.append("</Services>\n");
+        send(exchange, HttpStatus.SC_OK, SampleConstants.APPLICATION_XML_SERVICE_LIST,
+                sb.toString());
+    }
+
+    private void getCompute(HttpExchange exchange, int service) throws IOException {
+        if (service < 1 || service > options.services) {
+            notFound(exchange);
+            return;
+        }
+
+        String base = baseUrl(exchange);
+        StringBuilder sb = new StringBuilder(XML_DECLARATION);
+        sb.append("<Compute xmlns=\"" + VCHS_NAMESPACE + "\" serviceId=\""
+                + String.format("M%09d-%04d", service, service) + "\" serviceType=\"compute\" href=\""
+                + base + "/api/vchs/compute/" + service
+                + "\" type=\"application/xml;class=vnd.vmware.vchs.compute\">\n");
+        sb.append("    <Link rel=\"up\" href=\"" + base + "/api/vchs/services\" type=\""
+                + SampleConstants.APPLICATION_XML_SERVICE_LIST + "\"/>\n");
+
+        for (int i = 0; i < options.vdcs; i++) {
+            int vdc = (service - 1) * options.vdcs + i + 1;
+            sb.append(render(VDC_REF_XML, "base", base, "service", String.valueOf(service),
+                    "vdc", String.valueOf(vdc), "name", escape(vdcName(vdc))));
+        }
+
+        sb.append("</Compute>\n");
+        send(exchange, HttpStatus.SC_OK, "application/xml;class=vnd.vmware.vchs.compute",
+                sb.toString());
+    }
+
+    private void createVCloudSession(HttpExchange exchange, int service, int vdc)
+            throws IOException {
+        drain(exchange.getRequestBody());
+
+        if (!isVdc(vdc) || (vdc - 1) / options.vdcs + 1 != service) {
+            notFound(exchange);
+            return;
+        }
+
+        String token = UUID.randomUUID().toString().replace("-", "");
+        vcdTokens.put(token, expiry());
+
+        send(exchange, HttpStatus.SC_CREATED, SampleConstants.APPLICATION_XML_VCD_SESSION,
+                render(VCLOUD_SESSION_XML, "base", baseUrl(exchange), "service",
+                        String.valueOf(service), "vdc", String.valueOf(vdc), "name",
+                        escape(vdcName(vdc)), "token", token));
+    }
+
+    /*
+     * vCloud endpoints
+     */
+
+    /**
+     * Each compute service is a single organization holding its VDCs.
+     */
+    private void getOrg(HttpExchange exchange, int org) throws IOException {
+        if (org < 1 || org > options.services) {
+            notFound(exchange);
+            return;
+        }
+
+        String base = baseUrl(exchange);
+        StringBuilder vdcs = new StringBuilder();
+
+        for (int i = 0; i < options.vdcs; i++) {
+            int vdc = (org - 1) * options.vdcs + i + 1;
+            vdcs.append(render(ORG_VDC_LINK_XML, "base", base, "vdc", String.valueOf(vdc),
+                    "name", escape(vdcName(vdc))));
+        }
+
+        send(exchange, HttpStatus.SC_OK, SampleConstants.ORG, render(ORG_XML, "base", base,
+                "org", String.valueOf(org), "name", "M" + org, "vdcs", vdcs.toString()));
+    }
+
+    private void getVdc(HttpExchange exchange, int vdc) throws IOException {
+        if (!isVdc(vdc)) {
+            notFound(exchange);
+            return;
+        }
+
+        send(exchange, HttpStatus.SC_OK, "application/vnd.vmware.vcloud.vdc+xml",
+                render(VDC_XML, "base", baseUrl(exchange), "vdc", String.valueOf(vdc), "org",
+                        String.valueOf((vdc - 1) / options.vdcs + 1), "name",
+                        escape(vdcName(vdc)), "network", escape(options.networkName)));
+    }
+
+    private void getNetwork(HttpExchange exchange, int vdc) throws IOException {
+        if (!isVdc(vdc)) {
+            notFound(exchange);
+            return;
+        }
+
+        send(exchange, HttpStatus.SC_OK, "application/vnd.vmware.vcloud.orgVdcNetwork+xml",
+                render(NETWORK_XML, "base", baseUrl(exchange), "vdc", String.valueOf(vdc),
+                        "network", escape(options.networkName)));
+    }
+
+    /**
+     * Answers the vAppTemplate and task queries of the query service, one page at a time. The only
+     * supported filters are name==[name] for templates and id==[id] for tasks, with several ids
+     * separated by commas as in (id==[id],id==[id]); any other filter is ignored. Templates can be
+     * sorted by name with sortAsc=name or sortDesc=name. The records, idrecords and references
+     * formats are supported, as is the fields parameter.
+     */
+    private void query(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = queryParameters(exchange.getRequestURI().getRawQuery());
+        String type = parameters.get("type");
+
+        if (!"vAppTemplate".equals(type) && !"task".equals(type)) {
+            sendError(exchange, HttpStatus.SC_BAD_REQUEST, "BAD_REQUEST",
+                    "Unsupported query type: " + type);
+            return;
+        }
+
+        int page;
+        int pageSize;
+        try {
+            page = parameters.containsKey("page") ? Integer.parseInt(parameters.get("page")) : 1;
+            pageSize = parameters.containsKey("pageSize") ? Integer.parseInt(parameters
+                    .get("pageSize")) : DEFAULT_PAGE_SIZE;
+        } catch (NumberFormatException e) {
+            sendError(exchange, HttpStatus.SC_BAD_REQUEST, "BAD_REQUEST", e.getMessage());
+            return;
+        }
+
+        if (page < 1 || pageSize < 1) {
+            sendError(exchange, HttpStatus.SC_BAD_REQUEST, "BAD_REQUEST",
+                    "Invalid page or pageSize");
+            return;
+        }
+
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+
+        String format = parameters.containsKey("format") ? parameters.get("format") : "records";
+        if (!"records".equals(format) && !"idrecords".equals(format)
+                && !"references".equals(format)) {
+            sendError(exchange, HttpStatus.SC_BAD_REQUEST, "BAD_REQUEST",
+                    "Unsupported format: " + format);
+            return;
+        }
+
+        final String base = baseUrl(exchange);
+        String filter = parameters.get("filter");
+        int total;
+        IntFunction<String> record;
+        IntFunction<String> id;
+        String referenceType;
+
+        if ("task".equals(type)) {
+            final List<Task> matching = filterTasks(filter);
+            total = matching.size();
+            record = i -> renderTaskRecord(matching.get(i), base);
+            id = i -> "urn:vcloud:task:" + matching.get(i).id;
+            referenceType = "application/vnd.vmware.vcloud.task+xml";
+        } else {
+            // Templates are numbered from 1, a name filter selects at most one of them
+            int first = 1;
+            total = options.templates;
+            if (null != filter && filter.startsWith("name==")) {
+                int template = templateNumber(filter.substring("name==".length()));
+                first = template;
+                total = template > 0 ? 1 : 0;
+            }
+
+            // The number of the i-th template, in the requested order
+            final int firstTemplate = first;
+            IntFunction<Integer> number = i -> firstTemplate + i;
+            String sort = parameters.containsKey("sortAsc") ? parameters.get("sortAsc")
+                    : parameters.get("sortDesc");
+            if ("name".equals(sort) && total > 1) {
+                final List<Integer> sorted = new ArrayList<Integer>(total);
+                for (int template = 1; template <= total; template++) {
+                    sorted.add(template);
+                }
+
+                sorted.sort((a, b) -> templateName(a).compareTo(templateName(b)));
+                if (parameters.containsKey("sortDesc")) {
+                    Collections.reverse(sorted);
+                }
+
+                number = i -> sorted.get(i);
+            }
+
+            final IntFunction<Integer> template = number;
+            record = i -> render(VAPP_TEMPLATE_RECORD_XML, "base", base, "template",
+                    String.valueOf(template.apply(i)), "name",
+                    escape(templateName(template.apply(i))));
+            id = i -> "urn:vcloud:vapptemplate:" + template.apply(i);
+            referenceType = "application/vnd.vmware.vcloud.vAppTemplate+xml";
+        }
+
+        String href = base + "/api/query?type=" + type + "&page=" + page + "&pageSize="
+                + pageSize + ("records".equals(format) ? "" : "&format=" + format)
+                + (null != filter ? "&filter=" + filter : "");
+
+        StringBuilder links = new StringBuilder();
+        if (page > 1) {
+            links.append(render(QUERY_LINK_XML, "rel", "previousPage", "href", escape(href
+                    .replace("&page=" + page, "&page=" + (page - 1)))));
+        }
+
+        if ((long) page * pageSize < total) {
+            links.append(render(QUERY_LINK_XML, "rel", "nextPage", "href", escape(href.replace(
+                    "&page=" + page, "&page=" + (page + 1)))));
+        }
+
+        Set<String> fields = null;
+        if (parameters.containsKey("fields")) {
+            fields = new HashSet<String>(Arrays.asList(parameters.get("fields").split(",")));
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (int i = (page - 1) * pageSize; i < Math.min(total, (long) page * pageSize); i++) {
+            records.append(formatRecord(record.apply(i), format, fields, id.apply(i),
+                    referenceType));
+        }
+
+        boolean references = "references".equals(format);
+        send(exchange, HttpStatus.SC_OK, references
+                ? "application/vnd.vmware.vcloud.query.references+xml"
+                : "application/vnd.vmware.vcloud.query.records+xml",
+                render(references ? QUERY_REFERENCES_XML : QUERY_RECORDS_XML, "total", String.valueOf(total), "page",
+                        String.valueOf(page), "pageSize", String.valueOf(pageSize), "name",
+                        type, "href", escape(href), "links", links.toString(),
+                        "records", records.toString()));
+    }
+
+    /*
+     * Turns a rendered record into the requested format of the query service: a reference, or a
+     * record with an id when asked for idrecords and with only the requested fields, if any
+     */
+    private static String formatRecord(String record, String format, Set<String> fields,
+            String id, String referenceType) {
+        Matcher element = RECORD_ELEMENT.matcher(record);
+        element.find();
+        Map<String, String> attributes = new LinkedHashMap<String, String>();
+        Matcher attribute = RECORD_ATTRIBUTE.matcher(record);
+        while (attribute.find()) {
+            attributes.put(attribute.group(1), attribute.group(2));
+        }
+
+        if ("references".equals(format)) {
+            return render(QUERY_REFERENCE_XML, "element", element.group(1), "type",
+                    referenceType, "name", attributes.get("name"), "id", id, "href",
+                    attributes.get("href"));
+        }
+
+        if ("idrecords".equals(format)) {
+            attributes.put("id", id);
+        }
+
+        StringBuilder sb = new StringBuilder("    <").append(element.group(1)).append("Record");
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            String name = entry.getKey();
+            if (null == fields || fields.contains(name) || "href".equals(name)
+                    || "id".equals(name)) {
+                sb.append(' ').append(name).append("=\"").append(entry.getValue()).append('"');
+            }
+        }
+
+        return sb.append("/>\n").toString();
+    }
+
+    private void getVAppTemplate(HttpExchange exchange, int template) throws IOException {
+        if (template < 1 || template > options.templates) {
+            notFound(exchange);
+            return;
+        }
+
+        send(exchange, HttpStatus.SC_OK, "application/vnd.vmware.vcloud.vAppTemplate+xml",
+                render(VAPP_TEMPLATE_XML, "base", baseUrl(exchange), "template",
+                        String.valueOf(template), "name", escape(templateName(template))));
+    }
+
+    /**
+     * Creates the vApp named in the InstantiateVAppTemplateParams body and answers with the vApp
+     * still being created, along with the task creating it.
+     */
+    private void instantiate(HttpExchange exchange, int vdc) throws IOException {
+        if (!isVdc(vdc)) {
+            drain(exchange.getRequestBody());
+            notFound(exchange);
+            return;
+        }
+
+        InstantiateVAppTemplateParamsType params = XmlBinding.unmarshal(
+                exchange.getRequestBody(), InstantiateVAppTemplateParamsType.class);
+
+        if (null == params.getName() || null == params.getSource()) {
+            sendError(exchange, HttpStatus.SC_BAD_REQUEST, "BAD_REQUEST",
+                    "The vApp name and source are required");
+            return;
+        }
+
+        VApp vApp = new VApp(UUID.randomUUID().toString(), params.getName(),
+                params.getDescription(), vdc, vmCount.incrementAndGet());
+        vApps.put(vApp.id, vApp);
+
+        String base = baseUrl(exchange);
+        Task task = startTask("vdcInstantiateVapp", "Creating Virtual Application ", vApp);
+
+        send(exchange, HttpStatus.SC_CREATED, "application/vnd.vmware.vcloud.vApp+xml",
+                render(VAPP_CREATING_XML, "base", base, "vapp", vApp.id, "vdc",
+                        String.valueOf(vdc), "name", escape(vApp.name), "description",
+                        escape(vApp.description), "task", renderTask(task, base)));
+    }
+
+    private void getVApp(HttpExchange exchange, String id) throws IOException {
+        VApp vApp = vApps.get(id);
+        if (null == vApp) {
+            notFound(exchange);
+            return;
+        }
+
+        send(exchange, HttpStatus.SC_OK, "application/vnd.vmware.vcloud.vApp+xml", renderVApp(
+                vApp, baseUrl(exchange)));
+    }
+
+    private void getVirtualHardwareSection(HttpExchange exchange, String id) throws IOException {
+        VApp vApp = vApps.get(id);
+        if (null == vApp) {
+            notFound(exchange);
+            return;
+        }
+
+        send(exchange, HttpStatus.SC_OK,
+                "application/vnd.vmware.vcloud.virtualHardwareSection+xml", render(
+                        VIRTUAL_HARDWARE_SECTION_XML, "base", baseUrl(exchange), "vapp", vApp.id,
+                        "items", renderHardwareItems(vApp)));
+    }
+
+    private void getNetworkConnectionSection(HttpExchange exchange, String id)
+            throws IOException {
+        VApp vApp = vApps.get(id);
+        if (null == vApp) {
+            notFound(exchange);
+            return;
+        }
+
+        send(exchange, HttpStatus.SC_OK,
+                "application/vnd.vmware.vcloud.networkConnectionSection+xml", render(
+                        NETWORK_CONNECTION_SECTION_XML, "base", baseUrl(exchange), "vapp",
+                        vApp.id, "connection", renderNetworkConnection(vApp)));
+    }
+
+    /**
+     * Accepts an update of a section of a vApp or its Vm, answering with the task applying it.
+     */
+    private void updateSection(HttpExchange exchange, String id, String operationName,
+            String operation) throws IOException {
+        drain(exchange.getRequestBody());
+
+        VApp vApp = vApps.get(id);
+        if (null == vApp) {
+            notFound(exchange);
+            return;
+        }
+
+        vApp.connected = true;
+
+        Task task = startTask(operationName, operation, vApp);
+        send(exchange, HttpStatus.SC_ACCEPTED, "application/vnd.vmware.vcloud.task+xml",
+                XML_DECLARATION + renderTask(task, baseUrl(exchange)));
+    }
+
+    private void deploy(HttpExchange exchange, String id) throws IOException {
+        drain(exchange.getRequestBody());
+
+        VApp vApp = vApps.get(id);
+        if (null == vApp) {
+            notFound(exchange);
+            return;
+        }
+
+        vApp.deployed = true;
+
+        Task task = startTask("vappDeploy", "Starting Virtual Application ", vApp);
+        send(exchange, HttpStatus.SC_ACCEPTED, "application/vnd.vmware.vcloud.task+xml",
+                XML_DECLARATION + renderTask(task, baseUrl(exchange)));
+    }
+
+    private void getTask(HttpExchange exchange, String id) throws IOException {
+        Task task = tasks.get(id);
+        if (null == task) {
+            notFound(exchange);
+            return;
+        }
+
+        send(exchange, HttpStatus.SC_OK, "application/vnd.vmware.vcloud.task+xml",
+                XML_DECLARATION + renderTask(task, baseUrl(exchange)));
+    }
+
+    private void getEdgeGateways(HttpExchange exchange, int vdc) throws IOException {
+        if (!isVdc(vdc)) {
+            notFound(exchange);
+            return;
+        }
+
+        String base = baseUrl(exchange);
+        send(exchange, HttpStatus.SC_OK, "application/vnd.vmware.vcloud.query.records+xml",
+                render(QUERY_RECORDS_XML, "total", "1", "page", "1", "pageSize",
+                        String.valueOf(DEFAULT_PAGE_SIZE), "name", "edgeGateway", "href",
+                        base + "/api/admin/vdc/" + vdc + "/edgeGateways", "links", "",
+                        "records", render(EDGE_GATEWAY_RECORD_XML, "base", base, "vdc",
+                                String.valueOf(vdc), "gateway", escape(options.edgeGateway))));
+    }
+
+    private void getEdgeGateway(HttpExchange exchange, int vdc) throws IOException {
+        if (!isVdc(vdc)) {
+            notFound(exchange);
+            return;
+        }
+
+        send(exchange, HttpStatus.SC_OK, "application/vnd.vmware.admin.edgeGateway+xml",
+                render(EDGE_GATEWAY_XML, "base", baseUrl(exchange), "vdc", String.valueOf(vdc),
+                        "gateway", escape(options.edgeGateway), "network",
+                        escape(options.networkName), "ipStart", escape(options.externalIpStart),
+                        "ipEnd", escape(options.externalIpEnd)));
+    }
+
+    private void configureServices(HttpExchange exchange, int vdc) throws IOException {
+        drain(exchange.getRequestBody());
+
+        if (!isVdc(vdc)) {
+            notFound(exchange);
+            return;
+        }
+
+        Task task = startTask("networkConfigureEdgeGatewayServices",
+                "Updating services EdgeGateway ", options.edgeGateway,
+                "application/vnd.vmware.admin.edgeGateway+xml",
+                baseUrl(exchange) + "/api/admin/edgeGateway/" + vdc);
+        send(exchange, HttpStatus.SC_ACCEPTED, "application/vnd.vmware.vcloud.task+xml",
+                XML_DECLARATION + renderTask(task, baseUrl(exchange)));
+    }
+
+    /*
+     * Tasks
+     */
+
+    private Task startTask(String operationName, String operation, VApp vApp) {
+        return startTask(operationName, operation, vApp.name,
+                "application/vnd.vmware.vcloud.vApp+xml", "/api/vApp/vapp-" + vApp.id);
+    }
+
+    /**
+     * Starts a task on the passed in owner that completes once the configured task duration has
+     * elapsed, with an error if its turn came.
+     * 
+     * @param ownerHref
+     *            the href of the owner, relative to the base url unless absolute
+     */
+    private Task startTask(String operationName, String operation, String ownerName,
+            String ownerType, String ownerHref) {
+        boolean fails = options.taskErrorRate > 0
+                && ThreadLocalRandom.current().nextDouble() < options.taskErrorRate;
+        Task task = new Task(UUID.randomUUID().toString(), operationName, operation + ownerName,
+                ownerName, ownerType, ownerHref, options.taskDuration, fails);
+        tasks.put(task.id, task);
+        scheduler.schedule(() -> postNotification(task), task.duration, TimeUnit.MILLISECONDS);
+
+        return task;
+    }
+
+    private String renderTask(Task task, String base) {
+        long elapsed = System.currentTimeMillis() - task.startTime;
+        boolean done = elapsed >= task.duration;
+
+        String status = done ? (task.fails ? "error" : "success") : "running";
+        int progress = done ? 100 : (int) (elapsed * 100 / Math.max(1, task.duration));
+
+        return render(TASK_XML, "base", base, "task", task.id, "status", status,
+                "startTime", dateTime(task.startTime),
+                "endTime", done ? " endTime=\"" + dateTime(task.startTime + task.duration) + "\"" : "",
+                "expiryTime", dateTime(task.startTime + TimeUnit.DAYS.toMillis(90)),
+                "operationName", task.operationName, "operation", escape(task.operation),
+                "ownerType", task.ownerType, "ownerName", escape(task.ownerName),
+                "ownerHref", task.ownerHref.startsWith("/") ? base + task.ownerHref : task.ownerHref,
+                "error", done && task.fails ? "    " + render(ERROR_XML, "minorErrorCode",
+                        "INTERNAL_SERVER_ERROR", "message", "Injected task error",
+                        "majorErrorCode", "500") : "",
+                "progress", String.valueOf(progress));
+    }
+
+    /**
+     * Returns the tasks matching the passed in filter of a task query, every task if there is no
+     * id filter.
+     */
+    private List<Task> filterTasks(String filter) {
+        List<Task> matching = new ArrayList<Task>();
+
+        if (null == filter || !filter.contains("id==")) {
+            matching.addAll(tasks.values());
+            return matching;
+        }
+
+        for (String condition : filter.replace("(", "").replace(")", "").split(",")) {
+            if (condition.startsWith("id==urn:vcloud:task:")) {
+                Task task = tasks.get(condition.substring("id==urn:vcloud:task:".length()));
+                if (null != task) {
+                    matching.add(task);
+                }
+            }
+        }
+
+        return matching;
+    }
+
+    private String renderTaskRecord(Task task, String base) {
+        boolean done = System.currentTimeMillis() - task.startTime >= task.duration;
+
+        return render(TASK_RECORD_XML, "base", base, "task", task.id,
+                "status", done ? (task.fails ? "error" : "success") : "running",
+                "startDate", dateTime(task.startTime),
+                "endDate", done ? " endDate=\"" + dateTime(task.startTime + task.duration) + "\""
+                        : "",
+                "operationName", task.operationName, "objectType", task.ownerType,
+                "objectName", escape(task.ownerName),
+                "object", task.ownerHref.startsWith("/") ? base + task.ownerHref : task.ownerHref);
+    }
+
+    /*
+     * Notifications
+     */
+
+    /**
+     * Posts the notification of the passed in completed task to every client of the feed, unless
+     * its turn came to be lost.
+     */
+    private void postNotification(Task task) {
+        if (options.eventLossRate > 0
+                && ThreadLocalRandom.current().nextDouble() < options.eventLossRate) {
+            return;
+        }
+
+        String message = render(NOTIFICATION_XML, "eventId", UUID.randomUUID().toString(),
+                "operationName", task.operationName, "task", task.id,
+                "timestamp", dateTime(System.currentTimeMillis()),
+                "success", String.valueOf(!task.fails));
+
+        for (BlockingQueue<String> subscriber : subscribers) {
+            subscriber.offer(message);
+        }
+    }
+
+    /**
+     * Streams the notifications posted from now on, one message per line, until the client
+     * disconnects or the server stops. A blank line is sent every second without notification to
+     * find out when the client is gone.
+     */
+    private void streamNotifications(HttpExchange exchange) throws IOException {
+        BlockingQueue<String> queue = new LinkedBlockingQueue<String>();
+        subscribers.add(queue);
+
+        try {
+            exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE,
+                    "application/vnd.vmware.vcloud.notification+xml");
+            exchange.sendResponseHeaders(HttpStatus.SC_OK, 0);
+            OutputStream os = exchange.getResponseBody();
+
+            while (!Thread.currentThread().isInterrupted()) {
+                String message = queue.poll(1, TimeUnit.SECONDS);
+                os.write((null != message ? message : "\n").getBytes("UTF-8"));
+                os.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            subscribers.remove(queue);
+        }
+    }
+
+    /*
+     * vApps
+     */
+
+    private String renderVApp(VApp vApp, String base) {
+        return render(VAPP_XML, "base", base, "vapp", vApp.id, "vdc", String.valueOf(vApp.vdc),
+                "name", escape(vApp.name), "description", escape(vApp.description),
+                "deployed", String.valueOf(vApp.deployed),
+                // 4 is POWERED_ON, 8 is POWERED_OFF
+                "status", vApp.deployed ? "4" : "8",
+                "items", indent(renderHardwareItems(vApp), "            "),
+                "connection", indent(renderNetworkConnection(vApp), "            "));
+    }
+
+    private String renderHardwareItems(VApp vApp) {
+        return render(HARDWARE_ITEMS_XML, "mac", vApp.mac(), "connected",
+                String.valueOf(vApp.connected), "ipMode", vApp.connected ? "POOL" : "NONE",
+                "connection", vApp.connected ? escape(options.networkName) : "none");
+    }
+
+    private String renderNetworkConnection(VApp vApp) {
+        return render(NETWORK_CONNECTION_XML, "network", escape(options.networkName), "ip",
+                vApp.ip(), "mac", vApp.mac());
+    }
+
+    /*
+     * Helpers
+     */
+
+    /**
+     * Checks the passed in authorization header holds a token handed out by this server,
+     * answering 401 Unauthorized if it does not.
+     * 
+     * @return true if the request is authorized
+     */
+    private boolean authorized(HttpExchange exchange, String header, Map<String, Long> tokens)
+            throws IOException {
+        String token = exchange.getRequestHeaders().getFirst(header);
+        Long expires = null != token ? tokens.get(token) : null;
+        if (null != expires && expires > System.currentTimeMillis()) {
+            return true;
+        }
+
+        drain(exchange.getRequestBody());
+        sendError(exchange, HttpStatus.SC_UNAUTHORIZED, "UNAUTHORIZED",
+                "Missing or invalid " + header + " header");
+        return false;
+    }
+
+    /**
+     * Returns the time a token issued now expires at.
+     */
+    private long expiry() {
+        return options.sessionLifetime > 0 ? System.currentTimeMillis()
+                + TimeUnit.SECONDS.toMillis(options.sessionLifetime) : Long.MAX_VALUE;
+    }
+
+    private boolean isVdc(int vdc) {
+        return vdc >= 1 && vdc <= options.services * options.vdcs;
+    }
+
+    /**
+     * The first VDC is named by the vdcname option, the others VDC2, VDC3...
+     */
+    private String vdcName(int vdc) {
+        return vdc == 1 ? options.vdcName : "VDC" + vdc;
+    }
+
+    /**
+     * The first template is named by the vchstemplatename option, the others Template2,
+     * Template3...
+     */
+    private String templateName(int template) {
+        return template == 1 ? options.templateName : "Template" + template;
+    }
+
+    /**
+     * @return the number of the template with the passed in name, 0 if there is none
+     */
+    private int templateNumber(String name) {
+        for (int template = 1; template <= options.templates; template++) {
+            if (templateName(template).equalsIgnoreCase(name)) {
+                return template;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * The base url of the hrefs in the responses, taken from the Host header so that the hrefs
+     * point back to the server the way the client reached it.
+     */
+    private String baseUrl(HttpExchange exchange) {
+        String host = exchange.getRequestHeaders().getFirst(HttpHeaders.HOST);
+        if (null == host) {
+            host = "localhost:" + server.getAddress().getPort();
+        }
+
+        return "http://" + host;
+    }
+
+    private static Map<String, String> queryParameters(String query) {
+        Map<String, String> parameters = new HashMap<String, String>();
+        if (null == query) {
+            return parameters;
+        }
+
+        try {
+            for (String parameter : query.split("&")) {
+                int equals = parameter.indexOf('=');
+                if (equals > 0) {
+                    parameters.put(URLDecoder.decode(parameter.substring(0, equals), "UTF-8"),
+                            URLDecoder.decode(parameter.substring(equals + 1), "UTF-8"));
+                }
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+
+        return parameters;
+    }
+
+    /**
+     * Replaces each ${key} of the template with its value. Values are inserted as is, callers
+     * escape the values that do not come from the server itself.
+     * 
+     * @param keyValues
+     *            the keys and their values, one after the other
+     */
+    private static String render(String template, String... keyValues) {
+        String result = template;
+        for (int i = 0; i < keyValues.length; i += 2) {
+            result = result.replace("${" + keyValues[i] + "}", keyValues[i + 1]);
+        }
+
+        return result;
+    }
+
+    private static String indent(String lines, String indent) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines.split("\n")) {
+            sb.append(indent).append(line).append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    private static String escape(String value) {
+        if (null == value) {
+            return "";
+        }
+
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("\"", "&quot;");
+    }
+
+    private static String dateTime(long millis) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(millis);
+        return DatatypeConverter.printDateTime(calendar);
+    }
+
+    private static void drain(InputStream is) throws IOException {
+        byte[] buffer = new byte[4096];
+        while (is.read(buffer) != -1) {
+            // discard
+        }
+    }
+
+    private void notFound(HttpExchange exchange) throws IOException {
+        sendError(exchange, HttpStatus.SC_NOT_FOUND, "RESOURCE_NOT_FOUND", "No resource for "
+                + exchange.getRequestMethod() + " " + exchange.getRequestURI());
+    }
+
+    private void sendError(HttpExchange exchange, int status, String minorErrorCode,
+            String message) throws IOException {
+        send(exchange, status, "application/vnd.vmware.vcloud.error+xml", XML_DECLARATION
+                + render(ERROR_XML, "minorErrorCode", minorErrorCode, "message", escape(message),
+                        "majorErrorCode", String.valueOf(status)));
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        byte[] content = body.getBytes("UTF-8");
+
+        Headers headers = exchange.getResponseHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, contentType + ";version=" + SampleConstants.DEFAULT_VCD_VERSION);
+        exchange.sendResponseHeaders(status, content.length);
+
+        OutputStream os = exchange.getResponseBody();
+        os.write(content);
+        os.close();
+    }
+
+    /**
+     * A vApp created through the server, holding a single Vm of the same name
+     */
+    private static final class VApp {
+        final String id;
+        final String name;
+        final String description;
+        final int vdc;
+        final int vm;
+
+        // Set once the Vm network is updated, and once the vApp is deployed
+        volatile boolean connected;
+        volatile boolean deployed;
+
+        VApp(String id, String name, String description, int vdc, int vm) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+            this.vdc = vdc;
+            this.vm = vm;
+        }
+
+        String ip() {
+            return "192.168." + (109 + vm / 250 % 100) + "." + (vm % 250 + 2);
+        }
+
+        String mac() {
+            return String.format("00:50:56:%02x:%02x:%02x", (vm >> 16) & 0xff, (vm >> 8) & 0xff,
+                    vm & 0xff);
+        }
+    }
+
+    /**
+     * A task running for a fixed duration from the time it was started
+     */
+    private static final class Task {
+        final String id;
+        final String operationName;
+        final String operation;
+        final String ownerName;
+        final String ownerType;
+        final String ownerHref;
+        final long startTime = System.currentTimeMillis();
+        final long duration;
+        final boolean fails;
+
+        Task(String id, String operationName, String operation, String ownerName,
+                String ownerType, String ownerHref, long duration, boolean fails) {
+            this.id = id;
+            this.operationName = operationName;
+            this.operation = operation;
+            this.ownerName = ownerName;
+            this.ownerType = ownerType;
+            this.ownerHref = ownerHref;
+            this.duration = duration;
+            this.fails = fails;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * This class is the base of the listeners of vCloud notifications, one Notification XML message
+ * per event. It tells its task listeners the id of each task an event was received for, so that
+ * waiting for a task does not require polling it. Subclasses receive the messages, from the AMQP
+ * broker of vCloud Director or from the feed of MockVchsServer, and hand each one to onMessage().
+ */
+public abstract class NotificationListener {
+    private static final String TASK_ID_PREFIX = "urn:vcloud:task:";
+    private static final String ENTITY_LINK = "EntityLink";
+
+    private static final XMLInputFactory xmlInputFactory = XmlBinding.createXmlInputFactory();
+
+    private final List<Consumer<String>> taskListeners = new CopyOnWriteArrayList<Consumer<String>>();
+
+    /**
+     * Adds a listener called with the id of the task, e.g. urn:vcloud:task:[uuid], of every task
+     * event received. Listeners are called on the thread receiving the messages and must not block.
+     * 
+     * @param listener
+     *            the listener to add
+     */
+    public void addTaskListener(Consumer<String> listener) {
+        taskListeners.add(listener);
+    }
+
+    /**
+     * Starts receiving the messages on a daemon thread.
+     */
+    public abstract void start();
+
+    /**
+     * Stops receiving the messages and releases the connection they are received on.
+     */
+    public abstract void stop();
+
+    /**
+     * Handles a single Notification message, calling the task listeners with the id of each task
+     * it refers to. Messages that are not well formed are ignored.
+     * 
+     * @param message
+     *            the XML of the message
+     */
+    public void onMessage(InputStream message) {
+        XMLStreamReader reader = null;
+
+        try {
+            reader = xmlInputFactory.createXMLStreamReader(message);
+
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && ENTITY_LINK.equals(reader.getLocalName())) {
+                    String id = reader.getAttributeValue(null, "id");
+
+                    if (null != id && id.startsWith(TASK_ID_PREFIX)) {
+                        for (Consumer<String> listener : taskListeners) {
+                            listener.accept(id);
+                        }
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            // Not a notification, skip it
+        } finally {
+            if (null != reader) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // Nothing left to release
+                }
+            }
+        }
+    }
+}
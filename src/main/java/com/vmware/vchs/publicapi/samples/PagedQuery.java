@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.xml.bind.JAXBElement;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+
+import com.vmware.vcloud.api.rest.schema.LinkType;
+import com.vmware.vcloud.api.rest.schema.QueryResultRecordType;
+import com.vmware.vcloud.api.rest.schema.QueryResultRecordsType;
+
+/**
+ * This class iterates over every record of a vCloud Query API query rather than only its first
+ * page. Once the first page tells the total number of records, the following pages are requested
+ * by number, up to pagesInFlight of them at once ahead of the records being iterated; if it does
+ * not, the nextPage link of each page is followed in turn. Only the pages in flight and the page
+ * being iterated are held in memory, however many records the query returns.
+ * 
+ * Pages are decoded by a PageDecoder, chosen per query: of() returns the JAXB records of the
+ * schema or, for a query built with the Query class, lightweight QueryRecords; rows() returns
+ * QueryRows, keeping only the attributes asked for.
+ * 
+ * A query whose first page is not 200 OK has no records, as with HttpUtils.getQueryResults(); a
+ * later page that is not 200 OK fails the iteration, rather than silently truncating it.
+ */
+public class PagedQuery<T> implements Iterable<T> {
+    /*
+     * Pool of daemon threads fetching the pages. Fetching a page never waits on another task, so
+     * iterating a query from a thread of the asynchronous requests pool cannot starve it.
+     */
+    private static final ExecutorService pageExecutor = Executors.newFixedThreadPool(
+            SampleConstants.MAX_CONNECTIONS_PER_ROUTE,
+            HttpUtils.daemonThreadFactory("vchs-query-pages"));
+
+    // The number of records requested per page, vCloud returns at most 128
+    int pageSize = SampleConstants.DEFAULT_QUERY_PAGE_SIZE;
+
+    // The maximum number of pages requested ahead of the page being iterated
+    int pagesInFlight = SampleConstants.MAX_QUERY_PAGES_IN_FLIGHT;
+
+    // The url of the query without paging parameters
+    private final String queryUrl;
+
+    // Sends a GET to the passed in url and returns the response
+    private final Function<String, HttpResponse> invoker;
+
+    // Decodes the response entity of a page
+    private final PageDecoder<T> decoder;
+
+    /**
+     * @param baseVcdUrl
+     *            the base url of the vCloud API
+     * @param queryParameters
+     *            the parameters of the query, e.g. type=vAppTemplate&filter=name==[name]
+     * @param invoker
+     *            sends a GET to the url of a page, with the vCloud authorization, and returns the
+     *            response
+     * @param decoder
+     *            decodes the response entity of a page
+     */
+    public PagedQuery(String baseVcdUrl, String queryParameters,
+            Function<String, HttpResponse> invoker, PageDecoder<T> decoder) {
+        this.queryUrl = baseVcdUrl + "/api/query?" + queryParameters;
+        this.invoker = invoker;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Creates a query returning the JAXB records of the schema.
+     * 
+     * @param baseVcdUrl
+     *            the base url of the vCloud API
+     * @param queryParameters
+     *            the parameters of the query, e.g. type=vAppTemplate&filter=name==[name]
+     * @param invoker
+     *            sends a GET to the url of a page, with the vCloud authorization, and returns the
+     *            response
+     * @return the query
+     */
+    public static PagedQuery<QueryResultRecordType> of(String baseVcdUrl, String queryParameters,
+            Function<String, HttpResponse> invoker) {
+        return new PagedQuery<QueryResultRecordType>(baseVcdUrl, queryParameters, invoker,
+                PagedQuery::decodeRecords);
+    }
+
+    /**
+     * Creates a query returning lightweight records, holding only the attributes the passed in
+     * query asks for.
+     * 
+     * @param baseVcdUrl
+     *            the base url of the vCloud API
+     * @param query
+     *            the query
+     * @param invoker
+     *            sends a GET to the url of a page, with the vCloud authorization, and returns the
+     *            response
+     * @return the query
+     */
+    public static PagedQuery<QueryRecord> of(String baseVcdUrl, Query query,
+            Function<String, HttpResponse> invoker) {
+        return new PagedQuery<QueryRecord>(baseVcdUrl, query.toParameters(), invoker,
+                QueryRecord.DECODER);
+    }
+
+    /**
+     * Creates a query returning the records as QueryRows, a flyweight keeping only the values of
+     * the passed in attributes and reused from one record of a page to the next.
+     * 
+     * @param baseVcdUrl
+     *            the base url of the vCloud API
+     * @param query
+     *            the query
+     * @param invoker
+     *            sends a GET to the url of a page, with the vCloud authorization, and returns the
+     *            response
+     * @param attributes
+     *            the names of the attributes to keep, e.g. Query.NAME and "href"
+     * @return the query
+     */
+    public static PagedQuery<QueryRow> rows(String baseVcdUrl, Query query,
+            Function<String, HttpResponse> invoker, String... attributes) {
+        return new PagedQuery<QueryRow>(baseVcdUrl, query.toParameters(), invoker,
+                QueryRow.decoder(attributes));
+    }
+
+    /**
+     * Returns an iterator over the records of the query. Pages are requested as the iterator is
+     * consumed, the first one by the first call to hasNext() or next().
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Records();
+    }
+
+    /**
+     * Passes every record of the query to the action as the pages are returned, and runs
+     * endOfPage after the last record of each page, before the following page is waited for.
+     * 
+     * @param action
+     *            the action run on each record
+     * @param endOfPage
+     *            run once the records of a page were passed to the action
+     */
+    public void forEachRecord(Consumer<? super T> action, Runnable endOfPage) {
+        Records records = new Records();
+
+        for (Page<T> page = records.nextPage(); null != page; page = records.nextPage()) {
+            page.records.forEach(action);
+            endOfPage.run();
+        }
+    }
+
+    /**
+     * Returns a sequential stream of the records of the query, fetched as the stream is consumed.
+     * 
+     * @return the stream of records
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Decodes the response entity of a page of query results. The entity must be fully consumed,
+     * or closed, by the decoder.
+     */
+    public interface PageDecoder<T> {
+        /**
+         * @param entity
+         *            the response entity of the page
+         * @return the decoded page
+         */
+        Page<T> decode(HttpEntity entity);
+    }
+
+    /**
+     * A page of query results, as decoded by a PageDecoder
+     */
+    public static final class Page<T> {
+        final Long total;
+        final Integer pageSize;
+        final String nextPageHref;
+        final List<T> records;
+
+        /**
+         * @param total
+         *            the total number of records of the query, null if not returned
+         * @param pageSize
+         *            the number of records per page, null if not returned
+         * @param nextPageHref
+         *            the href of the nextPage link, null on the last page
+         * @param records
+         *            the records of the page
+         */
+        public Page(Long total, Integer pageSize, String nextPageHref, List<T> records) {
+            this.total = total;
+            this.pageSize = pageSize;
+            this.nextPageHref = nextPageHref;
+            this.records = records;
+        }
+    }
+
+    /*
+     * Decodes a page into the JAXB records of the schema
+     */
+    private static Page<QueryResultRecordType> decodeRecords(HttpEntity entity) {
+        QueryResultRecordsType page = HttpUtils.unmarshal(entity, QueryResultRecordsType.class);
+        List<QueryResultRecordType> records = new ArrayList<QueryResultRecordType>(page
+                .getRecord().size());
+
+        for (JAXBElement<? extends QueryResultRecordType> record : page.getRecord()) {
+            records.add(record.getValue());
+        }
+
+        String nextPageHref = null;
+        for (LinkType link : page.getLink()) {
+            if ("nextPage".equals(link.getRel())) {
+                nextPageHref = link.getHref();
+                break;
+            }
+        }
+
+        return new Page<QueryResultRecordType>(page.getTotal(), page.getPageSize(), nextPageHref,
+                records);
+    }
+
+    /*
+     * Requests the page at the passed in url, the future is completed with null if the response
+     * is not 200 OK
+     */
+    private CompletableFuture<Page<T>> fetch(final String url) {
+        return CompletableFuture.supplyAsync(() -> {
+            HttpResponse response = invoker.apply(url);
+
+            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                HttpUtils.consume(response);
+                return null;
+            }
+
+            return decoder.decode(response.getEntity());
+        }, pageExecutor);
+    }
+
+    /*
+     * Waits for a page after the first one, which must have been retrieved
+     */
+    private static <T> Page<T> await(CompletableFuture<Page<T>> future) {
+        Page<T> page = HttpUtils.await(future);
+
+        if (null == page) {
+            throw new RuntimeException("Failed : could not retrieve a page of query results");
+        }
+
+        return page;
+    }
+
+    /*
+     * Returns the url of the passed in page
+     */
+    private String url(long page, int size) {
+        return queryUrl + "&page=" + page + "&pageSize=" + size;
+    }
+
+    /**
+     * Iterates over the records of one page after the other, keeping the following pages in
+     * flight
+     */
+    private final class Records implements Iterator<T> {
+        // The remaining records of the page being iterated
+        private Iterator<T> records = Collections.emptyIterator();
+
+        // The pages requested ahead, in order, when the number of pages is known
+        private final Queue<CompletableFuture<Page<T>>> ahead =
+                new ArrayDeque<CompletableFuture<Page<T>>>();
+
+        // Whether the first page was requested
+        private boolean started;
+
+        // The number of pages, 0 if the first page did not tell the total number of records
+        private long pageCount;
+
+        // The page size the first page was returned with
+        private int returnedPageSize;
+
+        // The number of the next page to request when the number of pages is known
+        private long nextPage;
+
+        // The nextPage link of the last page when the number of pages is not known
+        private String nextHref;
+
+        @Override
+        public boolean hasNext() {
+            while (!records.hasNext()) {
+                Page<T> page = nextPage();
+
+                if (null == page) {
+                    return false;
+                }
+
+                records = page.records.iterator();
+            }
+
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return records.next();
+        }
+
+        /*
+         * Returns the next page to iterate, null after the last one
+         */
+        private Page<T> nextPage() {
+            if (!started) {
+                started = true;
+                Page<T> first = HttpUtils.await(fetch(url(1, pageSize)));
+
+                if (null == first) {
+                    return null;
+                }
+
+                if (null != first.total && null != first.pageSize && first.pageSize > 0) {
+                    // Request the following pages by number, the server may have returned fewer
+                    // records per page than requested
+                    returnedPageSize = first.pageSize;
+                    pageCount = (first.total + returnedPageSize - 1) / returnedPageSize;
+                    nextPage = 2;
+                    requestAhead();
+                } else {
+                    nextHref = first.nextPageHref;
+                }
+
+                return first;
+            }
+
+            if (pageCount > 0) {
+                CompletableFuture<Page<T>> page = ahead.poll();
+
+                if (null == page) {
+                    return null;
+                }
+
+                requestAhead();
+                return await(page);
+            }
+
+            if (null == nextHref) {
+                return null;
+            }
+
+            Page<T> page = await(fetch(nextHref));
+            nextHref = page.nextPageHref;
+            return page;
+        }
+
+        /*
+         * Requests the following pages until pagesInFlight of them are in flight or all of them
+         * were requested
+         */
+        private void requestAhead() {
+            while (ahead.size() < pagesInFlight && nextPage <= pageCount) {
+                ahead.add(fetch(url(nextPage++, returnedPageSize)));
+            }
+        }
+    }
+}
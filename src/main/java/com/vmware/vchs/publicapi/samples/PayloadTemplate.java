@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.http.Consts;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+/**
+ * This class is a request body marshalled once and rendered many times. It is compiled from a
+ * JAXB element whose varying String fields hold the markers of its slots: the element is
+ * marshalled to compact UTF-8 XML, as XmlEntity sends it, and the bytes are split around every
+ * occurrence of the markers. Rendering a body then only copies the fixed bytes and splices in
+ * the escaped UTF-8 value of each slot, instead of building and marshalling a JAXB tree for every
+ * request.
+ * 
+ * A slot is typed: it formats its values to text, e.g. an InetAddress to its address, and a slot
+ * can occur any number of times in the body. Values are escaped so that they are valid both in
+ * attribute values and in element content.
+ * 
+ * A template is immutable and can be shared by any number of threads.
+ */
+public final class PayloadTemplate {
+    // Tells apart the markers of this JVM from any text the element may already hold
+    private static final String MARKER_PREFIX = "vchs-slot-"
+            + Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36) + "-";
+    private static final AtomicInteger nextMarker = new AtomicInteger();
+
+    private final String contentType;
+    private final Slot<?>[] slots;
+
+    // The fixed bytes, one more segment than there are occurrences of slots
+    private final byte[][] segments;
+
+    // The index in slots of the slot between segments[i] and segments[i + 1]
+    private final int[] occurrences;
+    private final int fixedLength;
+
+    private PayloadTemplate(String contentType, Slot<?>[] slots, byte[][] segments,
+            int[] occurrences) {
+        this.contentType = contentType;
+        this.slots = slots;
+        this.segments = segments;
+        this.occurrences = occurrences;
+
+        int length = 0;
+        for (byte[] segment : segments) {
+            length += segment.length;
+        }
+
+        this.fixedLength = length;
+    }
+
+    /**
+     * Creates a slot holding text.
+     * 
+     * @param name
+     *            the name of the slot, used in error messages
+     * @return the new slot
+     */
+    public static Slot<String> slot(String name) {
+        return slot(name, Function.identity());
+    }
+
+    /**
+     * Creates a slot holding values of type T.
+     * 
+     * @param name
+     *            the name of the slot, used in error messages
+     * @param format
+     *            formats a value of the slot to the text to send
+     * @return the new slot
+     */
+    public static <T> Slot<T> slot(String name, Function<? super T, String> format) {
+        return new Slot<T>(name, format, MARKER_PREFIX + nextMarker.incrementAndGet() + "-");
+    }
+
+    /**
+     * Marshals the passed in JAXB element and compiles the result into a template. Each of the
+     * slots must occur at least once in the marshalled XML.
+     * 
+     * @param jaxbElement
+     *            the JAXB element to marshal, holding the marker of each slot where its values go
+     * @param mimeType
+     *            the vCloud media type of the element, sent with a UTF-8 charset
+     * @param slots
+     *            the slots of the template
+     * @return the compiled template
+     */
+    public static PayloadTemplate compile(Object jaxbElement, String mimeType, Slot<?>... slots) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        XmlBinding.marshal(jaxbElement, os, false);
+        byte[] xml = os.toByteArray();
+
+        // Find every occurrence of every marker, in the order they appear
+        List<int[]> found = new ArrayList<int[]>();
+        for (int i = 0; i < slots.length; i++) {
+            byte[] marker = slots[i].marker.getBytes(StandardCharsets.US_ASCII);
+            int from = 0;
+            int at;
+            while ((at = indexOf(xml, marker, from)) >= 0) {
+                found.add(new int[] { at, i, marker.length });
+                from = at + marker.length;
+            }
+
+            if (0 == from) {
+                throw new IllegalArgumentException("Slot " + slots[i].name
+                        + " does not occur in " + jaxbElement);
+            }
+        }
+
+        found.sort((a, b) -> Integer.compare(a[0], b[0]));
+
+        byte[][] segments = new byte[found.size() + 1][];
+        int[] occurrences = new int[found.size()];
+        int start = 0;
+        for (int i = 0; i < found.size(); i++) {
+            int[] occurrence = found.get(i);
+            segments[i] = Arrays.copyOfRange(xml, start, occurrence[0]);
+            occurrences[i] = occurrence[1];
+            start = occurrence[0] + occurrence[2];
+        }
+
+        segments[found.size()] = Arrays.copyOfRange(xml, start, xml.length);
+
+        return new PayloadTemplate(ContentType.create(mimeType, Consts.UTF_8).toString(),
+                slots.clone(), segments, occurrences);
+    }
+
+    /**
+     * Renders the body for the passed in values, one for each slot of the template.
+     * 
+     * @param values
+     *            the values of the slots, created with Slot.value()
+     * @return the XML body encoded in UTF-8
+     */
+    public byte[] render(Value... values) {
+        byte[][] encoded = encode(values);
+        byte[] body = new byte[length(encoded)];
+
+        int at = 0;
+        for (int i = 0; i < occurrences.length; i++) {
+            System.arraycopy(segments[i], 0, body, at, segments[i].length);
+            at += segments[i].length;
+
+            byte[] value = encoded[occurrences[i]];
+            System.arraycopy(value, 0, body, at, value.length);
+            at += value.length;
+        }
+
+        byte[] last = segments[occurrences.length];
+        System.arraycopy(last, 0, body, at, last.length);
+
+        return body;
+    }
+
+    /**
+     * Creates a request entity with the body rendered for the passed in values. The entity writes
+     * the fixed bytes and the values straight to the request stream, its length is known so it
+     * is sent with a Content-Length, and it is repeatable.
+     * 
+     * @param values
+     *            the values of the slots, created with Slot.value()
+     * @return the request entity
+     */
+    public HttpEntity entity(Value... values) {
+        return new TemplateEntity(this, encode(values));
+    }
+
+    /**
+     * Returns the escaped UTF-8 bytes of each slot value, indexed like slots.
+     */
+    private byte[][] encode(Value... values) {
+        byte[][] encoded = new byte[slots.length][];
+        for (Value value : values) {
+            int i = indexOf(value.slot);
+            if (null != encoded[i]) {
+                throw new IllegalArgumentException("Slot " + value.slot.name
+                        + " is given more than one value");
+            }
+
+            encoded[i] = value.encoded;
+        }
+
+        for (int i = 0; i < slots.length; i++) {
+            if (null == encoded[i]) {
+                throw new IllegalArgumentException("Slot " + slots[i].name + " has no value");
+            }
+        }
+
+        return encoded;
+    }
+
+    private int indexOf(Slot<?> slot) {
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] == slot) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("Slot " + slot.name + " is not in this template");
+    }
+
+    private int length(byte[][] encoded) {
+        int length = fixedLength;
+        for (int slot : occurrences) {
+            length += encoded[slot].length;
+        }
+
+        return length;
+    }
+
+    private static int indexOf(byte[] bytes, byte[] pattern, int from) {
+        int last = bytes.length - pattern.length;
+        search: for (int i = from; i <= last; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (bytes[i + j] != pattern[j]) {
+                    continue search;
+                }
+            }
+
+            return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Escapes the passed in text so that it is valid both in an attribute value and in element
+     * content, and encodes it in UTF-8.
+     */
+    static byte[] escape(String text) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement;
+            switch (c) {
+            case '&':
+                replacement = "&amp;";
+                break;
+            case '<':
+                replacement = "&lt;";
+                break;
+            case '>':
+                replacement = "&gt;";
+                break;
+            case '"':
+                replacement = "&quot;";
+                break;
+            case '\t':
+                replacement = "&#9;";
+                break;
+            case '\n':
+                replacement = "&#10;";
+                break;
+            case '\r':
+                replacement = "&#13;";
+                break;
+            default:
+                if (c < 0x20 || c == 0xFFFE || c == 0xFFFF) {
+                    throw new IllegalArgumentException("Character 0x"
+                            + Integer.toHexString(c) + " is not allowed in XML: " + text);
+                }
+
+                if (null != escaped) {
+                    escaped.append(c);
+                }
+
+                continue;
+            }
+
+            if (null == escaped) {
+                escaped = new StringBuilder(text.length() + 16).append(text, 0, i);
+            }
+
+            escaped.append(replacement);
+        }
+
+        return (null == escaped ? text : escaped.toString()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A typed slot of a template. Its marker is set in the JAXB element the template is compiled
+     * from, where its values go.
+     */
+    public static final class Slot<T> {
+        private final String name;
+        private final Function<? super T, String> format;
+        private final String marker;
+
+        private Slot(String name, Function<? super T, String> format, String marker) {
+            this.name = name;
+            this.format = format;
+            this.marker = marker;
+        }
+
+        /**
+         * @return the text to set in the JAXB element the template is compiled from
+         */
+        public String marker() {
+            return marker;
+        }
+
+        /**
+         * Formats and escapes a value of this slot to render a template with.
+         * 
+         * @param value
+         *            the value, not null
+         * @return the value to pass to PayloadTemplate.render() or entity()
+         */
+        public Value value(T value) {
+            if (null == value) {
+                throw new IllegalArgumentException("Slot " + name + " may not be null");
+            }
+
+            return new Value(this, escape(format.apply(value)));
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * A formatted and escaped value of a slot.
+     */
+    public static final class Value {
+        private final Slot<?> slot;
+        private final byte[] encoded;
+
+        private Value(Slot<?> slot, byte[] encoded) {
+            this.slot = slot;
+            this.encoded = encoded;
+        }
+    }
+
+    /**
+     * Writes the segments of a template and the values of its slots to the request stream.
+     */
+    private static final class TemplateEntity extends AbstractHttpEntity {
+        private final PayloadTemplate template;
+        private final byte[][] encoded;
+        private final long length;
+
+        TemplateEntity(PayloadTemplate template, byte[][] encoded) {
+            this.template = template;
+            this.encoded = encoded;
+            this.length = template.length(encoded);
+            setContentType(template.contentType);
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            return length;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            ByteArrayOutputStream os = new ByteArrayOutputStream((int) length);
+            writeTo(os);
+            return new ByteArrayInputStream(os.toByteArray());
+        }
+
+        @Override
+        public void writeTo(OutputStream os) throws IOException {
+            if (null == os) {
+                throw new IllegalArgumentException("Output stream may not be null");
+            }
+
+            for (int i = 0; i < template.occurrences.length; i++) {
+                os.write(template.segments[i]);
+                os.write(encoded[template.occurrences[i]]);
+            }
+
+            os.write(template.segments[template.occurrences.length]);
+            os.flush();
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+    }
+}
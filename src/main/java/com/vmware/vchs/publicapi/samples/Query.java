@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class builds the parameters of a vCloud Query API query: the type of the records, the
+ * format of the results, the fields each record is returned with, the sort order and a filter.
+ * Asking only for the fields a caller reads, or for references rather than records, shrinks every
+ * page of the response and the time spent decoding it. For example:
+ * 
+ * Query.of(Query.VAPP_TEMPLATE).fields(Query.NAME).sortAsc(Query.NAME)
+ *         .filter(Query.Filter.eq(Query.IS_PUBLISHED, true))
+ * 
+ * The results of a built query are read with PagedQuery.of(), as lightweight QueryRecords.
+ */
+public class Query {
+    /*
+     * Query types used by the samples
+     */
+    static final String VAPP_TEMPLATE = "vAppTemplate";
+    static final String TASK = "task";
+
+    /*
+     * Fields used by the samples, vCloud returns the href of a record whatever its fields are
+     */
+    static final String NAME = "name";
+    static final String IS_PUBLISHED = "isPublished";
+    static final String STATUS = "status";
+
+    /**
+     * The formats of the results of a query
+     */
+    public enum Format {
+        // Records with all their fields, or those asked for, references to other objects as hrefs
+        RECORDS("records"),
+        // Records as with RECORDS, but references to other objects as ids
+        IDRECORDS("idrecords"),
+        // References with only the href, id, name and type of each object
+        REFERENCES("references");
+
+        private final String value;
+
+        Format(String value) {
+            this.value = value;
+        }
+    }
+
+    private final String type;
+    private Format format;
+    private final List<String> fields = new ArrayList<String>();
+    private String sortParameter;
+    private String sortField;
+    private Filter filter;
+
+    private Query(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Starts a query of the records of the passed in type.
+     * 
+     * @param type
+     *            the type of the records, e.g. Query.VAPP_TEMPLATE
+     * @return the query
+     */
+    public static Query of(String type) {
+        return new Query(type);
+    }
+
+    /**
+     * Sets the format of the results, records if not set.
+     * 
+     * @param format
+     *            the format
+     * @return this query
+     */
+    public Query format(Format format) {
+        this.format = format;
+        return this;
+    }
+
+    /**
+     * Adds fields to return for each record, all of them if none is added. Not applicable to
+     * references.
+     * 
+     * @param names
+     *            the names of the fields
+     * @return this query
+     */
+    public Query fields(String... names) {
+        fields.addAll(Arrays.asList(names));
+        return this;
+    }
+
+    /**
+     * Sorts the records by the passed in field in ascending order.
+     * 
+     * @param field
+     *            the name of the field
+     * @return this query
+     */
+    public Query sortAsc(String field) {
+        sortParameter = "sortAsc";
+        sortField = field;
+        return this;
+    }
+
+    /**
+     * Sorts the records by the passed in field in descending order.
+     * 
+     * @param field
+     *            the name of the field
+     * @return this query
+     */
+    public Query sortDesc(String field) {
+        sortParameter = "sortDesc";
+        sortField = field;
+        return this;
+    }
+
+    /**
+     * Returns only the records matching the passed in filter, combined with any filter already
+     * set so that both must match.
+     * 
+     * @param matching
+     *            the filter
+     * @return this query
+     */
+    public Query filter(Filter matching) {
+        filter = null == filter ? matching : Filter.and(filter, matching);
+        return this;
+    }
+
+    /**
+     * Returns the url encoded parameters of the query, without paging parameters.
+     * 
+     * @return the parameters, e.g. type=vAppTemplate&fields=name
+     */
+    public String toParameters() {
+        StringBuilder sb = new StringBuilder("type=").append(encode(type));
+
+        if (null != format) {
+            sb.append("&format=").append(format.value);
+        }
+
+        if (!fields.isEmpty()) {
+            sb.append("&fields=").append(encode(String.join(",", fields)));
+        }
+
+        if (null != sortField) {
+            sb.append('&').append(sortParameter).append('=').append(encode(sortField));
+        }
+
+        if (null != filter) {
+            sb.append("&filter=").append(encode(filter.expression));
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toParameters();
+    }
+
+    /*
+     * Url encodes the passed in parameter value
+     */
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * A filter of the records of a query, in the FIQL syntax of the vCloud Query API. Values are
+     * escaped so that they always match literally, except for the * wildcard of eq() and ne().
+     */
+    public static final class Filter {
+        private final String expression;
+
+        private Filter(String expression) {
+            this.expression = expression;
+        }
+
+        /**
+         * Matches the records whose field equals the passed in value, where * matches any
+         * characters.
+         */
+        public static Filter eq(String field, String value) {
+            return new Filter(field + "==" + escape(value));
+        }
+
+        /**
+         * Matches the records whose boolean field has the passed in value.
+         */
+        public static Filter eq(String field, boolean value) {
+            return new Filter(field + "==" + value);
+        }
+
+        /**
+         * Matches the records whose numeric field has the passed in value.
+         */
+        public static Filter eq(String field, long value) {
+            return new Filter(field + "==" + value);
+        }
+
+        /**
+         * Matches the records whose field does not equal the passed in value, where * matches any
+         * characters.
+         */
+        public static Filter ne(String field, String value) {
+            return new Filter(field + "!=" + escape(value));
+        }
+
+        /**
+         * Matches the records whose numeric field is less than the passed in value.
+         */
+        public static Filter lt(String field, long value) {
+            return new Filter(field + "=lt=" + value);
+        }
+
+        /**
+         * Matches the records whose numeric field is less than or equal to the passed in value.
+         */
+        public static Filter le(String field, long value) {
+            return new Filter(field + "=le=" + value);
+        }
+
+        /**
+         * Matches the records whose numeric field is greater than the passed in value.
+         */
+        public static Filter gt(String field, long value) {
+            return new Filter(field + "=gt=" + value);
+        }
+
+        /**
+         * Matches the records whose numeric field is greater than or equal to the passed in value.
+         */
+        public static Filter ge(String field, long value) {
+            return new Filter(field + "=ge=" + value);
+        }
+
+        /**
+         * Matches the records matching all the passed in filters.
+         */
+        public static Filter and(Filter... filters) {
+            return join(";", filters);
+        }
+
+        /**
+         * Matches the records matching any of the passed in filters.
+         */
+        public static Filter or(Filter... filters) {
+            return join(",", filters);
+        }
+
+        private static Filter join(String operator, Filter... filters) {
+            StringBuilder sb = new StringBuilder("(");
+
+            for (int i = 0; i < filters.length; i++) {
+                if (i > 0) {
+                    sb.append(operator);
+                }
+
+                sb.append(filters[i].expression);
+            }
+
+            return new Filter(sb.append(')').toString());
+        }
+
+        /*
+         * Percent encodes the characters of a value that FIQL would otherwise read as operators,
+         * vCloud decodes them once the filter is parsed
+         */
+        private static String escape(String value) {
+            StringBuilder sb = new StringBuilder(value.length());
+
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+
+                if ("%;,()=!<>'\"".indexOf(c) >= 0) {
+                    sb.append('%').append(String.format("%02X", (int) c));
+                } else {
+                    sb.append(c);
+                }
+            }
+
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return expression;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * This class decodes a page of vCloud Query API results, in any format, with a pull parser rather
+ * than JAXB. It reads the total and page size of the page, its nextPage link and hands every record
+ * or reference element over to the Records of the page, skipping anything nested in them.
+ * Subclasses decide what is kept of each record.
+ */
+abstract class QueryPageDecoder<T> implements PagedQuery.PageDecoder<T> {
+    /*
+     * Shared factory of the pull parsers, only used to create readers once configured
+     */
+    private static final XMLInputFactory xmlInputFactory = XmlBinding.createXmlInputFactory();
+
+    /**
+     * The records of a page being decoded
+     */
+    interface Records<T> {
+        /**
+         * Adds the record the reader is positioned on.
+         * 
+         * @param element
+         *            the local name of the element of the record
+         * @param reader
+         *            the reader, positioned on the start of the element
+         */
+        void add(String element, XMLStreamReader reader);
+
+        /**
+         * @return the records added
+         */
+        List<T> toList();
+    }
+
+    /**
+     * @return new Records to decode a page into
+     */
+    abstract Records<T> newRecords();
+
+    @Override
+    public PagedQuery.Page<T> decode(HttpEntity entity) {
+        try {
+            InputStream is = HttpUtils.content(entity);
+            ContentType contentType = ContentType.get(entity);
+            XMLStreamReader reader;
+
+            if (null != contentType && null != contentType.getCharset()) {
+                reader = xmlInputFactory.createXMLStreamReader(new InputStreamReader(is,
+                        contentType.getCharset()));
+            } else {
+                reader = xmlInputFactory.createXMLStreamReader(is);
+            }
+
+            try {
+                return decode(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Problem parsing query results", e);
+        } finally {
+            try {
+                EntityUtils.consume(entity);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private PagedQuery.Page<T> decode(XMLStreamReader reader) throws XMLStreamException {
+        Long total = null;
+        Integer pageSize = null;
+        String nextPageHref = null;
+        Records<T> records = newRecords();
+        int depth = 0;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+
+                if (depth == 1) {
+                    String value = reader.getAttributeValue(null, "total");
+                    total = null != value ? Long.valueOf(value) : null;
+                    value = reader.getAttributeValue(null, "pageSize");
+                    pageSize = null != value ? Integer.valueOf(value) : null;
+                } else if (depth == 2) {
+                    String element = reader.getLocalName();
+
+                    if ("Link".equals(element)) {
+                        if ("nextPage".equals(reader.getAttributeValue(null, "rel"))) {
+                            nextPageHref = reader.getAttributeValue(null, "href");
+                        }
+                    } else {
+                        records.add(element, reader);
+                    }
+                }
+            }
+        }
+
+        return new PagedQuery.Page<T>(total, pageSize, nextPageHref, records.toList());
+    }
+}
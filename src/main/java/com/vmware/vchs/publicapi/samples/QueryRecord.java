@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * This class is a lightweight record of the results of a vCloud Query API query: the attributes
+ * of one record or reference element, by name, as returned. Pages of results are decoded into
+ * QueryRecords with a pull parser, without building the JAXB object graph of the schema. See
+ * QueryRow for a decoding that keeps only some attributes, without an object per record.
+ */
+public class QueryRecord {
+    /*
+     * Decodes pages of query results, in any format, into QueryRecords
+     */
+    static final PagedQuery.PageDecoder<QueryRecord> DECODER = new QueryPageDecoder<QueryRecord>() {
+        @Override
+        Records<QueryRecord> newRecords() {
+            return new Records<QueryRecord>() {
+                private final List<QueryRecord> records = new ArrayList<QueryRecord>();
+
+                @Override
+                public void add(String element, XMLStreamReader reader) {
+                    int count = reader.getAttributeCount();
+                    Map<String, String> attributes = new LinkedHashMap<String, String>(
+                            count * 4 / 3 + 1);
+
+                    for (int i = 0; i < count; i++) {
+                        attributes.put(reader.getAttributeLocalName(i),
+                                reader.getAttributeValue(i));
+                    }
+
+                    records.add(new QueryRecord(element, attributes));
+                }
+
+                @Override
+                public List<QueryRecord> toList() {
+                    return records;
+                }
+            };
+        }
+    };
+
+    // The name of the element of the record, e.g. VAppTemplateRecord or VAppTemplateReference
+    private final String element;
+
+    // The attributes of the record, by name
+    private final Map<String, String> attributes;
+
+    QueryRecord(String element, Map<String, String> attributes) {
+        this.element = element;
+        this.attributes = attributes;
+    }
+
+    /**
+     * @return the name of the element of the record, e.g. VAppTemplateRecord
+     */
+    public String getElement() {
+        return element;
+    }
+
+    /**
+     * @param name
+     *            the name of the attribute, e.g. Query.NAME
+     * @return the value of the attribute, null if the record does not have it
+     */
+    public String get(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * @return the href of the record
+     */
+    public String getHref() {
+        return attributes.get("href");
+    }
+
+    /**
+     * @return the name of the record, null if it was not returned
+     */
+    public String getName() {
+        return attributes.get(Query.NAME);
+    }
+
+    /**
+     * @return the id of the record, returned with the idrecords and references formats
+     */
+    public String getId() {
+        return attributes.get("id");
+    }
+
+    /**
+     * @return all the attributes of the record, by name
+     */
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    @Override
+    public String toString() {
+        return element + attributes;
+    }
+}
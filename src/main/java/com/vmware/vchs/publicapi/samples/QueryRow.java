@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * This class is a flyweight view of the records of a page of vCloud Query API results, decoded
+ * by keeping only the values of the attributes asked for. The values of a page are stored in a
+ * single array and a single QueryRow per page is moved from one record to the next as the page
+ * is iterated, so decoding a record allocates nothing but the values kept.
+ * 
+ * The QueryRow returned by an iterator is only valid until the next call to next(): copy the
+ * values out of it, not the QueryRow itself, to keep them.
+ */
+public final class QueryRow {
+    // The attributes kept, shared by all the rows of a query
+    private final String[] attributes;
+
+    // The records of the page this row is a view of
+    private final Rows rows;
+
+    // The index of the record this row is positioned on
+    private int index;
+
+    private QueryRow(String[] attributes, Rows rows) {
+        this.attributes = attributes;
+        this.rows = rows;
+    }
+
+    /**
+     * Returns a decoder of pages of query results into QueryRows keeping the passed in attributes.
+     * 
+     * @param attributes
+     *            the names of the attributes to keep, e.g. Query.NAME and "href"
+     * @return the decoder
+     */
+    static PagedQuery.PageDecoder<QueryRow> decoder(String... attributes) {
+        final String[] kept = attributes.clone();
+
+        return new QueryPageDecoder<QueryRow>() {
+            @Override
+            Records<QueryRow> newRecords() {
+                return new Rows(kept);
+            }
+        };
+    }
+
+    /**
+     * @param slot
+     *            the position of the attribute among those the decoder keeps
+     * @return the value of the attribute, null if the record does not have it
+     */
+    public String get(int slot) {
+        return rows.values[index * attributes.length + slot];
+    }
+
+    /**
+     * @param name
+     *            the name of one of the attributes the decoder keeps
+     * @return the value of the attribute, null if the record does not have it
+     */
+    public String get(String name) {
+        for (int slot = 0; slot < attributes.length; slot++) {
+            if (attributes[slot].equals(name)) {
+                return get(slot);
+            }
+        }
+
+        throw new IllegalArgumentException("Attribute not kept: " + name);
+    }
+
+    /**
+     * @return the name of the element of the record, e.g. VAppTemplateRecord
+     */
+    public String getElement() {
+        return rows.elements[index];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getElement()).append('{');
+
+        for (int slot = 0; slot < attributes.length; slot++) {
+            if (slot > 0) {
+                sb.append(", ");
+            }
+
+            sb.append(attributes[slot]).append('=').append(get(slot));
+        }
+
+        return sb.append('}').toString();
+    }
+
+    /**
+     * The values of the kept attributes of the records of a page, record after record, viewed
+     * through a single QueryRow
+     */
+    private static final class Rows extends AbstractList<QueryRow> implements
+            QueryPageDecoder.Records<QueryRow> {
+        private final String[] attributes;
+        private final QueryRow row;
+        private String[] values;
+        private String[] elements;
+        private int size;
+
+        Rows(String[] attributes) {
+            this.attributes = attributes;
+            this.row = new QueryRow(attributes, this);
+            this.values = new String[SampleConstants.DEFAULT_QUERY_PAGE_SIZE * attributes.length];
+            this.elements = new String[SampleConstants.DEFAULT_QUERY_PAGE_SIZE];
+        }
+
+        @Override
+        public void add(String element, XMLStreamReader reader) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+                values = Arrays.copyOf(values, size * 2 * attributes.length);
+            }
+
+            int offset = size * attributes.length;
+            int count = reader.getAttributeCount();
+
+            for (int i = 0; i < count; i++) {
+                String name = reader.getAttributeLocalName(i);
+
+                for (int slot = 0; slot < attributes.length; slot++) {
+                    if (attributes[slot].equals(name)) {
+                        values[offset + slot] = reader.getAttributeValue(i);
+                        break;
+                    }
+                }
+            }
+
+            elements[size++] = element;
+        }
+
+        @Override
+        public List<QueryRow> toList() {
+            return this;
+        }
+
+        /*
+         * Moves the row of the page to the record at the passed in index and returns it
+         */
+        @Override
+        public QueryRow get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+
+            row.index = index;
+            return row;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -69,11 +69,31 @@ public final class SampleConstants {
      */
     static final String DEFAULT_VCD_VERSION = "5.6";
 
+    /*
+     * Default time in seconds to wait for a vCloud task to finish
+     */
+    static final long DEFAULT_TASK_TIMEOUT = 1800;
+
+    /*
+     * Default time in seconds a vCHS session is used before logging in again
+     */
+    static final long DEFAULT_TOKEN_TTL = 1800;
+
     /*
      * vCHS Public API Sessions url
      */
     static final String SESSION_URL = "/api/vchs/sessions";
 
+    /*
+     * Default AMQP exchange vCloud Director publishes its notifications to
+     */
+    static final String DEFAULT_NOTIFICATION_EXCHANGE = "systemExchange";
+
+    /*
+     * Url of the feed of vCloud notifications served by MockVchsServer
+     */
+    static final String NOTIFICATIONS_URL = "/api/notifications";
+
     /*
      * VCloud Public API Versions url
      */
@@ -89,5 +109,102 @@ public final class SampleConstants {
      */
     static final String ORG = "application/vnd.vmware.vcloud.org+xml";
 
+    /*
+     * The string value representing a VDC
+     */
+    static final String VDC = "application/vnd.vmware.vcloud.vdc+xml";
+
     static final String CONTENT_TYPE_EDGE_GATEWAY = "application/vnd.vmware.admin.edgeGatewayServiceConfiguration+xml";
-}
\ No newline at end of file
+
+    /*
+     * The content type of the body instantiating a vApp template
+     */
+    static final String CONTENT_TYPE_INSTANTIATE_VAPP_TEMPLATE = "application/vnd.vmware.vcloud.instantiateVAppTemplateParams+xml";
+
+    /*
+     * The content type of the body deploying a vApp
+     */
+    static final String CONTENT_TYPE_DEPLOY_VAPP = "application/vnd.vmware.vcloud.deployVAppParams+xml";
+
+    /*
+     * Maximum number of pooled http connections shared by all hosts
+     */
+    static final int MAX_TOTAL_CONNECTIONS = 40;
+
+    /*
+     * Maximum number of pooled http connections to a single host
+     */
+    static final int MAX_CONNECTIONS_PER_ROUTE = 20;
+
+    /*
+     * Maximum number of compute services looked up at once when searching for a VDC
+     */
+    static final int MAX_CONCURRENT_LOOKUPS = 8;
+
+    /*
+     * Maximum number of requests in flight to a single host when crawling the inventory
+     */
+    static final int MAX_REQUESTS_PER_HOST = 8;
+
+    /*
+     * Number of records requested per page of a query, the most vCloud returns
+     */
+    static final int DEFAULT_QUERY_PAGE_SIZE = 128;
+
+    /*
+     * Maximum number of pages of a query requested ahead of the page being read
+     */
+    static final int MAX_QUERY_PAGES_IN_FLIGHT = 4;
+
+    /*
+     * Name of the transport using the Apache HttpClient library
+     */
+    static final String TRANSPORT_APACHE = "apache";
+
+    /*
+     * Name of the transport using the JDK HttpURLConnection
+     */
+    static final String TRANSPORT_JDK = "jdk";
+
+    /*
+     * Default transport used to make http calls
+     */
+    static final String DEFAULT_TRANSPORT = TRANSPORT_APACHE;
+
+    /*
+     * Name of the human readable listing format
+     */
+    static final String FORMAT_TEXT = "text";
+
+    /*
+     * Name of the listing format writing a JSON object per line
+     */
+    static final String FORMAT_NDJSON = "ndjson";
+
+    /*
+     * Name of the listing format writing comma separated values
+     */
+    static final String FORMAT_CSV = "csv";
+
+    /*
+     * Default format of the listing of VDCs
+     */
+    static final String DEFAULT_FORMAT = FORMAT_TEXT;
+
+    /*
+     * System property which, when set to true, prints every XML response to the console
+     */
+    static final String DEBUG_XML_PROPERTY = "vchs.samples.debugxml";
+
+    /*
+     * System property which, when set to true, prints the HttpMetrics of every endpoint called
+     * when the JVM exits
+     */
+    static final String METRICS_PROPERTY = "vchs.samples.metrics";
+
+    /*
+     * System property which, when set to false, binds every type with JAXB rather than with the
+     * generated StAX readers and writers of StaxBinders
+     */
+    static final String STAX_BINDING_PROPERTY = "vchs.samples.staxbinding";
+}
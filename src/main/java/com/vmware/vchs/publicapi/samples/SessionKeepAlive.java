@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class keeps the vCHS session of a Vchs login, and the vCloud sessions opened with it,
+ * from expiring in the middle of a long running workflow.
+ * 
+ * Every checkInterval it renews the sessions that expire within refreshAhead: the vCHS session by
+ * logging in again (through the token cache if there is one) and the vCloud sessions by opening
+ * new ones. New tokens are swapped into the Vchs and the cached Vcd instances in a single write,
+ * so requests being made keep the old token, still valid, and the next ones use the new token.
+ * A failed renewal is tried again at the next check, until the session expires.
+ * 
+ * Both times are capped by the time to live of the sessions, so that short lived sessions are
+ * renewed often enough. All the logins share a single daemon thread.
+ */
+public class SessionKeepAlive {
+    private static final ScheduledExecutorService scheduler = Executors
+            .newSingleThreadScheduledExecutor(HttpUtils.daemonThreadFactory("vchs-keepalive"));
+
+    // The time in milliseconds before they expire the sessions are renewed
+    long refreshAhead = TimeUnit.MINUTES.toMillis(5);
+
+    // The time in milliseconds between two checks of the sessions
+    long checkInterval = TimeUnit.SECONDS.toMillis(30);
+
+    private final Vchs vchs;
+    private final DefaultSampleCommandLineOptions options;
+
+    private ScheduledFuture<?> checks;
+
+    /**
+     * @param vchs
+     *            the login whose sessions are kept alive
+     * @param options
+     *            the command line options used to log in
+     */
+    public SessionKeepAlive(Vchs vchs, DefaultSampleCommandLineOptions options) {
+        this.vchs = vchs;
+        this.options = options;
+
+        long ttl = Math.min(TimeUnit.SECONDS.toMillis(options.tokenTtl), vchs.vcdSessions.ttl);
+        refreshAhead = Math.min(refreshAhead, ttl / 4);
+        checkInterval = Math.max(1, Math.min(checkInterval, ttl / 10));
+    }
+
+    /**
+     * Starts checking the sessions in the background.
+     */
+    public synchronized void start() {
+        if (null == checks) {
+            checks = scheduler.scheduleWithFixedDelay(() -> check(), checkInterval,
+                    checkInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops checking the sessions, which then expire in time.
+     */
+    public synchronized void stop() {
+        if (null != checks) {
+            checks.cancel(false);
+            checks = null;
+        }
+    }
+
+    /**
+     * Renews the sessions expiring within refreshAhead.
+     */
+    void check() {
+        try {
+            if (vchs.vchsTokenExpires - System.currentTimeMillis() < refreshAhead) {
+                vchs.renew(options);
+            }
+
+            vchs.vcdSessions.renewExpiring(vchs, options, refreshAhead);
+        } catch (RuntimeException e) {
+            // The current tokens are still used, try again at the next check
+        }
+    }
+}
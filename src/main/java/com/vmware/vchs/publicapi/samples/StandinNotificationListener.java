@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+
+/**
+ * This class listens to the notification feed of MockVchsServer, the test stand-in of the AMQP
+ * broker vCloud Director publishes its notifications to (see AmqpNotificationListener). The
+ * stand-in serves the same Notification messages on /api/notifications, an http feed streaming one
+ * message per line that only exists on MockVchsServer, so this listener is only used when running
+ * against it, e.g. by VMCreateLoadDriver --standin --notifications.
+ * 
+ * The feed is read on a daemon thread, reconnecting after reconnectDelay whenever the connection
+ * fails or ends, until stop() is called. Events posted while disconnected are lost, which is why
+ * TaskMonitor keeps polling, although rarely, while it listens.
+ */
+public class StandinNotificationListener extends NotificationListener {
+    private final String feedUrl;
+
+    // The time in milliseconds waited before connecting again to the feed
+    long reconnectDelay = 1000;
+
+    private volatile boolean running;
+    private volatile HttpGet request;
+    private volatile InputStream content;
+
+    /**
+     * @param feedUrl
+     *            the url of the notification feed of the stand-in
+     */
+    public StandinNotificationListener(String feedUrl) {
+        this.feedUrl = feedUrl;
+    }
+
+    /**
+     * Starts reading the feed on a daemon thread.
+     */
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        HttpUtils.daemonThreadFactory("vchs-notifications").newThread(() -> listen()).start();
+    }
+
+    /**
+     * Stops reading the feed, dropping the connection to it and closing the response stream so
+     * that the reader thread ends and the connection is released whichever transport is used. The
+     * JDK only closes the stream once the read in progress returns, which the keep-alive lines of
+     * the stand-in bound to a second.
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+
+        HttpGet current = request;
+        if (null != current) {
+            current.abort();
+        }
+
+        InputStream stream = content;
+        if (null != stream) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // The connection was dropped already
+            }
+        }
+    }
+
+    /**
+     * Reads the feed until stop() is called, reconnecting whenever the connection ends.
+     */
+    private void listen() {
+        while (running) {
+            try {
+                read();
+            } catch (RuntimeException e) {
+                // Connect again below
+            }
+
+            if (running) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(reconnectDelay);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Connects to the feed and handles each message until the connection ends.
+     */
+    private void read() {
+        HttpGet httpGet = new HttpGet(feedUrl);
+        request = httpGet;
+
+        HttpResponse response = HttpUtils.httpInvoke(httpGet);
+
+        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+            HttpUtils.consume(response);
+            throw new RuntimeException("Failed : HTTP error code : "
+                    + response.getStatusLine().getStatusCode());
+        }
+
+        BufferedReader reader = null;
+
+        try {
+            content = response.getEntity().getContent();
+            reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+
+            // One message per line, blank lines keep the connection alive
+            String line;
+            while (running && null != (line = reader.readLine())) {
+                if (!line.trim().isEmpty()) {
+                    onMessage(new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            request = null;
+            content = null;
+
+            // Closing would read the endless feed to its end, drop the connection first
+            httpGet.abort();
+
+            if (null != reader) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    // The connection is dropped anyway
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,1333 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlAnyAttribute;
+import javax.xml.bind.annotation.XmlAnyElement;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlElementRef;
+import javax.xml.bind.annotation.XmlNsForm;
+import javax.xml.bind.annotation.XmlSchema;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.XmlValue;
+import javax.xml.bind.annotation.adapters.NormalizedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import javax.xml.datatype.Duration;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+
+import com.vmware.vcloud.api.rest.schema.DeployVAppParamsType;
+import com.vmware.vcloud.api.rest.schema.GatewayFeaturesType;
+import com.vmware.vcloud.api.rest.schema.GatewayType;
+import com.vmware.vcloud.api.rest.schema.InstantiateVAppTemplateParamsType;
+import com.vmware.vcloud.api.rest.schema.NetworkConnectionSectionType;
+import com.vmware.vcloud.api.rest.schema.TaskType;
+import com.vmware.vcloud.api.rest.schema.VAppType;
+import com.vmware.vcloud.api.rest.schema.VdcType;
+import com.vmware.vcloud.api.rest.schema.VmType;
+
+/**
+ * StaxBinderGenerator
+ * 
+ * This program generates StaxBinders, the StAX readers and writers of the schema types the
+ * samples read and write the most, from the JAXB annotations of the classes in
+ * lib/rest-api-schemas-5.1.0.jar. It is only run at build time, when the schema jar or the list
+ * of types changes, and StaxBinders.java is checked in with the rest of the sources so that the
+ * samples never need the reflection done here.
+ * 
+ * A reader and writer is generated for every type reachable from the ROOT_TYPES through their
+ * elements, superclasses and the members of the substitution groups they reference, the latter
+ * being created with the ObjectFactory of their package as JAXB does. Types using a mapping not
+ * supported here, lax wildcard content and elements of type anyType are read and written with
+ * JAXB, see StaxBinding, and no writer is generated for types whose getters return a default for
+ * an absent attribute, as they cannot tell it apart from one set to the default.
+ * 
+ * Parameters:
+ * 
+ * sourcedir        [optional] : the source directory to write StaxBinders.java to, defaults to
+ *                               src/main/java.
+ * 
+ * Argument Line:
+ * 
+ * [sourcedir]
+ */
+public class StaxBinderGenerator {
+    /*
+     * The types StaxBinders is generated for, along with the types they reach
+     */
+    static final Class<?>[] ROOT_TYPES = { TaskType.class, VAppType.class, VmType.class,
+            VdcType.class, NetworkConnectionSectionType.class, GatewayType.class,
+            InstantiateVAppTemplateParamsType.class, DeployVAppParamsType.class,
+            GatewayFeaturesType.class };
+
+    static final String PACKAGE = StaxBinderGenerator.class.getPackage().getName();
+    static final String CLASS_NAME = "StaxBinders";
+
+    /*
+     * The prefixes the namespaces of the schema packages are bound to in the documents written,
+     * the first being the default namespace
+     */
+    private static final String[][] PREFIXES = { { "http://www.vmware.com/vcloud/v1.5", "" },
+            { "http://schemas.dmtf.org/ovf/envelope/1", "ovf" },
+            { "http://schemas.dmtf.org/ovf/environment/1", "ovfenv" },
+            { "http://schemas.dmtf.org/wbem/wscim/1/cim-schema/2/CIM_ResourceAllocationSettingData",
+                    "rasd" },
+            { "http://schemas.dmtf.org/wbem/wscim/1/cim-schema/2/CIM_VirtualSystemSettingData",
+                    "vssd" },
+            { "http://schemas.dmtf.org/wbem/wscim/1/common", "cim" } };
+
+    /*
+     * The order of the groups of imports
+     */
+    private static final String[] IMPORT_GROUPS = { "java", "javax", "org", "com" };
+
+    /*
+     * The simple types elements and attributes may be bound to
+     */
+    private static final Set<Class<?>> SIMPLE_TYPES = new LinkedHashSet<Class<?>>(Arrays.asList(
+            String.class, Boolean.class, boolean.class, Byte.class, byte.class, Short.class,
+            short.class, Integer.class, int.class, Long.class, long.class, BigInteger.class,
+            Float.class, float.class, Double.class, double.class, BigDecimal.class,
+            Duration.class, XMLGregorianCalendar.class));
+
+    /**
+     * How a property is bound
+     */
+    enum Kind {
+        ATTRIBUTE, ANY_ATTRIBUTE, VALUE, SIMPLE, COMPLEX, DECLARED, REFERENCE, ANY
+    }
+
+    /**
+     * A property of a schema type
+     */
+    static final class Property {
+        Field field;
+        Kind kind;
+        String namespace = "";
+        String localName;
+        // The type of the property, or of the items of a list
+        Class<?> type;
+        boolean list;
+        boolean nillable;
+        boolean normalized;
+        String getter;
+        String setter;
+        // Whether the getter returns the field as is
+        boolean exact = true;
+        // The element names of a REFERENCE property
+        Set<QName> references = new LinkedHashSet<QName>();
+    }
+
+    /**
+     * A global element declared by an ObjectFactory
+     */
+    static final class ElementDecl {
+        Class<?> type;
+        Package registry;
+        String method;
+    }
+
+    /**
+     * A schema type StaxBinders binds
+     */
+    static final class Binding {
+        Class<?> type;
+        String id;
+        // The schema type name, null for an anonymous type
+        QName typeName;
+        Binding superBinding;
+        List<Property> properties = new ArrayList<Property>();
+        // Whether all the properties of the type and its superclasses can be bound
+        boolean supported = true;
+        boolean writable;
+
+        boolean isConcrete() {
+            return !Modifier.isAbstract(type.getModifiers());
+        }
+
+        Property find(Kind kind) {
+            for (Binding binding = this; null != binding; binding = binding.superBinding) {
+                for (Property property : binding.properties) {
+                    if (property.kind == kind) {
+                        return property;
+                    }
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private final Map<Class<?>, Binding> bindings = new LinkedHashMap<Class<?>, Binding>();
+    private final Map<QName, Set<QName>> substitutions = new HashMap<QName, Set<QName>>();
+    private final Map<QName, ElementDecl> elementDecls = new HashMap<QName, ElementDecl>();
+    private final Map<Package, String> factoryConstants = new LinkedHashMap<Package, String>();
+    private final Set<Package> usedFactories = new LinkedHashSet<Package>();
+    private final Set<Package> registries = new LinkedHashSet<Package>();
+    private final Map<String, String> namespaceConstants = new TreeMap<String, String>();
+    private final Set<String> imports = new TreeSet<String>();
+    private final Set<String> simpleNames = new LinkedHashSet<String>();
+
+    /**
+     * @param args
+     *            optionally the source directory
+     */
+    public static void main(String[] args) throws IOException {
+        File sourceDir = new File(args.length > 0 ? args[0] : "src/main/java");
+        File file = new File(sourceDir, PACKAGE.replace('.', File.separatorChar) + File.separator
+                + CLASS_NAME + ".java");
+
+        StaxBinderGenerator generator = new StaxBinderGenerator();
+        for (Class<?> type : ROOT_TYPES) {
+            generator.bind(type);
+        }
+
+        File packageDir = file.getParentFile();
+        if (!packageDir.isDirectory() && !packageDir.mkdirs()) {
+            throw new IOException("Could not create " + packageDir);
+        }
+
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            writer.write(generator.generate());
+        } finally {
+            writer.close();
+        }
+
+        System.out.println("Generated " + generator.bindings.size() + " bindings to " + file);
+    }
+
+    /*
+     * Adds the binding of the passed in type, of its superclasses and of the types of its
+     * elements, marking it unsupported rather than failing when some mapping is not supported
+     */
+    private Binding bind(Class<?> type) {
+        Binding binding = bindings.get(type);
+        if (null != binding) {
+            return binding;
+        }
+
+        binding = new Binding();
+        binding.type = type;
+        bindings.put(type, binding);
+
+        try {
+            bindProperties(binding);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Binding " + type.getName() + " with JAXB: " + e.getMessage());
+            binding.supported = false;
+            binding.properties.clear();
+        }
+
+        return binding;
+    }
+
+    private void bindProperties(Binding binding) {
+        Class<?> type = binding.type;
+
+        if (type.isEnum() || !type.isAnnotationPresent(XmlType.class)) {
+            throw new IllegalArgumentException("Not a schema class type: " + type.getName());
+        }
+
+        addRegistry(type.getPackage());
+
+        XmlType xmlType = type.getAnnotation(XmlType.class);
+        if (!xmlType.name().isEmpty()) {
+            binding.typeName = new QName("##default".equals(xmlType.namespace()) ? schema(type)
+                    .namespace() : xmlType.namespace(), xmlType.name());
+        }
+
+        if (binding.isConcrete()) {
+            try {
+                type.getConstructor();
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("No public constructor: " + type.getName());
+            }
+        }
+
+        if (type.getSuperclass() != Object.class) {
+            binding.superBinding = bind(type.getSuperclass());
+        }
+
+        List<String> propOrder = Arrays.asList(type.getAnnotation(XmlType.class).propOrder());
+        List<Property> elements = new ArrayList<Property>();
+
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())
+                    || field.isAnnotationPresent(XmlTransient.class)) {
+                continue;
+            }
+
+            Property property = property(type, field);
+            if (property.kind == Kind.ATTRIBUTE || property.kind == Kind.ANY_ATTRIBUTE) {
+                binding.properties.add(property);
+            } else {
+                if (!propOrder.contains(field.getName())) {
+                    throw new IllegalArgumentException("Not in propOrder: " + field);
+                }
+                elements.add(property);
+            }
+        }
+
+        // Elements are written in propOrder, after the attributes
+        for (String name : propOrder) {
+            for (Property property : elements) {
+                if (property.field.getName().equals(name)) {
+                    binding.properties.add(property);
+                }
+            }
+        }
+    }
+
+    private Property property(Class<?> type, Field field) {
+        Property property = new Property();
+        property.field = field;
+        property.list = List.class.isAssignableFrom(field.getType());
+        property.type = property.list ? itemType(field) : field.getType();
+        property.getter = getter(type, field, property);
+
+        if (field.isAnnotationPresent(XmlAttribute.class)) {
+            XmlAttribute attribute = field.getAnnotation(XmlAttribute.class);
+            property.kind = Kind.ATTRIBUTE;
+            property.localName = localName(attribute.name(), field);
+
+            if (!"##default".equals(attribute.namespace())) {
+                property.namespace = attribute.namespace();
+            } else if (schema(type).attributeFormDefault() == XmlNsForm.QUALIFIED) {
+                property.namespace = schema(type).namespace();
+            }
+
+            XmlJavaTypeAdapter adapter = field.getAnnotation(XmlJavaTypeAdapter.class);
+            if (null != adapter) {
+                if (adapter.value() != NormalizedStringAdapter.class) {
+                    throw new IllegalArgumentException("Unsupported adapter: " + field);
+                }
+                property.normalized = true;
+            }
+
+            checkSimple(field, property.type);
+        } else if (field.isAnnotationPresent(XmlAnyAttribute.class)) {
+            property.kind = Kind.ANY_ATTRIBUTE;
+        } else if (field.isAnnotationPresent(XmlValue.class)) {
+            property.kind = Kind.VALUE;
+            checkSimple(field, property.type);
+        } else if (field.isAnnotationPresent(XmlAnyElement.class)) {
+            if (!field.getAnnotation(XmlAnyElement.class).lax() || !property.list) {
+                throw new IllegalArgumentException("Unsupported wildcard: " + field);
+            }
+            property.kind = Kind.ANY;
+        } else if (field.isAnnotationPresent(XmlElementRef.class)) {
+            XmlElementRef reference = field.getAnnotation(XmlElementRef.class);
+            String namespace = "##default".equals(reference.namespace()) ? schema(type)
+                    .namespace() : reference.namespace();
+            property.kind = Kind.REFERENCE;
+            property.type = JAXBElement.class;
+            property.references.add(new QName(namespace, reference.name()));
+        } else {
+            XmlElement element = field.getAnnotation(XmlElement.class);
+            if (null == element || element.type() != XmlElement.DEFAULT.class
+                    || !"\u0000".equals(element.defaultValue())
+                    || field.isAnnotationPresent(XmlJavaTypeAdapter.class)) {
+                throw new IllegalArgumentException("Unsupported element: " + field);
+            }
+
+            property.localName = localName(element.name(), field);
+            property.nillable = element.nillable();
+            if (!"##default".equals(element.namespace())) {
+                property.namespace = element.namespace();
+            } else if (schema(type).elementFormDefault() == XmlNsForm.QUALIFIED) {
+                property.namespace = schema(type).namespace();
+            }
+
+            if (SIMPLE_TYPES.contains(property.type)) {
+                property.kind = Kind.SIMPLE;
+            } else if (property.type == Object.class) {
+                // Only ever bound with an xsi:type
+                property.kind = Kind.DECLARED;
+            } else {
+                property.kind = Kind.COMPLEX;
+                bind(property.type);
+            }
+        }
+
+        if (!property.list && property.kind != Kind.ANY_ATTRIBUTE) {
+            property.setter = setter(type, field);
+        }
+
+        return property;
+    }
+
+    /*
+     * Returns the name of the property of the field, which xjc prefixes with an underscore when
+     * it is a Java keyword
+     */
+    private static String propertyName(Field field) {
+        return field.getName().startsWith("_") ? field.getName().substring(1) : field.getName();
+    }
+
+    private static String localName(String name, Field field) {
+        return "##default".equals(name) ? field.getName() : name;
+    }
+
+    private static Class<?> itemType(Field field) {
+        Type itemType = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+
+        if (itemType instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) itemType).getRawType();
+        }
+
+        return (Class<?>) itemType;
+    }
+
+    private static void checkSimple(Field field, Class<?> type) {
+        if (!SIMPLE_TYPES.contains(type)) {
+            throw new IllegalArgumentException("Unsupported simple type: " + field);
+        }
+    }
+
+    /*
+     * Finds the getter of the field, noting whether it returns the field as is: xjc generates
+     * getters returning the default of an optional attribute when it is absent
+     */
+    private static String getter(Class<?> type, Field field, Property property) {
+        for (Method method : type.getDeclaredMethods()) {
+            String name = method.getName();
+            String suffix = name.startsWith("is") ? name.substring(2) : name.startsWith("get")
+                    ? name.substring(3) : null;
+
+            if (null != suffix && suffix.equalsIgnoreCase(propertyName(field))
+                    && method.getParameterTypes().length == 0) {
+                property.exact = method.getGenericReturnType().equals(field.getGenericType());
+                return name;
+            }
+        }
+
+        throw new IllegalArgumentException("No getter for " + field);
+    }
+
+    private static String setter(Class<?> type, Field field) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getName().startsWith("set")
+                    && method.getName().substring(3).equalsIgnoreCase(propertyName(field))
+                    && method.getParameterTypes().length == 1) {
+                return method.getName();
+            }
+        }
+
+        throw new IllegalArgumentException("No setter for " + field);
+    }
+
+    private static XmlSchema schema(Class<?> type) {
+        return type.getPackage().getAnnotation(XmlSchema.class);
+    }
+
+    /*
+     * Records the substitution groups declared by the ObjectFactory of the passed in package
+     */
+    private void addRegistry(Package pkg) {
+        if (!registries.add(pkg)) {
+            return;
+        }
+
+        Class<?> objectFactory = objectFactory(pkg);
+        if (null == objectFactory) {
+            return;
+        }
+
+        String namespace = pkg.getAnnotation(XmlSchema.class).namespace();
+
+        for (Method method : objectFactory.getDeclaredMethods()) {
+            XmlElementDecl decl = method.getAnnotation(XmlElementDecl.class);
+
+            if (null == decl || decl.scope() != XmlElementDecl.GLOBAL.class) {
+                continue;
+            }
+
+            QName member = new QName("##default".equals(decl.namespace()) ? namespace
+                    : decl.namespace(), decl.name());
+            Type returnType = method.getGenericReturnType();
+            Type valueType = returnType instanceof ParameterizedType ? ((ParameterizedType)
+                    returnType).getActualTypeArguments()[0] : null;
+
+            if (valueType instanceof Class) {
+                ElementDecl elementDecl = new ElementDecl();
+                elementDecl.type = (Class<?>) valueType;
+                elementDecl.registry = pkg;
+                elementDecl.method = method.getName();
+                elementDecls.put(member, elementDecl);
+            }
+
+            if (decl.substitutionHeadName().isEmpty()) {
+                continue;
+            }
+
+            QName head = new QName(decl.substitutionHeadNamespace(), decl.substitutionHeadName());
+
+            Set<QName> members = substitutions.get(head);
+            if (null == members) {
+                members = new LinkedHashSet<QName>();
+                substitutions.put(head, members);
+            }
+            members.add(member);
+        }
+    }
+
+    private static Class<?> objectFactory(Package pkg) {
+        try {
+            return Class.forName(pkg.getName() + ".ObjectFactory");
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private String factoryConstant(Package pkg) {
+        String constant = factoryConstants.get(pkg);
+        if (null == constant) {
+            String name = pkg.getName();
+            constant = name.substring(name.lastIndexOf('.') + 1).toUpperCase() + "_FACTORY";
+            for (String[] prefix : PREFIXES) {
+                if (prefix[0].equals(pkg.getAnnotation(XmlSchema.class).namespace())) {
+                    constant = (prefix[1].isEmpty() ? "VCLOUD" : prefix[1].toUpperCase())
+                            + "_FACTORY";
+                }
+            }
+            if (factoryConstants.containsValue(constant)) {
+                constant = "FACTORY_" + (factoryConstants.size() + 1);
+            }
+            factoryConstants.put(pkg, constant);
+        }
+
+        return constant;
+    }
+
+    /*
+     * Adds the members of the substitution groups of the element references, binding their types
+     * too, until no more types are reached
+     */
+    private void resolveReferences() {
+        int resolved = 0;
+
+        while (resolved != bindings.size()) {
+            resolved = bindings.size();
+
+            for (Binding binding : new ArrayList<Binding>(bindings.values())) {
+                for (Property property : binding.properties) {
+                    if (property.kind == Kind.REFERENCE) {
+                        resolveReference(property);
+                    }
+                }
+            }
+        }
+
+        // A type is supported only if its superclasses are
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Binding binding : bindings.values()) {
+                if (binding.supported && null != binding.superBinding
+                        && !binding.superBinding.supported) {
+                    binding.supported = false;
+                    changed = true;
+                }
+            }
+        }
+
+        for (Binding binding : bindings.values()) {
+            binding.writable = binding.supported;
+            for (Property property : binding.properties) {
+                binding.writable &= property.exact;
+            }
+        }
+
+        // And writable only if its superclasses are
+        changed = true;
+        while (changed) {
+            changed = false;
+            for (Binding binding : bindings.values()) {
+                if (binding.writable && null != binding.superBinding
+                        && !binding.superBinding.writable) {
+                    binding.writable = false;
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    private void resolveReference(Property property) {
+        for (Package pkg : new ArrayList<Package>(registries)) {
+            addRegistry(pkg);
+        }
+
+        List<QName> pending = new ArrayList<QName>(property.references);
+        while (!pending.isEmpty()) {
+            Set<QName> members = substitutions.get(pending.remove(0));
+
+            if (null != members) {
+                for (QName member : members) {
+                    if (property.references.add(member)) {
+                        pending.add(member);
+                    }
+                }
+            }
+        }
+
+        for (QName name : property.references) {
+            ElementDecl decl = elementDecls.get(name);
+            if (null != decl && decl.type != Object.class) {
+                bind(decl.type);
+            }
+        }
+    }
+
+    /*
+     * Assigns each binding a unique id and each type a name, imported unless its simple name is
+     * taken by another type
+     */
+    private void assignNames() {
+        Map<String, Integer> counts = new HashMap<String, Integer>();
+        for (Binding binding : bindings.values()) {
+            if (binding.supported) {
+                String simpleName = binding.type.getSimpleName();
+                Integer count = counts.get(simpleName);
+                counts.put(simpleName, null == count ? 1 : count + 1);
+            }
+        }
+
+        for (Binding binding : bindings.values()) {
+            if (!binding.supported) {
+                continue;
+            }
+
+            String simpleName = binding.type.getSimpleName();
+            if (counts.get(simpleName) == 1) {
+                binding.id = simpleName;
+                imports.add(binding.type.getName());
+                simpleNames.add(simpleName);
+            } else {
+                String pkg = binding.type.getPackage().getName();
+                binding.id = simpleName + "_" + pkg.substring(pkg.lastIndexOf('.') + 1);
+            }
+        }
+    }
+
+    private String typeName(Class<?> type) {
+        if (type.isPrimitive() || type.getPackage().getName().equals("java.lang")) {
+            return type.getSimpleName();
+        }
+
+        if (simpleNames.contains(type.getSimpleName())
+                && !imports.contains(type.getName())) {
+            return type.getName();
+        }
+
+        imports.add(type.getName());
+        simpleNames.add(type.getSimpleName());
+        return type.getSimpleName();
+    }
+
+    private String namespaceConstant(String namespace) {
+        if (namespace.isEmpty()) {
+            return null;
+        }
+
+        String constant = namespaceConstants.get(namespace);
+        if (null == constant) {
+            constant = "NS_" + (namespaceConstants.size() + 1);
+            for (String[] prefix : PREFIXES) {
+                if (prefix[0].equals(namespace)) {
+                    constant = "NS_" + (prefix[1].isEmpty() ? "VCLOUD" : prefix[1].toUpperCase());
+                }
+            }
+            namespaceConstants.put(namespace, constant);
+        }
+
+        return constant;
+    }
+
+    /*
+     * Returns the expression parsing the passed in string expression into the type
+     */
+    private String parse(Property property, String expression) {
+        Class<?> type = property.type;
+
+        if (property.normalized) {
+            return "StaxBinding.normalize(" + expression + ")";
+        } else if (type == String.class) {
+            return expression;
+        } else if (type == Boolean.class || type == boolean.class) {
+            return "DatatypeConverter.parseBoolean(" + expression + ")";
+        } else if (type == Byte.class || type == byte.class) {
+            return "DatatypeConverter.parseByte(" + expression + ")";
+        } else if (type == Short.class || type == short.class) {
+            return "DatatypeConverter.parseShort(" + expression + ")";
+        } else if (type == Integer.class || type == int.class) {
+            return "DatatypeConverter.parseInt(" + expression + ")";
+        } else if (type == Long.class || type == long.class) {
+            return "DatatypeConverter.parseLong(" + expression + ")";
+        } else if (type == BigInteger.class) {
+            return "DatatypeConverter.parseInteger(" + expression + ")";
+        } else if (type == Float.class || type == float.class) {
+            return "DatatypeConverter.parseFloat(" + expression + ")";
+        } else if (type == Double.class || type == double.class) {
+            return "DatatypeConverter.parseDouble(" + expression + ")";
+        } else if (type == BigDecimal.class) {
+            return "DatatypeConverter.parseDecimal(" + expression + ")";
+        } else if (type == Duration.class) {
+            return "StaxBinding.parseDuration(" + expression + ")";
+        }
+
+        return "StaxBinding.parseCalendar(" + expression + ")";
+    }
+
+    /*
+     * Returns the expression printing the passed in expression of the type
+     */
+    private String print(Property property, String expression) {
+        Class<?> type = property.type;
+
+        if (type == String.class) {
+            return expression;
+        } else if (type == Boolean.class || type == boolean.class) {
+            return "DatatypeConverter.printBoolean(" + expression + ")";
+        } else if (type == Byte.class || type == byte.class) {
+            return "DatatypeConverter.printByte(" + expression + ")";
+        } else if (type == Short.class || type == short.class) {
+            return "DatatypeConverter.printShort(" + expression + ")";
+        } else if (type == Integer.class || type == int.class) {
+            return "DatatypeConverter.printInt(" + expression + ")";
+        } else if (type == Long.class || type == long.class) {
+            return "DatatypeConverter.printLong(" + expression + ")";
+        } else if (type == BigInteger.class) {
+            return "DatatypeConverter.printInteger(" + expression + ")";
+        } else if (type == Float.class || type == float.class) {
+            return "DatatypeConverter.printFloat(" + expression + ")";
+        } else if (type == Double.class || type == double.class) {
+            return "DatatypeConverter.printDouble(" + expression + ")";
+        } else if (type == BigDecimal.class) {
+            return "DatatypeConverter.printDecimal(" + expression + ")";
+        } else if (type == Duration.class) {
+            return expression + ".toString()";
+        }
+
+        return expression + ".toXMLFormat()";
+    }
+
+    private static String quote(String s) {
+        return "\"" + s + "\"";
+    }
+
+    private String qualify(String namespace) {
+        return namespace.isEmpty() ? "\"\"" : namespaceConstant(namespace);
+    }
+
+    /*
+     * Generates the source of StaxBinders
+     */
+    String generate() {
+        resolveReferences();
+        assignNames();
+
+        // Generated first as they name the namespaces and factories used
+        Source binders = new Source();
+        for (Binding binding : bindings.values()) {
+            if (binding.supported) {
+                generateReader(binders, binding);
+            }
+        }
+
+        for (Binding binding : bindings.values()) {
+            if (binding.writable) {
+                generateWriter(binders, binding);
+            }
+        }
+
+        Source body = new Source();
+        generateRegister(body);
+        generateNamespaces(body);
+        body.append(binders);
+
+        Source factories = new Source();
+        factories.line("");
+        for (Package pkg : usedFactories) {
+            String factory = objectFactory(pkg).getName();
+            factories.line("    private static final " + factory + " " + factoryConstants.get(pkg)
+                    + " = new " + factory + "();");
+        }
+
+        // Referenced by the generated code
+        typeName(JAXBElement.class);
+        imports.add("javax.xml.bind.DatatypeConverter");
+        imports.add("javax.xml.stream.XMLStreamException");
+        imports.add("javax.xml.stream.XMLStreamReader");
+        imports.add("javax.xml.stream.XMLStreamWriter");
+
+        Source source = new Source();
+        source.line("/*");
+        source.line(" * Copyright (c) 2013 VMware, Inc. All Rights Reserved.");
+        source.line(" *");
+        source.line(" * Licensed under the Apache License, Version 2.0 (the \"License\"); you may "
+                + "not use");
+        source.line(" * this file except in compliance with the License.    You may obtain a "
+                + "copy of");
+        source.line(" * the License at");
+        source.line(" *");
+        source.line(" * http://www.apache.org/licenses/LICENSE-2.0 ");
+        source.line(" *");
+        source.line(" * Unless required by applicable law or agreed to in writing, software "
+                + "distributed");
+        source.line(" * under the License is distributed on an \"AS IS\" BASIS,  WITHOUT "
+                + "WARRANTIES OR");
+        source.line(" * CONDITIONS OF ANY KIND, either express or implied. See the License for "
+                + "the");
+        source.line(" * specific language governing permissions and limitations under the "
+                + "License.");
+        source.line(" */");
+        source.line("package " + PACKAGE + ";");
+        source.line("");
+
+        // Imports grouped the same way as in the rest of the samples
+        boolean first = true;
+        for (String group : IMPORT_GROUPS) {
+            boolean empty = true;
+            for (String name : imports) {
+                if (name.startsWith(group + ".")) {
+                    if (empty && !first) {
+                        source.line("");
+                    }
+                    source.line("import " + name + ";");
+                    empty = false;
+                    first = false;
+                }
+            }
+        }
+
+        source.line("");
+        source.line("/**");
+        source.line(" * The StAX readers and writers of the schema types the samples read and "
+                + "write the most, see");
+        source.line(" * StaxBinding.");
+        source.line(" * ");
+        source.line(" * Generated by StaxBinderGenerator from lib/rest-api-schemas-5.1.0.jar, "
+                + "do not edit.");
+        source.line(" */");
+        source.line("final class " + CLASS_NAME + " {");
+
+        for (Map.Entry<String, String> namespace : namespaceConstants.entrySet()) {
+            source.line("    private static final String " + namespace.getValue() + " = "
+                    + quote(namespace.getKey()) + ";");
+        }
+
+        source.append(factories);
+
+        source.line("");
+        source.line("    /*");
+        source.line("     * Prevent this class from being instantiated");
+        source.line("     */");
+        source.line("    private " + CLASS_NAME + "() {");
+        source.line("    }");
+        source.append(body);
+        source.line("}");
+        return source.toString();
+    }
+
+    private void generateRegister(Source out) {
+        out.line("");
+        out.line("    /**");
+        out.line("     * Registers the readers and writers with StaxBinding.");
+        out.line("     */");
+        out.line("    static void register() {");
+
+        List<Binding> registered = new ArrayList<Binding>();
+        for (Binding binding : bindings.values()) {
+            if (!binding.supported || !binding.isConcrete()) {
+                continue;
+            }
+
+            String typeName = null == binding.typeName ? "null" : "new " + typeName(QName.class)
+                    + "(" + namespaceConstant(binding.typeName.getNamespaceURI()) + ", "
+                    + quote(binding.typeName.getLocalPart()) + ")";
+            out.line("        register(" + typeName(binding.type) + ".class, " + typeName + ", "
+                    + registered.size() + ", " + binding.writable + ");");
+            registered.add(binding);
+        }
+
+        out.line("    }");
+        out.line("");
+        out.line("    private static void register(Class<?> type, QName typeName, int index, "
+                + "boolean writable) {");
+        out.line("        Binder binder = new Binder(index);");
+        out.line("        StaxBinding.register(type, typeName, binder, writable ? binder : null);");
+        out.line("    }");
+
+        out.line("");
+        out.line("    /**");
+        out.line("     * The reader and writer of a type, calling those generated for it by its "
+                + "index: loading this");
+        out.line("     * one class takes much less time than bootstrapping a lambda for each "
+                + "type.");
+        out.line("     */");
+        out.line("    private static final class Binder implements StaxBinding.ElementReader<Object>"
+                + ",");
+        out.line("            StaxBinding.ElementWriter<Object> {");
+        out.line("        private final int index;");
+        out.line("");
+        out.line("        Binder(int index) {");
+        out.line("            this.index = index;");
+        out.line("        }");
+        out.line("");
+        out.line("        @Override");
+        out.line("        public Object read(XMLStreamReader reader) throws XMLStreamException {");
+        out.line("            switch (index) {");
+        for (int i = 0; i < registered.size(); i++) {
+            out.line("            case " + i + ":");
+            out.line("                return new" + registered.get(i).id + "(reader);");
+        }
+        out.line("            default:");
+        out.line("                throw new IllegalStateException(\"No reader \" + index);");
+        out.line("            }");
+        out.line("        }");
+        out.line("");
+        out.line("        @Override");
+        out.line("        public void write(XMLStreamWriter writer, Object value) throws "
+                + "XMLStreamException {");
+        out.line("            switch (index) {");
+        for (int i = 0; i < registered.size(); i++) {
+            Binding binding = registered.get(i);
+            if (binding.writable) {
+                out.line("            case " + i + ":");
+                out.line("                write" + binding.id + "(writer, ("
+                        + typeName(binding.type) + ") value);");
+                out.line("                return;");
+            }
+        }
+        out.line("            default:");
+        out.line("                throw new IllegalStateException(\"No writer \" + index);");
+        out.line("            }");
+        out.line("        }");
+        out.line("    }");
+    }
+
+    private void generateNamespaces(Source out) {
+        out.line("");
+        out.line("    /**");
+        out.line("     * Binds the namespaces declared by declareNamespaces() to their prefixes.");
+        out.line("     */");
+        out.line("    static void bindNamespaces(XMLStreamWriter writer) throws XMLStreamException "
+                + "{");
+        for (String[] prefix : PREFIXES) {
+            if (prefix[1].isEmpty()) {
+                out.line("        writer.setDefaultNamespace(" + namespaceConstant(prefix[0])
+                        + ");");
+            } else {
+                out.line("        writer.setPrefix(" + quote(prefix[1]) + ", "
+                        + namespaceConstant(prefix[0]) + ");");
+            }
+        }
+        out.line("    }");
+        out.line("");
+        out.line("    /**");
+        out.line("     * Declares the namespaces of the schema packages on the document element.");
+        out.line("     */");
+        out.line("    static void declareNamespaces(XMLStreamWriter writer) throws "
+                + "XMLStreamException {");
+        for (String[] prefix : PREFIXES) {
+            if (prefix[1].isEmpty()) {
+                out.line("        writer.writeDefaultNamespace(" + namespaceConstant(prefix[0])
+                        + ");");
+            } else {
+                out.line("        writer.writeNamespace(" + quote(prefix[1]) + ", "
+                        + namespaceConstant(prefix[0]) + ");");
+            }
+        }
+        out.line("    }");
+    }
+
+    private void generateReader(Source out, Binding binding) {
+        String type = typeName(binding.type);
+        String superId = null == binding.superBinding ? null : binding.superBinding.id;
+
+        // The attributes, by namespace
+        Map<String, List<Property>> attributes = new LinkedHashMap<String, List<Property>>();
+        // The elements, by namespace then local name
+        Map<String, Map<String, Property>> elements = new LinkedHashMap<String,
+                Map<String, Property>>();
+
+        for (Property property : binding.properties) {
+            if (property.kind == Kind.ATTRIBUTE) {
+                List<Property> list = attributes.get(property.namespace);
+                if (null == list) {
+                    list = new ArrayList<Property>();
+                    attributes.put(property.namespace, list);
+                }
+                list.add(property);
+            } else if (property.kind == Kind.SIMPLE || property.kind == Kind.COMPLEX
+                    || property.kind == Kind.DECLARED) {
+                addElement(elements, new QName(property.namespace, property.localName), property);
+            } else if (property.kind == Kind.REFERENCE) {
+                for (QName name : property.references) {
+                    addElement(elements, name, property);
+                }
+            }
+        }
+
+        out.line("");
+        out.line("    private static boolean read" + binding.id + "Attribute(" + type
+                + " value, String namespace,");
+        out.line("            String localName, String text) {");
+        for (Map.Entry<String, List<Property>> entry : attributes.entrySet()) {
+            out.line("        if (" + (entry.getKey().isEmpty() ? "namespace.isEmpty()"
+                    : namespaceConstant(entry.getKey()) + ".equals(namespace)") + ") {");
+            out.line("            switch (localName) {");
+            for (Property property : entry.getValue()) {
+                out.line("            case " + quote(property.localName) + ":");
+                out.line("                value." + property.setter + "("
+                        + parse(property, "text") + ");");
+                out.line("                return true;");
+            }
+            out.line("            }");
+            out.line("        }");
+        }
+        out.line("");
+        out.line("        return " + (null == superId ? "false" : "read" + superId
+                + "Attribute(value, namespace, localName, text)") + ";");
+        out.line("    }");
+
+        out.line("");
+        out.line("    private static boolean read" + binding.id + "Child(XMLStreamReader reader, "
+                + type + " value)");
+        out.line("            throws XMLStreamException {");
+        if (!elements.isEmpty()) {
+            out.line("        String namespace = StaxBinding.namespace(reader.getNamespaceURI());");
+            out.line("");
+        }
+        for (Map.Entry<String, Map<String, Property>> entry : elements.entrySet()) {
+            out.line("        if (" + (entry.getKey().isEmpty() ? "namespace.isEmpty()"
+                    : namespaceConstant(entry.getKey()) + ".equals(namespace)") + ") {");
+            out.line("            switch (reader.getLocalName()) {");
+            for (Map.Entry<String, Property> element : entry.getValue().entrySet()) {
+                Property property = element.getValue();
+                out.line("            case " + quote(element.getKey()) + ":");
+                String read;
+                if (property.kind == Kind.SIMPLE) {
+                    read = parse(property, "StaxBinding.readText(reader)");
+                } else if (property.kind == Kind.COMPLEX) {
+                    read = read(property.type);
+                } else if (property.kind == Kind.DECLARED) {
+                    read = "StaxBinding.readAnyType(reader)";
+                } else {
+                    read = readReference(new QName(entry.getKey(), element.getKey()));
+                }
+                if (property.nillable) {
+                    read = "StaxBinding.readNil(reader) ? null : " + read;
+                }
+                if (property.list) {
+                    out.line("                value." + property.getter + "().add(" + read
+                            + ");");
+                } else {
+                    out.line("                value." + property.setter + "(" + read + ");");
+                }
+                out.line("                return true;");
+            }
+            out.line("            }");
+            out.line("        }");
+        }
+        if (!elements.isEmpty()) {
+            out.line("");
+        }
+        out.line("        return " + (null == superId ? "false" : "read" + superId
+                + "Child(reader, value)") + ";");
+        out.line("    }");
+
+        out.line("");
+        out.line("    private static " + type + " read" + binding.id + "(XMLStreamReader reader)");
+        out.line("            throws XMLStreamException {");
+        if (binding.isConcrete()) {
+            out.line("        if (StaxBinding.hasXsiType(reader)) {");
+            out.line("            return StaxBinding.readDerived(reader, " + type + ".class);");
+            out.line("        }");
+            out.line("");
+            out.line("        return new" + binding.id + "(reader);");
+        } else {
+            out.line("        return StaxBinding.readDerived(reader, " + type + ".class);");
+        }
+        out.line("    }");
+
+        if (!binding.isConcrete()) {
+            return;
+        }
+
+        Property anyAttribute = binding.find(Kind.ANY_ATTRIBUTE);
+        Property any = binding.find(Kind.ANY);
+        Property value = binding.find(Kind.VALUE);
+
+        out.line("");
+        out.line("    static " + type + " new" + binding.id + "(XMLStreamReader reader)");
+        out.line("            throws XMLStreamException {");
+        out.line("        " + type + " value = new " + type + "();");
+        out.line("");
+        out.line("        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {");
+        out.line("            String namespace = StaxBinding.namespace(reader."
+                + "getAttributeNamespace(i));");
+        String read = "read" + binding.id + "Attribute(value, namespace, reader."
+                + "getAttributeLocalName(i),";
+        if (null != anyAttribute) {
+            out.line("            if (!" + read);
+            out.line("                    reader.getAttributeValue(i))) {");
+            out.line("                StaxBinding.readOtherAttribute(value." + anyAttribute.getter
+                    + "(), reader, i);");
+            out.line("            }");
+        } else {
+            out.line("            " + read);
+            out.line("                    reader.getAttributeValue(i));");
+        }
+        out.line("        }");
+        out.line("");
+
+        if (null != value) {
+            out.line("        value." + value.setter + "("
+                    + parse(value, "StaxBinding.readText(reader)") + ");");
+        } else {
+            out.line("        reader.next();");
+            out.line("        while (StaxBinding.nextChild(reader)) {");
+            out.line("            if (!read" + binding.id + "Child(reader, value)) {");
+            if (null != any) {
+                out.line("                value." + any.getter
+                        + "().add(StaxBinding.readAny(reader));");
+            } else {
+                out.line("                StaxBinding.skip(reader);");
+            }
+            out.line("            }");
+            out.line("        }");
+        }
+
+        out.line("");
+        out.line("        return value;");
+        out.line("    }");
+    }
+
+    /*
+     * Returns the expression reading an element of the passed in type
+     */
+    private String read(Class<?> type) {
+        Binding binding = bindings.get(type);
+
+        if (binding.supported) {
+            return "read" + binding.id + "(reader)";
+        }
+
+        return "StaxBinding.unmarshal(reader, " + typeName(type) + ".class)";
+    }
+
+    /*
+     * Returns the expression reading the JAXBElement of the passed in element of a substitution
+     * group, created with the ObjectFactory of its package as JAXB does
+     */
+    private String readReference(QName name) {
+        ElementDecl decl = elementDecls.get(name);
+
+        if (null == decl || !bindings.containsKey(decl.type)
+                || !bindings.get(decl.type).supported) {
+            return "StaxBinding.unmarshalElement(reader)";
+        }
+
+        usedFactories.add(decl.registry);
+        return factoryConstant(decl.registry) + "." + decl.method + "(" + read(decl.type) + ")";
+    }
+
+    private static void addElement(Map<String, Map<String, Property>> elements, QName name,
+            Property property) {
+        Map<String, Property> names = elements.get(name.getNamespaceURI());
+        if (null == names) {
+            names = new LinkedHashMap<String, Property>();
+            elements.put(name.getNamespaceURI(), names);
+        }
+        names.put(name.getLocalPart(), property);
+    }
+
+    private void generateWriter(Source out, Binding binding) {
+        String type = typeName(binding.type);
+        String superId = null == binding.superBinding ? null : binding.superBinding.id;
+
+        out.line("");
+        out.line("    private static void write" + binding.id
+                + "Attributes(XMLStreamWriter writer, " + type + " value)");
+        out.line("            throws XMLStreamException {");
+        if (null != superId) {
+            out.line("        write" + superId + "Attributes(writer, value);");
+        }
+        for (Property property : binding.properties) {
+            if (property.kind == Kind.ANY_ATTRIBUTE) {
+                out.line("        StaxBinding.writeOtherAttributes(writer, value."
+                        + property.getter + "());");
+            } else if (property.kind == Kind.ATTRIBUTE) {
+                String get = "value." + property.getter + "()";
+                String write = property.namespace.isEmpty() ? "writer.writeAttribute("
+                        + quote(property.localName) + ", " : "StaxBinding.writeAttribute(writer, "
+                        + namespaceConstant(property.namespace) + ", " + quote(property.localName)
+                        + ", ";
+                if (property.type.isPrimitive()) {
+                    out.line("        " + write + print(property, get) + ");");
+                } else {
+                    out.line("        if (null != " + get + ") {");
+                    out.line("            " + write + print(property, get) + ");");
+                    out.line("        }");
+                }
+            }
+        }
+        out.line("    }");
+
+        out.line("");
+        out.line("    private static void write" + binding.id + "Content(XMLStreamWriter writer, "
+                + type + " value)");
+        out.line("            throws XMLStreamException {");
+        if (null != superId) {
+            out.line("        write" + superId + "Content(writer, value);");
+        }
+        for (Property property : binding.properties) {
+            if (property.kind == Kind.ATTRIBUTE || property.kind == Kind.ANY_ATTRIBUTE) {
+                continue;
+            }
+
+            String get = "value." + property.getter + "()";
+            String item = property.list ? "item" : get;
+            String write;
+
+            if (property.kind == Kind.VALUE) {
+                write = "writer.writeCharacters(" + print(property, item) + ");";
+            } else if (property.kind == Kind.SIMPLE) {
+                write = "StaxBinding.writeText(writer, " + qualify(property.namespace) + ", "
+                        + quote(property.localName) + ", " + print(property, item) + ");";
+            } else if (property.kind == Kind.COMPLEX && bindings.get(property.type).writable
+                    && bindings.get(property.type).isConcrete()) {
+                write = "write" + bindings.get(property.type).id + "(writer, "
+                        + qualify(property.namespace) + ", " + quote(property.localName) + ", "
+                        + item + ");";
+            } else if (property.kind == Kind.COMPLEX || property.kind == Kind.DECLARED) {
+                write = "StaxBinding.writeElement(writer, " + qualify(property.namespace) + ", "
+                        + quote(property.localName) + ", " + typeName(property.type)
+                        + ".class, " + item + ");";
+            } else if (property.kind == Kind.REFERENCE) {
+                write = "StaxBinding.writeElement(writer, " + item + ");";
+            } else {
+                write = "StaxBinding.writeAny(writer, " + item + ");";
+            }
+
+            String itemType = property.kind == Kind.REFERENCE ? typeName(JAXBElement.class) + "<?>"
+                    : property.kind == Kind.ANY ? "Object" : typeName(property.type);
+
+            String writeNil = "StaxBinding.writeNil(writer, " + qualify(property.namespace) + ", "
+                    + quote(property.localName) + ");";
+
+            if (property.list) {
+                out.line("        for (" + itemType + " item : " + get + ") {");
+                if (property.nillable) {
+                    out.line("            if (null == item) {");
+                    out.line("                " + writeNil);
+                    out.line("            } else {");
+                    out.line("                " + write);
+                    out.line("            }");
+                } else {
+                    out.line("            " + write);
+                }
+                out.line("        }");
+            } else if (property.type.isPrimitive()) {
+                out.line("        " + write);
+            } else {
+                out.line("        if (null != " + get + ") {");
+                out.line("            " + write);
+                if (property.nillable) {
+                    out.line("        } else {");
+                    out.line("            " + writeNil);
+                }
+                out.line("        }");
+            }
+        }
+        out.line("    }");
+
+        if (!binding.isConcrete()) {
+            return;
+        }
+
+        out.line("");
+        out.line("    static void write" + binding.id + "(XMLStreamWriter writer, " + type
+                + " value)");
+        out.line("            throws XMLStreamException {");
+        out.line("        write" + binding.id + "Attributes(writer, value);");
+        out.line("        write" + binding.id + "Content(writer, value);");
+        out.line("    }");
+
+        out.line("");
+        out.line("    private static void write" + binding.id + "(XMLStreamWriter writer, "
+                + "String namespace,");
+        out.line("            String localName, " + type + " value) throws XMLStreamException {");
+        out.line("        if (value.getClass() != " + type + ".class) {");
+        out.line("            StaxBinding.writeElement(writer, namespace, localName, " + type
+                + ".class, value);");
+        out.line("            return;");
+        out.line("        }");
+        out.line("");
+        out.line("        writer.writeStartElement(namespace, localName);");
+        out.line("        write" + binding.id + "(writer, value);");
+        out.line("        writer.writeEndElement();");
+        out.line("    }");
+    }
+
+    /**
+     * The source being generated
+     */
+    static final class Source {
+        private final StringBuilder source = new StringBuilder();
+
+        void line(String line) {
+            source.append(line).append('\n');
+        }
+
+        void append(Source other) {
+            source.append(other.source);
+        }
+
+        @Override
+        public String toString() {
+            return source.toString();
+        }
+    }
+}
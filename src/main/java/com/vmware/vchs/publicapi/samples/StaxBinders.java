@@ -0,0 +1,14794 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.math.BigInteger;
+
+import javax.xml.bind.DatatypeConverter;
+import javax.xml.bind.JAXBElement;
+import javax.xml.datatype.Duration;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.vmware.vcloud.api.rest.schema.AbstractVAppType;
+import com.vmware.vcloud.api.rest.schema.AvailableNetworksType;
+import com.vmware.vcloud.api.rest.schema.CapabilitiesType;
+import com.vmware.vcloud.api.rest.schema.CapacityType;
+import com.vmware.vcloud.api.rest.schema.CapacityWithUsageType;
+import com.vmware.vcloud.api.rest.schema.ComputeCapacityType;
+import com.vmware.vcloud.api.rest.schema.CustomizationSectionType;
+import com.vmware.vcloud.api.rest.schema.DefaultStorageProfileSectionType;
+import com.vmware.vcloud.api.rest.schema.DeployVAppParamsType;
+import com.vmware.vcloud.api.rest.schema.DhcpPoolServiceType;
+import com.vmware.vcloud.api.rest.schema.DhcpServiceType;
+import com.vmware.vcloud.api.rest.schema.EntityType;
+import com.vmware.vcloud.api.rest.schema.ErrorType;
+import com.vmware.vcloud.api.rest.schema.FileType;
+import com.vmware.vcloud.api.rest.schema.FilesListType;
+import com.vmware.vcloud.api.rest.schema.FirewallRuleProtocols;
+import com.vmware.vcloud.api.rest.schema.FirewallRuleType;
+import com.vmware.vcloud.api.rest.schema.FirewallServiceType;
+import com.vmware.vcloud.api.rest.schema.GatewayConfigurationType;
+import com.vmware.vcloud.api.rest.schema.GatewayDhcpServiceType;
+import com.vmware.vcloud.api.rest.schema.GatewayFeaturesType;
+import com.vmware.vcloud.api.rest.schema.GatewayInterfaceType;
+import com.vmware.vcloud.api.rest.schema.GatewayInterfacesType;
+import com.vmware.vcloud.api.rest.schema.GatewayIpsecVpnEndpointType;
+import com.vmware.vcloud.api.rest.schema.GatewayIpsecVpnServiceType;
+import com.vmware.vcloud.api.rest.schema.GatewayIpsecVpnTunnelType;
+import com.vmware.vcloud.api.rest.schema.GatewayNatRuleType;
+import com.vmware.vcloud.api.rest.schema.GatewayType;
+import com.vmware.vcloud.api.rest.schema.GuestCustomizationSectionType;
+import com.vmware.vcloud.api.rest.schema.IdentifiableResourceType;
+import com.vmware.vcloud.api.rest.schema.InstantiateVAppParamsType;
+import com.vmware.vcloud.api.rest.schema.InstantiateVAppTemplateParamsType;
+import com.vmware.vcloud.api.rest.schema.InstantiationParamsType;
+import com.vmware.vcloud.api.rest.schema.IpAddressesType;
+import com.vmware.vcloud.api.rest.schema.IpRangeType;
+import com.vmware.vcloud.api.rest.schema.IpRangesType;
+import com.vmware.vcloud.api.rest.schema.IpScopeType;
+import com.vmware.vcloud.api.rest.schema.IpScopesType;
+import com.vmware.vcloud.api.rest.schema.IpsecVpnLocalPeerType;
+import com.vmware.vcloud.api.rest.schema.IpsecVpnManagedPeerType;
+import com.vmware.vcloud.api.rest.schema.IpsecVpnPeerType;
+import com.vmware.vcloud.api.rest.schema.IpsecVpnRemotePeerType;
+import com.vmware.vcloud.api.rest.schema.IpsecVpnServiceType;
+import com.vmware.vcloud.api.rest.schema.IpsecVpnSubnetType;
+import com.vmware.vcloud.api.rest.schema.IpsecVpnThirdPartyPeerType;
+import com.vmware.vcloud.api.rest.schema.IpsecVpnTunnelType;
+import com.vmware.vcloud.api.rest.schema.IpsecVpnUnmanagedPeerType;
+import com.vmware.vcloud.api.rest.schema.LBPersistenceType;
+import com.vmware.vcloud.api.rest.schema.LBPoolHealthCheckType;
+import com.vmware.vcloud.api.rest.schema.LBPoolMemberType;
+import com.vmware.vcloud.api.rest.schema.LBPoolServicePortType;
+import com.vmware.vcloud.api.rest.schema.LBVirtualServerServiceProfileType;
+import com.vmware.vcloud.api.rest.schema.LeaseSettingsSectionType;
+import com.vmware.vcloud.api.rest.schema.LinkType;
+import com.vmware.vcloud.api.rest.schema.LoadBalancerPoolType;
+import com.vmware.vcloud.api.rest.schema.LoadBalancerServiceType;
+import com.vmware.vcloud.api.rest.schema.LoadBalancerVirtualServerType;
+import com.vmware.vcloud.api.rest.schema.LocalityParamsType;
+import com.vmware.vcloud.api.rest.schema.NatOneToOneBasicRuleType;
+import com.vmware.vcloud.api.rest.schema.NatOneToOneVmRuleType;
+import com.vmware.vcloud.api.rest.schema.NatPortForwardingRuleType;
+import com.vmware.vcloud.api.rest.schema.NatRuleType;
+import com.vmware.vcloud.api.rest.schema.NatServiceType;
+import com.vmware.vcloud.api.rest.schema.NatVmRuleType;
+import com.vmware.vcloud.api.rest.schema.NetworkConfigSectionType;
+import com.vmware.vcloud.api.rest.schema.NetworkConfigurationType;
+import com.vmware.vcloud.api.rest.schema.NetworkConnectionSectionType;
+import com.vmware.vcloud.api.rest.schema.NetworkConnectionType;
+import com.vmware.vcloud.api.rest.schema.NetworkFeaturesType;
+import com.vmware.vcloud.api.rest.schema.NetworkServiceType;
+import com.vmware.vcloud.api.rest.schema.OwnerType;
+import com.vmware.vcloud.api.rest.schema.ParamsType;
+import com.vmware.vcloud.api.rest.schema.Protocols;
+import com.vmware.vcloud.api.rest.schema.ReferenceType;
+import com.vmware.vcloud.api.rest.schema.ResourceEntitiesType;
+import com.vmware.vcloud.api.rest.schema.ResourceEntityType;
+import com.vmware.vcloud.api.rest.schema.ResourceReferenceType;
+import com.vmware.vcloud.api.rest.schema.ResourceType;
+import com.vmware.vcloud.api.rest.schema.RouterInfoType;
+import com.vmware.vcloud.api.rest.schema.RuntimeInfoSectionType;
+import com.vmware.vcloud.api.rest.schema.SnapshotSectionType;
+import com.vmware.vcloud.api.rest.schema.SnapshotType;
+import com.vmware.vcloud.api.rest.schema.SourcedVmInstantiationParamsType;
+import com.vmware.vcloud.api.rest.schema.StaticRouteType;
+import com.vmware.vcloud.api.rest.schema.StaticRoutingServiceType;
+import com.vmware.vcloud.api.rest.schema.SubAllocationType;
+import com.vmware.vcloud.api.rest.schema.SubAllocationsType;
+import com.vmware.vcloud.api.rest.schema.SubnetParticipationType;
+import com.vmware.vcloud.api.rest.schema.SupportedHardwareVersionsType;
+import com.vmware.vcloud.api.rest.schema.SyslogServerSettingsType;
+import com.vmware.vcloud.api.rest.schema.TaskType;
+import com.vmware.vcloud.api.rest.schema.TasksInProgressType;
+import com.vmware.vcloud.api.rest.schema.VAppChildrenType;
+import com.vmware.vcloud.api.rest.schema.VAppCreationParamsType;
+import com.vmware.vcloud.api.rest.schema.VAppNetworkConfigurationType;
+import com.vmware.vcloud.api.rest.schema.VAppType;
+import com.vmware.vcloud.api.rest.schema.VCloudExtensibleType;
+import com.vmware.vcloud.api.rest.schema.VCloudExtensionType;
+import com.vmware.vcloud.api.rest.schema.VMWareTools;
+import com.vmware.vcloud.api.rest.schema.VdcStorageProfilesType;
+import com.vmware.vcloud.api.rest.schema.VdcType;
+import com.vmware.vcloud.api.rest.schema.VendorTemplateAttributesType;
+import com.vmware.vcloud.api.rest.schema.VendorTemplateType;
+import com.vmware.vcloud.api.rest.schema.VmCapabilitiesType;
+import com.vmware.vcloud.api.rest.schema.VmSelectionType;
+import com.vmware.vcloud.api.rest.schema.VmType;
+import com.vmware.vcloud.api.rest.schema.ovf.AnnotationSectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.AutomaticRecoveryAction;
+import com.vmware.vcloud.api.rest.schema.ovf.AutomaticShutdownAction;
+import com.vmware.vcloud.api.rest.schema.ovf.AutomaticStartupAction;
+import com.vmware.vcloud.api.rest.schema.ovf.CIMResourceAllocationSettingDataType;
+import com.vmware.vcloud.api.rest.schema.ovf.CIMVirtualSystemSettingDataType;
+import com.vmware.vcloud.api.rest.schema.ovf.CimAnySimpleType;
+import com.vmware.vcloud.api.rest.schema.ovf.CimBoolean;
+import com.vmware.vcloud.api.rest.schema.ovf.CimDateTime;
+import com.vmware.vcloud.api.rest.schema.ovf.CimString;
+import com.vmware.vcloud.api.rest.schema.ovf.CimUnsignedInt;
+import com.vmware.vcloud.api.rest.schema.ovf.CimUnsignedLong;
+import com.vmware.vcloud.api.rest.schema.ovf.CimUnsignedShort;
+import com.vmware.vcloud.api.rest.schema.ovf.Configuration;
+import com.vmware.vcloud.api.rest.schema.ovf.ConsumerVisibility;
+import com.vmware.vcloud.api.rest.schema.ovf.DeploymentOptionSectionConfiguration;
+import com.vmware.vcloud.api.rest.schema.ovf.DeploymentOptionSectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.DiskSectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.EulaSectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.Icon;
+import com.vmware.vcloud.api.rest.schema.ovf.InstallSectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.Item;
+import com.vmware.vcloud.api.rest.schema.ovf.MappingBehavior;
+import com.vmware.vcloud.api.rest.schema.ovf.MsgType;
+import com.vmware.vcloud.api.rest.schema.ovf.Network;
+import com.vmware.vcloud.api.rest.schema.ovf.NetworkSectionNetwork;
+import com.vmware.vcloud.api.rest.schema.ovf.NetworkSectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.OperatingSystemSectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.ProductSectionIcon;
+import com.vmware.vcloud.api.rest.schema.ovf.RASDType;
+import com.vmware.vcloud.api.rest.schema.ovf.ResourceAllocationCaptionType;
+import com.vmware.vcloud.api.rest.schema.ovf.ResourceAllocationChangeableTypeType;
+import com.vmware.vcloud.api.rest.schema.ovf.ResourceAllocationSectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.SectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.StartupSectionItem;
+import com.vmware.vcloud.api.rest.schema.ovf.StartupSectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.VSSDType;
+import com.vmware.vcloud.api.rest.schema.ovf.VirtualDiskDescType;
+import com.vmware.vcloud.api.rest.schema.ovf.VirtualHardwareSectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.VirtualSystemCaptionType;
+import com.vmware.vcloud.api.rest.schema.ovf.VirtualSystemChangeableTypeType;
+import com.vmware.vcloud.api.rest.schema.ovf.environment.EnvironmentType;
+import com.vmware.vcloud.api.rest.schema.ovf.environment.PlatformSectionType;
+import com.vmware.vcloud.api.rest.schema.ovf.environment.Property;
+import com.vmware.vcloud.api.rest.schema.ovf.environment.PropertySectionType;
+
+/**
+ * The StAX readers and writers of the schema types the samples read and write the most, see
+ * StaxBinding.
+ * 
+ * Generated by StaxBinderGenerator from lib/rest-api-schemas-5.1.0.jar, do not edit.
+ */
+final class StaxBinders {
+    private static final String NS_OVF = "http://schemas.dmtf.org/ovf/envelope/1";
+    private static final String NS_OVFENV = "http://schemas.dmtf.org/ovf/environment/1";
+    private static final String NS_RASD = "http://schemas.dmtf.org/wbem/wscim/1/cim-schema/2/CIM_ResourceAllocationSettingData";
+    private static final String NS_VSSD = "http://schemas.dmtf.org/wbem/wscim/1/cim-schema/2/CIM_VirtualSystemSettingData";
+    private static final String NS_CIM = "http://schemas.dmtf.org/wbem/wscim/1/common";
+    private static final String NS_VCLOUD = "http://www.vmware.com/vcloud/v1.5";
+
+    private static final com.vmware.vcloud.api.rest.schema.ObjectFactory VCLOUD_FACTORY = new com.vmware.vcloud.api.rest.schema.ObjectFactory();
+    private static final com.vmware.vcloud.api.rest.schema.ovf.ObjectFactory OVF_FACTORY = new com.vmware.vcloud.api.rest.schema.ovf.ObjectFactory();
+    private static final com.vmware.vcloud.api.rest.schema.ovf.environment.ObjectFactory OVFENV_FACTORY = new com.vmware.vcloud.api.rest.schema.ovf.environment.ObjectFactory();
+
+    /*
+     * Prevent this class from being instantiated
+     */
+    private StaxBinders() {
+    }
+
+    /**
+     * Registers the readers and writers with StaxBinding.
+     */
+    static void register() {
+        register(TaskType.class, new QName(NS_VCLOUD, "TaskType"), 0, true);
+        register(EntityType.class, new QName(NS_VCLOUD, "EntityType"), 1, true);
+        register(IdentifiableResourceType.class, new QName(NS_VCLOUD, "IdentifiableResourceType"), 2, true);
+        register(ResourceType.class, new QName(NS_VCLOUD, "ResourceType"), 3, true);
+        register(VCloudExtensionType.class, new QName(NS_VCLOUD, "VCloudExtensionType"), 4, false);
+        register(LinkType.class, new QName(NS_VCLOUD, "LinkType"), 5, true);
+        register(ReferenceType.class, new QName(NS_VCLOUD, "ReferenceType"), 6, true);
+        register(TasksInProgressType.class, new QName(NS_VCLOUD, "TasksInProgressType"), 7, true);
+        register(ErrorType.class, new QName(NS_VCLOUD, "ErrorType"), 8, true);
+        register(VAppType.class, new QName(NS_VCLOUD, "VAppType"), 9, true);
+        register(ResourceEntityType.class, new QName(NS_VCLOUD, "ResourceEntityType"), 10, true);
+        register(FilesListType.class, new QName(NS_VCLOUD, "FilesListType"), 11, true);
+        register(FileType.class, new QName(NS_VCLOUD, "FileType"), 12, true);
+        register(OwnerType.class, new QName(NS_VCLOUD, "OwnerType"), 13, true);
+        register(VAppChildrenType.class, new QName(NS_VCLOUD, "VAppChildrenType"), 14, true);
+        register(VmType.class, new QName(NS_VCLOUD, "VmType"), 15, true);
+        register(EnvironmentType.class, new QName(NS_OVFENV, "Environment_Type"), 16, true);
+        register(com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType.class, new QName(NS_OVFENV, "Entity_Type"), 17, true);
+        register(VmCapabilitiesType.class, new QName(NS_VCLOUD, "VmCapabilitiesType"), 18, true);
+        register(VdcType.class, new QName(NS_VCLOUD, "VdcType"), 19, true);
+        register(CapacityWithUsageType.class, new QName(NS_VCLOUD, "CapacityWithUsageType"), 20, true);
+        register(CapacityType.class, new QName(NS_VCLOUD, "CapacityType"), 21, true);
+        register(ComputeCapacityType.class, new QName(NS_VCLOUD, "ComputeCapacityType"), 22, true);
+        register(ResourceEntitiesType.class, new QName(NS_VCLOUD, "ResourceEntitiesType"), 23, true);
+        register(ResourceReferenceType.class, new QName(NS_VCLOUD, "ResourceReferenceType"), 24, true);
+        register(AvailableNetworksType.class, new QName(NS_VCLOUD, "AvailableNetworksType"), 25, true);
+        register(CapabilitiesType.class, new QName(NS_VCLOUD, "CapabilitiesType"), 26, true);
+        register(SupportedHardwareVersionsType.class, new QName(NS_VCLOUD, "SupportedHardwareVersionsType"), 27, true);
+        register(VdcStorageProfilesType.class, new QName(NS_VCLOUD, "VdcStorageProfilesType"), 28, true);
+        register(NetworkConnectionSectionType.class, new QName(NS_VCLOUD, "NetworkConnectionSectionType"), 29, false);
+        register(MsgType.class, new QName(NS_OVF, "Msg_Type"), 30, true);
+        register(NetworkConnectionType.class, new QName(NS_VCLOUD, "NetworkConnectionType"), 31, true);
+        register(GatewayType.class, new QName(NS_VCLOUD, "GatewayType"), 32, true);
+        register(GatewayConfigurationType.class, new QName(NS_VCLOUD, "GatewayConfigurationType"), 33, true);
+        register(GatewayInterfacesType.class, new QName(NS_VCLOUD, "GatewayInterfacesType"), 34, true);
+        register(GatewayInterfaceType.class, new QName(NS_VCLOUD, "GatewayInterfaceType"), 35, true);
+        register(SubnetParticipationType.class, new QName(NS_VCLOUD, "SubnetParticipationType"), 36, true);
+        register(IpRangesType.class, new QName(NS_VCLOUD, "IpRangesType"), 37, true);
+        register(IpRangeType.class, new QName(NS_VCLOUD, "IpRangeType"), 38, true);
+        register(GatewayFeaturesType.class, new QName(NS_VCLOUD, "GatewayFeaturesType"), 39, true);
+        register(InstantiateVAppTemplateParamsType.class, new QName(NS_VCLOUD, "InstantiateVAppTemplateParamsType"), 40, true);
+        register(InstantiateVAppParamsType.class, new QName(NS_VCLOUD, "InstantiateVAppParamsType"), 41, true);
+        register(VAppCreationParamsType.class, new QName(NS_VCLOUD, "VAppCreationParamsType"), 42, true);
+        register(ParamsType.class, new QName(NS_VCLOUD, "ParamsType"), 43, true);
+        register(InstantiationParamsType.class, new QName(NS_VCLOUD, "InstantiationParamsType"), 44, true);
+        register(SourcedVmInstantiationParamsType.class, new QName(NS_VCLOUD, "SourcedVmInstantiationParamsType"), 45, true);
+        register(LocalityParamsType.class, new QName(NS_VCLOUD, "LocalityParamsType"), 46, true);
+        register(DeployVAppParamsType.class, new QName(NS_VCLOUD, "DeployVAppParamsType"), 47, true);
+        register(DefaultStorageProfileSectionType.class, new QName(NS_VCLOUD, "DefaultStorageProfileSection_Type"), 48, false);
+        register(CustomizationSectionType.class, new QName(NS_VCLOUD, "CustomizationSectionType"), 49, false);
+        register(RuntimeInfoSectionType.class, new QName(NS_VCLOUD, "RuntimeInfoSectionType"), 50, false);
+        register(VMWareTools.class, null, 51, true);
+        register(LeaseSettingsSectionType.class, new QName(NS_VCLOUD, "LeaseSettingsSectionType"), 52, false);
+        register(NetworkConfigSectionType.class, new QName(NS_VCLOUD, "NetworkConfigSectionType"), 53, false);
+        register(VAppNetworkConfigurationType.class, new QName(NS_VCLOUD, "VAppNetworkConfigurationType"), 54, true);
+        register(NetworkConfigurationType.class, new QName(NS_VCLOUD, "NetworkConfigurationType"), 55, true);
+        register(IpScopeType.class, new QName(NS_VCLOUD, "IpScopeType"), 56, true);
+        register(IpAddressesType.class, new QName(NS_VCLOUD, "IpAddressesType"), 57, true);
+        register(SubAllocationsType.class, new QName(NS_VCLOUD, "SubAllocationsType"), 58, true);
+        register(SubAllocationType.class, new QName(NS_VCLOUD, "SubAllocationType"), 59, true);
+        register(IpScopesType.class, new QName(NS_VCLOUD, "IpScopesType"), 60, true);
+        register(NetworkFeaturesType.class, new QName(NS_VCLOUD, "NetworkFeaturesType"), 61, true);
+        register(SyslogServerSettingsType.class, new QName(NS_VCLOUD, "SyslogServerSettingsType"), 62, true);
+        register(RouterInfoType.class, new QName(NS_VCLOUD, "RouterInfoType"), 63, true);
+        register(SnapshotSectionType.class, new QName(NS_VCLOUD, "SnapshotSectionType"), 64, false);
+        register(SnapshotType.class, new QName(NS_VCLOUD, "SnapshotType"), 65, true);
+        register(GuestCustomizationSectionType.class, new QName(NS_VCLOUD, "GuestCustomizationSectionType"), 66, false);
+        register(DiskSectionType.class, new QName(NS_OVF, "DiskSection_Type"), 67, false);
+        register(VirtualDiskDescType.class, new QName(NS_OVF, "VirtualDiskDesc_Type"), 68, true);
+        register(CimString.class, new QName(NS_CIM, "cimString"), 69, true);
+        register(ProductSectionIcon.class, null, 70, true);
+        register(Icon.class, null, 71, true);
+        register(AnnotationSectionType.class, new QName(NS_OVF, "AnnotationSection_Type"), 72, false);
+        register(EulaSectionType.class, new QName(NS_OVF, "EulaSection_Type"), 73, false);
+        register(InstallSectionType.class, new QName(NS_OVF, "InstallSection_Type"), 74, false);
+        register(VirtualHardwareSectionType.class, new QName(NS_OVF, "VirtualHardwareSection_Type"), 75, false);
+        register(VSSDType.class, new QName(NS_OVF, "VSSD_Type"), 76, true);
+        register(CIMVirtualSystemSettingDataType.class, new QName(NS_VSSD, "CIM_VirtualSystemSettingData_Type"), 77, true);
+        register(AutomaticRecoveryAction.class, null, 78, true);
+        register(CimAnySimpleType.class, new QName(NS_CIM, "cimAnySimpleType"), 79, true);
+        register(AutomaticShutdownAction.class, null, 80, true);
+        register(AutomaticStartupAction.class, null, 81, true);
+        register(CimDateTime.class, new QName(NS_CIM, "cimDateTime"), 82, true);
+        register(CimUnsignedShort.class, new QName(NS_CIM, "cimUnsignedShort"), 83, true);
+        register(VirtualSystemCaptionType.class, null, 84, true);
+        register(VirtualSystemChangeableTypeType.class, null, 85, true);
+        register(CimUnsignedLong.class, new QName(NS_CIM, "cimUnsignedLong"), 86, true);
+        register(RASDType.class, new QName(NS_OVF, "RASD_Type"), 87, false);
+        register(CIMResourceAllocationSettingDataType.class, new QName(NS_RASD, "CIM_ResourceAllocationSettingData_Type"), 88, true);
+        register(CimBoolean.class, new QName(NS_CIM, "cimBoolean"), 89, true);
+        register(ResourceAllocationCaptionType.class, null, 90, true);
+        register(ResourceAllocationChangeableTypeType.class, null, 91, true);
+        register(ConsumerVisibility.class, null, 92, true);
+        register(MappingBehavior.class, null, 93, true);
+        register(com.vmware.vcloud.api.rest.schema.ovf.ResourceType.class, null, 94, true);
+        register(CimUnsignedInt.class, new QName(NS_CIM, "cimUnsignedInt"), 95, true);
+        register(NetworkSectionType.class, new QName(NS_OVF, "NetworkSection_Type"), 96, false);
+        register(NetworkSectionNetwork.class, null, 97, true);
+        register(Network.class, null, 98, true);
+        register(StartupSectionType.class, new QName(NS_OVF, "StartupSection_Type"), 99, false);
+        register(StartupSectionItem.class, null, 100, false);
+        register(Item.class, null, 101, false);
+        register(ResourceAllocationSectionType.class, new QName(NS_OVF, "ResourceAllocationSection_Type"), 102, false);
+        register(DeploymentOptionSectionType.class, new QName(NS_OVF, "DeploymentOptionSection_Type"), 103, false);
+        register(DeploymentOptionSectionConfiguration.class, null, 104, false);
+        register(Configuration.class, null, 105, false);
+        register(OperatingSystemSectionType.class, new QName(NS_OVF, "OperatingSystemSection_Type"), 106, false);
+        register(PlatformSectionType.class, new QName(NS_OVFENV, "PlatformSection_Type"), 107, true);
+        register(PropertySectionType.class, new QName(NS_OVFENV, "PropertySection_Type"), 108, true);
+        register(Property.class, null, 109, true);
+        register(GatewayIpsecVpnServiceType.class, new QName(NS_VCLOUD, "GatewayIpsecVpnServiceType"), 110, true);
+        register(GatewayIpsecVpnEndpointType.class, new QName(NS_VCLOUD, "GatewayIpsecVpnEndpointType"), 111, true);
+        register(GatewayIpsecVpnTunnelType.class, new QName(NS_VCLOUD, "GatewayIpsecVpnTunnelType"), 112, true);
+        register(IpsecVpnSubnetType.class, new QName(NS_VCLOUD, "IpsecVpnSubnetType"), 113, true);
+        register(DhcpServiceType.class, new QName(NS_VCLOUD, "DhcpServiceType"), 114, true);
+        register(NatServiceType.class, new QName(NS_VCLOUD, "NatServiceType"), 115, true);
+        register(NatRuleType.class, new QName(NS_VCLOUD, "NatRuleType"), 116, true);
+        register(GatewayNatRuleType.class, new QName(NS_VCLOUD, "GatewayNatRuleType"), 117, true);
+        register(NatOneToOneBasicRuleType.class, new QName(NS_VCLOUD, "NatOneToOneBasicRuleType"), 118, true);
+        register(NatOneToOneVmRuleType.class, new QName(NS_VCLOUD, "NatOneToOneVmRuleType"), 119, true);
+        register(NatPortForwardingRuleType.class, new QName(NS_VCLOUD, "NatPortForwardingRuleType"), 120, true);
+        register(NatVmRuleType.class, new QName(NS_VCLOUD, "NatVmRuleType"), 121, true);
+        register(StaticRoutingServiceType.class, new QName(NS_VCLOUD, "StaticRoutingServiceType"), 122, true);
+        register(StaticRouteType.class, new QName(NS_VCLOUD, "StaticRouteType"), 123, true);
+        register(GatewayDhcpServiceType.class, new QName(NS_VCLOUD, "GatewayDhcpServiceType"), 124, true);
+        register(DhcpPoolServiceType.class, new QName(NS_VCLOUD, "DhcpPoolServiceType"), 125, true);
+        register(FirewallServiceType.class, new QName(NS_VCLOUD, "FirewallServiceType"), 126, true);
+        register(FirewallRuleType.class, new QName(NS_VCLOUD, "FirewallRuleType"), 127, true);
+        register(FirewallRuleProtocols.class, null, 128, true);
+        register(Protocols.class, null, 129, true);
+        register(VmSelectionType.class, new QName(NS_VCLOUD, "VmSelectionType"), 130, true);
+        register(IpsecVpnServiceType.class, new QName(NS_VCLOUD, "IpsecVpnServiceType"), 131, true);
+        register(IpsecVpnTunnelType.class, new QName(NS_VCLOUD, "IpsecVpnTunnelType"), 132, true);
+        register(LoadBalancerServiceType.class, new QName(NS_VCLOUD, "LoadBalancerServiceType"), 133, true);
+        register(LoadBalancerPoolType.class, new QName(NS_VCLOUD, "LoadBalancerPoolType"), 134, true);
+        register(LBPoolServicePortType.class, new QName(NS_VCLOUD, "LBPoolServicePortType"), 135, true);
+        register(LBPoolHealthCheckType.class, new QName(NS_VCLOUD, "LBPoolHealthCheckType"), 136, true);
+        register(LBPoolMemberType.class, new QName(NS_VCLOUD, "LBPoolMemberType"), 137, true);
+        register(LoadBalancerVirtualServerType.class, new QName(NS_VCLOUD, "LoadBalancerVirtualServerType"), 138, true);
+        register(LBVirtualServerServiceProfileType.class, new QName(NS_VCLOUD, "LBVirtualServerServiceProfileType"), 139, true);
+        register(LBPersistenceType.class, new QName(NS_VCLOUD, "LBPersistenceType"), 140, true);
+        register(VendorTemplateType.class, new QName(NS_VCLOUD, "VendorTemplateType"), 141, true);
+        register(VendorTemplateAttributesType.class, new QName(NS_VCLOUD, "VendorTemplateAttributesType"), 142, true);
+        register(IpsecVpnRemotePeerType.class, new QName(NS_VCLOUD, "IpsecVpnRemotePeerType"), 143, true);
+        register(IpsecVpnThirdPartyPeerType.class, new QName(NS_VCLOUD, "IpsecVpnThirdPartyPeerType"), 144, true);
+        register(IpsecVpnLocalPeerType.class, new QName(NS_VCLOUD, "IpsecVpnLocalPeerType"), 145, true);
+    }
+
+    private static void register(Class<?> type, QName typeName, int index, boolean writable) {
+        Binder binder = new Binder(index);
+        StaxBinding.register(type, typeName, binder, writable ? binder : null);
+    }
+
+    /**
+     * The reader and writer of a type, calling those generated for it by its index: loading this
+     * one class takes much less time than bootstrapping a lambda for each type.
+     */
+    private static final class Binder implements StaxBinding.ElementReader<Object>,
+            StaxBinding.ElementWriter<Object> {
+        private final int index;
+
+        Binder(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Object read(XMLStreamReader reader) throws XMLStreamException {
+            switch (index) {
+            case 0:
+                return newTaskType(reader);
+            case 1:
+                return newEntityType_schema(reader);
+            case 2:
+                return newIdentifiableResourceType(reader);
+            case 3:
+                return newResourceType_schema(reader);
+            case 4:
+                return newVCloudExtensionType(reader);
+            case 5:
+                return newLinkType(reader);
+            case 6:
+                return newReferenceType(reader);
+            case 7:
+                return newTasksInProgressType(reader);
+            case 8:
+                return newErrorType(reader);
+            case 9:
+                return newVAppType(reader);
+            case 10:
+                return newResourceEntityType(reader);
+            case 11:
+                return newFilesListType(reader);
+            case 12:
+                return newFileType(reader);
+            case 13:
+                return newOwnerType(reader);
+            case 14:
+                return newVAppChildrenType(reader);
+            case 15:
+                return newVmType(reader);
+            case 16:
+                return newEnvironmentType(reader);
+            case 17:
+                return newEntityType_environment(reader);
+            case 18:
+                return newVmCapabilitiesType(reader);
+            case 19:
+                return newVdcType(reader);
+            case 20:
+                return newCapacityWithUsageType(reader);
+            case 21:
+                return newCapacityType(reader);
+            case 22:
+                return newComputeCapacityType(reader);
+            case 23:
+                return newResourceEntitiesType(reader);
+            case 24:
+                return newResourceReferenceType(reader);
+            case 25:
+                return newAvailableNetworksType(reader);
+            case 26:
+                return newCapabilitiesType(reader);
+            case 27:
+                return newSupportedHardwareVersionsType(reader);
+            case 28:
+                return newVdcStorageProfilesType(reader);
+            case 29:
+                return newNetworkConnectionSectionType(reader);
+            case 30:
+                return newMsgType(reader);
+            case 31:
+                return newNetworkConnectionType(reader);
+            case 32:
+                return newGatewayType(reader);
+            case 33:
+                return newGatewayConfigurationType(reader);
+            case 34:
+                return newGatewayInterfacesType(reader);
+            case 35:
+                return newGatewayInterfaceType(reader);
+            case 36:
+                return newSubnetParticipationType(reader);
+            case 37:
+                return newIpRangesType(reader);
+            case 38:
+                return newIpRangeType(reader);
+            case 39:
+                return newGatewayFeaturesType(reader);
+            case 40:
+                return newInstantiateVAppTemplateParamsType(reader);
+            case 41:
+                return newInstantiateVAppParamsType(reader);
+            case 42:
+                return newVAppCreationParamsType(reader);
+            case 43:
+                return newParamsType(reader);
+            case 44:
+                return newInstantiationParamsType(reader);
+            case 45:
+                return newSourcedVmInstantiationParamsType(reader);
+            case 46:
+                return newLocalityParamsType(reader);
+            case 47:
+                return newDeployVAppParamsType(reader);
+            case 48:
+                return newDefaultStorageProfileSectionType(reader);
+            case 49:
+                return newCustomizationSectionType(reader);
+            case 50:
+                return newRuntimeInfoSectionType(reader);
+            case 51:
+                return newVMWareTools(reader);
+            case 52:
+                return newLeaseSettingsSectionType(reader);
+            case 53:
+                return newNetworkConfigSectionType(reader);
+            case 54:
+                return newVAppNetworkConfigurationType(reader);
+            case 55:
+                return newNetworkConfigurationType(reader);
+            case 56:
+                return newIpScopeType(reader);
+            case 57:
+                return newIpAddressesType(reader);
+            case 58:
+                return newSubAllocationsType(reader);
+            case 59:
+                return newSubAllocationType(reader);
+            case 60:
+                return newIpScopesType(reader);
+            case 61:
+                return newNetworkFeaturesType(reader);
+            case 62:
+                return newSyslogServerSettingsType(reader);
+            case 63:
+                return newRouterInfoType(reader);
+            case 64:
+                return newSnapshotSectionType(reader);
+            case 65:
+                return newSnapshotType(reader);
+            case 66:
+                return newGuestCustomizationSectionType(reader);
+            case 67:
+                return newDiskSectionType(reader);
+            case 68:
+                return newVirtualDiskDescType(reader);
+            case 69:
+                return newCimString(reader);
+            case 70:
+                return newProductSectionIcon(reader);
+            case 71:
+                return newIcon(reader);
+            case 72:
+                return newAnnotationSectionType(reader);
+            case 73:
+                return newEulaSectionType(reader);
+            case 74:
+                return newInstallSectionType(reader);
+            case 75:
+                return newVirtualHardwareSectionType(reader);
+            case 76:
+                return newVSSDType(reader);
+            case 77:
+                return newCIMVirtualSystemSettingDataType(reader);
+            case 78:
+                return newAutomaticRecoveryAction(reader);
+            case 79:
+                return newCimAnySimpleType(reader);
+            case 80:
+                return newAutomaticShutdownAction(reader);
+            case 81:
+                return newAutomaticStartupAction(reader);
+            case 82:
+                return newCimDateTime(reader);
+            case 83:
+                return newCimUnsignedShort(reader);
+            case 84:
+                return newVirtualSystemCaptionType(reader);
+            case 85:
+                return newVirtualSystemChangeableTypeType(reader);
+            case 86:
+                return newCimUnsignedLong(reader);
+            case 87:
+                return newRASDType(reader);
+            case 88:
+                return newCIMResourceAllocationSettingDataType(reader);
+            case 89:
+                return newCimBoolean(reader);
+            case 90:
+                return newResourceAllocationCaptionType(reader);
+            case 91:
+                return newResourceAllocationChangeableTypeType(reader);
+            case 92:
+                return newConsumerVisibility(reader);
+            case 93:
+                return newMappingBehavior(reader);
+            case 94:
+                return newResourceType_ovf(reader);
+            case 95:
+                return newCimUnsignedInt(reader);
+            case 96:
+                return newNetworkSectionType(reader);
+            case 97:
+                return newNetworkSectionNetwork(reader);
+            case 98:
+                return newNetwork(reader);
+            case 99:
+                return newStartupSectionType(reader);
+            case 100:
+                return newStartupSectionItem(reader);
+            case 101:
+                return newItem(reader);
+            case 102:
+                return newResourceAllocationSectionType(reader);
+            case 103:
+                return newDeploymentOptionSectionType(reader);
+            case 104:
+                return newDeploymentOptionSectionConfiguration(reader);
+            case 105:
+                return newConfiguration(reader);
+            case 106:
+                return newOperatingSystemSectionType(reader);
+            case 107:
+                return newPlatformSectionType(reader);
+            case 108:
+                return newPropertySectionType(reader);
+            case 109:
+                return newProperty(reader);
+            case 110:
+                return newGatewayIpsecVpnServiceType(reader);
+            case 111:
+                return newGatewayIpsecVpnEndpointType(reader);
+            case 112:
+                return newGatewayIpsecVpnTunnelType(reader);
+            case 113:
+                return newIpsecVpnSubnetType(reader);
+            case 114:
+                return newDhcpServiceType(reader);
+            case 115:
+                return newNatServiceType(reader);
+            case 116:
+                return newNatRuleType(reader);
+            case 117:
+                return newGatewayNatRuleType(reader);
+            case 118:
+                return newNatOneToOneBasicRuleType(reader);
+            case 119:
+                return newNatOneToOneVmRuleType(reader);
+            case 120:
+                return newNatPortForwardingRuleType(reader);
+            case 121:
+                return newNatVmRuleType(reader);
+            case 122:
+                return newStaticRoutingServiceType(reader);
+            case 123:
+                return newStaticRouteType(reader);
+            case 124:
+                return newGatewayDhcpServiceType(reader);
+            case 125:
+                return newDhcpPoolServiceType(reader);
+            case 126:
+                return newFirewallServiceType(reader);
+            case 127:
+                return newFirewallRuleType(reader);
+            case 128:
+                return newFirewallRuleProtocols(reader);
+            case 129:
+                return newProtocols(reader);
+            case 130:
+                return newVmSelectionType(reader);
+            case 131:
+                return newIpsecVpnServiceType(reader);
+            case 132:
+                return newIpsecVpnTunnelType(reader);
+            case 133:
+                return newLoadBalancerServiceType(reader);
+            case 134:
+                return newLoadBalancerPoolType(reader);
+            case 135:
+                return newLBPoolServicePortType(reader);
+            case 136:
+                return newLBPoolHealthCheckType(reader);
+            case 137:
+                return newLBPoolMemberType(reader);
+            case 138:
+                return newLoadBalancerVirtualServerType(reader);
+            case 139:
+                return newLBVirtualServerServiceProfileType(reader);
+            case 140:
+                return newLBPersistenceType(reader);
+            case 141:
+                return newVendorTemplateType(reader);
+            case 142:
+                return newVendorTemplateAttributesType(reader);
+            case 143:
+                return newIpsecVpnRemotePeerType(reader);
+            case 144:
+                return newIpsecVpnThirdPartyPeerType(reader);
+            case 145:
+                return newIpsecVpnLocalPeerType(reader);
+            default:
+                throw new IllegalStateException("No reader " + index);
+            }
+        }
+
+        @Override
+        public void write(XMLStreamWriter writer, Object value) throws XMLStreamException {
+            switch (index) {
+            case 0:
+                writeTaskType(writer, (TaskType) value);
+                return;
+            case 1:
+                writeEntityType_schema(writer, (EntityType) value);
+                return;
+            case 2:
+                writeIdentifiableResourceType(writer, (IdentifiableResourceType) value);
+                return;
+            case 3:
+                writeResourceType_schema(writer, (ResourceType) value);
+                return;
+            case 5:
+                writeLinkType(writer, (LinkType) value);
+                return;
+            case 6:
+                writeReferenceType(writer, (ReferenceType) value);
+                return;
+            case 7:
+                writeTasksInProgressType(writer, (TasksInProgressType) value);
+                return;
+            case 8:
+                writeErrorType(writer, (ErrorType) value);
+                return;
+            case 9:
+                writeVAppType(writer, (VAppType) value);
+                return;
+            case 10:
+                writeResourceEntityType(writer, (ResourceEntityType) value);
+                return;
+            case 11:
+                writeFilesListType(writer, (FilesListType) value);
+                return;
+            case 12:
+                writeFileType(writer, (FileType) value);
+                return;
+            case 13:
+                writeOwnerType(writer, (OwnerType) value);
+                return;
+            case 14:
+                writeVAppChildrenType(writer, (VAppChildrenType) value);
+                return;
+            case 15:
+                writeVmType(writer, (VmType) value);
+                return;
+            case 16:
+                writeEnvironmentType(writer, (EnvironmentType) value);
+                return;
+            case 17:
+                writeEntityType_environment(writer, (com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType) value);
+                return;
+            case 18:
+                writeVmCapabilitiesType(writer, (VmCapabilitiesType) value);
+                return;
+            case 19:
+                writeVdcType(writer, (VdcType) value);
+                return;
+            case 20:
+                writeCapacityWithUsageType(writer, (CapacityWithUsageType) value);
+                return;
+            case 21:
+                writeCapacityType(writer, (CapacityType) value);
+                return;
+            case 22:
+                writeComputeCapacityType(writer, (ComputeCapacityType) value);
+                return;
+            case 23:
+                writeResourceEntitiesType(writer, (ResourceEntitiesType) value);
+                return;
+            case 24:
+                writeResourceReferenceType(writer, (ResourceReferenceType) value);
+                return;
+            case 25:
+                writeAvailableNetworksType(writer, (AvailableNetworksType) value);
+                return;
+            case 26:
+                writeCapabilitiesType(writer, (CapabilitiesType) value);
+                return;
+            case 27:
+                writeSupportedHardwareVersionsType(writer, (SupportedHardwareVersionsType) value);
+                return;
+            case 28:
+                writeVdcStorageProfilesType(writer, (VdcStorageProfilesType) value);
+                return;
+            case 30:
+                writeMsgType(writer, (MsgType) value);
+                return;
+            case 31:
+                writeNetworkConnectionType(writer, (NetworkConnectionType) value);
+                return;
+            case 32:
+                writeGatewayType(writer, (GatewayType) value);
+                return;
+            case 33:
+                writeGatewayConfigurationType(writer, (GatewayConfigurationType) value);
+                return;
+            case 34:
+                writeGatewayInterfacesType(writer, (GatewayInterfacesType) value);
+                return;
+            case 35:
+                writeGatewayInterfaceType(writer, (GatewayInterfaceType) value);
+                return;
+            case 36:
+                writeSubnetParticipationType(writer, (SubnetParticipationType) value);
+                return;
+            case 37:
+                writeIpRangesType(writer, (IpRangesType) value);
+                return;
+            case 38:
+                writeIpRangeType(writer, (IpRangeType) value);
+                return;
+            case 39:
+                writeGatewayFeaturesType(writer, (GatewayFeaturesType) value);
+                return;
+            case 40:
+                writeInstantiateVAppTemplateParamsType(writer, (InstantiateVAppTemplateParamsType) value);
+                return;
+            case 41:
+                writeInstantiateVAppParamsType(writer, (InstantiateVAppParamsType) value);
+                return;
+            case 42:
+                writeVAppCreationParamsType(writer, (VAppCreationParamsType) value);
+                return;
+            case 43:
+                writeParamsType(writer, (ParamsType) value);
+                return;
+            case 44:
+                writeInstantiationParamsType(writer, (InstantiationParamsType) value);
+                return;
+            case 45:
+                writeSourcedVmInstantiationParamsType(writer, (SourcedVmInstantiationParamsType) value);
+                return;
+            case 46:
+                writeLocalityParamsType(writer, (LocalityParamsType) value);
+                return;
+            case 47:
+                writeDeployVAppParamsType(writer, (DeployVAppParamsType) value);
+                return;
+            case 51:
+                writeVMWareTools(writer, (VMWareTools) value);
+                return;
+            case 54:
+                writeVAppNetworkConfigurationType(writer, (VAppNetworkConfigurationType) value);
+                return;
+            case 55:
+                writeNetworkConfigurationType(writer, (NetworkConfigurationType) value);
+                return;
+            case 56:
+                writeIpScopeType(writer, (IpScopeType) value);
+                return;
+            case 57:
+                writeIpAddressesType(writer, (IpAddressesType) value);
+                return;
+            case 58:
+                writeSubAllocationsType(writer, (SubAllocationsType) value);
+                return;
+            case 59:
+                writeSubAllocationType(writer, (SubAllocationType) value);
+                return;
+            case 60:
+                writeIpScopesType(writer, (IpScopesType) value);
+                return;
+            case 61:
+                writeNetworkFeaturesType(writer, (NetworkFeaturesType) value);
+                return;
+            case 62:
+                writeSyslogServerSettingsType(writer, (SyslogServerSettingsType) value);
+                return;
+            case 63:
+                writeRouterInfoType(writer, (RouterInfoType) value);
+                return;
+            case 65:
+                writeSnapshotType(writer, (SnapshotType) value);
+                return;
+            case 68:
+                writeVirtualDiskDescType(writer, (VirtualDiskDescType) value);
+                return;
+            case 69:
+                writeCimString(writer, (CimString) value);
+                return;
+            case 70:
+                writeProductSectionIcon(writer, (ProductSectionIcon) value);
+                return;
+            case 71:
+                writeIcon(writer, (Icon) value);
+                return;
+            case 76:
+                writeVSSDType(writer, (VSSDType) value);
+                return;
+            case 77:
+                writeCIMVirtualSystemSettingDataType(writer, (CIMVirtualSystemSettingDataType) value);
+                return;
+            case 78:
+                writeAutomaticRecoveryAction(writer, (AutomaticRecoveryAction) value);
+                return;
+            case 79:
+                writeCimAnySimpleType(writer, (CimAnySimpleType) value);
+                return;
+            case 80:
+                writeAutomaticShutdownAction(writer, (AutomaticShutdownAction) value);
+                return;
+            case 81:
+                writeAutomaticStartupAction(writer, (AutomaticStartupAction) value);
+                return;
+            case 82:
+                writeCimDateTime(writer, (CimDateTime) value);
+                return;
+            case 83:
+                writeCimUnsignedShort(writer, (CimUnsignedShort) value);
+                return;
+            case 84:
+                writeVirtualSystemCaptionType(writer, (VirtualSystemCaptionType) value);
+                return;
+            case 85:
+                writeVirtualSystemChangeableTypeType(writer, (VirtualSystemChangeableTypeType) value);
+                return;
+            case 86:
+                writeCimUnsignedLong(writer, (CimUnsignedLong) value);
+                return;
+            case 88:
+                writeCIMResourceAllocationSettingDataType(writer, (CIMResourceAllocationSettingDataType) value);
+                return;
+            case 89:
+                writeCimBoolean(writer, (CimBoolean) value);
+                return;
+            case 90:
+                writeResourceAllocationCaptionType(writer, (ResourceAllocationCaptionType) value);
+                return;
+            case 91:
+                writeResourceAllocationChangeableTypeType(writer, (ResourceAllocationChangeableTypeType) value);
+                return;
+            case 92:
+                writeConsumerVisibility(writer, (ConsumerVisibility) value);
+                return;
+            case 93:
+                writeMappingBehavior(writer, (MappingBehavior) value);
+                return;
+            case 94:
+                writeResourceType_ovf(writer, (com.vmware.vcloud.api.rest.schema.ovf.ResourceType) value);
+                return;
+            case 95:
+                writeCimUnsignedInt(writer, (CimUnsignedInt) value);
+                return;
+            case 97:
+                writeNetworkSectionNetwork(writer, (NetworkSectionNetwork) value);
+                return;
+            case 98:
+                writeNetwork(writer, (Network) value);
+                return;
+            case 107:
+                writePlatformSectionType(writer, (PlatformSectionType) value);
+                return;
+            case 108:
+                writePropertySectionType(writer, (PropertySectionType) value);
+                return;
+            case 109:
+                writeProperty(writer, (Property) value);
+                return;
+            case 110:
+                writeGatewayIpsecVpnServiceType(writer, (GatewayIpsecVpnServiceType) value);
+                return;
+            case 111:
+                writeGatewayIpsecVpnEndpointType(writer, (GatewayIpsecVpnEndpointType) value);
+                return;
+            case 112:
+                writeGatewayIpsecVpnTunnelType(writer, (GatewayIpsecVpnTunnelType) value);
+                return;
+            case 113:
+                writeIpsecVpnSubnetType(writer, (IpsecVpnSubnetType) value);
+                return;
+            case 114:
+                writeDhcpServiceType(writer, (DhcpServiceType) value);
+                return;
+            case 115:
+                writeNatServiceType(writer, (NatServiceType) value);
+                return;
+            case 116:
+                writeNatRuleType(writer, (NatRuleType) value);
+                return;
+            case 117:
+                writeGatewayNatRuleType(writer, (GatewayNatRuleType) value);
+                return;
+            case 118:
+                writeNatOneToOneBasicRuleType(writer, (NatOneToOneBasicRuleType) value);
+                return;
+            case 119:
+                writeNatOneToOneVmRuleType(writer, (NatOneToOneVmRuleType) value);
+                return;
+            case 120:
+                writeNatPortForwardingRuleType(writer, (NatPortForwardingRuleType) value);
+                return;
+            case 121:
+                writeNatVmRuleType(writer, (NatVmRuleType) value);
+                return;
+            case 122:
+                writeStaticRoutingServiceType(writer, (StaticRoutingServiceType) value);
+                return;
+            case 123:
+                writeStaticRouteType(writer, (StaticRouteType) value);
+                return;
+            case 124:
+                writeGatewayDhcpServiceType(writer, (GatewayDhcpServiceType) value);
+                return;
+            case 125:
+                writeDhcpPoolServiceType(writer, (DhcpPoolServiceType) value);
+                return;
+            case 126:
+                writeFirewallServiceType(writer, (FirewallServiceType) value);
+                return;
+            case 127:
+                writeFirewallRuleType(writer, (FirewallRuleType) value);
+                return;
+            case 128:
+                writeFirewallRuleProtocols(writer, (FirewallRuleProtocols) value);
+                return;
+            case 129:
+                writeProtocols(writer, (Protocols) value);
+                return;
+            case 130:
+                writeVmSelectionType(writer, (VmSelectionType) value);
+                return;
+            case 131:
+                writeIpsecVpnServiceType(writer, (IpsecVpnServiceType) value);
+                return;
+            case 132:
+                writeIpsecVpnTunnelType(writer, (IpsecVpnTunnelType) value);
+                return;
+            case 133:
+                writeLoadBalancerServiceType(writer, (LoadBalancerServiceType) value);
+                return;
+            case 134:
+                writeLoadBalancerPoolType(writer, (LoadBalancerPoolType) value);
+                return;
+            case 135:
+                writeLBPoolServicePortType(writer, (LBPoolServicePortType) value);
+                return;
+            case 136:
+                writeLBPoolHealthCheckType(writer, (LBPoolHealthCheckType) value);
+                return;
+            case 137:
+                writeLBPoolMemberType(writer, (LBPoolMemberType) value);
+                return;
+            case 138:
+                writeLoadBalancerVirtualServerType(writer, (LoadBalancerVirtualServerType) value);
+                return;
+            case 139:
+                writeLBVirtualServerServiceProfileType(writer, (LBVirtualServerServiceProfileType) value);
+                return;
+            case 140:
+                writeLBPersistenceType(writer, (LBPersistenceType) value);
+                return;
+            case 141:
+                writeVendorTemplateType(writer, (VendorTemplateType) value);
+                return;
+            case 142:
+                writeVendorTemplateAttributesType(writer, (VendorTemplateAttributesType) value);
+                return;
+            case 143:
+                writeIpsecVpnRemotePeerType(writer, (IpsecVpnRemotePeerType) value);
+                return;
+            case 144:
+                writeIpsecVpnThirdPartyPeerType(writer, (IpsecVpnThirdPartyPeerType) value);
+                return;
+            case 145:
+                writeIpsecVpnLocalPeerType(writer, (IpsecVpnLocalPeerType) value);
+                return;
+            default:
+                throw new IllegalStateException("No writer " + index);
+            }
+        }
+    }
+
+    /**
+     * Binds the namespaces declared by declareNamespaces() to their prefixes.
+     */
+    static void bindNamespaces(XMLStreamWriter writer) throws XMLStreamException {
+        writer.setDefaultNamespace(NS_VCLOUD);
+        writer.setPrefix("ovf", NS_OVF);
+        writer.setPrefix("ovfenv", NS_OVFENV);
+        writer.setPrefix("rasd", NS_RASD);
+        writer.setPrefix("vssd", NS_VSSD);
+        writer.setPrefix("cim", NS_CIM);
+    }
+
+    /**
+     * Declares the namespaces of the schema packages on the document element.
+     */
+    static void declareNamespaces(XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeDefaultNamespace(NS_VCLOUD);
+        writer.writeNamespace("ovf", NS_OVF);
+        writer.writeNamespace("ovfenv", NS_OVFENV);
+        writer.writeNamespace("rasd", NS_RASD);
+        writer.writeNamespace("vssd", NS_VSSD);
+        writer.writeNamespace("cim", NS_CIM);
+    }
+
+    private static boolean readTaskTypeAttribute(TaskType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "cancelRequested":
+                value.setCancelRequested(DatatypeConverter.parseBoolean(text));
+                return true;
+            case "endTime":
+                value.setEndTime(StaxBinding.parseCalendar(text));
+                return true;
+            case "expiryTime":
+                value.setExpiryTime(StaxBinding.parseCalendar(text));
+                return true;
+            case "operation":
+                value.setOperation(text);
+                return true;
+            case "operationName":
+                value.setOperationName(text);
+                return true;
+            case "serviceNamespace":
+                value.setServiceNamespace(text);
+                return true;
+            case "startTime":
+                value.setStartTime(StaxBinding.parseCalendar(text));
+                return true;
+            case "status":
+                value.setStatus(text);
+                return true;
+            }
+        }
+
+        return readEntityType_schemaAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readTaskTypeChild(XMLStreamReader reader, TaskType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Owner":
+                value.setOwner(readReferenceType(reader));
+                return true;
+            case "Error":
+                value.setError(readErrorType(reader));
+                return true;
+            case "User":
+                value.setUser(readReferenceType(reader));
+                return true;
+            case "Organization":
+                value.setOrganization(readReferenceType(reader));
+                return true;
+            case "Progress":
+                value.setProgress(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "Params":
+                value.setParams(StaxBinding.readAnyType(reader));
+                return true;
+            case "Details":
+                value.setDetails(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readEntityType_schemaChild(reader, value);
+    }
+
+    private static TaskType readTaskType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, TaskType.class);
+        }
+
+        return newTaskType(reader);
+    }
+
+    static TaskType newTaskType(XMLStreamReader reader)
+            throws XMLStreamException {
+        TaskType value = new TaskType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readTaskTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readTaskTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readEntityType_schemaAttribute(EntityType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "name":
+                value.setName(text);
+                return true;
+            }
+        }
+
+        return readIdentifiableResourceTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readEntityType_schemaChild(XMLStreamReader reader, EntityType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Description":
+                value.setDescription(StaxBinding.readText(reader));
+                return true;
+            case "Tasks":
+                value.setTasks(readTasksInProgressType(reader));
+                return true;
+            }
+        }
+
+        return readIdentifiableResourceTypeChild(reader, value);
+    }
+
+    private static EntityType readEntityType_schema(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, EntityType.class);
+        }
+
+        return newEntityType_schema(reader);
+    }
+
+    static EntityType newEntityType_schema(XMLStreamReader reader)
+            throws XMLStreamException {
+        EntityType value = new EntityType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readEntityType_schemaAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readEntityType_schemaChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIdentifiableResourceTypeAttribute(IdentifiableResourceType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "id":
+                value.setId(text);
+                return true;
+            case "operationKey":
+                value.setOperationKey(text);
+                return true;
+            }
+        }
+
+        return readResourceType_schemaAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIdentifiableResourceTypeChild(XMLStreamReader reader, IdentifiableResourceType value)
+            throws XMLStreamException {
+        return readResourceType_schemaChild(reader, value);
+    }
+
+    private static IdentifiableResourceType readIdentifiableResourceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IdentifiableResourceType.class);
+        }
+
+        return newIdentifiableResourceType(reader);
+    }
+
+    static IdentifiableResourceType newIdentifiableResourceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IdentifiableResourceType value = new IdentifiableResourceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIdentifiableResourceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIdentifiableResourceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readResourceType_schemaAttribute(ResourceType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "href":
+                value.setHref(text);
+                return true;
+            case "type":
+                value.setType(text);
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readResourceType_schemaChild(XMLStreamReader reader, ResourceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Link":
+                value.getLink().add(readLinkType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static ResourceType readResourceType_schema(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ResourceType.class);
+        }
+
+        return newResourceType_schema(reader);
+    }
+
+    static ResourceType newResourceType_schema(XMLStreamReader reader)
+            throws XMLStreamException {
+        ResourceType value = new ResourceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readResourceType_schemaAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readResourceType_schemaChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVCloudExtensibleTypeAttribute(VCloudExtensibleType value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readVCloudExtensibleTypeChild(XMLStreamReader reader, VCloudExtensibleType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "VCloudExtension":
+                value.getVCloudExtension().add(readVCloudExtensionType(reader));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static VCloudExtensibleType readVCloudExtensibleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        return StaxBinding.readDerived(reader, VCloudExtensibleType.class);
+    }
+
+    private static boolean readVCloudExtensionTypeAttribute(VCloudExtensionType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "required":
+                value.setRequired(DatatypeConverter.parseBoolean(text));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readVCloudExtensionTypeChild(XMLStreamReader reader, VCloudExtensionType value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static VCloudExtensionType readVCloudExtensionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VCloudExtensionType.class);
+        }
+
+        return newVCloudExtensionType(reader);
+    }
+
+    static VCloudExtensionType newVCloudExtensionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VCloudExtensionType value = new VCloudExtensionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVCloudExtensionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVCloudExtensionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readLinkTypeAttribute(LinkType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "rel":
+                value.setRel(text);
+                return true;
+            }
+        }
+
+        return readReferenceTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readLinkTypeChild(XMLStreamReader reader, LinkType value)
+            throws XMLStreamException {
+        return readReferenceTypeChild(reader, value);
+    }
+
+    private static LinkType readLinkType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, LinkType.class);
+        }
+
+        return newLinkType(reader);
+    }
+
+    static LinkType newLinkType(XMLStreamReader reader)
+            throws XMLStreamException {
+        LinkType value = new LinkType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readLinkTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readLinkTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readReferenceTypeAttribute(ReferenceType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "href":
+                value.setHref(text);
+                return true;
+            case "id":
+                value.setId(text);
+                return true;
+            case "name":
+                value.setName(text);
+                return true;
+            case "type":
+                value.setType(text);
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readReferenceTypeChild(XMLStreamReader reader, ReferenceType value)
+            throws XMLStreamException {
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static ReferenceType readReferenceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ReferenceType.class);
+        }
+
+        return newReferenceType(reader);
+    }
+
+    static ReferenceType newReferenceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        ReferenceType value = new ReferenceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readReferenceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readReferenceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readTasksInProgressTypeAttribute(TasksInProgressType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readTasksInProgressTypeChild(XMLStreamReader reader, TasksInProgressType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Task":
+                value.getTask().add(readTaskType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static TasksInProgressType readTasksInProgressType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, TasksInProgressType.class);
+        }
+
+        return newTasksInProgressType(reader);
+    }
+
+    static TasksInProgressType newTasksInProgressType(XMLStreamReader reader)
+            throws XMLStreamException {
+        TasksInProgressType value = new TasksInProgressType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readTasksInProgressTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readTasksInProgressTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readErrorTypeAttribute(ErrorType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "majorErrorCode":
+                value.setMajorErrorCode(DatatypeConverter.parseInt(text));
+                return true;
+            case "message":
+                value.setMessage(text);
+                return true;
+            case "minorErrorCode":
+                value.setMinorErrorCode(text);
+                return true;
+            case "stackTrace":
+                value.setStackTrace(text);
+                return true;
+            case "vendorSpecificErrorCode":
+                value.setVendorSpecificErrorCode(text);
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readErrorTypeChild(XMLStreamReader reader, ErrorType value)
+            throws XMLStreamException {
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static ErrorType readErrorType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ErrorType.class);
+        }
+
+        return newErrorType(reader);
+    }
+
+    static ErrorType newErrorType(XMLStreamReader reader)
+            throws XMLStreamException {
+        ErrorType value = new ErrorType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readErrorTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readErrorTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVAppTypeAttribute(VAppType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "ovfDescriptorUploaded":
+                value.setOvfDescriptorUploaded(DatatypeConverter.parseBoolean(text));
+                return true;
+            }
+        }
+
+        return readAbstractVAppTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVAppTypeChild(XMLStreamReader reader, VAppType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Owner":
+                value.setOwner(readOwnerType(reader));
+                return true;
+            case "InMaintenanceMode":
+                value.setInMaintenanceMode(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Children":
+                value.setChildren(readVAppChildrenType(reader));
+                return true;
+            }
+        }
+
+        return readAbstractVAppTypeChild(reader, value);
+    }
+
+    private static VAppType readVAppType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VAppType.class);
+        }
+
+        return newVAppType(reader);
+    }
+
+    static VAppType newVAppType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VAppType value = new VAppType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVAppTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVAppTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readAbstractVAppTypeAttribute(AbstractVAppType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "deployed":
+                value.setDeployed(DatatypeConverter.parseBoolean(text));
+                return true;
+            }
+        }
+
+        return readResourceEntityTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readAbstractVAppTypeChild(XMLStreamReader reader, AbstractVAppType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "VAppParent":
+                value.setVAppParent(readReferenceType(reader));
+                return true;
+            case "DefaultStorageProfileSection":
+                value.getSection().add(VCLOUD_FACTORY.createDefaultStorageProfileSection(readDefaultStorageProfileSectionType(reader)));
+                return true;
+            case "CustomizationSection":
+                value.getSection().add(VCLOUD_FACTORY.createCustomizationSection(readCustomizationSectionType(reader)));
+                return true;
+            case "RuntimeInfoSection":
+                value.getSection().add(VCLOUD_FACTORY.createRuntimeInfoSection(readRuntimeInfoSectionType(reader)));
+                return true;
+            case "LeaseSettingsSection":
+                value.getSection().add(VCLOUD_FACTORY.createLeaseSettingsSection(readLeaseSettingsSectionType(reader)));
+                return true;
+            case "NetworkConfigSection":
+                value.getSection().add(VCLOUD_FACTORY.createNetworkConfigSection(readNetworkConfigSectionType(reader)));
+                return true;
+            case "SnapshotSection":
+                value.getSection().add(VCLOUD_FACTORY.createSnapshotSection(readSnapshotSectionType(reader)));
+                return true;
+            case "NetworkConnectionSection":
+                value.getSection().add(VCLOUD_FACTORY.createNetworkConnectionSection(readNetworkConnectionSectionType(reader)));
+                return true;
+            case "GuestCustomizationSection":
+                value.getSection().add(VCLOUD_FACTORY.createGuestCustomizationSection(readGuestCustomizationSectionType(reader)));
+                return true;
+            case "DateCreated":
+                value.setDateCreated(StaxBinding.parseCalendar(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Section":
+                value.getSection().add(OVF_FACTORY.createSection(readSectionType_ovf(reader)));
+                return true;
+            case "DiskSection":
+                value.getSection().add(OVF_FACTORY.createDiskSection(readDiskSectionType(reader)));
+                return true;
+            case "ProductSection":
+                value.getSection().add(StaxBinding.unmarshalElement(reader));
+                return true;
+            case "AnnotationSection":
+                value.getSection().add(OVF_FACTORY.createAnnotationSection(readAnnotationSectionType(reader)));
+                return true;
+            case "EulaSection":
+                value.getSection().add(OVF_FACTORY.createEulaSection(readEulaSectionType(reader)));
+                return true;
+            case "InstallSection":
+                value.getSection().add(OVF_FACTORY.createInstallSection(readInstallSectionType(reader)));
+                return true;
+            case "VirtualHardwareSection":
+                value.getSection().add(OVF_FACTORY.createVirtualHardwareSection(readVirtualHardwareSectionType(reader)));
+                return true;
+            case "NetworkSection":
+                value.getSection().add(OVF_FACTORY.createNetworkSection(readNetworkSectionType(reader)));
+                return true;
+            case "StartupSection":
+                value.getSection().add(OVF_FACTORY.createStartupSection(readStartupSectionType(reader)));
+                return true;
+            case "ResourceAllocationSection":
+                value.getSection().add(OVF_FACTORY.createResourceAllocationSection(readResourceAllocationSectionType(reader)));
+                return true;
+            case "DeploymentOptionSection":
+                value.getSection().add(OVF_FACTORY.createDeploymentOptionSection(readDeploymentOptionSectionType(reader)));
+                return true;
+            case "OperatingSystemSection":
+                value.getSection().add(OVF_FACTORY.createOperatingSystemSection(readOperatingSystemSectionType(reader)));
+                return true;
+            }
+        }
+
+        return readResourceEntityTypeChild(reader, value);
+    }
+
+    private static AbstractVAppType readAbstractVAppType(XMLStreamReader reader)
+            throws XMLStreamException {
+        return StaxBinding.readDerived(reader, AbstractVAppType.class);
+    }
+
+    private static boolean readResourceEntityTypeAttribute(ResourceEntityType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "status":
+                value.setStatus(DatatypeConverter.parseInt(text));
+                return true;
+            }
+        }
+
+        return readEntityType_schemaAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readResourceEntityTypeChild(XMLStreamReader reader, ResourceEntityType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Files":
+                value.setFiles(readFilesListType(reader));
+                return true;
+            }
+        }
+
+        return readEntityType_schemaChild(reader, value);
+    }
+
+    private static ResourceEntityType readResourceEntityType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ResourceEntityType.class);
+        }
+
+        return newResourceEntityType(reader);
+    }
+
+    static ResourceEntityType newResourceEntityType(XMLStreamReader reader)
+            throws XMLStreamException {
+        ResourceEntityType value = new ResourceEntityType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readResourceEntityTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readResourceEntityTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readFilesListTypeAttribute(FilesListType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readFilesListTypeChild(XMLStreamReader reader, FilesListType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "File":
+                value.getFile().add(readFileType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static FilesListType readFilesListType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, FilesListType.class);
+        }
+
+        return newFilesListType(reader);
+    }
+
+    static FilesListType newFilesListType(XMLStreamReader reader)
+            throws XMLStreamException {
+        FilesListType value = new FilesListType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readFilesListTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readFilesListTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readFileTypeAttribute(FileType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "bytesTransferred":
+                value.setBytesTransferred(DatatypeConverter.parseLong(text));
+                return true;
+            case "checksum":
+                value.setChecksum(StaxBinding.normalize(text));
+                return true;
+            case "size":
+                value.setSize(DatatypeConverter.parseLong(text));
+                return true;
+            }
+        }
+
+        return readEntityType_schemaAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readFileTypeChild(XMLStreamReader reader, FileType value)
+            throws XMLStreamException {
+        return readEntityType_schemaChild(reader, value);
+    }
+
+    private static FileType readFileType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, FileType.class);
+        }
+
+        return newFileType(reader);
+    }
+
+    static FileType newFileType(XMLStreamReader reader)
+            throws XMLStreamException {
+        FileType value = new FileType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readFileTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readFileTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readOwnerTypeAttribute(OwnerType value, String namespace,
+            String localName, String text) {
+
+        return readResourceType_schemaAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readOwnerTypeChild(XMLStreamReader reader, OwnerType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "User":
+                value.setUser(readReferenceType(reader));
+                return true;
+            }
+        }
+
+        return readResourceType_schemaChild(reader, value);
+    }
+
+    private static OwnerType readOwnerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, OwnerType.class);
+        }
+
+        return newOwnerType(reader);
+    }
+
+    static OwnerType newOwnerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        OwnerType value = new OwnerType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readOwnerTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readOwnerTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVAppChildrenTypeAttribute(VAppChildrenType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVAppChildrenTypeChild(XMLStreamReader reader, VAppChildrenType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "VApp":
+                value.getVApp().add(readVAppType(reader));
+                return true;
+            case "Vm":
+                value.getVm().add(readVmType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static VAppChildrenType readVAppChildrenType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VAppChildrenType.class);
+        }
+
+        return newVAppChildrenType(reader);
+    }
+
+    static VAppChildrenType newVAppChildrenType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VAppChildrenType value = new VAppChildrenType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVAppChildrenTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVAppChildrenTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVmTypeAttribute(VmType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "needsCustomization":
+                value.setNeedsCustomization(DatatypeConverter.parseBoolean(text));
+                return true;
+            case "nestedHypervisorEnabled":
+                value.setNestedHypervisorEnabled(DatatypeConverter.parseBoolean(text));
+                return true;
+            }
+        }
+
+        return readAbstractVAppTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVmTypeChild(XMLStreamReader reader, VmType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "VAppScopedLocalId":
+                value.setVAppScopedLocalId(StaxBinding.readText(reader));
+                return true;
+            case "VmCapabilities":
+                value.setVmCapabilities(readVmCapabilitiesType(reader));
+                return true;
+            case "StorageProfile":
+                value.setStorageProfile(readReferenceType(reader));
+                return true;
+            }
+        }
+        if (NS_OVFENV.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Environment":
+                value.setEnvironment(readEnvironmentType(reader));
+                return true;
+            }
+        }
+
+        return readAbstractVAppTypeChild(reader, value);
+    }
+
+    private static VmType readVmType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VmType.class);
+        }
+
+        return newVmType(reader);
+    }
+
+    static VmType newVmType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VmType value = new VmType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVmTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVmTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readEnvironmentTypeAttribute(EnvironmentType value, String namespace,
+            String localName, String text) {
+        if (NS_OVFENV.equals(namespace)) {
+            switch (localName) {
+            case "id":
+                value.setId(text);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readEnvironmentTypeChild(XMLStreamReader reader, EnvironmentType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVFENV.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Section":
+                value.getSection().add(OVFENV_FACTORY.createSection(readSectionType_environment(reader)));
+                return true;
+            case "PlatformSection":
+                value.getSection().add(OVFENV_FACTORY.createPlatformSection(readPlatformSectionType(reader)));
+                return true;
+            case "PropertySection":
+                value.getSection().add(OVFENV_FACTORY.createPropertySection(readPropertySectionType(reader)));
+                return true;
+            case "Entity":
+                value.getEntity().add(readEntityType_environment(reader));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static EnvironmentType readEnvironmentType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, EnvironmentType.class);
+        }
+
+        return newEnvironmentType(reader);
+    }
+
+    static EnvironmentType newEnvironmentType(XMLStreamReader reader)
+            throws XMLStreamException {
+        EnvironmentType value = new EnvironmentType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readEnvironmentTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readEnvironmentTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readEntityType_environmentAttribute(com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType value, String namespace,
+            String localName, String text) {
+        if (NS_OVFENV.equals(namespace)) {
+            switch (localName) {
+            case "id":
+                value.setId(text);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readEntityType_environmentChild(XMLStreamReader reader, com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVFENV.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Section":
+                value.getSection().add(OVFENV_FACTORY.createSection(readSectionType_environment(reader)));
+                return true;
+            case "PlatformSection":
+                value.getSection().add(OVFENV_FACTORY.createPlatformSection(readPlatformSectionType(reader)));
+                return true;
+            case "PropertySection":
+                value.getSection().add(OVFENV_FACTORY.createPropertySection(readPropertySectionType(reader)));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType readEntityType_environment(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType.class);
+        }
+
+        return newEntityType_environment(reader);
+    }
+
+    static com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType newEntityType_environment(XMLStreamReader reader)
+            throws XMLStreamException {
+        com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType value = new com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readEntityType_environmentAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readEntityType_environmentChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVmCapabilitiesTypeAttribute(VmCapabilitiesType value, String namespace,
+            String localName, String text) {
+
+        return readResourceType_schemaAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVmCapabilitiesTypeChild(XMLStreamReader reader, VmCapabilitiesType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "MemoryHotAddEnabled":
+                value.setMemoryHotAddEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "CpuHotAddEnabled":
+                value.setCpuHotAddEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readResourceType_schemaChild(reader, value);
+    }
+
+    private static VmCapabilitiesType readVmCapabilitiesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VmCapabilitiesType.class);
+        }
+
+        return newVmCapabilitiesType(reader);
+    }
+
+    static VmCapabilitiesType newVmCapabilitiesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VmCapabilitiesType value = new VmCapabilitiesType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVmCapabilitiesTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVmCapabilitiesTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVdcTypeAttribute(VdcType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "status":
+                value.setStatus(DatatypeConverter.parseInt(text));
+                return true;
+            }
+        }
+
+        return readEntityType_schemaAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVdcTypeChild(XMLStreamReader reader, VdcType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "AllocationModel":
+                value.setAllocationModel(StaxBinding.readText(reader));
+                return true;
+            case "StorageCapacity":
+                value.setStorageCapacity(readCapacityWithUsageType(reader));
+                return true;
+            case "ComputeCapacity":
+                value.setComputeCapacity(readComputeCapacityType(reader));
+                return true;
+            case "ResourceEntities":
+                value.setResourceEntities(readResourceEntitiesType(reader));
+                return true;
+            case "AvailableNetworks":
+                value.setAvailableNetworks(readAvailableNetworksType(reader));
+                return true;
+            case "Capabilities":
+                value.setCapabilities(readCapabilitiesType(reader));
+                return true;
+            case "NicQuota":
+                value.setNicQuota(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "NetworkQuota":
+                value.setNetworkQuota(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "UsedNetworkCount":
+                value.setUsedNetworkCount(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "VmQuota":
+                value.setVmQuota(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "IsEnabled":
+                value.setIsEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "VdcStorageProfiles":
+                value.setVdcStorageProfiles(readVdcStorageProfilesType(reader));
+                return true;
+            }
+        }
+
+        return readEntityType_schemaChild(reader, value);
+    }
+
+    private static VdcType readVdcType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VdcType.class);
+        }
+
+        return newVdcType(reader);
+    }
+
+    static VdcType newVdcType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VdcType value = new VdcType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVdcTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVdcTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readCapacityWithUsageTypeAttribute(CapacityWithUsageType value, String namespace,
+            String localName, String text) {
+
+        return readCapacityTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readCapacityWithUsageTypeChild(XMLStreamReader reader, CapacityWithUsageType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Reserved":
+                value.setReserved(DatatypeConverter.parseLong(StaxBinding.readText(reader)));
+                return true;
+            case "Used":
+                value.setUsed(DatatypeConverter.parseLong(StaxBinding.readText(reader)));
+                return true;
+            case "Overhead":
+                value.setOverhead(DatatypeConverter.parseLong(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readCapacityTypeChild(reader, value);
+    }
+
+    private static CapacityWithUsageType readCapacityWithUsageType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CapacityWithUsageType.class);
+        }
+
+        return newCapacityWithUsageType(reader);
+    }
+
+    static CapacityWithUsageType newCapacityWithUsageType(XMLStreamReader reader)
+            throws XMLStreamException {
+        CapacityWithUsageType value = new CapacityWithUsageType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCapacityWithUsageTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readCapacityWithUsageTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readCapacityTypeAttribute(CapacityType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readCapacityTypeChild(XMLStreamReader reader, CapacityType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Units":
+                value.setUnits(StaxBinding.readText(reader));
+                return true;
+            case "Allocated":
+                value.setAllocated(DatatypeConverter.parseLong(StaxBinding.readText(reader)));
+                return true;
+            case "Limit":
+                value.setLimit(DatatypeConverter.parseLong(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static CapacityType readCapacityType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CapacityType.class);
+        }
+
+        return newCapacityType(reader);
+    }
+
+    static CapacityType newCapacityType(XMLStreamReader reader)
+            throws XMLStreamException {
+        CapacityType value = new CapacityType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCapacityTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readCapacityTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readComputeCapacityTypeAttribute(ComputeCapacityType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readComputeCapacityTypeChild(XMLStreamReader reader, ComputeCapacityType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Cpu":
+                value.setCpu(readCapacityWithUsageType(reader));
+                return true;
+            case "Memory":
+                value.setMemory(readCapacityWithUsageType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static ComputeCapacityType readComputeCapacityType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ComputeCapacityType.class);
+        }
+
+        return newComputeCapacityType(reader);
+    }
+
+    static ComputeCapacityType newComputeCapacityType(XMLStreamReader reader)
+            throws XMLStreamException {
+        ComputeCapacityType value = new ComputeCapacityType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readComputeCapacityTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readComputeCapacityTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readResourceEntitiesTypeAttribute(ResourceEntitiesType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readResourceEntitiesTypeChild(XMLStreamReader reader, ResourceEntitiesType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "ResourceEntity":
+                value.getResourceEntity().add(readResourceReferenceType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static ResourceEntitiesType readResourceEntitiesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ResourceEntitiesType.class);
+        }
+
+        return newResourceEntitiesType(reader);
+    }
+
+    static ResourceEntitiesType newResourceEntitiesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        ResourceEntitiesType value = new ResourceEntitiesType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readResourceEntitiesTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readResourceEntitiesTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readResourceReferenceTypeAttribute(ResourceReferenceType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "status":
+                value.setStatus(DatatypeConverter.parseInt(text));
+                return true;
+            }
+        }
+
+        return readReferenceTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readResourceReferenceTypeChild(XMLStreamReader reader, ResourceReferenceType value)
+            throws XMLStreamException {
+        return readReferenceTypeChild(reader, value);
+    }
+
+    private static ResourceReferenceType readResourceReferenceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ResourceReferenceType.class);
+        }
+
+        return newResourceReferenceType(reader);
+    }
+
+    static ResourceReferenceType newResourceReferenceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        ResourceReferenceType value = new ResourceReferenceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readResourceReferenceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readResourceReferenceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readAvailableNetworksTypeAttribute(AvailableNetworksType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readAvailableNetworksTypeChild(XMLStreamReader reader, AvailableNetworksType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Network":
+                value.getNetwork().add(readReferenceType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static AvailableNetworksType readAvailableNetworksType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, AvailableNetworksType.class);
+        }
+
+        return newAvailableNetworksType(reader);
+    }
+
+    static AvailableNetworksType newAvailableNetworksType(XMLStreamReader reader)
+            throws XMLStreamException {
+        AvailableNetworksType value = new AvailableNetworksType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readAvailableNetworksTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readAvailableNetworksTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readCapabilitiesTypeAttribute(CapabilitiesType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readCapabilitiesTypeChild(XMLStreamReader reader, CapabilitiesType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "SupportedHardwareVersions":
+                value.setSupportedHardwareVersions(readSupportedHardwareVersionsType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static CapabilitiesType readCapabilitiesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CapabilitiesType.class);
+        }
+
+        return newCapabilitiesType(reader);
+    }
+
+    static CapabilitiesType newCapabilitiesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        CapabilitiesType value = new CapabilitiesType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCapabilitiesTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readCapabilitiesTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readSupportedHardwareVersionsTypeAttribute(SupportedHardwareVersionsType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readSupportedHardwareVersionsTypeChild(XMLStreamReader reader, SupportedHardwareVersionsType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "SupportedHardwareVersion":
+                value.getSupportedHardwareVersion().add(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static SupportedHardwareVersionsType readSupportedHardwareVersionsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, SupportedHardwareVersionsType.class);
+        }
+
+        return newSupportedHardwareVersionsType(reader);
+    }
+
+    static SupportedHardwareVersionsType newSupportedHardwareVersionsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        SupportedHardwareVersionsType value = new SupportedHardwareVersionsType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readSupportedHardwareVersionsTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readSupportedHardwareVersionsTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVdcStorageProfilesTypeAttribute(VdcStorageProfilesType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVdcStorageProfilesTypeChild(XMLStreamReader reader, VdcStorageProfilesType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "VdcStorageProfile":
+                value.getVdcStorageProfile().add(readReferenceType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static VdcStorageProfilesType readVdcStorageProfilesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VdcStorageProfilesType.class);
+        }
+
+        return newVdcStorageProfilesType(reader);
+    }
+
+    static VdcStorageProfilesType newVdcStorageProfilesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VdcStorageProfilesType value = new VdcStorageProfilesType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVdcStorageProfilesTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVdcStorageProfilesTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNetworkConnectionSectionTypeAttribute(NetworkConnectionSectionType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "href":
+                value.setHref(text);
+                return true;
+            case "type":
+                value.setType(text);
+                return true;
+            }
+        }
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNetworkConnectionSectionTypeChild(XMLStreamReader reader, NetworkConnectionSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "PrimaryNetworkConnectionIndex":
+                value.setPrimaryNetworkConnectionIndex(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "NetworkConnection":
+                value.getNetworkConnection().add(readNetworkConnectionType(reader));
+                return true;
+            case "Link":
+                value.getLink().add(readLinkType(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static NetworkConnectionSectionType readNetworkConnectionSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NetworkConnectionSectionType.class);
+        }
+
+        return newNetworkConnectionSectionType(reader);
+    }
+
+    static NetworkConnectionSectionType newNetworkConnectionSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NetworkConnectionSectionType value = new NetworkConnectionSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNetworkConnectionSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNetworkConnectionSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readSectionType_ovfAttribute(SectionType value, String namespace,
+            String localName, String text) {
+        if (NS_OVF.equals(namespace)) {
+            switch (localName) {
+            case "required":
+                value.setRequired(DatatypeConverter.parseBoolean(text));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readSectionType_ovfChild(XMLStreamReader reader, SectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Info":
+                value.setInfo(readMsgType(reader));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static SectionType readSectionType_ovf(XMLStreamReader reader)
+            throws XMLStreamException {
+        return StaxBinding.readDerived(reader, SectionType.class);
+    }
+
+    private static boolean readMsgTypeAttribute(MsgType value, String namespace,
+            String localName, String text) {
+        if (NS_OVF.equals(namespace)) {
+            switch (localName) {
+            case "msgid":
+                value.setMsgid(text);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readMsgTypeChild(XMLStreamReader reader, MsgType value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static MsgType readMsgType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, MsgType.class);
+        }
+
+        return newMsgType(reader);
+    }
+
+    static MsgType newMsgType(XMLStreamReader reader)
+            throws XMLStreamException {
+        MsgType value = new MsgType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readMsgTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(StaxBinding.readText(reader));
+
+        return value;
+    }
+
+    private static boolean readNetworkConnectionTypeAttribute(NetworkConnectionType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "needsCustomization":
+                value.setNeedsCustomization(DatatypeConverter.parseBoolean(text));
+                return true;
+            case "network":
+                value.setNetwork(text);
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNetworkConnectionTypeChild(XMLStreamReader reader, NetworkConnectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "NetworkConnectionIndex":
+                value.setNetworkConnectionIndex(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "IpAddress":
+                value.setIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "ExternalIpAddress":
+                value.setExternalIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "IsConnected":
+                value.setIsConnected(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "MACAddress":
+                value.setMACAddress(StaxBinding.readText(reader));
+                return true;
+            case "IpAddressAllocationMode":
+                value.setIpAddressAllocationMode(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static NetworkConnectionType readNetworkConnectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NetworkConnectionType.class);
+        }
+
+        return newNetworkConnectionType(reader);
+    }
+
+    static NetworkConnectionType newNetworkConnectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NetworkConnectionType value = new NetworkConnectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNetworkConnectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNetworkConnectionTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readGatewayTypeAttribute(GatewayType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "status":
+                value.setStatus(DatatypeConverter.parseInt(text));
+                return true;
+            }
+        }
+
+        return readEntityType_schemaAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readGatewayTypeChild(XMLStreamReader reader, GatewayType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Configuration":
+                value.setConfiguration(readGatewayConfigurationType(reader));
+                return true;
+            }
+        }
+
+        return readEntityType_schemaChild(reader, value);
+    }
+
+    private static GatewayType readGatewayType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, GatewayType.class);
+        }
+
+        return newGatewayType(reader);
+    }
+
+    static GatewayType newGatewayType(XMLStreamReader reader)
+            throws XMLStreamException {
+        GatewayType value = new GatewayType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readGatewayTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readGatewayTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readGatewayConfigurationTypeAttribute(GatewayConfigurationType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readGatewayConfigurationTypeChild(XMLStreamReader reader, GatewayConfigurationType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "BackwardCompatibilityMode":
+                value.setBackwardCompatibilityMode(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "GatewayBackingConfig":
+                value.setGatewayBackingConfig(StaxBinding.readText(reader));
+                return true;
+            case "GatewayInterfaces":
+                value.setGatewayInterfaces(readGatewayInterfacesType(reader));
+                return true;
+            case "EdgeGatewayServiceConfiguration":
+                value.setEdgeGatewayServiceConfiguration(readGatewayFeaturesType(reader));
+                return true;
+            case "HaEnabled":
+                value.setHaEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "UseDefaultRouteForDnsRelay":
+                value.setUseDefaultRouteForDnsRelay(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static GatewayConfigurationType readGatewayConfigurationType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, GatewayConfigurationType.class);
+        }
+
+        return newGatewayConfigurationType(reader);
+    }
+
+    static GatewayConfigurationType newGatewayConfigurationType(XMLStreamReader reader)
+            throws XMLStreamException {
+        GatewayConfigurationType value = new GatewayConfigurationType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readGatewayConfigurationTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readGatewayConfigurationTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readGatewayInterfacesTypeAttribute(GatewayInterfacesType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readGatewayInterfacesTypeChild(XMLStreamReader reader, GatewayInterfacesType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "GatewayInterface":
+                value.getGatewayInterface().add(readGatewayInterfaceType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static GatewayInterfacesType readGatewayInterfacesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, GatewayInterfacesType.class);
+        }
+
+        return newGatewayInterfacesType(reader);
+    }
+
+    static GatewayInterfacesType newGatewayInterfacesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        GatewayInterfacesType value = new GatewayInterfacesType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readGatewayInterfacesTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readGatewayInterfacesTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readGatewayInterfaceTypeAttribute(GatewayInterfaceType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readGatewayInterfaceTypeChild(XMLStreamReader reader, GatewayInterfaceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Name":
+                value.setName(StaxBinding.readText(reader));
+                return true;
+            case "DisplayName":
+                value.setDisplayName(StaxBinding.readText(reader));
+                return true;
+            case "Network":
+                value.setNetwork(readReferenceType(reader));
+                return true;
+            case "InterfaceType":
+                value.setInterfaceType(StaxBinding.readText(reader));
+                return true;
+            case "SubnetParticipation":
+                value.getSubnetParticipation().add(readSubnetParticipationType(reader));
+                return true;
+            case "ApplyRateLimit":
+                value.setApplyRateLimit(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "InRateLimit":
+                value.setInRateLimit(DatatypeConverter.parseDouble(StaxBinding.readText(reader)));
+                return true;
+            case "OutRateLimit":
+                value.setOutRateLimit(DatatypeConverter.parseDouble(StaxBinding.readText(reader)));
+                return true;
+            case "UseForDefaultRoute":
+                value.setUseForDefaultRoute(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static GatewayInterfaceType readGatewayInterfaceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, GatewayInterfaceType.class);
+        }
+
+        return newGatewayInterfaceType(reader);
+    }
+
+    static GatewayInterfaceType newGatewayInterfaceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        GatewayInterfaceType value = new GatewayInterfaceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readGatewayInterfaceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readGatewayInterfaceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readSubnetParticipationTypeAttribute(SubnetParticipationType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readSubnetParticipationTypeChild(XMLStreamReader reader, SubnetParticipationType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Gateway":
+                value.setGateway(StaxBinding.readText(reader));
+                return true;
+            case "Netmask":
+                value.setNetmask(StaxBinding.readText(reader));
+                return true;
+            case "IpAddress":
+                value.setIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "IpRanges":
+                value.setIpRanges(readIpRangesType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static SubnetParticipationType readSubnetParticipationType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, SubnetParticipationType.class);
+        }
+
+        return newSubnetParticipationType(reader);
+    }
+
+    static SubnetParticipationType newSubnetParticipationType(XMLStreamReader reader)
+            throws XMLStreamException {
+        SubnetParticipationType value = new SubnetParticipationType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readSubnetParticipationTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readSubnetParticipationTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIpRangesTypeAttribute(IpRangesType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpRangesTypeChild(XMLStreamReader reader, IpRangesType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "IpRange":
+                value.getIpRange().add(readIpRangeType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static IpRangesType readIpRangesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IpRangesType.class);
+        }
+
+        return newIpRangesType(reader);
+    }
+
+    static IpRangesType newIpRangesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IpRangesType value = new IpRangesType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIpRangesTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIpRangesTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIpRangeTypeAttribute(IpRangeType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpRangeTypeChild(XMLStreamReader reader, IpRangeType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "StartAddress":
+                value.setStartAddress(StaxBinding.readText(reader));
+                return true;
+            case "EndAddress":
+                value.setEndAddress(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static IpRangeType readIpRangeType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IpRangeType.class);
+        }
+
+        return newIpRangeType(reader);
+    }
+
+    static IpRangeType newIpRangeType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IpRangeType value = new IpRangeType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIpRangeTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIpRangeTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readGatewayFeaturesTypeAttribute(GatewayFeaturesType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readGatewayFeaturesTypeChild(XMLStreamReader reader, GatewayFeaturesType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "NetworkService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createNetworkService(readNetworkServiceType(reader)));
+                return true;
+            case "GatewayIpsecVpnService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createGatewayIpsecVpnService(readGatewayIpsecVpnServiceType(reader)));
+                return true;
+            case "DhcpService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createDhcpService(readDhcpServiceType(reader)));
+                return true;
+            case "NatService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createNatService(readNatServiceType(reader)));
+                return true;
+            case "StaticRoutingService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createStaticRoutingService(readStaticRoutingServiceType(reader)));
+                return true;
+            case "GatewayDhcpService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createGatewayDhcpService(readGatewayDhcpServiceType(reader)));
+                return true;
+            case "FirewallService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createFirewallService(readFirewallServiceType(reader)));
+                return true;
+            case "IpsecVpnService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createIpsecVpnService(readIpsecVpnServiceType(reader)));
+                return true;
+            case "LoadBalancerService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createLoadBalancerService(readLoadBalancerServiceType(reader)));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static GatewayFeaturesType readGatewayFeaturesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, GatewayFeaturesType.class);
+        }
+
+        return newGatewayFeaturesType(reader);
+    }
+
+    static GatewayFeaturesType newGatewayFeaturesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        GatewayFeaturesType value = new GatewayFeaturesType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readGatewayFeaturesTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readGatewayFeaturesTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readInstantiateVAppTemplateParamsTypeAttribute(InstantiateVAppTemplateParamsType value, String namespace,
+            String localName, String text) {
+
+        return readInstantiateVAppParamsTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readInstantiateVAppTemplateParamsTypeChild(XMLStreamReader reader, InstantiateVAppTemplateParamsType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "AllEULAsAccepted":
+                value.setAllEULAsAccepted(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readInstantiateVAppParamsTypeChild(reader, value);
+    }
+
+    private static InstantiateVAppTemplateParamsType readInstantiateVAppTemplateParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, InstantiateVAppTemplateParamsType.class);
+        }
+
+        return newInstantiateVAppTemplateParamsType(reader);
+    }
+
+    static InstantiateVAppTemplateParamsType newInstantiateVAppTemplateParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        InstantiateVAppTemplateParamsType value = new InstantiateVAppTemplateParamsType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readInstantiateVAppTemplateParamsTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readInstantiateVAppTemplateParamsTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readInstantiateVAppParamsTypeAttribute(InstantiateVAppParamsType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "linkedClone":
+                value.setLinkedClone(DatatypeConverter.parseBoolean(text));
+                return true;
+            }
+        }
+
+        return readVAppCreationParamsTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readInstantiateVAppParamsTypeChild(XMLStreamReader reader, InstantiateVAppParamsType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Source":
+                value.setSource(readReferenceType(reader));
+                return true;
+            case "IsSourceDelete":
+                value.setIsSourceDelete(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "SourcedVmInstantiationParams":
+                value.getSourcedVmInstantiationParams().add(readSourcedVmInstantiationParamsType(reader));
+                return true;
+            }
+        }
+
+        return readVAppCreationParamsTypeChild(reader, value);
+    }
+
+    private static InstantiateVAppParamsType readInstantiateVAppParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, InstantiateVAppParamsType.class);
+        }
+
+        return newInstantiateVAppParamsType(reader);
+    }
+
+    static InstantiateVAppParamsType newInstantiateVAppParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        InstantiateVAppParamsType value = new InstantiateVAppParamsType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readInstantiateVAppParamsTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readInstantiateVAppParamsTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVAppCreationParamsTypeAttribute(VAppCreationParamsType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "deploy":
+                value.setDeploy(DatatypeConverter.parseBoolean(text));
+                return true;
+            case "powerOn":
+                value.setPowerOn(DatatypeConverter.parseBoolean(text));
+                return true;
+            }
+        }
+
+        return readParamsTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVAppCreationParamsTypeChild(XMLStreamReader reader, VAppCreationParamsType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "VAppParent":
+                value.setVAppParent(readReferenceType(reader));
+                return true;
+            case "InstantiationParams":
+                value.setInstantiationParams(readInstantiationParamsType(reader));
+                return true;
+            }
+        }
+
+        return readParamsTypeChild(reader, value);
+    }
+
+    private static VAppCreationParamsType readVAppCreationParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VAppCreationParamsType.class);
+        }
+
+        return newVAppCreationParamsType(reader);
+    }
+
+    static VAppCreationParamsType newVAppCreationParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VAppCreationParamsType value = new VAppCreationParamsType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVAppCreationParamsTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVAppCreationParamsTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readParamsTypeAttribute(ParamsType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "name":
+                value.setName(text);
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readParamsTypeChild(XMLStreamReader reader, ParamsType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Description":
+                value.setDescription(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static ParamsType readParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ParamsType.class);
+        }
+
+        return newParamsType(reader);
+    }
+
+    static ParamsType newParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        ParamsType value = new ParamsType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readParamsTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readParamsTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readInstantiationParamsTypeAttribute(InstantiationParamsType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readInstantiationParamsTypeChild(XMLStreamReader reader, InstantiationParamsType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Section":
+                value.getSection().add(OVF_FACTORY.createSection(readSectionType_ovf(reader)));
+                return true;
+            case "DiskSection":
+                value.getSection().add(OVF_FACTORY.createDiskSection(readDiskSectionType(reader)));
+                return true;
+            case "ProductSection":
+                value.getSection().add(StaxBinding.unmarshalElement(reader));
+                return true;
+            case "AnnotationSection":
+                value.getSection().add(OVF_FACTORY.createAnnotationSection(readAnnotationSectionType(reader)));
+                return true;
+            case "EulaSection":
+                value.getSection().add(OVF_FACTORY.createEulaSection(readEulaSectionType(reader)));
+                return true;
+            case "InstallSection":
+                value.getSection().add(OVF_FACTORY.createInstallSection(readInstallSectionType(reader)));
+                return true;
+            case "VirtualHardwareSection":
+                value.getSection().add(OVF_FACTORY.createVirtualHardwareSection(readVirtualHardwareSectionType(reader)));
+                return true;
+            case "NetworkSection":
+                value.getSection().add(OVF_FACTORY.createNetworkSection(readNetworkSectionType(reader)));
+                return true;
+            case "StartupSection":
+                value.getSection().add(OVF_FACTORY.createStartupSection(readStartupSectionType(reader)));
+                return true;
+            case "ResourceAllocationSection":
+                value.getSection().add(OVF_FACTORY.createResourceAllocationSection(readResourceAllocationSectionType(reader)));
+                return true;
+            case "DeploymentOptionSection":
+                value.getSection().add(OVF_FACTORY.createDeploymentOptionSection(readDeploymentOptionSectionType(reader)));
+                return true;
+            case "OperatingSystemSection":
+                value.getSection().add(OVF_FACTORY.createOperatingSystemSection(readOperatingSystemSectionType(reader)));
+                return true;
+            }
+        }
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "DefaultStorageProfileSection":
+                value.getSection().add(VCLOUD_FACTORY.createDefaultStorageProfileSection(readDefaultStorageProfileSectionType(reader)));
+                return true;
+            case "CustomizationSection":
+                value.getSection().add(VCLOUD_FACTORY.createCustomizationSection(readCustomizationSectionType(reader)));
+                return true;
+            case "RuntimeInfoSection":
+                value.getSection().add(VCLOUD_FACTORY.createRuntimeInfoSection(readRuntimeInfoSectionType(reader)));
+                return true;
+            case "LeaseSettingsSection":
+                value.getSection().add(VCLOUD_FACTORY.createLeaseSettingsSection(readLeaseSettingsSectionType(reader)));
+                return true;
+            case "NetworkConfigSection":
+                value.getSection().add(VCLOUD_FACTORY.createNetworkConfigSection(readNetworkConfigSectionType(reader)));
+                return true;
+            case "SnapshotSection":
+                value.getSection().add(VCLOUD_FACTORY.createSnapshotSection(readSnapshotSectionType(reader)));
+                return true;
+            case "NetworkConnectionSection":
+                value.getSection().add(VCLOUD_FACTORY.createNetworkConnectionSection(readNetworkConnectionSectionType(reader)));
+                return true;
+            case "GuestCustomizationSection":
+                value.getSection().add(VCLOUD_FACTORY.createGuestCustomizationSection(readGuestCustomizationSectionType(reader)));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static InstantiationParamsType readInstantiationParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, InstantiationParamsType.class);
+        }
+
+        return newInstantiationParamsType(reader);
+    }
+
+    static InstantiationParamsType newInstantiationParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        InstantiationParamsType value = new InstantiationParamsType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readInstantiationParamsTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readInstantiationParamsTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readSourcedVmInstantiationParamsTypeAttribute(SourcedVmInstantiationParamsType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readSourcedVmInstantiationParamsTypeChild(XMLStreamReader reader, SourcedVmInstantiationParamsType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Source":
+                value.setSource(readReferenceType(reader));
+                return true;
+            case "StorageProfile":
+                value.setStorageProfile(readReferenceType(reader));
+                return true;
+            case "LocalityParams":
+                value.setLocalityParams(readLocalityParamsType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static SourcedVmInstantiationParamsType readSourcedVmInstantiationParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, SourcedVmInstantiationParamsType.class);
+        }
+
+        return newSourcedVmInstantiationParamsType(reader);
+    }
+
+    static SourcedVmInstantiationParamsType newSourcedVmInstantiationParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        SourcedVmInstantiationParamsType value = new SourcedVmInstantiationParamsType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readSourcedVmInstantiationParamsTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readSourcedVmInstantiationParamsTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readLocalityParamsTypeAttribute(LocalityParamsType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readLocalityParamsTypeChild(XMLStreamReader reader, LocalityParamsType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "ResourceEntity":
+                value.getResourceEntity().add(readReferenceType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static LocalityParamsType readLocalityParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, LocalityParamsType.class);
+        }
+
+        return newLocalityParamsType(reader);
+    }
+
+    static LocalityParamsType newLocalityParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        LocalityParamsType value = new LocalityParamsType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readLocalityParamsTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readLocalityParamsTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readDeployVAppParamsTypeAttribute(DeployVAppParamsType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "deploymentLeaseSeconds":
+                value.setDeploymentLeaseSeconds(DatatypeConverter.parseInt(text));
+                return true;
+            case "forceCustomization":
+                value.setForceCustomization(DatatypeConverter.parseBoolean(text));
+                return true;
+            case "powerOn":
+                value.setPowerOn(DatatypeConverter.parseBoolean(text));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readDeployVAppParamsTypeChild(XMLStreamReader reader, DeployVAppParamsType value)
+            throws XMLStreamException {
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static DeployVAppParamsType readDeployVAppParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, DeployVAppParamsType.class);
+        }
+
+        return newDeployVAppParamsType(reader);
+    }
+
+    static DeployVAppParamsType newDeployVAppParamsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        DeployVAppParamsType value = new DeployVAppParamsType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readDeployVAppParamsTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readDeployVAppParamsTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readDefaultStorageProfileSectionTypeAttribute(DefaultStorageProfileSectionType value, String namespace,
+            String localName, String text) {
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readDefaultStorageProfileSectionTypeChild(XMLStreamReader reader, DefaultStorageProfileSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "StorageProfile":
+                value.setStorageProfile(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static DefaultStorageProfileSectionType readDefaultStorageProfileSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, DefaultStorageProfileSectionType.class);
+        }
+
+        return newDefaultStorageProfileSectionType(reader);
+    }
+
+    static DefaultStorageProfileSectionType newDefaultStorageProfileSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        DefaultStorageProfileSectionType value = new DefaultStorageProfileSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readDefaultStorageProfileSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readDefaultStorageProfileSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readCustomizationSectionTypeAttribute(CustomizationSectionType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "goldMaster":
+                value.setGoldMaster(DatatypeConverter.parseBoolean(text));
+                return true;
+            case "href":
+                value.setHref(text);
+                return true;
+            case "type":
+                value.setType(text);
+                return true;
+            }
+        }
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readCustomizationSectionTypeChild(XMLStreamReader reader, CustomizationSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "CustomizeOnInstantiate":
+                value.setCustomizeOnInstantiate(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Link":
+                value.getLink().add(readLinkType(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static CustomizationSectionType readCustomizationSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CustomizationSectionType.class);
+        }
+
+        return newCustomizationSectionType(reader);
+    }
+
+    static CustomizationSectionType newCustomizationSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        CustomizationSectionType value = new CustomizationSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCustomizationSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readCustomizationSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readRuntimeInfoSectionTypeAttribute(RuntimeInfoSectionType value, String namespace,
+            String localName, String text) {
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readRuntimeInfoSectionTypeChild(XMLStreamReader reader, RuntimeInfoSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "VMWareTools":
+                value.setVMWareTools(readVMWareTools(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static RuntimeInfoSectionType readRuntimeInfoSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, RuntimeInfoSectionType.class);
+        }
+
+        return newRuntimeInfoSectionType(reader);
+    }
+
+    static RuntimeInfoSectionType newRuntimeInfoSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        RuntimeInfoSectionType value = new RuntimeInfoSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readRuntimeInfoSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readRuntimeInfoSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVMWareToolsAttribute(VMWareTools value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "version":
+                value.setVersion(text);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readVMWareToolsChild(XMLStreamReader reader, VMWareTools value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static VMWareTools readVMWareTools(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VMWareTools.class);
+        }
+
+        return newVMWareTools(reader);
+    }
+
+    static VMWareTools newVMWareTools(XMLStreamReader reader)
+            throws XMLStreamException {
+        VMWareTools value = new VMWareTools();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            readVMWareToolsAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i));
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVMWareToolsChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readLeaseSettingsSectionTypeAttribute(LeaseSettingsSectionType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "href":
+                value.setHref(text);
+                return true;
+            case "type":
+                value.setType(text);
+                return true;
+            }
+        }
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readLeaseSettingsSectionTypeChild(XMLStreamReader reader, LeaseSettingsSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Link":
+                value.getLink().add(readLinkType(reader));
+                return true;
+            case "DeploymentLeaseInSeconds":
+                value.setDeploymentLeaseInSeconds(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "StorageLeaseInSeconds":
+                value.setStorageLeaseInSeconds(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "DeploymentLeaseExpiration":
+                value.setDeploymentLeaseExpiration(StaxBinding.parseCalendar(StaxBinding.readText(reader)));
+                return true;
+            case "StorageLeaseExpiration":
+                value.setStorageLeaseExpiration(StaxBinding.parseCalendar(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static LeaseSettingsSectionType readLeaseSettingsSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, LeaseSettingsSectionType.class);
+        }
+
+        return newLeaseSettingsSectionType(reader);
+    }
+
+    static LeaseSettingsSectionType newLeaseSettingsSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        LeaseSettingsSectionType value = new LeaseSettingsSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readLeaseSettingsSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readLeaseSettingsSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNetworkConfigSectionTypeAttribute(NetworkConfigSectionType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "href":
+                value.setHref(text);
+                return true;
+            case "type":
+                value.setType(text);
+                return true;
+            }
+        }
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNetworkConfigSectionTypeChild(XMLStreamReader reader, NetworkConfigSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Link":
+                value.getLink().add(readLinkType(reader));
+                return true;
+            case "NetworkConfig":
+                value.getNetworkConfig().add(readVAppNetworkConfigurationType(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static NetworkConfigSectionType readNetworkConfigSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NetworkConfigSectionType.class);
+        }
+
+        return newNetworkConfigSectionType(reader);
+    }
+
+    static NetworkConfigSectionType newNetworkConfigSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NetworkConfigSectionType value = new NetworkConfigSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNetworkConfigSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNetworkConfigSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVAppNetworkConfigurationTypeAttribute(VAppNetworkConfigurationType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "networkName":
+                value.setNetworkName(text);
+                return true;
+            }
+        }
+
+        return readResourceType_schemaAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVAppNetworkConfigurationTypeChild(XMLStreamReader reader, VAppNetworkConfigurationType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Description":
+                value.setDescription(StaxBinding.readText(reader));
+                return true;
+            case "Configuration":
+                value.setConfiguration(readNetworkConfigurationType(reader));
+                return true;
+            case "IsDeployed":
+                value.setIsDeployed(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readResourceType_schemaChild(reader, value);
+    }
+
+    private static VAppNetworkConfigurationType readVAppNetworkConfigurationType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VAppNetworkConfigurationType.class);
+        }
+
+        return newVAppNetworkConfigurationType(reader);
+    }
+
+    static VAppNetworkConfigurationType newVAppNetworkConfigurationType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VAppNetworkConfigurationType value = new VAppNetworkConfigurationType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVAppNetworkConfigurationTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVAppNetworkConfigurationTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNetworkConfigurationTypeAttribute(NetworkConfigurationType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNetworkConfigurationTypeChild(XMLStreamReader reader, NetworkConfigurationType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "BackwardCompatibilityMode":
+                value.setBackwardCompatibilityMode(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "IpScope":
+                value.setIpScope(readIpScopeType(reader));
+                return true;
+            case "IpScopes":
+                value.setIpScopes(readIpScopesType(reader));
+                return true;
+            case "ParentNetwork":
+                value.setParentNetwork(readReferenceType(reader));
+                return true;
+            case "FenceMode":
+                value.setFenceMode(StaxBinding.readText(reader));
+                return true;
+            case "RetainNetInfoAcrossDeployments":
+                value.setRetainNetInfoAcrossDeployments(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Features":
+                value.setFeatures(readNetworkFeaturesType(reader));
+                return true;
+            case "SyslogServerSettings":
+                value.setSyslogServerSettings(readSyslogServerSettingsType(reader));
+                return true;
+            case "RouterInfo":
+                value.setRouterInfo(readRouterInfoType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static NetworkConfigurationType readNetworkConfigurationType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NetworkConfigurationType.class);
+        }
+
+        return newNetworkConfigurationType(reader);
+    }
+
+    static NetworkConfigurationType newNetworkConfigurationType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NetworkConfigurationType value = new NetworkConfigurationType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNetworkConfigurationTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNetworkConfigurationTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIpScopeTypeAttribute(IpScopeType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpScopeTypeChild(XMLStreamReader reader, IpScopeType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "IsInherited":
+                value.setIsInherited(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Gateway":
+                value.setGateway(StaxBinding.readText(reader));
+                return true;
+            case "Netmask":
+                value.setNetmask(StaxBinding.readText(reader));
+                return true;
+            case "Dns1":
+                value.setDns1(StaxBinding.readText(reader));
+                return true;
+            case "Dns2":
+                value.setDns2(StaxBinding.readText(reader));
+                return true;
+            case "DnsSuffix":
+                value.setDnsSuffix(StaxBinding.readText(reader));
+                return true;
+            case "IsEnabled":
+                value.setIsEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "IpRanges":
+                value.setIpRanges(readIpRangesType(reader));
+                return true;
+            case "AllocatedIpAddresses":
+                value.setAllocatedIpAddresses(readIpAddressesType(reader));
+                return true;
+            case "SubAllocations":
+                value.setSubAllocations(readSubAllocationsType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static IpScopeType readIpScopeType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IpScopeType.class);
+        }
+
+        return newIpScopeType(reader);
+    }
+
+    static IpScopeType newIpScopeType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IpScopeType value = new IpScopeType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIpScopeTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIpScopeTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIpAddressesTypeAttribute(IpAddressesType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpAddressesTypeChild(XMLStreamReader reader, IpAddressesType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "IpAddress":
+                value.getIpAddress().add(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static IpAddressesType readIpAddressesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IpAddressesType.class);
+        }
+
+        return newIpAddressesType(reader);
+    }
+
+    static IpAddressesType newIpAddressesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IpAddressesType value = new IpAddressesType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIpAddressesTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIpAddressesTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readSubAllocationsTypeAttribute(SubAllocationsType value, String namespace,
+            String localName, String text) {
+
+        return readResourceType_schemaAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readSubAllocationsTypeChild(XMLStreamReader reader, SubAllocationsType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "SubAllocation":
+                value.getSubAllocation().add(readSubAllocationType(reader));
+                return true;
+            }
+        }
+
+        return readResourceType_schemaChild(reader, value);
+    }
+
+    private static SubAllocationsType readSubAllocationsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, SubAllocationsType.class);
+        }
+
+        return newSubAllocationsType(reader);
+    }
+
+    static SubAllocationsType newSubAllocationsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        SubAllocationsType value = new SubAllocationsType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readSubAllocationsTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readSubAllocationsTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readSubAllocationTypeAttribute(SubAllocationType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readSubAllocationTypeChild(XMLStreamReader reader, SubAllocationType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "EdgeGateway":
+                value.setEdgeGateway(readReferenceType(reader));
+                return true;
+            case "IpRanges":
+                value.setIpRanges(readIpRangesType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static SubAllocationType readSubAllocationType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, SubAllocationType.class);
+        }
+
+        return newSubAllocationType(reader);
+    }
+
+    static SubAllocationType newSubAllocationType(XMLStreamReader reader)
+            throws XMLStreamException {
+        SubAllocationType value = new SubAllocationType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readSubAllocationTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readSubAllocationTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIpScopesTypeAttribute(IpScopesType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpScopesTypeChild(XMLStreamReader reader, IpScopesType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "IpScope":
+                value.getIpScope().add(readIpScopeType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static IpScopesType readIpScopesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IpScopesType.class);
+        }
+
+        return newIpScopesType(reader);
+    }
+
+    static IpScopesType newIpScopesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IpScopesType value = new IpScopesType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIpScopesTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIpScopesTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNetworkFeaturesTypeAttribute(NetworkFeaturesType value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readNetworkFeaturesTypeChild(XMLStreamReader reader, NetworkFeaturesType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "NetworkService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createNetworkService(readNetworkServiceType(reader)));
+                return true;
+            case "GatewayIpsecVpnService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createGatewayIpsecVpnService(readGatewayIpsecVpnServiceType(reader)));
+                return true;
+            case "DhcpService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createDhcpService(readDhcpServiceType(reader)));
+                return true;
+            case "NatService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createNatService(readNatServiceType(reader)));
+                return true;
+            case "StaticRoutingService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createStaticRoutingService(readStaticRoutingServiceType(reader)));
+                return true;
+            case "GatewayDhcpService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createGatewayDhcpService(readGatewayDhcpServiceType(reader)));
+                return true;
+            case "FirewallService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createFirewallService(readFirewallServiceType(reader)));
+                return true;
+            case "IpsecVpnService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createIpsecVpnService(readIpsecVpnServiceType(reader)));
+                return true;
+            case "LoadBalancerService":
+                value.getNetworkService().add(VCLOUD_FACTORY.createLoadBalancerService(readLoadBalancerServiceType(reader)));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static NetworkFeaturesType readNetworkFeaturesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NetworkFeaturesType.class);
+        }
+
+        return newNetworkFeaturesType(reader);
+    }
+
+    static NetworkFeaturesType newNetworkFeaturesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NetworkFeaturesType value = new NetworkFeaturesType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            readNetworkFeaturesTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i));
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNetworkFeaturesTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readSyslogServerSettingsTypeAttribute(SyslogServerSettingsType value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readSyslogServerSettingsTypeChild(XMLStreamReader reader, SyslogServerSettingsType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "SyslogServerIp1":
+                value.setSyslogServerIp1(StaxBinding.readText(reader));
+                return true;
+            case "SyslogServerIp2":
+                value.setSyslogServerIp2(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static SyslogServerSettingsType readSyslogServerSettingsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, SyslogServerSettingsType.class);
+        }
+
+        return newSyslogServerSettingsType(reader);
+    }
+
+    static SyslogServerSettingsType newSyslogServerSettingsType(XMLStreamReader reader)
+            throws XMLStreamException {
+        SyslogServerSettingsType value = new SyslogServerSettingsType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            readSyslogServerSettingsTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i));
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readSyslogServerSettingsTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readRouterInfoTypeAttribute(RouterInfoType value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readRouterInfoTypeChild(XMLStreamReader reader, RouterInfoType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "ExternalIp":
+                value.setExternalIp(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static RouterInfoType readRouterInfoType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, RouterInfoType.class);
+        }
+
+        return newRouterInfoType(reader);
+    }
+
+    static RouterInfoType newRouterInfoType(XMLStreamReader reader)
+            throws XMLStreamException {
+        RouterInfoType value = new RouterInfoType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            readRouterInfoTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i));
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readRouterInfoTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readSnapshotSectionTypeAttribute(SnapshotSectionType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "href":
+                value.setHref(text);
+                return true;
+            case "type":
+                value.setType(text);
+                return true;
+            }
+        }
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readSnapshotSectionTypeChild(XMLStreamReader reader, SnapshotSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Link":
+                value.getLink().add(readLinkType(reader));
+                return true;
+            case "Snapshot":
+                value.setSnapshot(readSnapshotType(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static SnapshotSectionType readSnapshotSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, SnapshotSectionType.class);
+        }
+
+        return newSnapshotSectionType(reader);
+    }
+
+    static SnapshotSectionType newSnapshotSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        SnapshotSectionType value = new SnapshotSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readSnapshotSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readSnapshotSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readSnapshotTypeAttribute(SnapshotType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "created":
+                value.setCreated(StaxBinding.parseCalendar(text));
+                return true;
+            case "poweredOn":
+                value.setPoweredOn(DatatypeConverter.parseBoolean(text));
+                return true;
+            case "size":
+                value.setSize(DatatypeConverter.parseLong(text));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readSnapshotTypeChild(XMLStreamReader reader, SnapshotType value)
+            throws XMLStreamException {
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static SnapshotType readSnapshotType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, SnapshotType.class);
+        }
+
+        return newSnapshotType(reader);
+    }
+
+    static SnapshotType newSnapshotType(XMLStreamReader reader)
+            throws XMLStreamException {
+        SnapshotType value = new SnapshotType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readSnapshotTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readSnapshotTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readGuestCustomizationSectionTypeAttribute(GuestCustomizationSectionType value, String namespace,
+            String localName, String text) {
+        if (namespace.isEmpty()) {
+            switch (localName) {
+            case "href":
+                value.setHref(text);
+                return true;
+            case "type":
+                value.setType(text);
+                return true;
+            }
+        }
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readGuestCustomizationSectionTypeChild(XMLStreamReader reader, GuestCustomizationSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Enabled":
+                value.setEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "ChangeSid":
+                value.setChangeSid(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "VirtualMachineId":
+                value.setVirtualMachineId(StaxBinding.readText(reader));
+                return true;
+            case "JoinDomainEnabled":
+                value.setJoinDomainEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "UseOrgSettings":
+                value.setUseOrgSettings(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "DomainName":
+                value.setDomainName(StaxBinding.readText(reader));
+                return true;
+            case "DomainUserName":
+                value.setDomainUserName(StaxBinding.readText(reader));
+                return true;
+            case "DomainUserPassword":
+                value.setDomainUserPassword(StaxBinding.readText(reader));
+                return true;
+            case "MachineObjectOU":
+                value.setMachineObjectOU(StaxBinding.readText(reader));
+                return true;
+            case "AdminPasswordEnabled":
+                value.setAdminPasswordEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "AdminPasswordAuto":
+                value.setAdminPasswordAuto(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "AdminPassword":
+                value.setAdminPassword(StaxBinding.readText(reader));
+                return true;
+            case "ResetPasswordRequired":
+                value.setResetPasswordRequired(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "CustomizationScript":
+                value.setCustomizationScript(StaxBinding.readText(reader));
+                return true;
+            case "ComputerName":
+                value.setComputerName(StaxBinding.readText(reader));
+                return true;
+            case "Link":
+                value.getLink().add(readLinkType(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static GuestCustomizationSectionType readGuestCustomizationSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, GuestCustomizationSectionType.class);
+        }
+
+        return newGuestCustomizationSectionType(reader);
+    }
+
+    static GuestCustomizationSectionType newGuestCustomizationSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        GuestCustomizationSectionType value = new GuestCustomizationSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readGuestCustomizationSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readGuestCustomizationSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readDiskSectionTypeAttribute(DiskSectionType value, String namespace,
+            String localName, String text) {
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readDiskSectionTypeChild(XMLStreamReader reader, DiskSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Disk":
+                value.getDisk().add(readVirtualDiskDescType(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static DiskSectionType readDiskSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, DiskSectionType.class);
+        }
+
+        return newDiskSectionType(reader);
+    }
+
+    static DiskSectionType newDiskSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        DiskSectionType value = new DiskSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readDiskSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readDiskSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVirtualDiskDescTypeAttribute(VirtualDiskDescType value, String namespace,
+            String localName, String text) {
+        if (NS_OVF.equals(namespace)) {
+            switch (localName) {
+            case "capacity":
+                value.setCapacity(text);
+                return true;
+            case "capacityAllocationUnits":
+                value.setCapacityAllocationUnits(text);
+                return true;
+            case "diskId":
+                value.setDiskId(text);
+                return true;
+            case "fileRef":
+                value.setFileRef(text);
+                return true;
+            case "format":
+                value.setFormat(text);
+                return true;
+            case "parentRef":
+                value.setParentRef(text);
+                return true;
+            case "populatedSize":
+                value.setPopulatedSize(DatatypeConverter.parseLong(text));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readVirtualDiskDescTypeChild(XMLStreamReader reader, VirtualDiskDescType value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static VirtualDiskDescType readVirtualDiskDescType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VirtualDiskDescType.class);
+        }
+
+        return newVirtualDiskDescType(reader);
+    }
+
+    static VirtualDiskDescType newVirtualDiskDescType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VirtualDiskDescType value = new VirtualDiskDescType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVirtualDiskDescTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVirtualDiskDescTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readCimStringAttribute(CimString value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readCimStringChild(XMLStreamReader reader, CimString value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static CimString readCimString(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CimString.class);
+        }
+
+        return newCimString(reader);
+    }
+
+    static CimString newCimString(XMLStreamReader reader)
+            throws XMLStreamException {
+        CimString value = new CimString();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCimStringAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(StaxBinding.readText(reader));
+
+        return value;
+    }
+
+    private static boolean readProductSectionIconAttribute(ProductSectionIcon value, String namespace,
+            String localName, String text) {
+
+        return readIconAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readProductSectionIconChild(XMLStreamReader reader, ProductSectionIcon value)
+            throws XMLStreamException {
+        return readIconChild(reader, value);
+    }
+
+    private static ProductSectionIcon readProductSectionIcon(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ProductSectionIcon.class);
+        }
+
+        return newProductSectionIcon(reader);
+    }
+
+    static ProductSectionIcon newProductSectionIcon(XMLStreamReader reader)
+            throws XMLStreamException {
+        ProductSectionIcon value = new ProductSectionIcon();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readProductSectionIconAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readProductSectionIconChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIconAttribute(Icon value, String namespace,
+            String localName, String text) {
+        if (NS_OVF.equals(namespace)) {
+            switch (localName) {
+            case "fileRef":
+                value.setFileRef(text);
+                return true;
+            case "height":
+                value.setHeight(DatatypeConverter.parseInt(text));
+                return true;
+            case "mimeType":
+                value.setMimeType(text);
+                return true;
+            case "width":
+                value.setWidth(DatatypeConverter.parseInt(text));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readIconChild(XMLStreamReader reader, Icon value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static Icon readIcon(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, Icon.class);
+        }
+
+        return newIcon(reader);
+    }
+
+    static Icon newIcon(XMLStreamReader reader)
+            throws XMLStreamException {
+        Icon value = new Icon();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIconAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIconChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readAnnotationSectionTypeAttribute(AnnotationSectionType value, String namespace,
+            String localName, String text) {
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readAnnotationSectionTypeChild(XMLStreamReader reader, AnnotationSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Annotation":
+                value.setAnnotation(readMsgType(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static AnnotationSectionType readAnnotationSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, AnnotationSectionType.class);
+        }
+
+        return newAnnotationSectionType(reader);
+    }
+
+    static AnnotationSectionType newAnnotationSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        AnnotationSectionType value = new AnnotationSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readAnnotationSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readAnnotationSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readEulaSectionTypeAttribute(EulaSectionType value, String namespace,
+            String localName, String text) {
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readEulaSectionTypeChild(XMLStreamReader reader, EulaSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "License":
+                value.setLicense(readMsgType(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static EulaSectionType readEulaSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, EulaSectionType.class);
+        }
+
+        return newEulaSectionType(reader);
+    }
+
+    static EulaSectionType newEulaSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        EulaSectionType value = new EulaSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readEulaSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readEulaSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readInstallSectionTypeAttribute(InstallSectionType value, String namespace,
+            String localName, String text) {
+        if (NS_OVF.equals(namespace)) {
+            switch (localName) {
+            case "initialBootStopDelay":
+                value.setInitialBootStopDelay(DatatypeConverter.parseInt(text));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readInstallSectionTypeChild(XMLStreamReader reader, InstallSectionType value)
+            throws XMLStreamException {
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static InstallSectionType readInstallSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, InstallSectionType.class);
+        }
+
+        return newInstallSectionType(reader);
+    }
+
+    static InstallSectionType newInstallSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        InstallSectionType value = new InstallSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readInstallSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readInstallSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVirtualHardwareSectionTypeAttribute(VirtualHardwareSectionType value, String namespace,
+            String localName, String text) {
+        if (NS_OVF.equals(namespace)) {
+            switch (localName) {
+            case "id":
+                value.setId(text);
+                return true;
+            case "transport":
+                value.setTransport(text);
+                return true;
+            }
+        }
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVirtualHardwareSectionTypeChild(XMLStreamReader reader, VirtualHardwareSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "System":
+                value.setSystem(readVSSDType(reader));
+                return true;
+            case "Item":
+                value.getItem().add(readRASDType(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static VirtualHardwareSectionType readVirtualHardwareSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VirtualHardwareSectionType.class);
+        }
+
+        return newVirtualHardwareSectionType(reader);
+    }
+
+    static VirtualHardwareSectionType newVirtualHardwareSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VirtualHardwareSectionType value = new VirtualHardwareSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVirtualHardwareSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVirtualHardwareSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVSSDTypeAttribute(VSSDType value, String namespace,
+            String localName, String text) {
+
+        return readCIMVirtualSystemSettingDataTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVSSDTypeChild(XMLStreamReader reader, VSSDType value)
+            throws XMLStreamException {
+        return readCIMVirtualSystemSettingDataTypeChild(reader, value);
+    }
+
+    private static VSSDType readVSSDType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VSSDType.class);
+        }
+
+        return newVSSDType(reader);
+    }
+
+    static VSSDType newVSSDType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VSSDType value = new VSSDType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVSSDTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVSSDTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readCIMVirtualSystemSettingDataTypeAttribute(CIMVirtualSystemSettingDataType value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readCIMVirtualSystemSettingDataTypeChild(XMLStreamReader reader, CIMVirtualSystemSettingDataType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VSSD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "AutomaticRecoveryAction":
+                value.setAutomaticRecoveryAction(StaxBinding.readNil(reader) ? null : readAutomaticRecoveryAction(reader));
+                return true;
+            case "AutomaticShutdownAction":
+                value.setAutomaticShutdownAction(StaxBinding.readNil(reader) ? null : readAutomaticShutdownAction(reader));
+                return true;
+            case "AutomaticStartupAction":
+                value.setAutomaticStartupAction(StaxBinding.readNil(reader) ? null : readAutomaticStartupAction(reader));
+                return true;
+            case "AutomaticStartupActionDelay":
+                value.setAutomaticStartupActionDelay(StaxBinding.readNil(reader) ? null : readCimDateTime(reader));
+                return true;
+            case "AutomaticStartupActionSequenceNumber":
+                value.setAutomaticStartupActionSequenceNumber(StaxBinding.readNil(reader) ? null : readCimUnsignedShort(reader));
+                return true;
+            case "Caption":
+                value.setCaption(StaxBinding.readNil(reader) ? null : readVirtualSystemCaptionType(reader));
+                return true;
+            case "ChangeableType":
+                value.setChangeableType(StaxBinding.readNil(reader) ? null : readVirtualSystemChangeableTypeType(reader));
+                return true;
+            case "ConfigurationDataRoot":
+                value.setConfigurationDataRoot(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "ConfigurationFile":
+                value.setConfigurationFile(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "ConfigurationID":
+                value.setConfigurationID(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "ConfigurationName":
+                value.setConfigurationName(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "CreationTime":
+                value.setCreationTime(StaxBinding.readNil(reader) ? null : readCimDateTime(reader));
+                return true;
+            case "Description":
+                value.setDescription(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "ElementName":
+                value.setElementName(readCimString(reader));
+                return true;
+            case "Generation":
+                value.setGeneration(StaxBinding.readNil(reader) ? null : readCimUnsignedLong(reader));
+                return true;
+            case "InstanceID":
+                value.setInstanceID(readCimString(reader));
+                return true;
+            case "LogDataRoot":
+                value.setLogDataRoot(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "Notes":
+                value.getNotes().add(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "RecoveryFile":
+                value.setRecoveryFile(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "SnapshotDataRoot":
+                value.setSnapshotDataRoot(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "SuspendDataRoot":
+                value.setSuspendDataRoot(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "SwapFileDataRoot":
+                value.setSwapFileDataRoot(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "VirtualSystemIdentifier":
+                value.setVirtualSystemIdentifier(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "VirtualSystemType":
+                value.setVirtualSystemType(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static CIMVirtualSystemSettingDataType readCIMVirtualSystemSettingDataType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CIMVirtualSystemSettingDataType.class);
+        }
+
+        return newCIMVirtualSystemSettingDataType(reader);
+    }
+
+    static CIMVirtualSystemSettingDataType newCIMVirtualSystemSettingDataType(XMLStreamReader reader)
+            throws XMLStreamException {
+        CIMVirtualSystemSettingDataType value = new CIMVirtualSystemSettingDataType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCIMVirtualSystemSettingDataTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readCIMVirtualSystemSettingDataTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readAutomaticRecoveryActionAttribute(AutomaticRecoveryAction value, String namespace,
+            String localName, String text) {
+
+        return readCimAnySimpleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readAutomaticRecoveryActionChild(XMLStreamReader reader, AutomaticRecoveryAction value)
+            throws XMLStreamException {
+        return readCimAnySimpleTypeChild(reader, value);
+    }
+
+    private static AutomaticRecoveryAction readAutomaticRecoveryAction(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, AutomaticRecoveryAction.class);
+        }
+
+        return newAutomaticRecoveryAction(reader);
+    }
+
+    static AutomaticRecoveryAction newAutomaticRecoveryAction(XMLStreamReader reader)
+            throws XMLStreamException {
+        AutomaticRecoveryAction value = new AutomaticRecoveryAction();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readAutomaticRecoveryActionAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(StaxBinding.readText(reader));
+
+        return value;
+    }
+
+    private static boolean readCimAnySimpleTypeAttribute(CimAnySimpleType value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readCimAnySimpleTypeChild(XMLStreamReader reader, CimAnySimpleType value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static CimAnySimpleType readCimAnySimpleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CimAnySimpleType.class);
+        }
+
+        return newCimAnySimpleType(reader);
+    }
+
+    static CimAnySimpleType newCimAnySimpleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        CimAnySimpleType value = new CimAnySimpleType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCimAnySimpleTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(StaxBinding.readText(reader));
+
+        return value;
+    }
+
+    private static boolean readAutomaticShutdownActionAttribute(AutomaticShutdownAction value, String namespace,
+            String localName, String text) {
+
+        return readCimAnySimpleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readAutomaticShutdownActionChild(XMLStreamReader reader, AutomaticShutdownAction value)
+            throws XMLStreamException {
+        return readCimAnySimpleTypeChild(reader, value);
+    }
+
+    private static AutomaticShutdownAction readAutomaticShutdownAction(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, AutomaticShutdownAction.class);
+        }
+
+        return newAutomaticShutdownAction(reader);
+    }
+
+    static AutomaticShutdownAction newAutomaticShutdownAction(XMLStreamReader reader)
+            throws XMLStreamException {
+        AutomaticShutdownAction value = new AutomaticShutdownAction();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readAutomaticShutdownActionAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(StaxBinding.readText(reader));
+
+        return value;
+    }
+
+    private static boolean readAutomaticStartupActionAttribute(AutomaticStartupAction value, String namespace,
+            String localName, String text) {
+
+        return readCimAnySimpleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readAutomaticStartupActionChild(XMLStreamReader reader, AutomaticStartupAction value)
+            throws XMLStreamException {
+        return readCimAnySimpleTypeChild(reader, value);
+    }
+
+    private static AutomaticStartupAction readAutomaticStartupAction(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, AutomaticStartupAction.class);
+        }
+
+        return newAutomaticStartupAction(reader);
+    }
+
+    static AutomaticStartupAction newAutomaticStartupAction(XMLStreamReader reader)
+            throws XMLStreamException {
+        AutomaticStartupAction value = new AutomaticStartupAction();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readAutomaticStartupActionAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(StaxBinding.readText(reader));
+
+        return value;
+    }
+
+    private static boolean readCimDateTimeAttribute(CimDateTime value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readCimDateTimeChild(XMLStreamReader reader, CimDateTime value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_CIM.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "CIM_DateTime":
+                value.setCIMDateTime(StaxBinding.unmarshalElement(reader));
+                return true;
+            case "Interval":
+                value.setInterval(StaxBinding.parseDuration(StaxBinding.readText(reader)));
+                return true;
+            case "Date":
+                value.setDate(StaxBinding.parseCalendar(StaxBinding.readText(reader)));
+                return true;
+            case "Time":
+                value.setTime(StaxBinding.parseCalendar(StaxBinding.readText(reader)));
+                return true;
+            case "Datetime":
+                value.setDatetime(StaxBinding.parseCalendar(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static CimDateTime readCimDateTime(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CimDateTime.class);
+        }
+
+        return newCimDateTime(reader);
+    }
+
+    static CimDateTime newCimDateTime(XMLStreamReader reader)
+            throws XMLStreamException {
+        CimDateTime value = new CimDateTime();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCimDateTimeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readCimDateTimeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readCimUnsignedShortAttribute(CimUnsignedShort value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readCimUnsignedShortChild(XMLStreamReader reader, CimUnsignedShort value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static CimUnsignedShort readCimUnsignedShort(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CimUnsignedShort.class);
+        }
+
+        return newCimUnsignedShort(reader);
+    }
+
+    static CimUnsignedShort newCimUnsignedShort(XMLStreamReader reader)
+            throws XMLStreamException {
+        CimUnsignedShort value = new CimUnsignedShort();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCimUnsignedShortAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+
+        return value;
+    }
+
+    private static boolean readVirtualSystemCaptionTypeAttribute(VirtualSystemCaptionType value, String namespace,
+            String localName, String text) {
+
+        return readCimStringAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVirtualSystemCaptionTypeChild(XMLStreamReader reader, VirtualSystemCaptionType value)
+            throws XMLStreamException {
+        return readCimStringChild(reader, value);
+    }
+
+    private static VirtualSystemCaptionType readVirtualSystemCaptionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VirtualSystemCaptionType.class);
+        }
+
+        return newVirtualSystemCaptionType(reader);
+    }
+
+    static VirtualSystemCaptionType newVirtualSystemCaptionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VirtualSystemCaptionType value = new VirtualSystemCaptionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVirtualSystemCaptionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(StaxBinding.readText(reader));
+
+        return value;
+    }
+
+    private static boolean readVirtualSystemChangeableTypeTypeAttribute(VirtualSystemChangeableTypeType value, String namespace,
+            String localName, String text) {
+
+        return readCimUnsignedShortAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVirtualSystemChangeableTypeTypeChild(XMLStreamReader reader, VirtualSystemChangeableTypeType value)
+            throws XMLStreamException {
+        return readCimUnsignedShortChild(reader, value);
+    }
+
+    private static VirtualSystemChangeableTypeType readVirtualSystemChangeableTypeType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VirtualSystemChangeableTypeType.class);
+        }
+
+        return newVirtualSystemChangeableTypeType(reader);
+    }
+
+    static VirtualSystemChangeableTypeType newVirtualSystemChangeableTypeType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VirtualSystemChangeableTypeType value = new VirtualSystemChangeableTypeType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVirtualSystemChangeableTypeTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+
+        return value;
+    }
+
+    private static boolean readCimUnsignedLongAttribute(CimUnsignedLong value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readCimUnsignedLongChild(XMLStreamReader reader, CimUnsignedLong value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static CimUnsignedLong readCimUnsignedLong(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CimUnsignedLong.class);
+        }
+
+        return newCimUnsignedLong(reader);
+    }
+
+    static CimUnsignedLong newCimUnsignedLong(XMLStreamReader reader)
+            throws XMLStreamException {
+        CimUnsignedLong value = new CimUnsignedLong();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCimUnsignedLongAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(DatatypeConverter.parseInteger(StaxBinding.readText(reader)));
+
+        return value;
+    }
+
+    private static boolean readRASDTypeAttribute(RASDType value, String namespace,
+            String localName, String text) {
+        if (NS_OVF.equals(namespace)) {
+            switch (localName) {
+            case "bound":
+                value.setBound(text);
+                return true;
+            case "configuration":
+                value.setConfiguration(text);
+                return true;
+            case "required":
+                value.setRequired(DatatypeConverter.parseBoolean(text));
+                return true;
+            }
+        }
+
+        return readCIMResourceAllocationSettingDataTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readRASDTypeChild(XMLStreamReader reader, RASDType value)
+            throws XMLStreamException {
+        return readCIMResourceAllocationSettingDataTypeChild(reader, value);
+    }
+
+    private static RASDType readRASDType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, RASDType.class);
+        }
+
+        return newRASDType(reader);
+    }
+
+    static RASDType newRASDType(XMLStreamReader reader)
+            throws XMLStreamException {
+        RASDType value = new RASDType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readRASDTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readRASDTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readCIMResourceAllocationSettingDataTypeAttribute(CIMResourceAllocationSettingDataType value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readCIMResourceAllocationSettingDataTypeChild(XMLStreamReader reader, CIMResourceAllocationSettingDataType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_RASD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Address":
+                value.setAddress(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "AddressOnParent":
+                value.setAddressOnParent(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "AllocationUnits":
+                value.setAllocationUnits(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "AutomaticAllocation":
+                value.setAutomaticAllocation(StaxBinding.readNil(reader) ? null : readCimBoolean(reader));
+                return true;
+            case "AutomaticDeallocation":
+                value.setAutomaticDeallocation(StaxBinding.readNil(reader) ? null : readCimBoolean(reader));
+                return true;
+            case "Caption":
+                value.setCaption(StaxBinding.readNil(reader) ? null : readResourceAllocationCaptionType(reader));
+                return true;
+            case "ChangeableType":
+                value.setChangeableType(StaxBinding.readNil(reader) ? null : readResourceAllocationChangeableTypeType(reader));
+                return true;
+            case "ConfigurationName":
+                value.setConfigurationName(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "Connection":
+                value.getConnection().add(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "ConsumerVisibility":
+                value.setConsumerVisibility(StaxBinding.readNil(reader) ? null : readConsumerVisibility(reader));
+                return true;
+            case "Description":
+                value.setDescription(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "ElementName":
+                value.setElementName(readCimString(reader));
+                return true;
+            case "Generation":
+                value.setGeneration(StaxBinding.readNil(reader) ? null : readCimUnsignedLong(reader));
+                return true;
+            case "HostResource":
+                value.getHostResource().add(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "InstanceID":
+                value.setInstanceID(readCimString(reader));
+                return true;
+            case "Limit":
+                value.setLimit(StaxBinding.readNil(reader) ? null : readCimUnsignedLong(reader));
+                return true;
+            case "MappingBehavior":
+                value.setMappingBehavior(StaxBinding.readNil(reader) ? null : readMappingBehavior(reader));
+                return true;
+            case "OtherResourceType":
+                value.setOtherResourceType(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "Parent":
+                value.setParent(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "PoolID":
+                value.setPoolID(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "Reservation":
+                value.setReservation(StaxBinding.readNil(reader) ? null : readCimUnsignedLong(reader));
+                return true;
+            case "ResourceSubType":
+                value.setResourceSubType(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "ResourceType":
+                value.setResourceType(StaxBinding.readNil(reader) ? null : readResourceType_ovf(reader));
+                return true;
+            case "VirtualQuantity":
+                value.setVirtualQuantity(StaxBinding.readNil(reader) ? null : readCimUnsignedLong(reader));
+                return true;
+            case "VirtualQuantityUnits":
+                value.setVirtualQuantityUnits(StaxBinding.readNil(reader) ? null : readCimString(reader));
+                return true;
+            case "Weight":
+                value.setWeight(StaxBinding.readNil(reader) ? null : readCimUnsignedInt(reader));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static CIMResourceAllocationSettingDataType readCIMResourceAllocationSettingDataType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CIMResourceAllocationSettingDataType.class);
+        }
+
+        return newCIMResourceAllocationSettingDataType(reader);
+    }
+
+    static CIMResourceAllocationSettingDataType newCIMResourceAllocationSettingDataType(XMLStreamReader reader)
+            throws XMLStreamException {
+        CIMResourceAllocationSettingDataType value = new CIMResourceAllocationSettingDataType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCIMResourceAllocationSettingDataTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readCIMResourceAllocationSettingDataTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readCimBooleanAttribute(CimBoolean value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readCimBooleanChild(XMLStreamReader reader, CimBoolean value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static CimBoolean readCimBoolean(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CimBoolean.class);
+        }
+
+        return newCimBoolean(reader);
+    }
+
+    static CimBoolean newCimBoolean(XMLStreamReader reader)
+            throws XMLStreamException {
+        CimBoolean value = new CimBoolean();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCimBooleanAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+
+        return value;
+    }
+
+    private static boolean readResourceAllocationCaptionTypeAttribute(ResourceAllocationCaptionType value, String namespace,
+            String localName, String text) {
+
+        return readCimStringAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readResourceAllocationCaptionTypeChild(XMLStreamReader reader, ResourceAllocationCaptionType value)
+            throws XMLStreamException {
+        return readCimStringChild(reader, value);
+    }
+
+    private static ResourceAllocationCaptionType readResourceAllocationCaptionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ResourceAllocationCaptionType.class);
+        }
+
+        return newResourceAllocationCaptionType(reader);
+    }
+
+    static ResourceAllocationCaptionType newResourceAllocationCaptionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        ResourceAllocationCaptionType value = new ResourceAllocationCaptionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readResourceAllocationCaptionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(StaxBinding.readText(reader));
+
+        return value;
+    }
+
+    private static boolean readResourceAllocationChangeableTypeTypeAttribute(ResourceAllocationChangeableTypeType value, String namespace,
+            String localName, String text) {
+
+        return readCimUnsignedShortAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readResourceAllocationChangeableTypeTypeChild(XMLStreamReader reader, ResourceAllocationChangeableTypeType value)
+            throws XMLStreamException {
+        return readCimUnsignedShortChild(reader, value);
+    }
+
+    private static ResourceAllocationChangeableTypeType readResourceAllocationChangeableTypeType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ResourceAllocationChangeableTypeType.class);
+        }
+
+        return newResourceAllocationChangeableTypeType(reader);
+    }
+
+    static ResourceAllocationChangeableTypeType newResourceAllocationChangeableTypeType(XMLStreamReader reader)
+            throws XMLStreamException {
+        ResourceAllocationChangeableTypeType value = new ResourceAllocationChangeableTypeType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readResourceAllocationChangeableTypeTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+
+        return value;
+    }
+
+    private static boolean readConsumerVisibilityAttribute(ConsumerVisibility value, String namespace,
+            String localName, String text) {
+
+        return readCimAnySimpleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readConsumerVisibilityChild(XMLStreamReader reader, ConsumerVisibility value)
+            throws XMLStreamException {
+        return readCimAnySimpleTypeChild(reader, value);
+    }
+
+    private static ConsumerVisibility readConsumerVisibility(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ConsumerVisibility.class);
+        }
+
+        return newConsumerVisibility(reader);
+    }
+
+    static ConsumerVisibility newConsumerVisibility(XMLStreamReader reader)
+            throws XMLStreamException {
+        ConsumerVisibility value = new ConsumerVisibility();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readConsumerVisibilityAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(StaxBinding.readText(reader));
+
+        return value;
+    }
+
+    private static boolean readMappingBehaviorAttribute(MappingBehavior value, String namespace,
+            String localName, String text) {
+
+        return readCimAnySimpleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readMappingBehaviorChild(XMLStreamReader reader, MappingBehavior value)
+            throws XMLStreamException {
+        return readCimAnySimpleTypeChild(reader, value);
+    }
+
+    private static MappingBehavior readMappingBehavior(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, MappingBehavior.class);
+        }
+
+        return newMappingBehavior(reader);
+    }
+
+    static MappingBehavior newMappingBehavior(XMLStreamReader reader)
+            throws XMLStreamException {
+        MappingBehavior value = new MappingBehavior();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readMappingBehaviorAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(StaxBinding.readText(reader));
+
+        return value;
+    }
+
+    private static boolean readResourceType_ovfAttribute(com.vmware.vcloud.api.rest.schema.ovf.ResourceType value, String namespace,
+            String localName, String text) {
+
+        return readCimAnySimpleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readResourceType_ovfChild(XMLStreamReader reader, com.vmware.vcloud.api.rest.schema.ovf.ResourceType value)
+            throws XMLStreamException {
+        return readCimAnySimpleTypeChild(reader, value);
+    }
+
+    private static com.vmware.vcloud.api.rest.schema.ovf.ResourceType readResourceType_ovf(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, com.vmware.vcloud.api.rest.schema.ovf.ResourceType.class);
+        }
+
+        return newResourceType_ovf(reader);
+    }
+
+    static com.vmware.vcloud.api.rest.schema.ovf.ResourceType newResourceType_ovf(XMLStreamReader reader)
+            throws XMLStreamException {
+        com.vmware.vcloud.api.rest.schema.ovf.ResourceType value = new com.vmware.vcloud.api.rest.schema.ovf.ResourceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readResourceType_ovfAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(StaxBinding.readText(reader));
+
+        return value;
+    }
+
+    private static boolean readCimUnsignedIntAttribute(CimUnsignedInt value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readCimUnsignedIntChild(XMLStreamReader reader, CimUnsignedInt value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static CimUnsignedInt readCimUnsignedInt(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, CimUnsignedInt.class);
+        }
+
+        return newCimUnsignedInt(reader);
+    }
+
+    static CimUnsignedInt newCimUnsignedInt(XMLStreamReader reader)
+            throws XMLStreamException {
+        CimUnsignedInt value = new CimUnsignedInt();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readCimUnsignedIntAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        value.setValue(DatatypeConverter.parseLong(StaxBinding.readText(reader)));
+
+        return value;
+    }
+
+    private static boolean readNetworkSectionTypeAttribute(NetworkSectionType value, String namespace,
+            String localName, String text) {
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNetworkSectionTypeChild(XMLStreamReader reader, NetworkSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Network":
+                value.getNetwork().add(readNetworkSectionNetwork(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static NetworkSectionType readNetworkSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NetworkSectionType.class);
+        }
+
+        return newNetworkSectionType(reader);
+    }
+
+    static NetworkSectionType newNetworkSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NetworkSectionType value = new NetworkSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNetworkSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNetworkSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNetworkSectionNetworkAttribute(NetworkSectionNetwork value, String namespace,
+            String localName, String text) {
+
+        return readNetworkAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNetworkSectionNetworkChild(XMLStreamReader reader, NetworkSectionNetwork value)
+            throws XMLStreamException {
+        return readNetworkChild(reader, value);
+    }
+
+    private static NetworkSectionNetwork readNetworkSectionNetwork(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NetworkSectionNetwork.class);
+        }
+
+        return newNetworkSectionNetwork(reader);
+    }
+
+    static NetworkSectionNetwork newNetworkSectionNetwork(XMLStreamReader reader)
+            throws XMLStreamException {
+        NetworkSectionNetwork value = new NetworkSectionNetwork();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNetworkSectionNetworkAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNetworkSectionNetworkChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNetworkAttribute(Network value, String namespace,
+            String localName, String text) {
+        if (NS_OVF.equals(namespace)) {
+            switch (localName) {
+            case "name":
+                value.setName(text);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readNetworkChild(XMLStreamReader reader, Network value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Description":
+                value.setDescription(readMsgType(reader));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Network readNetwork(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, Network.class);
+        }
+
+        return newNetwork(reader);
+    }
+
+    static Network newNetwork(XMLStreamReader reader)
+            throws XMLStreamException {
+        Network value = new Network();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNetworkAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNetworkChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readStartupSectionTypeAttribute(StartupSectionType value, String namespace,
+            String localName, String text) {
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readStartupSectionTypeChild(XMLStreamReader reader, StartupSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Item":
+                value.getItem().add(readStartupSectionItem(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static StartupSectionType readStartupSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, StartupSectionType.class);
+        }
+
+        return newStartupSectionType(reader);
+    }
+
+    static StartupSectionType newStartupSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        StartupSectionType value = new StartupSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readStartupSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readStartupSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readStartupSectionItemAttribute(StartupSectionItem value, String namespace,
+            String localName, String text) {
+
+        return readItemAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readStartupSectionItemChild(XMLStreamReader reader, StartupSectionItem value)
+            throws XMLStreamException {
+        return readItemChild(reader, value);
+    }
+
+    private static StartupSectionItem readStartupSectionItem(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, StartupSectionItem.class);
+        }
+
+        return newStartupSectionItem(reader);
+    }
+
+    static StartupSectionItem newStartupSectionItem(XMLStreamReader reader)
+            throws XMLStreamException {
+        StartupSectionItem value = new StartupSectionItem();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readStartupSectionItemAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readStartupSectionItemChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readItemAttribute(Item value, String namespace,
+            String localName, String text) {
+        if (NS_OVF.equals(namespace)) {
+            switch (localName) {
+            case "id":
+                value.setId(text);
+                return true;
+            case "order":
+                value.setOrder(DatatypeConverter.parseInt(text));
+                return true;
+            case "startAction":
+                value.setStartAction(text);
+                return true;
+            case "startDelay":
+                value.setStartDelay(DatatypeConverter.parseInt(text));
+                return true;
+            case "stopAction":
+                value.setStopAction(text);
+                return true;
+            case "stopDelay":
+                value.setStopDelay(DatatypeConverter.parseInt(text));
+                return true;
+            case "waitingForGuest":
+                value.setWaitingForGuest(DatatypeConverter.parseBoolean(text));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readItemChild(XMLStreamReader reader, Item value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static Item readItem(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, Item.class);
+        }
+
+        return newItem(reader);
+    }
+
+    static Item newItem(XMLStreamReader reader)
+            throws XMLStreamException {
+        Item value = new Item();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readItemAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readItemChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readResourceAllocationSectionTypeAttribute(ResourceAllocationSectionType value, String namespace,
+            String localName, String text) {
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readResourceAllocationSectionTypeChild(XMLStreamReader reader, ResourceAllocationSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Item":
+                value.getItem().add(readRASDType(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static ResourceAllocationSectionType readResourceAllocationSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, ResourceAllocationSectionType.class);
+        }
+
+        return newResourceAllocationSectionType(reader);
+    }
+
+    static ResourceAllocationSectionType newResourceAllocationSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        ResourceAllocationSectionType value = new ResourceAllocationSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readResourceAllocationSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readResourceAllocationSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readDeploymentOptionSectionTypeAttribute(DeploymentOptionSectionType value, String namespace,
+            String localName, String text) {
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readDeploymentOptionSectionTypeChild(XMLStreamReader reader, DeploymentOptionSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Configuration":
+                value.getConfiguration().add(readDeploymentOptionSectionConfiguration(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static DeploymentOptionSectionType readDeploymentOptionSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, DeploymentOptionSectionType.class);
+        }
+
+        return newDeploymentOptionSectionType(reader);
+    }
+
+    static DeploymentOptionSectionType newDeploymentOptionSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        DeploymentOptionSectionType value = new DeploymentOptionSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readDeploymentOptionSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readDeploymentOptionSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readDeploymentOptionSectionConfigurationAttribute(DeploymentOptionSectionConfiguration value, String namespace,
+            String localName, String text) {
+
+        return readConfigurationAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readDeploymentOptionSectionConfigurationChild(XMLStreamReader reader, DeploymentOptionSectionConfiguration value)
+            throws XMLStreamException {
+        return readConfigurationChild(reader, value);
+    }
+
+    private static DeploymentOptionSectionConfiguration readDeploymentOptionSectionConfiguration(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, DeploymentOptionSectionConfiguration.class);
+        }
+
+        return newDeploymentOptionSectionConfiguration(reader);
+    }
+
+    static DeploymentOptionSectionConfiguration newDeploymentOptionSectionConfiguration(XMLStreamReader reader)
+            throws XMLStreamException {
+        DeploymentOptionSectionConfiguration value = new DeploymentOptionSectionConfiguration();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readDeploymentOptionSectionConfigurationAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readDeploymentOptionSectionConfigurationChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readConfigurationAttribute(Configuration value, String namespace,
+            String localName, String text) {
+        if (NS_OVF.equals(namespace)) {
+            switch (localName) {
+            case "default":
+                value.setDefault(DatatypeConverter.parseBoolean(text));
+                return true;
+            case "id":
+                value.setId(text);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readConfigurationChild(XMLStreamReader reader, Configuration value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Label":
+                value.setLabel(readMsgType(reader));
+                return true;
+            case "Description":
+                value.setDescription(readMsgType(reader));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Configuration readConfiguration(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, Configuration.class);
+        }
+
+        return newConfiguration(reader);
+    }
+
+    static Configuration newConfiguration(XMLStreamReader reader)
+            throws XMLStreamException {
+        Configuration value = new Configuration();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readConfigurationAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readConfigurationChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readOperatingSystemSectionTypeAttribute(OperatingSystemSectionType value, String namespace,
+            String localName, String text) {
+        if (NS_OVF.equals(namespace)) {
+            switch (localName) {
+            case "id":
+                value.setId(DatatypeConverter.parseInt(text));
+                return true;
+            case "version":
+                value.setVersion(text);
+                return true;
+            }
+        }
+
+        return readSectionType_ovfAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readOperatingSystemSectionTypeChild(XMLStreamReader reader, OperatingSystemSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVF.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Description":
+                value.setDescription(readMsgType(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_ovfChild(reader, value);
+    }
+
+    private static OperatingSystemSectionType readOperatingSystemSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, OperatingSystemSectionType.class);
+        }
+
+        return newOperatingSystemSectionType(reader);
+    }
+
+    static OperatingSystemSectionType newOperatingSystemSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        OperatingSystemSectionType value = new OperatingSystemSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readOperatingSystemSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readOperatingSystemSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readSectionType_environmentAttribute(com.vmware.vcloud.api.rest.schema.ovf.environment.SectionType value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readSectionType_environmentChild(XMLStreamReader reader, com.vmware.vcloud.api.rest.schema.ovf.environment.SectionType value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static com.vmware.vcloud.api.rest.schema.ovf.environment.SectionType readSectionType_environment(XMLStreamReader reader)
+            throws XMLStreamException {
+        return StaxBinding.readDerived(reader, com.vmware.vcloud.api.rest.schema.ovf.environment.SectionType.class);
+    }
+
+    private static boolean readPlatformSectionTypeAttribute(PlatformSectionType value, String namespace,
+            String localName, String text) {
+
+        return readSectionType_environmentAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readPlatformSectionTypeChild(XMLStreamReader reader, PlatformSectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVFENV.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Kind":
+                value.setKind(readCimString(reader));
+                return true;
+            case "Version":
+                value.setVersion(readCimString(reader));
+                return true;
+            case "Vendor":
+                value.setVendor(readCimString(reader));
+                return true;
+            case "Locale":
+                value.setLocale(readCimString(reader));
+                return true;
+            case "Timezone":
+                value.setTimezone(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readSectionType_environmentChild(reader, value);
+    }
+
+    private static PlatformSectionType readPlatformSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, PlatformSectionType.class);
+        }
+
+        return newPlatformSectionType(reader);
+    }
+
+    static PlatformSectionType newPlatformSectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        PlatformSectionType value = new PlatformSectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readPlatformSectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readPlatformSectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readPropertySectionTypeAttribute(PropertySectionType value, String namespace,
+            String localName, String text) {
+
+        return readSectionType_environmentAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readPropertySectionTypeChild(XMLStreamReader reader, PropertySectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_OVFENV.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Property":
+                value.getProperty().add(readProperty(reader));
+                return true;
+            }
+        }
+
+        return readSectionType_environmentChild(reader, value);
+    }
+
+    private static PropertySectionType readPropertySectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, PropertySectionType.class);
+        }
+
+        return newPropertySectionType(reader);
+    }
+
+    static PropertySectionType newPropertySectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        PropertySectionType value = new PropertySectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readPropertySectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readPropertySectionTypeChild(reader, value)) {
+                value.getAny().add(StaxBinding.readAny(reader));
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readPropertyAttribute(Property value, String namespace,
+            String localName, String text) {
+        if (NS_OVFENV.equals(namespace)) {
+            switch (localName) {
+            case "key":
+                value.setKey(text);
+                return true;
+            case "value":
+                value.setValue(text);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean readPropertyChild(XMLStreamReader reader, Property value)
+            throws XMLStreamException {
+        return false;
+    }
+
+    private static Property readProperty(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, Property.class);
+        }
+
+        return newProperty(reader);
+    }
+
+    static Property newProperty(XMLStreamReader reader)
+            throws XMLStreamException {
+        Property value = new Property();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readPropertyAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readPropertyChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNetworkServiceTypeAttribute(NetworkServiceType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNetworkServiceTypeChild(XMLStreamReader reader, NetworkServiceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "IsEnabled":
+                value.setIsEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static NetworkServiceType readNetworkServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        return StaxBinding.readDerived(reader, NetworkServiceType.class);
+    }
+
+    private static boolean readGatewayIpsecVpnServiceTypeAttribute(GatewayIpsecVpnServiceType value, String namespace,
+            String localName, String text) {
+
+        return readNetworkServiceTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readGatewayIpsecVpnServiceTypeChild(XMLStreamReader reader, GatewayIpsecVpnServiceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Endpoint":
+                value.getEndpoint().add(readGatewayIpsecVpnEndpointType(reader));
+                return true;
+            case "Tunnel":
+                value.getTunnel().add(readGatewayIpsecVpnTunnelType(reader));
+                return true;
+            }
+        }
+
+        return readNetworkServiceTypeChild(reader, value);
+    }
+
+    private static GatewayIpsecVpnServiceType readGatewayIpsecVpnServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, GatewayIpsecVpnServiceType.class);
+        }
+
+        return newGatewayIpsecVpnServiceType(reader);
+    }
+
+    static GatewayIpsecVpnServiceType newGatewayIpsecVpnServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        GatewayIpsecVpnServiceType value = new GatewayIpsecVpnServiceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readGatewayIpsecVpnServiceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readGatewayIpsecVpnServiceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readGatewayIpsecVpnEndpointTypeAttribute(GatewayIpsecVpnEndpointType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readGatewayIpsecVpnEndpointTypeChild(XMLStreamReader reader, GatewayIpsecVpnEndpointType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Network":
+                value.setNetwork(readReferenceType(reader));
+                return true;
+            case "PublicIp":
+                value.setPublicIp(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static GatewayIpsecVpnEndpointType readGatewayIpsecVpnEndpointType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, GatewayIpsecVpnEndpointType.class);
+        }
+
+        return newGatewayIpsecVpnEndpointType(reader);
+    }
+
+    static GatewayIpsecVpnEndpointType newGatewayIpsecVpnEndpointType(XMLStreamReader reader)
+            throws XMLStreamException {
+        GatewayIpsecVpnEndpointType value = new GatewayIpsecVpnEndpointType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readGatewayIpsecVpnEndpointTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readGatewayIpsecVpnEndpointTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readGatewayIpsecVpnTunnelTypeAttribute(GatewayIpsecVpnTunnelType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readGatewayIpsecVpnTunnelTypeChild(XMLStreamReader reader, GatewayIpsecVpnTunnelType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Name":
+                value.setName(StaxBinding.readText(reader));
+                return true;
+            case "Description":
+                value.setDescription(StaxBinding.readText(reader));
+                return true;
+            case "IpsecVpnPeer":
+                value.setIpsecVpnPeer(VCLOUD_FACTORY.createIpsecVpnPeer(readIpsecVpnPeerType(reader)));
+                return true;
+            case "IpsecVpnRemotePeer":
+                value.setIpsecVpnPeer(VCLOUD_FACTORY.createIpsecVpnRemotePeer(readIpsecVpnRemotePeerType(reader)));
+                return true;
+            case "IpsecVpnThirdPartyPeer":
+                value.setIpsecVpnPeer(VCLOUD_FACTORY.createIpsecVpnThirdPartyPeer(readIpsecVpnThirdPartyPeerType(reader)));
+                return true;
+            case "IpsecVpnLocalPeer":
+                value.setIpsecVpnPeer(VCLOUD_FACTORY.createIpsecVpnLocalPeer(readIpsecVpnLocalPeerType(reader)));
+                return true;
+            case "PeerIpAddress":
+                value.setPeerIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "PeerId":
+                value.setPeerId(StaxBinding.readText(reader));
+                return true;
+            case "LocalIpAddress":
+                value.setLocalIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "LocalId":
+                value.setLocalId(StaxBinding.readText(reader));
+                return true;
+            case "LocalSubnet":
+                value.getLocalSubnet().add(readIpsecVpnSubnetType(reader));
+                return true;
+            case "PeerSubnet":
+                value.getPeerSubnet().add(readIpsecVpnSubnetType(reader));
+                return true;
+            case "SharedSecret":
+                value.setSharedSecret(StaxBinding.readText(reader));
+                return true;
+            case "SharedSecretEncrypted":
+                value.setSharedSecretEncrypted(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "EncryptionProtocol":
+                value.setEncryptionProtocol(StaxBinding.readText(reader));
+                return true;
+            case "Mtu":
+                value.setMtu(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "IsEnabled":
+                value.setIsEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "IsOperational":
+                value.setIsOperational(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "ErrorDetails":
+                value.setErrorDetails(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static GatewayIpsecVpnTunnelType readGatewayIpsecVpnTunnelType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, GatewayIpsecVpnTunnelType.class);
+        }
+
+        return newGatewayIpsecVpnTunnelType(reader);
+    }
+
+    static GatewayIpsecVpnTunnelType newGatewayIpsecVpnTunnelType(XMLStreamReader reader)
+            throws XMLStreamException {
+        GatewayIpsecVpnTunnelType value = new GatewayIpsecVpnTunnelType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readGatewayIpsecVpnTunnelTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readGatewayIpsecVpnTunnelTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIpsecVpnSubnetTypeAttribute(IpsecVpnSubnetType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpsecVpnSubnetTypeChild(XMLStreamReader reader, IpsecVpnSubnetType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Name":
+                value.setName(StaxBinding.readText(reader));
+                return true;
+            case "Gateway":
+                value.setGateway(StaxBinding.readText(reader));
+                return true;
+            case "Netmask":
+                value.setNetmask(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static IpsecVpnSubnetType readIpsecVpnSubnetType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IpsecVpnSubnetType.class);
+        }
+
+        return newIpsecVpnSubnetType(reader);
+    }
+
+    static IpsecVpnSubnetType newIpsecVpnSubnetType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IpsecVpnSubnetType value = new IpsecVpnSubnetType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIpsecVpnSubnetTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIpsecVpnSubnetTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readDhcpServiceTypeAttribute(DhcpServiceType value, String namespace,
+            String localName, String text) {
+
+        return readNetworkServiceTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readDhcpServiceTypeChild(XMLStreamReader reader, DhcpServiceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "DefaultLeaseTime":
+                value.setDefaultLeaseTime(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "MaxLeaseTime":
+                value.setMaxLeaseTime(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "IpRange":
+                value.setIpRange(readIpRangeType(reader));
+                return true;
+            case "RouterIp":
+                value.setRouterIp(StaxBinding.readText(reader));
+                return true;
+            case "SubMask":
+                value.setSubMask(StaxBinding.readText(reader));
+                return true;
+            case "PrimaryNameServer":
+                value.setPrimaryNameServer(StaxBinding.readText(reader));
+                return true;
+            case "SecondaryNameServer":
+                value.setSecondaryNameServer(StaxBinding.readText(reader));
+                return true;
+            case "DomainName":
+                value.setDomainName(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readNetworkServiceTypeChild(reader, value);
+    }
+
+    private static DhcpServiceType readDhcpServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, DhcpServiceType.class);
+        }
+
+        return newDhcpServiceType(reader);
+    }
+
+    static DhcpServiceType newDhcpServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        DhcpServiceType value = new DhcpServiceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readDhcpServiceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readDhcpServiceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNatServiceTypeAttribute(NatServiceType value, String namespace,
+            String localName, String text) {
+
+        return readNetworkServiceTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNatServiceTypeChild(XMLStreamReader reader, NatServiceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "NatType":
+                value.setNatType(StaxBinding.readText(reader));
+                return true;
+            case "Policy":
+                value.setPolicy(StaxBinding.readText(reader));
+                return true;
+            case "NatRule":
+                value.getNatRule().add(readNatRuleType(reader));
+                return true;
+            case "ExternalIp":
+                value.setExternalIp(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readNetworkServiceTypeChild(reader, value);
+    }
+
+    private static NatServiceType readNatServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NatServiceType.class);
+        }
+
+        return newNatServiceType(reader);
+    }
+
+    static NatServiceType newNatServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NatServiceType value = new NatServiceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNatServiceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNatServiceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNatRuleTypeAttribute(NatRuleType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNatRuleTypeChild(XMLStreamReader reader, NatRuleType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Description":
+                value.setDescription(StaxBinding.readText(reader));
+                return true;
+            case "RuleType":
+                value.setRuleType(StaxBinding.readText(reader));
+                return true;
+            case "IsEnabled":
+                value.setIsEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Id":
+                value.setId(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "GatewayNatRule":
+                value.setGatewayNatRule(readGatewayNatRuleType(reader));
+                return true;
+            case "OneToOneBasicRule":
+                value.setOneToOneBasicRule(readNatOneToOneBasicRuleType(reader));
+                return true;
+            case "OneToOneVmRule":
+                value.setOneToOneVmRule(readNatOneToOneVmRuleType(reader));
+                return true;
+            case "PortForwardingRule":
+                value.setPortForwardingRule(readNatPortForwardingRuleType(reader));
+                return true;
+            case "VmRule":
+                value.setVmRule(readNatVmRuleType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static NatRuleType readNatRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NatRuleType.class);
+        }
+
+        return newNatRuleType(reader);
+    }
+
+    static NatRuleType newNatRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NatRuleType value = new NatRuleType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNatRuleTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNatRuleTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readGatewayNatRuleTypeAttribute(GatewayNatRuleType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readGatewayNatRuleTypeChild(XMLStreamReader reader, GatewayNatRuleType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Interface":
+                value.setInterface(readReferenceType(reader));
+                return true;
+            case "OriginalIp":
+                value.setOriginalIp(StaxBinding.readText(reader));
+                return true;
+            case "OriginalPort":
+                value.setOriginalPort(StaxBinding.readText(reader));
+                return true;
+            case "TranslatedIp":
+                value.setTranslatedIp(StaxBinding.readText(reader));
+                return true;
+            case "TranslatedPort":
+                value.setTranslatedPort(StaxBinding.readText(reader));
+                return true;
+            case "Protocol":
+                value.setProtocol(StaxBinding.readText(reader));
+                return true;
+            case "IcmpSubType":
+                value.setIcmpSubType(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static GatewayNatRuleType readGatewayNatRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, GatewayNatRuleType.class);
+        }
+
+        return newGatewayNatRuleType(reader);
+    }
+
+    static GatewayNatRuleType newGatewayNatRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        GatewayNatRuleType value = new GatewayNatRuleType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readGatewayNatRuleTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readGatewayNatRuleTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNatOneToOneBasicRuleTypeAttribute(NatOneToOneBasicRuleType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNatOneToOneBasicRuleTypeChild(XMLStreamReader reader, NatOneToOneBasicRuleType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "MappingMode":
+                value.setMappingMode(StaxBinding.readText(reader));
+                return true;
+            case "ExternalIpAddress":
+                value.setExternalIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "InternalIpAddress":
+                value.setInternalIpAddress(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static NatOneToOneBasicRuleType readNatOneToOneBasicRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NatOneToOneBasicRuleType.class);
+        }
+
+        return newNatOneToOneBasicRuleType(reader);
+    }
+
+    static NatOneToOneBasicRuleType newNatOneToOneBasicRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NatOneToOneBasicRuleType value = new NatOneToOneBasicRuleType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNatOneToOneBasicRuleTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNatOneToOneBasicRuleTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNatOneToOneVmRuleTypeAttribute(NatOneToOneVmRuleType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNatOneToOneVmRuleTypeChild(XMLStreamReader reader, NatOneToOneVmRuleType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "MappingMode":
+                value.setMappingMode(StaxBinding.readText(reader));
+                return true;
+            case "ExternalIpAddress":
+                value.setExternalIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "VAppScopedVmId":
+                value.setVAppScopedVmId(StaxBinding.readText(reader));
+                return true;
+            case "VmNicId":
+                value.setVmNicId(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static NatOneToOneVmRuleType readNatOneToOneVmRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NatOneToOneVmRuleType.class);
+        }
+
+        return newNatOneToOneVmRuleType(reader);
+    }
+
+    static NatOneToOneVmRuleType newNatOneToOneVmRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NatOneToOneVmRuleType value = new NatOneToOneVmRuleType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNatOneToOneVmRuleTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNatOneToOneVmRuleTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNatPortForwardingRuleTypeAttribute(NatPortForwardingRuleType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNatPortForwardingRuleTypeChild(XMLStreamReader reader, NatPortForwardingRuleType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "ExternalIpAddress":
+                value.setExternalIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "ExternalPort":
+                value.setExternalPort(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "InternalIpAddress":
+                value.setInternalIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "InternalPort":
+                value.setInternalPort(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "Protocol":
+                value.setProtocol(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static NatPortForwardingRuleType readNatPortForwardingRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NatPortForwardingRuleType.class);
+        }
+
+        return newNatPortForwardingRuleType(reader);
+    }
+
+    static NatPortForwardingRuleType newNatPortForwardingRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NatPortForwardingRuleType value = new NatPortForwardingRuleType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNatPortForwardingRuleTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNatPortForwardingRuleTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readNatVmRuleTypeAttribute(NatVmRuleType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readNatVmRuleTypeChild(XMLStreamReader reader, NatVmRuleType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "ExternalIpAddress":
+                value.setExternalIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "ExternalPort":
+                value.setExternalPort(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "VAppScopedVmId":
+                value.setVAppScopedVmId(StaxBinding.readText(reader));
+                return true;
+            case "VmNicId":
+                value.setVmNicId(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "InternalPort":
+                value.setInternalPort(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "Protocol":
+                value.setProtocol(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static NatVmRuleType readNatVmRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, NatVmRuleType.class);
+        }
+
+        return newNatVmRuleType(reader);
+    }
+
+    static NatVmRuleType newNatVmRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        NatVmRuleType value = new NatVmRuleType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readNatVmRuleTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readNatVmRuleTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readStaticRoutingServiceTypeAttribute(StaticRoutingServiceType value, String namespace,
+            String localName, String text) {
+
+        return readNetworkServiceTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readStaticRoutingServiceTypeChild(XMLStreamReader reader, StaticRoutingServiceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "StaticRoute":
+                value.getStaticRoute().add(readStaticRouteType(reader));
+                return true;
+            }
+        }
+
+        return readNetworkServiceTypeChild(reader, value);
+    }
+
+    private static StaticRoutingServiceType readStaticRoutingServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, StaticRoutingServiceType.class);
+        }
+
+        return newStaticRoutingServiceType(reader);
+    }
+
+    static StaticRoutingServiceType newStaticRoutingServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        StaticRoutingServiceType value = new StaticRoutingServiceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readStaticRoutingServiceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readStaticRoutingServiceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readStaticRouteTypeAttribute(StaticRouteType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readStaticRouteTypeChild(XMLStreamReader reader, StaticRouteType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Name":
+                value.setName(StaxBinding.readText(reader));
+                return true;
+            case "Network":
+                value.setNetwork(StaxBinding.readText(reader));
+                return true;
+            case "NextHopIp":
+                value.setNextHopIp(StaxBinding.readText(reader));
+                return true;
+            case "Interface":
+                value.setInterface(StaxBinding.readText(reader));
+                return true;
+            case "GatewayInterface":
+                value.setGatewayInterface(readReferenceType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static StaticRouteType readStaticRouteType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, StaticRouteType.class);
+        }
+
+        return newStaticRouteType(reader);
+    }
+
+    static StaticRouteType newStaticRouteType(XMLStreamReader reader)
+            throws XMLStreamException {
+        StaticRouteType value = new StaticRouteType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readStaticRouteTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readStaticRouteTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readGatewayDhcpServiceTypeAttribute(GatewayDhcpServiceType value, String namespace,
+            String localName, String text) {
+
+        return readNetworkServiceTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readGatewayDhcpServiceTypeChild(XMLStreamReader reader, GatewayDhcpServiceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Pool":
+                value.getPool().add(readDhcpPoolServiceType(reader));
+                return true;
+            }
+        }
+
+        return readNetworkServiceTypeChild(reader, value);
+    }
+
+    private static GatewayDhcpServiceType readGatewayDhcpServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, GatewayDhcpServiceType.class);
+        }
+
+        return newGatewayDhcpServiceType(reader);
+    }
+
+    static GatewayDhcpServiceType newGatewayDhcpServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        GatewayDhcpServiceType value = new GatewayDhcpServiceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readGatewayDhcpServiceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readGatewayDhcpServiceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readDhcpPoolServiceTypeAttribute(DhcpPoolServiceType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readDhcpPoolServiceTypeChild(XMLStreamReader reader, DhcpPoolServiceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "IsEnabled":
+                value.setIsEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Network":
+                value.setNetwork(readReferenceType(reader));
+                return true;
+            case "DefaultLeaseTime":
+                value.setDefaultLeaseTime(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "MaxLeaseTime":
+                value.setMaxLeaseTime(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "LowIpAddress":
+                value.setLowIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "HighIpAddress":
+                value.setHighIpAddress(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static DhcpPoolServiceType readDhcpPoolServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, DhcpPoolServiceType.class);
+        }
+
+        return newDhcpPoolServiceType(reader);
+    }
+
+    static DhcpPoolServiceType newDhcpPoolServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        DhcpPoolServiceType value = new DhcpPoolServiceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readDhcpPoolServiceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readDhcpPoolServiceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readFirewallServiceTypeAttribute(FirewallServiceType value, String namespace,
+            String localName, String text) {
+
+        return readNetworkServiceTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readFirewallServiceTypeChild(XMLStreamReader reader, FirewallServiceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "DefaultAction":
+                value.setDefaultAction(StaxBinding.readText(reader));
+                return true;
+            case "LogDefaultAction":
+                value.setLogDefaultAction(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "FirewallRule":
+                value.getFirewallRule().add(readFirewallRuleType(reader));
+                return true;
+            }
+        }
+
+        return readNetworkServiceTypeChild(reader, value);
+    }
+
+    private static FirewallServiceType readFirewallServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, FirewallServiceType.class);
+        }
+
+        return newFirewallServiceType(reader);
+    }
+
+    static FirewallServiceType newFirewallServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        FirewallServiceType value = new FirewallServiceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readFirewallServiceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readFirewallServiceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readFirewallRuleTypeAttribute(FirewallRuleType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readFirewallRuleTypeChild(XMLStreamReader reader, FirewallRuleType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Id":
+                value.setId(StaxBinding.readText(reader));
+                return true;
+            case "IsEnabled":
+                value.setIsEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "MatchOnTranslate":
+                value.setMatchOnTranslate(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Description":
+                value.setDescription(StaxBinding.readText(reader));
+                return true;
+            case "Policy":
+                value.setPolicy(StaxBinding.readText(reader));
+                return true;
+            case "Protocols":
+                value.setProtocols(readFirewallRuleProtocols(reader));
+                return true;
+            case "IcmpSubType":
+                value.setIcmpSubType(StaxBinding.readText(reader));
+                return true;
+            case "Port":
+                value.setPort(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "DestinationPortRange":
+                value.setDestinationPortRange(StaxBinding.readText(reader));
+                return true;
+            case "DestinationIp":
+                value.setDestinationIp(StaxBinding.readText(reader));
+                return true;
+            case "DestinationVm":
+                value.setDestinationVm(readVmSelectionType(reader));
+                return true;
+            case "SourcePort":
+                value.setSourcePort(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "SourcePortRange":
+                value.setSourcePortRange(StaxBinding.readText(reader));
+                return true;
+            case "SourceIp":
+                value.setSourceIp(StaxBinding.readText(reader));
+                return true;
+            case "SourceVm":
+                value.setSourceVm(readVmSelectionType(reader));
+                return true;
+            case "Direction":
+                value.setDirection(StaxBinding.readText(reader));
+                return true;
+            case "EnableLogging":
+                value.setEnableLogging(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static FirewallRuleType readFirewallRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, FirewallRuleType.class);
+        }
+
+        return newFirewallRuleType(reader);
+    }
+
+    static FirewallRuleType newFirewallRuleType(XMLStreamReader reader)
+            throws XMLStreamException {
+        FirewallRuleType value = new FirewallRuleType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readFirewallRuleTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readFirewallRuleTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readFirewallRuleProtocolsAttribute(FirewallRuleProtocols value, String namespace,
+            String localName, String text) {
+
+        return readProtocolsAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readFirewallRuleProtocolsChild(XMLStreamReader reader, FirewallRuleProtocols value)
+            throws XMLStreamException {
+        return readProtocolsChild(reader, value);
+    }
+
+    private static FirewallRuleProtocols readFirewallRuleProtocols(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, FirewallRuleProtocols.class);
+        }
+
+        return newFirewallRuleProtocols(reader);
+    }
+
+    static FirewallRuleProtocols newFirewallRuleProtocols(XMLStreamReader reader)
+            throws XMLStreamException {
+        FirewallRuleProtocols value = new FirewallRuleProtocols();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            readFirewallRuleProtocolsAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i));
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readFirewallRuleProtocolsChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readProtocolsAttribute(Protocols value, String namespace,
+            String localName, String text) {
+
+        return false;
+    }
+
+    private static boolean readProtocolsChild(XMLStreamReader reader, Protocols value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Tcp":
+                value.setTcp(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Udp":
+                value.setUdp(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Icmp":
+                value.setIcmp(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Any":
+                value.setAny(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Other":
+                value.setOther(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Protocols readProtocols(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, Protocols.class);
+        }
+
+        return newProtocols(reader);
+    }
+
+    static Protocols newProtocols(XMLStreamReader reader)
+            throws XMLStreamException {
+        Protocols value = new Protocols();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            readProtocolsAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i));
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readProtocolsChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVmSelectionTypeAttribute(VmSelectionType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVmSelectionTypeChild(XMLStreamReader reader, VmSelectionType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "VAppScopedVmId":
+                value.setVAppScopedVmId(StaxBinding.readText(reader));
+                return true;
+            case "VmNicId":
+                value.setVmNicId(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "IpType":
+                value.setIpType(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static VmSelectionType readVmSelectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VmSelectionType.class);
+        }
+
+        return newVmSelectionType(reader);
+    }
+
+    static VmSelectionType newVmSelectionType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VmSelectionType value = new VmSelectionType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVmSelectionTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVmSelectionTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIpsecVpnServiceTypeAttribute(IpsecVpnServiceType value, String namespace,
+            String localName, String text) {
+
+        return readNetworkServiceTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpsecVpnServiceTypeChild(XMLStreamReader reader, IpsecVpnServiceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "ExternalIpAddress":
+                value.setExternalIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "PublicIpAddress":
+                value.setPublicIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "IpsecVpnTunnel":
+                value.getIpsecVpnTunnel().add(readIpsecVpnTunnelType(reader));
+                return true;
+            }
+        }
+
+        return readNetworkServiceTypeChild(reader, value);
+    }
+
+    private static IpsecVpnServiceType readIpsecVpnServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IpsecVpnServiceType.class);
+        }
+
+        return newIpsecVpnServiceType(reader);
+    }
+
+    static IpsecVpnServiceType newIpsecVpnServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IpsecVpnServiceType value = new IpsecVpnServiceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIpsecVpnServiceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIpsecVpnServiceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIpsecVpnTunnelTypeAttribute(IpsecVpnTunnelType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpsecVpnTunnelTypeChild(XMLStreamReader reader, IpsecVpnTunnelType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Name":
+                value.setName(StaxBinding.readText(reader));
+                return true;
+            case "Description":
+                value.setDescription(StaxBinding.readText(reader));
+                return true;
+            case "IpsecVpnPeer":
+                value.setIpsecVpnPeer(VCLOUD_FACTORY.createIpsecVpnPeer(readIpsecVpnPeerType(reader)));
+                return true;
+            case "IpsecVpnRemotePeer":
+                value.setIpsecVpnPeer(VCLOUD_FACTORY.createIpsecVpnRemotePeer(readIpsecVpnRemotePeerType(reader)));
+                return true;
+            case "IpsecVpnThirdPartyPeer":
+                value.setIpsecVpnPeer(VCLOUD_FACTORY.createIpsecVpnThirdPartyPeer(readIpsecVpnThirdPartyPeerType(reader)));
+                return true;
+            case "IpsecVpnLocalPeer":
+                value.setIpsecVpnPeer(VCLOUD_FACTORY.createIpsecVpnLocalPeer(readIpsecVpnLocalPeerType(reader)));
+                return true;
+            case "PeerIpAddress":
+                value.setPeerIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "PeerNetworkAddress":
+                value.setPeerNetworkAddress(StaxBinding.readText(reader));
+                return true;
+            case "PeerNetworkMask":
+                value.setPeerNetworkMask(StaxBinding.readText(reader));
+                return true;
+            case "SharedSecret":
+                value.setSharedSecret(StaxBinding.readText(reader));
+                return true;
+            case "EncryptionProtocol":
+                value.setEncryptionProtocol(StaxBinding.readText(reader));
+                return true;
+            case "Mtu":
+                value.setMtu(DatatypeConverter.parseInt(StaxBinding.readText(reader)));
+                return true;
+            case "IsEnabled":
+                value.setIsEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "IsOperational":
+                value.setIsOperational(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "ErrorDetails":
+                value.setErrorDetails(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static IpsecVpnTunnelType readIpsecVpnTunnelType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IpsecVpnTunnelType.class);
+        }
+
+        return newIpsecVpnTunnelType(reader);
+    }
+
+    static IpsecVpnTunnelType newIpsecVpnTunnelType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IpsecVpnTunnelType value = new IpsecVpnTunnelType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIpsecVpnTunnelTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIpsecVpnTunnelTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readLoadBalancerServiceTypeAttribute(LoadBalancerServiceType value, String namespace,
+            String localName, String text) {
+
+        return readNetworkServiceTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readLoadBalancerServiceTypeChild(XMLStreamReader reader, LoadBalancerServiceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Pool":
+                value.getPool().add(readLoadBalancerPoolType(reader));
+                return true;
+            case "VirtualServer":
+                value.getVirtualServer().add(readLoadBalancerVirtualServerType(reader));
+                return true;
+            }
+        }
+
+        return readNetworkServiceTypeChild(reader, value);
+    }
+
+    private static LoadBalancerServiceType readLoadBalancerServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, LoadBalancerServiceType.class);
+        }
+
+        return newLoadBalancerServiceType(reader);
+    }
+
+    static LoadBalancerServiceType newLoadBalancerServiceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        LoadBalancerServiceType value = new LoadBalancerServiceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readLoadBalancerServiceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readLoadBalancerServiceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readLoadBalancerPoolTypeAttribute(LoadBalancerPoolType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readLoadBalancerPoolTypeChild(XMLStreamReader reader, LoadBalancerPoolType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Id":
+                value.setId(StaxBinding.readText(reader));
+                return true;
+            case "Name":
+                value.setName(StaxBinding.readText(reader));
+                return true;
+            case "Description":
+                value.setDescription(StaxBinding.readText(reader));
+                return true;
+            case "ServicePort":
+                value.getServicePort().add(readLBPoolServicePortType(reader));
+                return true;
+            case "Member":
+                value.getMember().add(readLBPoolMemberType(reader));
+                return true;
+            case "Operational":
+                value.setOperational(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "ErrorDetails":
+                value.setErrorDetails(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static LoadBalancerPoolType readLoadBalancerPoolType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, LoadBalancerPoolType.class);
+        }
+
+        return newLoadBalancerPoolType(reader);
+    }
+
+    static LoadBalancerPoolType newLoadBalancerPoolType(XMLStreamReader reader)
+            throws XMLStreamException {
+        LoadBalancerPoolType value = new LoadBalancerPoolType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readLoadBalancerPoolTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readLoadBalancerPoolTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readLBPoolServicePortTypeAttribute(LBPoolServicePortType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readLBPoolServicePortTypeChild(XMLStreamReader reader, LBPoolServicePortType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "IsEnabled":
+                value.setIsEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Protocol":
+                value.setProtocol(StaxBinding.readText(reader));
+                return true;
+            case "Algorithm":
+                value.setAlgorithm(StaxBinding.readText(reader));
+                return true;
+            case "Port":
+                value.setPort(StaxBinding.readText(reader));
+                return true;
+            case "HealthCheckPort":
+                value.setHealthCheckPort(StaxBinding.readText(reader));
+                return true;
+            case "HealthCheck":
+                value.getHealthCheck().add(readLBPoolHealthCheckType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static LBPoolServicePortType readLBPoolServicePortType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, LBPoolServicePortType.class);
+        }
+
+        return newLBPoolServicePortType(reader);
+    }
+
+    static LBPoolServicePortType newLBPoolServicePortType(XMLStreamReader reader)
+            throws XMLStreamException {
+        LBPoolServicePortType value = new LBPoolServicePortType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readLBPoolServicePortTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readLBPoolServicePortTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readLBPoolHealthCheckTypeAttribute(LBPoolHealthCheckType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readLBPoolHealthCheckTypeChild(XMLStreamReader reader, LBPoolHealthCheckType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Mode":
+                value.setMode(StaxBinding.readText(reader));
+                return true;
+            case "Uri":
+                value.setUri(StaxBinding.readText(reader));
+                return true;
+            case "HealthThreshold":
+                value.setHealthThreshold(StaxBinding.readText(reader));
+                return true;
+            case "UnhealthThreshold":
+                value.setUnhealthThreshold(StaxBinding.readText(reader));
+                return true;
+            case "Interval":
+                value.setInterval(StaxBinding.readText(reader));
+                return true;
+            case "Timeout":
+                value.setTimeout(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static LBPoolHealthCheckType readLBPoolHealthCheckType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, LBPoolHealthCheckType.class);
+        }
+
+        return newLBPoolHealthCheckType(reader);
+    }
+
+    static LBPoolHealthCheckType newLBPoolHealthCheckType(XMLStreamReader reader)
+            throws XMLStreamException {
+        LBPoolHealthCheckType value = new LBPoolHealthCheckType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readLBPoolHealthCheckTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readLBPoolHealthCheckTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readLBPoolMemberTypeAttribute(LBPoolMemberType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readLBPoolMemberTypeChild(XMLStreamReader reader, LBPoolMemberType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "IpAddress":
+                value.setIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "Weight":
+                value.setWeight(StaxBinding.readText(reader));
+                return true;
+            case "ServicePort":
+                value.getServicePort().add(readLBPoolServicePortType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static LBPoolMemberType readLBPoolMemberType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, LBPoolMemberType.class);
+        }
+
+        return newLBPoolMemberType(reader);
+    }
+
+    static LBPoolMemberType newLBPoolMemberType(XMLStreamReader reader)
+            throws XMLStreamException {
+        LBPoolMemberType value = new LBPoolMemberType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readLBPoolMemberTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readLBPoolMemberTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readLoadBalancerVirtualServerTypeAttribute(LoadBalancerVirtualServerType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readLoadBalancerVirtualServerTypeChild(XMLStreamReader reader, LoadBalancerVirtualServerType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "IsEnabled":
+                value.setIsEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Name":
+                value.setName(StaxBinding.readText(reader));
+                return true;
+            case "Description":
+                value.setDescription(StaxBinding.readText(reader));
+                return true;
+            case "Interface":
+                value.setInterface(readReferenceType(reader));
+                return true;
+            case "IpAddress":
+                value.setIpAddress(StaxBinding.readText(reader));
+                return true;
+            case "ServiceProfile":
+                value.getServiceProfile().add(readLBVirtualServerServiceProfileType(reader));
+                return true;
+            case "Logging":
+                value.setLogging(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Pool":
+                value.setPool(StaxBinding.readText(reader));
+                return true;
+            case "LoadBalancerTemplates":
+                value.getLoadBalancerTemplates().add(readVendorTemplateType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static LoadBalancerVirtualServerType readLoadBalancerVirtualServerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, LoadBalancerVirtualServerType.class);
+        }
+
+        return newLoadBalancerVirtualServerType(reader);
+    }
+
+    static LoadBalancerVirtualServerType newLoadBalancerVirtualServerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        LoadBalancerVirtualServerType value = new LoadBalancerVirtualServerType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readLoadBalancerVirtualServerTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readLoadBalancerVirtualServerTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readLBVirtualServerServiceProfileTypeAttribute(LBVirtualServerServiceProfileType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readLBVirtualServerServiceProfileTypeChild(XMLStreamReader reader, LBVirtualServerServiceProfileType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "IsEnabled":
+                value.setIsEnabled(DatatypeConverter.parseBoolean(StaxBinding.readText(reader)));
+                return true;
+            case "Protocol":
+                value.setProtocol(StaxBinding.readText(reader));
+                return true;
+            case "Port":
+                value.setPort(StaxBinding.readText(reader));
+                return true;
+            case "Persistence":
+                value.setPersistence(readLBPersistenceType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static LBVirtualServerServiceProfileType readLBVirtualServerServiceProfileType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, LBVirtualServerServiceProfileType.class);
+        }
+
+        return newLBVirtualServerServiceProfileType(reader);
+    }
+
+    static LBVirtualServerServiceProfileType newLBVirtualServerServiceProfileType(XMLStreamReader reader)
+            throws XMLStreamException {
+        LBVirtualServerServiceProfileType value = new LBVirtualServerServiceProfileType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readLBVirtualServerServiceProfileTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readLBVirtualServerServiceProfileTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readLBPersistenceTypeAttribute(LBPersistenceType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readLBPersistenceTypeChild(XMLStreamReader reader, LBPersistenceType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Method":
+                value.setMethod(StaxBinding.readText(reader));
+                return true;
+            case "CookieName":
+                value.setCookieName(StaxBinding.readText(reader));
+                return true;
+            case "CookieMode":
+                value.setCookieMode(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static LBPersistenceType readLBPersistenceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, LBPersistenceType.class);
+        }
+
+        return newLBPersistenceType(reader);
+    }
+
+    static LBPersistenceType newLBPersistenceType(XMLStreamReader reader)
+            throws XMLStreamException {
+        LBPersistenceType value = new LBPersistenceType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readLBPersistenceTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readLBPersistenceTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVendorTemplateTypeAttribute(VendorTemplateType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVendorTemplateTypeChild(XMLStreamReader reader, VendorTemplateType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Name":
+                value.setName(StaxBinding.readText(reader));
+                return true;
+            case "Id":
+                value.setId(StaxBinding.readText(reader));
+                return true;
+            case "VendorTemplateAttributes":
+                value.getVendorTemplateAttributes().add(readVendorTemplateAttributesType(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static VendorTemplateType readVendorTemplateType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VendorTemplateType.class);
+        }
+
+        return newVendorTemplateType(reader);
+    }
+
+    static VendorTemplateType newVendorTemplateType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VendorTemplateType value = new VendorTemplateType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVendorTemplateTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVendorTemplateTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readVendorTemplateAttributesTypeAttribute(VendorTemplateAttributesType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readVendorTemplateAttributesTypeChild(XMLStreamReader reader, VendorTemplateAttributesType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Name":
+                value.setName(StaxBinding.readText(reader));
+                return true;
+            case "Key":
+                value.setKey(StaxBinding.readText(reader));
+                return true;
+            case "Value":
+                value.setValue(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static VendorTemplateAttributesType readVendorTemplateAttributesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, VendorTemplateAttributesType.class);
+        }
+
+        return newVendorTemplateAttributesType(reader);
+    }
+
+    static VendorTemplateAttributesType newVendorTemplateAttributesType(XMLStreamReader reader)
+            throws XMLStreamException {
+        VendorTemplateAttributesType value = new VendorTemplateAttributesType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readVendorTemplateAttributesTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readVendorTemplateAttributesTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIpsecVpnPeerTypeAttribute(IpsecVpnPeerType value, String namespace,
+            String localName, String text) {
+
+        return readVCloudExtensibleTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpsecVpnPeerTypeChild(XMLStreamReader reader, IpsecVpnPeerType value)
+            throws XMLStreamException {
+        return readVCloudExtensibleTypeChild(reader, value);
+    }
+
+    private static IpsecVpnPeerType readIpsecVpnPeerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        return StaxBinding.readDerived(reader, IpsecVpnPeerType.class);
+    }
+
+    private static boolean readIpsecVpnRemotePeerTypeAttribute(IpsecVpnRemotePeerType value, String namespace,
+            String localName, String text) {
+
+        return readIpsecVpnManagedPeerTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpsecVpnRemotePeerTypeChild(XMLStreamReader reader, IpsecVpnRemotePeerType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "VcdUrl":
+                value.setVcdUrl(StaxBinding.readText(reader));
+                return true;
+            case "VcdOrganization":
+                value.setVcdOrganization(StaxBinding.readText(reader));
+                return true;
+            case "VcdUsername":
+                value.setVcdUsername(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readIpsecVpnManagedPeerTypeChild(reader, value);
+    }
+
+    private static IpsecVpnRemotePeerType readIpsecVpnRemotePeerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IpsecVpnRemotePeerType.class);
+        }
+
+        return newIpsecVpnRemotePeerType(reader);
+    }
+
+    static IpsecVpnRemotePeerType newIpsecVpnRemotePeerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IpsecVpnRemotePeerType value = new IpsecVpnRemotePeerType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIpsecVpnRemotePeerTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIpsecVpnRemotePeerTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIpsecVpnManagedPeerTypeAttribute(IpsecVpnManagedPeerType value, String namespace,
+            String localName, String text) {
+
+        return readIpsecVpnPeerTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpsecVpnManagedPeerTypeChild(XMLStreamReader reader, IpsecVpnManagedPeerType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "Id":
+                value.setId(StaxBinding.readText(reader));
+                return true;
+            case "Name":
+                value.setName(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readIpsecVpnPeerTypeChild(reader, value);
+    }
+
+    private static IpsecVpnManagedPeerType readIpsecVpnManagedPeerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        return StaxBinding.readDerived(reader, IpsecVpnManagedPeerType.class);
+    }
+
+    private static boolean readIpsecVpnThirdPartyPeerTypeAttribute(IpsecVpnThirdPartyPeerType value, String namespace,
+            String localName, String text) {
+
+        return readIpsecVpnUnmanagedPeerTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpsecVpnThirdPartyPeerTypeChild(XMLStreamReader reader, IpsecVpnThirdPartyPeerType value)
+            throws XMLStreamException {
+        String namespace = StaxBinding.namespace(reader.getNamespaceURI());
+
+        if (NS_VCLOUD.equals(namespace)) {
+            switch (reader.getLocalName()) {
+            case "PeerId":
+                value.setPeerId(StaxBinding.readText(reader));
+                return true;
+            }
+        }
+
+        return readIpsecVpnUnmanagedPeerTypeChild(reader, value);
+    }
+
+    private static IpsecVpnThirdPartyPeerType readIpsecVpnThirdPartyPeerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IpsecVpnThirdPartyPeerType.class);
+        }
+
+        return newIpsecVpnThirdPartyPeerType(reader);
+    }
+
+    static IpsecVpnThirdPartyPeerType newIpsecVpnThirdPartyPeerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IpsecVpnThirdPartyPeerType value = new IpsecVpnThirdPartyPeerType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIpsecVpnThirdPartyPeerTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIpsecVpnThirdPartyPeerTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean readIpsecVpnUnmanagedPeerTypeAttribute(IpsecVpnUnmanagedPeerType value, String namespace,
+            String localName, String text) {
+
+        return readIpsecVpnPeerTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpsecVpnUnmanagedPeerTypeChild(XMLStreamReader reader, IpsecVpnUnmanagedPeerType value)
+            throws XMLStreamException {
+        return readIpsecVpnPeerTypeChild(reader, value);
+    }
+
+    private static IpsecVpnUnmanagedPeerType readIpsecVpnUnmanagedPeerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        return StaxBinding.readDerived(reader, IpsecVpnUnmanagedPeerType.class);
+    }
+
+    private static boolean readIpsecVpnLocalPeerTypeAttribute(IpsecVpnLocalPeerType value, String namespace,
+            String localName, String text) {
+
+        return readIpsecVpnManagedPeerTypeAttribute(value, namespace, localName, text);
+    }
+
+    private static boolean readIpsecVpnLocalPeerTypeChild(XMLStreamReader reader, IpsecVpnLocalPeerType value)
+            throws XMLStreamException {
+        return readIpsecVpnManagedPeerTypeChild(reader, value);
+    }
+
+    private static IpsecVpnLocalPeerType readIpsecVpnLocalPeerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        if (StaxBinding.hasXsiType(reader)) {
+            return StaxBinding.readDerived(reader, IpsecVpnLocalPeerType.class);
+        }
+
+        return newIpsecVpnLocalPeerType(reader);
+    }
+
+    static IpsecVpnLocalPeerType newIpsecVpnLocalPeerType(XMLStreamReader reader)
+            throws XMLStreamException {
+        IpsecVpnLocalPeerType value = new IpsecVpnLocalPeerType();
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            String namespace = StaxBinding.namespace(reader.getAttributeNamespace(i));
+            if (!readIpsecVpnLocalPeerTypeAttribute(value, namespace, reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i))) {
+                StaxBinding.readOtherAttribute(value.getOtherAttributes(), reader, i);
+            }
+        }
+
+        reader.next();
+        while (StaxBinding.nextChild(reader)) {
+            if (!readIpsecVpnLocalPeerTypeChild(reader, value)) {
+                StaxBinding.skip(reader);
+            }
+        }
+
+        return value;
+    }
+
+    private static void writeTaskTypeAttributes(XMLStreamWriter writer, TaskType value)
+            throws XMLStreamException {
+        writeEntityType_schemaAttributes(writer, value);
+        if (null != value.isCancelRequested()) {
+            writer.writeAttribute("cancelRequested", DatatypeConverter.printBoolean(value.isCancelRequested()));
+        }
+        if (null != value.getEndTime()) {
+            writer.writeAttribute("endTime", value.getEndTime().toXMLFormat());
+        }
+        if (null != value.getExpiryTime()) {
+            writer.writeAttribute("expiryTime", value.getExpiryTime().toXMLFormat());
+        }
+        if (null != value.getOperation()) {
+            writer.writeAttribute("operation", value.getOperation());
+        }
+        if (null != value.getOperationName()) {
+            writer.writeAttribute("operationName", value.getOperationName());
+        }
+        if (null != value.getServiceNamespace()) {
+            writer.writeAttribute("serviceNamespace", value.getServiceNamespace());
+        }
+        if (null != value.getStartTime()) {
+            writer.writeAttribute("startTime", value.getStartTime().toXMLFormat());
+        }
+        if (null != value.getStatus()) {
+            writer.writeAttribute("status", value.getStatus());
+        }
+    }
+
+    private static void writeTaskTypeContent(XMLStreamWriter writer, TaskType value)
+            throws XMLStreamException {
+        writeEntityType_schemaContent(writer, value);
+        if (null != value.getOwner()) {
+            writeReferenceType(writer, NS_VCLOUD, "Owner", value.getOwner());
+        }
+        if (null != value.getError()) {
+            writeErrorType(writer, NS_VCLOUD, "Error", value.getError());
+        }
+        if (null != value.getUser()) {
+            writeReferenceType(writer, NS_VCLOUD, "User", value.getUser());
+        }
+        if (null != value.getOrganization()) {
+            writeReferenceType(writer, NS_VCLOUD, "Organization", value.getOrganization());
+        }
+        if (null != value.getProgress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Progress", DatatypeConverter.printInt(value.getProgress()));
+        }
+        if (null != value.getParams()) {
+            StaxBinding.writeElement(writer, NS_VCLOUD, "Params", Object.class, value.getParams());
+        }
+        if (null != value.getDetails()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Details", value.getDetails());
+        }
+    }
+
+    static void writeTaskType(XMLStreamWriter writer, TaskType value)
+            throws XMLStreamException {
+        writeTaskTypeAttributes(writer, value);
+        writeTaskTypeContent(writer, value);
+    }
+
+    private static void writeTaskType(XMLStreamWriter writer, String namespace,
+            String localName, TaskType value) throws XMLStreamException {
+        if (value.getClass() != TaskType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, TaskType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeTaskType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeEntityType_schemaAttributes(XMLStreamWriter writer, EntityType value)
+            throws XMLStreamException {
+        writeIdentifiableResourceTypeAttributes(writer, value);
+        if (null != value.getName()) {
+            writer.writeAttribute("name", value.getName());
+        }
+    }
+
+    private static void writeEntityType_schemaContent(XMLStreamWriter writer, EntityType value)
+            throws XMLStreamException {
+        writeIdentifiableResourceTypeContent(writer, value);
+        if (null != value.getDescription()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Description", value.getDescription());
+        }
+        if (null != value.getTasks()) {
+            writeTasksInProgressType(writer, NS_VCLOUD, "Tasks", value.getTasks());
+        }
+    }
+
+    static void writeEntityType_schema(XMLStreamWriter writer, EntityType value)
+            throws XMLStreamException {
+        writeEntityType_schemaAttributes(writer, value);
+        writeEntityType_schemaContent(writer, value);
+    }
+
+    private static void writeEntityType_schema(XMLStreamWriter writer, String namespace,
+            String localName, EntityType value) throws XMLStreamException {
+        if (value.getClass() != EntityType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, EntityType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeEntityType_schema(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIdentifiableResourceTypeAttributes(XMLStreamWriter writer, IdentifiableResourceType value)
+            throws XMLStreamException {
+        writeResourceType_schemaAttributes(writer, value);
+        if (null != value.getId()) {
+            writer.writeAttribute("id", value.getId());
+        }
+        if (null != value.getOperationKey()) {
+            writer.writeAttribute("operationKey", value.getOperationKey());
+        }
+    }
+
+    private static void writeIdentifiableResourceTypeContent(XMLStreamWriter writer, IdentifiableResourceType value)
+            throws XMLStreamException {
+        writeResourceType_schemaContent(writer, value);
+    }
+
+    static void writeIdentifiableResourceType(XMLStreamWriter writer, IdentifiableResourceType value)
+            throws XMLStreamException {
+        writeIdentifiableResourceTypeAttributes(writer, value);
+        writeIdentifiableResourceTypeContent(writer, value);
+    }
+
+    private static void writeIdentifiableResourceType(XMLStreamWriter writer, String namespace,
+            String localName, IdentifiableResourceType value) throws XMLStreamException {
+        if (value.getClass() != IdentifiableResourceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IdentifiableResourceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIdentifiableResourceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeResourceType_schemaAttributes(XMLStreamWriter writer, ResourceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+        if (null != value.getHref()) {
+            writer.writeAttribute("href", value.getHref());
+        }
+        if (null != value.getType()) {
+            writer.writeAttribute("type", value.getType());
+        }
+    }
+
+    private static void writeResourceType_schemaContent(XMLStreamWriter writer, ResourceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (LinkType item : value.getLink()) {
+            writeLinkType(writer, NS_VCLOUD, "Link", item);
+        }
+    }
+
+    static void writeResourceType_schema(XMLStreamWriter writer, ResourceType value)
+            throws XMLStreamException {
+        writeResourceType_schemaAttributes(writer, value);
+        writeResourceType_schemaContent(writer, value);
+    }
+
+    private static void writeResourceType_schema(XMLStreamWriter writer, String namespace,
+            String localName, ResourceType value) throws XMLStreamException {
+        if (value.getClass() != ResourceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ResourceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeResourceType_schema(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVCloudExtensibleTypeAttributes(XMLStreamWriter writer, VCloudExtensibleType value)
+            throws XMLStreamException {
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeVCloudExtensibleTypeContent(XMLStreamWriter writer, VCloudExtensibleType value)
+            throws XMLStreamException {
+        for (VCloudExtensionType item : value.getVCloudExtension()) {
+            StaxBinding.writeElement(writer, NS_VCLOUD, "VCloudExtension", VCloudExtensionType.class, item);
+        }
+    }
+
+    private static void writeLinkTypeAttributes(XMLStreamWriter writer, LinkType value)
+            throws XMLStreamException {
+        writeReferenceTypeAttributes(writer, value);
+        if (null != value.getRel()) {
+            writer.writeAttribute("rel", value.getRel());
+        }
+    }
+
+    private static void writeLinkTypeContent(XMLStreamWriter writer, LinkType value)
+            throws XMLStreamException {
+        writeReferenceTypeContent(writer, value);
+    }
+
+    static void writeLinkType(XMLStreamWriter writer, LinkType value)
+            throws XMLStreamException {
+        writeLinkTypeAttributes(writer, value);
+        writeLinkTypeContent(writer, value);
+    }
+
+    private static void writeLinkType(XMLStreamWriter writer, String namespace,
+            String localName, LinkType value) throws XMLStreamException {
+        if (value.getClass() != LinkType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, LinkType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeLinkType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeReferenceTypeAttributes(XMLStreamWriter writer, ReferenceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+        if (null != value.getHref()) {
+            writer.writeAttribute("href", value.getHref());
+        }
+        if (null != value.getId()) {
+            writer.writeAttribute("id", value.getId());
+        }
+        if (null != value.getName()) {
+            writer.writeAttribute("name", value.getName());
+        }
+        if (null != value.getType()) {
+            writer.writeAttribute("type", value.getType());
+        }
+    }
+
+    private static void writeReferenceTypeContent(XMLStreamWriter writer, ReferenceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+    }
+
+    static void writeReferenceType(XMLStreamWriter writer, ReferenceType value)
+            throws XMLStreamException {
+        writeReferenceTypeAttributes(writer, value);
+        writeReferenceTypeContent(writer, value);
+    }
+
+    private static void writeReferenceType(XMLStreamWriter writer, String namespace,
+            String localName, ReferenceType value) throws XMLStreamException {
+        if (value.getClass() != ReferenceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ReferenceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeReferenceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeTasksInProgressTypeAttributes(XMLStreamWriter writer, TasksInProgressType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeTasksInProgressTypeContent(XMLStreamWriter writer, TasksInProgressType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (TaskType item : value.getTask()) {
+            writeTaskType(writer, NS_VCLOUD, "Task", item);
+        }
+    }
+
+    static void writeTasksInProgressType(XMLStreamWriter writer, TasksInProgressType value)
+            throws XMLStreamException {
+        writeTasksInProgressTypeAttributes(writer, value);
+        writeTasksInProgressTypeContent(writer, value);
+    }
+
+    private static void writeTasksInProgressType(XMLStreamWriter writer, String namespace,
+            String localName, TasksInProgressType value) throws XMLStreamException {
+        if (value.getClass() != TasksInProgressType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, TasksInProgressType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeTasksInProgressType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeErrorTypeAttributes(XMLStreamWriter writer, ErrorType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+        writer.writeAttribute("majorErrorCode", DatatypeConverter.printInt(value.getMajorErrorCode()));
+        if (null != value.getMessage()) {
+            writer.writeAttribute("message", value.getMessage());
+        }
+        if (null != value.getMinorErrorCode()) {
+            writer.writeAttribute("minorErrorCode", value.getMinorErrorCode());
+        }
+        if (null != value.getStackTrace()) {
+            writer.writeAttribute("stackTrace", value.getStackTrace());
+        }
+        if (null != value.getVendorSpecificErrorCode()) {
+            writer.writeAttribute("vendorSpecificErrorCode", value.getVendorSpecificErrorCode());
+        }
+    }
+
+    private static void writeErrorTypeContent(XMLStreamWriter writer, ErrorType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+    }
+
+    static void writeErrorType(XMLStreamWriter writer, ErrorType value)
+            throws XMLStreamException {
+        writeErrorTypeAttributes(writer, value);
+        writeErrorTypeContent(writer, value);
+    }
+
+    private static void writeErrorType(XMLStreamWriter writer, String namespace,
+            String localName, ErrorType value) throws XMLStreamException {
+        if (value.getClass() != ErrorType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ErrorType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeErrorType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVAppTypeAttributes(XMLStreamWriter writer, VAppType value)
+            throws XMLStreamException {
+        writeAbstractVAppTypeAttributes(writer, value);
+        if (null != value.isOvfDescriptorUploaded()) {
+            writer.writeAttribute("ovfDescriptorUploaded", DatatypeConverter.printBoolean(value.isOvfDescriptorUploaded()));
+        }
+    }
+
+    private static void writeVAppTypeContent(XMLStreamWriter writer, VAppType value)
+            throws XMLStreamException {
+        writeAbstractVAppTypeContent(writer, value);
+        if (null != value.getOwner()) {
+            writeOwnerType(writer, NS_VCLOUD, "Owner", value.getOwner());
+        }
+        if (null != value.isInMaintenanceMode()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "InMaintenanceMode", DatatypeConverter.printBoolean(value.isInMaintenanceMode()));
+        }
+        if (null != value.getChildren()) {
+            writeVAppChildrenType(writer, NS_VCLOUD, "Children", value.getChildren());
+        }
+    }
+
+    static void writeVAppType(XMLStreamWriter writer, VAppType value)
+            throws XMLStreamException {
+        writeVAppTypeAttributes(writer, value);
+        writeVAppTypeContent(writer, value);
+    }
+
+    private static void writeVAppType(XMLStreamWriter writer, String namespace,
+            String localName, VAppType value) throws XMLStreamException {
+        if (value.getClass() != VAppType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VAppType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVAppType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeAbstractVAppTypeAttributes(XMLStreamWriter writer, AbstractVAppType value)
+            throws XMLStreamException {
+        writeResourceEntityTypeAttributes(writer, value);
+        if (null != value.isDeployed()) {
+            writer.writeAttribute("deployed", DatatypeConverter.printBoolean(value.isDeployed()));
+        }
+    }
+
+    private static void writeAbstractVAppTypeContent(XMLStreamWriter writer, AbstractVAppType value)
+            throws XMLStreamException {
+        writeResourceEntityTypeContent(writer, value);
+        if (null != value.getVAppParent()) {
+            writeReferenceType(writer, NS_VCLOUD, "VAppParent", value.getVAppParent());
+        }
+        for (JAXBElement<?> item : value.getSection()) {
+            StaxBinding.writeElement(writer, item);
+        }
+        if (null != value.getDateCreated()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "DateCreated", value.getDateCreated().toXMLFormat());
+        }
+    }
+
+    private static void writeResourceEntityTypeAttributes(XMLStreamWriter writer, ResourceEntityType value)
+            throws XMLStreamException {
+        writeEntityType_schemaAttributes(writer, value);
+        if (null != value.getStatus()) {
+            writer.writeAttribute("status", DatatypeConverter.printInt(value.getStatus()));
+        }
+    }
+
+    private static void writeResourceEntityTypeContent(XMLStreamWriter writer, ResourceEntityType value)
+            throws XMLStreamException {
+        writeEntityType_schemaContent(writer, value);
+        if (null != value.getFiles()) {
+            writeFilesListType(writer, NS_VCLOUD, "Files", value.getFiles());
+        }
+    }
+
+    static void writeResourceEntityType(XMLStreamWriter writer, ResourceEntityType value)
+            throws XMLStreamException {
+        writeResourceEntityTypeAttributes(writer, value);
+        writeResourceEntityTypeContent(writer, value);
+    }
+
+    private static void writeResourceEntityType(XMLStreamWriter writer, String namespace,
+            String localName, ResourceEntityType value) throws XMLStreamException {
+        if (value.getClass() != ResourceEntityType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ResourceEntityType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeResourceEntityType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeFilesListTypeAttributes(XMLStreamWriter writer, FilesListType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeFilesListTypeContent(XMLStreamWriter writer, FilesListType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (FileType item : value.getFile()) {
+            writeFileType(writer, NS_VCLOUD, "File", item);
+        }
+    }
+
+    static void writeFilesListType(XMLStreamWriter writer, FilesListType value)
+            throws XMLStreamException {
+        writeFilesListTypeAttributes(writer, value);
+        writeFilesListTypeContent(writer, value);
+    }
+
+    private static void writeFilesListType(XMLStreamWriter writer, String namespace,
+            String localName, FilesListType value) throws XMLStreamException {
+        if (value.getClass() != FilesListType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, FilesListType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeFilesListType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeFileTypeAttributes(XMLStreamWriter writer, FileType value)
+            throws XMLStreamException {
+        writeEntityType_schemaAttributes(writer, value);
+        if (null != value.getBytesTransferred()) {
+            writer.writeAttribute("bytesTransferred", DatatypeConverter.printLong(value.getBytesTransferred()));
+        }
+        if (null != value.getChecksum()) {
+            writer.writeAttribute("checksum", value.getChecksum());
+        }
+        if (null != value.getSize()) {
+            writer.writeAttribute("size", DatatypeConverter.printLong(value.getSize()));
+        }
+    }
+
+    private static void writeFileTypeContent(XMLStreamWriter writer, FileType value)
+            throws XMLStreamException {
+        writeEntityType_schemaContent(writer, value);
+    }
+
+    static void writeFileType(XMLStreamWriter writer, FileType value)
+            throws XMLStreamException {
+        writeFileTypeAttributes(writer, value);
+        writeFileTypeContent(writer, value);
+    }
+
+    private static void writeFileType(XMLStreamWriter writer, String namespace,
+            String localName, FileType value) throws XMLStreamException {
+        if (value.getClass() != FileType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, FileType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeFileType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeOwnerTypeAttributes(XMLStreamWriter writer, OwnerType value)
+            throws XMLStreamException {
+        writeResourceType_schemaAttributes(writer, value);
+    }
+
+    private static void writeOwnerTypeContent(XMLStreamWriter writer, OwnerType value)
+            throws XMLStreamException {
+        writeResourceType_schemaContent(writer, value);
+        if (null != value.getUser()) {
+            writeReferenceType(writer, NS_VCLOUD, "User", value.getUser());
+        }
+    }
+
+    static void writeOwnerType(XMLStreamWriter writer, OwnerType value)
+            throws XMLStreamException {
+        writeOwnerTypeAttributes(writer, value);
+        writeOwnerTypeContent(writer, value);
+    }
+
+    private static void writeOwnerType(XMLStreamWriter writer, String namespace,
+            String localName, OwnerType value) throws XMLStreamException {
+        if (value.getClass() != OwnerType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, OwnerType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeOwnerType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVAppChildrenTypeAttributes(XMLStreamWriter writer, VAppChildrenType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeVAppChildrenTypeContent(XMLStreamWriter writer, VAppChildrenType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (VAppType item : value.getVApp()) {
+            writeVAppType(writer, NS_VCLOUD, "VApp", item);
+        }
+        for (VmType item : value.getVm()) {
+            writeVmType(writer, NS_VCLOUD, "Vm", item);
+        }
+    }
+
+    static void writeVAppChildrenType(XMLStreamWriter writer, VAppChildrenType value)
+            throws XMLStreamException {
+        writeVAppChildrenTypeAttributes(writer, value);
+        writeVAppChildrenTypeContent(writer, value);
+    }
+
+    private static void writeVAppChildrenType(XMLStreamWriter writer, String namespace,
+            String localName, VAppChildrenType value) throws XMLStreamException {
+        if (value.getClass() != VAppChildrenType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VAppChildrenType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVAppChildrenType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVmTypeAttributes(XMLStreamWriter writer, VmType value)
+            throws XMLStreamException {
+        writeAbstractVAppTypeAttributes(writer, value);
+        if (null != value.isNeedsCustomization()) {
+            writer.writeAttribute("needsCustomization", DatatypeConverter.printBoolean(value.isNeedsCustomization()));
+        }
+        if (null != value.isNestedHypervisorEnabled()) {
+            writer.writeAttribute("nestedHypervisorEnabled", DatatypeConverter.printBoolean(value.isNestedHypervisorEnabled()));
+        }
+    }
+
+    private static void writeVmTypeContent(XMLStreamWriter writer, VmType value)
+            throws XMLStreamException {
+        writeAbstractVAppTypeContent(writer, value);
+        if (null != value.getVAppScopedLocalId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "VAppScopedLocalId", value.getVAppScopedLocalId());
+        }
+        if (null != value.getEnvironment()) {
+            writeEnvironmentType(writer, NS_OVFENV, "Environment", value.getEnvironment());
+        }
+        if (null != value.getVmCapabilities()) {
+            writeVmCapabilitiesType(writer, NS_VCLOUD, "VmCapabilities", value.getVmCapabilities());
+        }
+        if (null != value.getStorageProfile()) {
+            writeReferenceType(writer, NS_VCLOUD, "StorageProfile", value.getStorageProfile());
+        }
+    }
+
+    static void writeVmType(XMLStreamWriter writer, VmType value)
+            throws XMLStreamException {
+        writeVmTypeAttributes(writer, value);
+        writeVmTypeContent(writer, value);
+    }
+
+    private static void writeVmType(XMLStreamWriter writer, String namespace,
+            String localName, VmType value) throws XMLStreamException {
+        if (value.getClass() != VmType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VmType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVmType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeEnvironmentTypeAttributes(XMLStreamWriter writer, EnvironmentType value)
+            throws XMLStreamException {
+        if (null != value.getId()) {
+            StaxBinding.writeAttribute(writer, NS_OVFENV, "id", value.getId());
+        }
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeEnvironmentTypeContent(XMLStreamWriter writer, EnvironmentType value)
+            throws XMLStreamException {
+        for (JAXBElement<?> item : value.getSection()) {
+            StaxBinding.writeElement(writer, item);
+        }
+        for (com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType item : value.getEntity()) {
+            writeEntityType_environment(writer, NS_OVFENV, "Entity", item);
+        }
+        for (Object item : value.getAny()) {
+            StaxBinding.writeAny(writer, item);
+        }
+    }
+
+    static void writeEnvironmentType(XMLStreamWriter writer, EnvironmentType value)
+            throws XMLStreamException {
+        writeEnvironmentTypeAttributes(writer, value);
+        writeEnvironmentTypeContent(writer, value);
+    }
+
+    private static void writeEnvironmentType(XMLStreamWriter writer, String namespace,
+            String localName, EnvironmentType value) throws XMLStreamException {
+        if (value.getClass() != EnvironmentType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, EnvironmentType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeEnvironmentType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeEntityType_environmentAttributes(XMLStreamWriter writer, com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType value)
+            throws XMLStreamException {
+        if (null != value.getId()) {
+            StaxBinding.writeAttribute(writer, NS_OVFENV, "id", value.getId());
+        }
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeEntityType_environmentContent(XMLStreamWriter writer, com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType value)
+            throws XMLStreamException {
+        for (JAXBElement<?> item : value.getSection()) {
+            StaxBinding.writeElement(writer, item);
+        }
+        for (Object item : value.getAny()) {
+            StaxBinding.writeAny(writer, item);
+        }
+    }
+
+    static void writeEntityType_environment(XMLStreamWriter writer, com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType value)
+            throws XMLStreamException {
+        writeEntityType_environmentAttributes(writer, value);
+        writeEntityType_environmentContent(writer, value);
+    }
+
+    private static void writeEntityType_environment(XMLStreamWriter writer, String namespace,
+            String localName, com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType value) throws XMLStreamException {
+        if (value.getClass() != com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, com.vmware.vcloud.api.rest.schema.ovf.environment.EntityType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeEntityType_environment(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVmCapabilitiesTypeAttributes(XMLStreamWriter writer, VmCapabilitiesType value)
+            throws XMLStreamException {
+        writeResourceType_schemaAttributes(writer, value);
+    }
+
+    private static void writeVmCapabilitiesTypeContent(XMLStreamWriter writer, VmCapabilitiesType value)
+            throws XMLStreamException {
+        writeResourceType_schemaContent(writer, value);
+        if (null != value.isMemoryHotAddEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "MemoryHotAddEnabled", DatatypeConverter.printBoolean(value.isMemoryHotAddEnabled()));
+        }
+        if (null != value.isCpuHotAddEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "CpuHotAddEnabled", DatatypeConverter.printBoolean(value.isCpuHotAddEnabled()));
+        }
+    }
+
+    static void writeVmCapabilitiesType(XMLStreamWriter writer, VmCapabilitiesType value)
+            throws XMLStreamException {
+        writeVmCapabilitiesTypeAttributes(writer, value);
+        writeVmCapabilitiesTypeContent(writer, value);
+    }
+
+    private static void writeVmCapabilitiesType(XMLStreamWriter writer, String namespace,
+            String localName, VmCapabilitiesType value) throws XMLStreamException {
+        if (value.getClass() != VmCapabilitiesType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VmCapabilitiesType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVmCapabilitiesType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVdcTypeAttributes(XMLStreamWriter writer, VdcType value)
+            throws XMLStreamException {
+        writeEntityType_schemaAttributes(writer, value);
+        if (null != value.getStatus()) {
+            writer.writeAttribute("status", DatatypeConverter.printInt(value.getStatus()));
+        }
+    }
+
+    private static void writeVdcTypeContent(XMLStreamWriter writer, VdcType value)
+            throws XMLStreamException {
+        writeEntityType_schemaContent(writer, value);
+        if (null != value.getAllocationModel()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "AllocationModel", value.getAllocationModel());
+        }
+        if (null != value.getStorageCapacity()) {
+            writeCapacityWithUsageType(writer, NS_VCLOUD, "StorageCapacity", value.getStorageCapacity());
+        }
+        if (null != value.getComputeCapacity()) {
+            writeComputeCapacityType(writer, NS_VCLOUD, "ComputeCapacity", value.getComputeCapacity());
+        }
+        if (null != value.getResourceEntities()) {
+            writeResourceEntitiesType(writer, NS_VCLOUD, "ResourceEntities", value.getResourceEntities());
+        }
+        if (null != value.getAvailableNetworks()) {
+            writeAvailableNetworksType(writer, NS_VCLOUD, "AvailableNetworks", value.getAvailableNetworks());
+        }
+        if (null != value.getCapabilities()) {
+            writeCapabilitiesType(writer, NS_VCLOUD, "Capabilities", value.getCapabilities());
+        }
+        StaxBinding.writeText(writer, NS_VCLOUD, "NicQuota", DatatypeConverter.printInt(value.getNicQuota()));
+        StaxBinding.writeText(writer, NS_VCLOUD, "NetworkQuota", DatatypeConverter.printInt(value.getNetworkQuota()));
+        if (null != value.getUsedNetworkCount()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "UsedNetworkCount", DatatypeConverter.printInt(value.getUsedNetworkCount()));
+        }
+        if (null != value.getVmQuota()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "VmQuota", DatatypeConverter.printInt(value.getVmQuota()));
+        }
+        if (null != value.isIsEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsEnabled", DatatypeConverter.printBoolean(value.isIsEnabled()));
+        }
+        if (null != value.getVdcStorageProfiles()) {
+            writeVdcStorageProfilesType(writer, NS_VCLOUD, "VdcStorageProfiles", value.getVdcStorageProfiles());
+        }
+    }
+
+    static void writeVdcType(XMLStreamWriter writer, VdcType value)
+            throws XMLStreamException {
+        writeVdcTypeAttributes(writer, value);
+        writeVdcTypeContent(writer, value);
+    }
+
+    private static void writeVdcType(XMLStreamWriter writer, String namespace,
+            String localName, VdcType value) throws XMLStreamException {
+        if (value.getClass() != VdcType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VdcType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVdcType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCapacityWithUsageTypeAttributes(XMLStreamWriter writer, CapacityWithUsageType value)
+            throws XMLStreamException {
+        writeCapacityTypeAttributes(writer, value);
+    }
+
+    private static void writeCapacityWithUsageTypeContent(XMLStreamWriter writer, CapacityWithUsageType value)
+            throws XMLStreamException {
+        writeCapacityTypeContent(writer, value);
+        if (null != value.getReserved()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Reserved", DatatypeConverter.printLong(value.getReserved()));
+        }
+        if (null != value.getUsed()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Used", DatatypeConverter.printLong(value.getUsed()));
+        }
+        if (null != value.getOverhead()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Overhead", DatatypeConverter.printLong(value.getOverhead()));
+        }
+    }
+
+    static void writeCapacityWithUsageType(XMLStreamWriter writer, CapacityWithUsageType value)
+            throws XMLStreamException {
+        writeCapacityWithUsageTypeAttributes(writer, value);
+        writeCapacityWithUsageTypeContent(writer, value);
+    }
+
+    private static void writeCapacityWithUsageType(XMLStreamWriter writer, String namespace,
+            String localName, CapacityWithUsageType value) throws XMLStreamException {
+        if (value.getClass() != CapacityWithUsageType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CapacityWithUsageType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCapacityWithUsageType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCapacityTypeAttributes(XMLStreamWriter writer, CapacityType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeCapacityTypeContent(XMLStreamWriter writer, CapacityType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getUnits()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Units", value.getUnits());
+        }
+        if (null != value.getAllocated()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Allocated", DatatypeConverter.printLong(value.getAllocated()));
+        }
+        StaxBinding.writeText(writer, NS_VCLOUD, "Limit", DatatypeConverter.printLong(value.getLimit()));
+    }
+
+    static void writeCapacityType(XMLStreamWriter writer, CapacityType value)
+            throws XMLStreamException {
+        writeCapacityTypeAttributes(writer, value);
+        writeCapacityTypeContent(writer, value);
+    }
+
+    private static void writeCapacityType(XMLStreamWriter writer, String namespace,
+            String localName, CapacityType value) throws XMLStreamException {
+        if (value.getClass() != CapacityType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CapacityType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCapacityType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeComputeCapacityTypeAttributes(XMLStreamWriter writer, ComputeCapacityType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeComputeCapacityTypeContent(XMLStreamWriter writer, ComputeCapacityType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getCpu()) {
+            writeCapacityWithUsageType(writer, NS_VCLOUD, "Cpu", value.getCpu());
+        }
+        if (null != value.getMemory()) {
+            writeCapacityWithUsageType(writer, NS_VCLOUD, "Memory", value.getMemory());
+        }
+    }
+
+    static void writeComputeCapacityType(XMLStreamWriter writer, ComputeCapacityType value)
+            throws XMLStreamException {
+        writeComputeCapacityTypeAttributes(writer, value);
+        writeComputeCapacityTypeContent(writer, value);
+    }
+
+    private static void writeComputeCapacityType(XMLStreamWriter writer, String namespace,
+            String localName, ComputeCapacityType value) throws XMLStreamException {
+        if (value.getClass() != ComputeCapacityType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ComputeCapacityType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeComputeCapacityType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeResourceEntitiesTypeAttributes(XMLStreamWriter writer, ResourceEntitiesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeResourceEntitiesTypeContent(XMLStreamWriter writer, ResourceEntitiesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (ResourceReferenceType item : value.getResourceEntity()) {
+            writeResourceReferenceType(writer, NS_VCLOUD, "ResourceEntity", item);
+        }
+    }
+
+    static void writeResourceEntitiesType(XMLStreamWriter writer, ResourceEntitiesType value)
+            throws XMLStreamException {
+        writeResourceEntitiesTypeAttributes(writer, value);
+        writeResourceEntitiesTypeContent(writer, value);
+    }
+
+    private static void writeResourceEntitiesType(XMLStreamWriter writer, String namespace,
+            String localName, ResourceEntitiesType value) throws XMLStreamException {
+        if (value.getClass() != ResourceEntitiesType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ResourceEntitiesType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeResourceEntitiesType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeResourceReferenceTypeAttributes(XMLStreamWriter writer, ResourceReferenceType value)
+            throws XMLStreamException {
+        writeReferenceTypeAttributes(writer, value);
+        if (null != value.getStatus()) {
+            writer.writeAttribute("status", DatatypeConverter.printInt(value.getStatus()));
+        }
+    }
+
+    private static void writeResourceReferenceTypeContent(XMLStreamWriter writer, ResourceReferenceType value)
+            throws XMLStreamException {
+        writeReferenceTypeContent(writer, value);
+    }
+
+    static void writeResourceReferenceType(XMLStreamWriter writer, ResourceReferenceType value)
+            throws XMLStreamException {
+        writeResourceReferenceTypeAttributes(writer, value);
+        writeResourceReferenceTypeContent(writer, value);
+    }
+
+    private static void writeResourceReferenceType(XMLStreamWriter writer, String namespace,
+            String localName, ResourceReferenceType value) throws XMLStreamException {
+        if (value.getClass() != ResourceReferenceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ResourceReferenceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeResourceReferenceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeAvailableNetworksTypeAttributes(XMLStreamWriter writer, AvailableNetworksType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeAvailableNetworksTypeContent(XMLStreamWriter writer, AvailableNetworksType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (ReferenceType item : value.getNetwork()) {
+            writeReferenceType(writer, NS_VCLOUD, "Network", item);
+        }
+    }
+
+    static void writeAvailableNetworksType(XMLStreamWriter writer, AvailableNetworksType value)
+            throws XMLStreamException {
+        writeAvailableNetworksTypeAttributes(writer, value);
+        writeAvailableNetworksTypeContent(writer, value);
+    }
+
+    private static void writeAvailableNetworksType(XMLStreamWriter writer, String namespace,
+            String localName, AvailableNetworksType value) throws XMLStreamException {
+        if (value.getClass() != AvailableNetworksType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, AvailableNetworksType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeAvailableNetworksType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCapabilitiesTypeAttributes(XMLStreamWriter writer, CapabilitiesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeCapabilitiesTypeContent(XMLStreamWriter writer, CapabilitiesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getSupportedHardwareVersions()) {
+            writeSupportedHardwareVersionsType(writer, NS_VCLOUD, "SupportedHardwareVersions", value.getSupportedHardwareVersions());
+        }
+    }
+
+    static void writeCapabilitiesType(XMLStreamWriter writer, CapabilitiesType value)
+            throws XMLStreamException {
+        writeCapabilitiesTypeAttributes(writer, value);
+        writeCapabilitiesTypeContent(writer, value);
+    }
+
+    private static void writeCapabilitiesType(XMLStreamWriter writer, String namespace,
+            String localName, CapabilitiesType value) throws XMLStreamException {
+        if (value.getClass() != CapabilitiesType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CapabilitiesType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCapabilitiesType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeSupportedHardwareVersionsTypeAttributes(XMLStreamWriter writer, SupportedHardwareVersionsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeSupportedHardwareVersionsTypeContent(XMLStreamWriter writer, SupportedHardwareVersionsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (String item : value.getSupportedHardwareVersion()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "SupportedHardwareVersion", item);
+        }
+    }
+
+    static void writeSupportedHardwareVersionsType(XMLStreamWriter writer, SupportedHardwareVersionsType value)
+            throws XMLStreamException {
+        writeSupportedHardwareVersionsTypeAttributes(writer, value);
+        writeSupportedHardwareVersionsTypeContent(writer, value);
+    }
+
+    private static void writeSupportedHardwareVersionsType(XMLStreamWriter writer, String namespace,
+            String localName, SupportedHardwareVersionsType value) throws XMLStreamException {
+        if (value.getClass() != SupportedHardwareVersionsType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, SupportedHardwareVersionsType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeSupportedHardwareVersionsType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVdcStorageProfilesTypeAttributes(XMLStreamWriter writer, VdcStorageProfilesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeVdcStorageProfilesTypeContent(XMLStreamWriter writer, VdcStorageProfilesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (ReferenceType item : value.getVdcStorageProfile()) {
+            writeReferenceType(writer, NS_VCLOUD, "VdcStorageProfile", item);
+        }
+    }
+
+    static void writeVdcStorageProfilesType(XMLStreamWriter writer, VdcStorageProfilesType value)
+            throws XMLStreamException {
+        writeVdcStorageProfilesTypeAttributes(writer, value);
+        writeVdcStorageProfilesTypeContent(writer, value);
+    }
+
+    private static void writeVdcStorageProfilesType(XMLStreamWriter writer, String namespace,
+            String localName, VdcStorageProfilesType value) throws XMLStreamException {
+        if (value.getClass() != VdcStorageProfilesType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VdcStorageProfilesType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVdcStorageProfilesType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeMsgTypeAttributes(XMLStreamWriter writer, MsgType value)
+            throws XMLStreamException {
+        if (null != value.getMsgid()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "msgid", value.getMsgid());
+        }
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeMsgTypeContent(XMLStreamWriter writer, MsgType value)
+            throws XMLStreamException {
+        if (null != value.getValue()) {
+            writer.writeCharacters(value.getValue());
+        }
+    }
+
+    static void writeMsgType(XMLStreamWriter writer, MsgType value)
+            throws XMLStreamException {
+        writeMsgTypeAttributes(writer, value);
+        writeMsgTypeContent(writer, value);
+    }
+
+    private static void writeMsgType(XMLStreamWriter writer, String namespace,
+            String localName, MsgType value) throws XMLStreamException {
+        if (value.getClass() != MsgType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, MsgType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeMsgType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNetworkConnectionTypeAttributes(XMLStreamWriter writer, NetworkConnectionType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+        if (null != value.isNeedsCustomization()) {
+            writer.writeAttribute("needsCustomization", DatatypeConverter.printBoolean(value.isNeedsCustomization()));
+        }
+        if (null != value.getNetwork()) {
+            writer.writeAttribute("network", value.getNetwork());
+        }
+    }
+
+    private static void writeNetworkConnectionTypeContent(XMLStreamWriter writer, NetworkConnectionType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        StaxBinding.writeText(writer, NS_VCLOUD, "NetworkConnectionIndex", DatatypeConverter.printInt(value.getNetworkConnectionIndex()));
+        if (null != value.getIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IpAddress", value.getIpAddress());
+        }
+        if (null != value.getExternalIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ExternalIpAddress", value.getExternalIpAddress());
+        }
+        StaxBinding.writeText(writer, NS_VCLOUD, "IsConnected", DatatypeConverter.printBoolean(value.isIsConnected()));
+        if (null != value.getMACAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "MACAddress", value.getMACAddress());
+        }
+        if (null != value.getIpAddressAllocationMode()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IpAddressAllocationMode", value.getIpAddressAllocationMode());
+        }
+    }
+
+    static void writeNetworkConnectionType(XMLStreamWriter writer, NetworkConnectionType value)
+            throws XMLStreamException {
+        writeNetworkConnectionTypeAttributes(writer, value);
+        writeNetworkConnectionTypeContent(writer, value);
+    }
+
+    private static void writeNetworkConnectionType(XMLStreamWriter writer, String namespace,
+            String localName, NetworkConnectionType value) throws XMLStreamException {
+        if (value.getClass() != NetworkConnectionType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, NetworkConnectionType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeNetworkConnectionType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeGatewayTypeAttributes(XMLStreamWriter writer, GatewayType value)
+            throws XMLStreamException {
+        writeEntityType_schemaAttributes(writer, value);
+        if (null != value.getStatus()) {
+            writer.writeAttribute("status", DatatypeConverter.printInt(value.getStatus()));
+        }
+    }
+
+    private static void writeGatewayTypeContent(XMLStreamWriter writer, GatewayType value)
+            throws XMLStreamException {
+        writeEntityType_schemaContent(writer, value);
+        if (null != value.getConfiguration()) {
+            writeGatewayConfigurationType(writer, NS_VCLOUD, "Configuration", value.getConfiguration());
+        }
+    }
+
+    static void writeGatewayType(XMLStreamWriter writer, GatewayType value)
+            throws XMLStreamException {
+        writeGatewayTypeAttributes(writer, value);
+        writeGatewayTypeContent(writer, value);
+    }
+
+    private static void writeGatewayType(XMLStreamWriter writer, String namespace,
+            String localName, GatewayType value) throws XMLStreamException {
+        if (value.getClass() != GatewayType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, GatewayType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeGatewayType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeGatewayConfigurationTypeAttributes(XMLStreamWriter writer, GatewayConfigurationType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeGatewayConfigurationTypeContent(XMLStreamWriter writer, GatewayConfigurationType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.isBackwardCompatibilityMode()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "BackwardCompatibilityMode", DatatypeConverter.printBoolean(value.isBackwardCompatibilityMode()));
+        }
+        if (null != value.getGatewayBackingConfig()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "GatewayBackingConfig", value.getGatewayBackingConfig());
+        }
+        if (null != value.getGatewayInterfaces()) {
+            writeGatewayInterfacesType(writer, NS_VCLOUD, "GatewayInterfaces", value.getGatewayInterfaces());
+        }
+        if (null != value.getEdgeGatewayServiceConfiguration()) {
+            writeGatewayFeaturesType(writer, NS_VCLOUD, "EdgeGatewayServiceConfiguration", value.getEdgeGatewayServiceConfiguration());
+        }
+        if (null != value.isHaEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "HaEnabled", DatatypeConverter.printBoolean(value.isHaEnabled()));
+        }
+        if (null != value.isUseDefaultRouteForDnsRelay()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "UseDefaultRouteForDnsRelay", DatatypeConverter.printBoolean(value.isUseDefaultRouteForDnsRelay()));
+        }
+    }
+
+    static void writeGatewayConfigurationType(XMLStreamWriter writer, GatewayConfigurationType value)
+            throws XMLStreamException {
+        writeGatewayConfigurationTypeAttributes(writer, value);
+        writeGatewayConfigurationTypeContent(writer, value);
+    }
+
+    private static void writeGatewayConfigurationType(XMLStreamWriter writer, String namespace,
+            String localName, GatewayConfigurationType value) throws XMLStreamException {
+        if (value.getClass() != GatewayConfigurationType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, GatewayConfigurationType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeGatewayConfigurationType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeGatewayInterfacesTypeAttributes(XMLStreamWriter writer, GatewayInterfacesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeGatewayInterfacesTypeContent(XMLStreamWriter writer, GatewayInterfacesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (GatewayInterfaceType item : value.getGatewayInterface()) {
+            writeGatewayInterfaceType(writer, NS_VCLOUD, "GatewayInterface", item);
+        }
+    }
+
+    static void writeGatewayInterfacesType(XMLStreamWriter writer, GatewayInterfacesType value)
+            throws XMLStreamException {
+        writeGatewayInterfacesTypeAttributes(writer, value);
+        writeGatewayInterfacesTypeContent(writer, value);
+    }
+
+    private static void writeGatewayInterfacesType(XMLStreamWriter writer, String namespace,
+            String localName, GatewayInterfacesType value) throws XMLStreamException {
+        if (value.getClass() != GatewayInterfacesType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, GatewayInterfacesType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeGatewayInterfacesType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeGatewayInterfaceTypeAttributes(XMLStreamWriter writer, GatewayInterfaceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeGatewayInterfaceTypeContent(XMLStreamWriter writer, GatewayInterfaceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Name", value.getName());
+        }
+        if (null != value.getDisplayName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "DisplayName", value.getDisplayName());
+        }
+        if (null != value.getNetwork()) {
+            writeReferenceType(writer, NS_VCLOUD, "Network", value.getNetwork());
+        }
+        if (null != value.getInterfaceType()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "InterfaceType", value.getInterfaceType());
+        }
+        for (SubnetParticipationType item : value.getSubnetParticipation()) {
+            writeSubnetParticipationType(writer, NS_VCLOUD, "SubnetParticipation", item);
+        }
+        if (null != value.isApplyRateLimit()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ApplyRateLimit", DatatypeConverter.printBoolean(value.isApplyRateLimit()));
+        }
+        if (null != value.getInRateLimit()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "InRateLimit", DatatypeConverter.printDouble(value.getInRateLimit()));
+        }
+        if (null != value.getOutRateLimit()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "OutRateLimit", DatatypeConverter.printDouble(value.getOutRateLimit()));
+        }
+        if (null != value.isUseForDefaultRoute()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "UseForDefaultRoute", DatatypeConverter.printBoolean(value.isUseForDefaultRoute()));
+        }
+    }
+
+    static void writeGatewayInterfaceType(XMLStreamWriter writer, GatewayInterfaceType value)
+            throws XMLStreamException {
+        writeGatewayInterfaceTypeAttributes(writer, value);
+        writeGatewayInterfaceTypeContent(writer, value);
+    }
+
+    private static void writeGatewayInterfaceType(XMLStreamWriter writer, String namespace,
+            String localName, GatewayInterfaceType value) throws XMLStreamException {
+        if (value.getClass() != GatewayInterfaceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, GatewayInterfaceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeGatewayInterfaceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeSubnetParticipationTypeAttributes(XMLStreamWriter writer, SubnetParticipationType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeSubnetParticipationTypeContent(XMLStreamWriter writer, SubnetParticipationType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getGateway()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Gateway", value.getGateway());
+        }
+        if (null != value.getNetmask()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Netmask", value.getNetmask());
+        }
+        if (null != value.getIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IpAddress", value.getIpAddress());
+        }
+        if (null != value.getIpRanges()) {
+            writeIpRangesType(writer, NS_VCLOUD, "IpRanges", value.getIpRanges());
+        }
+    }
+
+    static void writeSubnetParticipationType(XMLStreamWriter writer, SubnetParticipationType value)
+            throws XMLStreamException {
+        writeSubnetParticipationTypeAttributes(writer, value);
+        writeSubnetParticipationTypeContent(writer, value);
+    }
+
+    private static void writeSubnetParticipationType(XMLStreamWriter writer, String namespace,
+            String localName, SubnetParticipationType value) throws XMLStreamException {
+        if (value.getClass() != SubnetParticipationType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, SubnetParticipationType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeSubnetParticipationType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIpRangesTypeAttributes(XMLStreamWriter writer, IpRangesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeIpRangesTypeContent(XMLStreamWriter writer, IpRangesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (IpRangeType item : value.getIpRange()) {
+            writeIpRangeType(writer, NS_VCLOUD, "IpRange", item);
+        }
+    }
+
+    static void writeIpRangesType(XMLStreamWriter writer, IpRangesType value)
+            throws XMLStreamException {
+        writeIpRangesTypeAttributes(writer, value);
+        writeIpRangesTypeContent(writer, value);
+    }
+
+    private static void writeIpRangesType(XMLStreamWriter writer, String namespace,
+            String localName, IpRangesType value) throws XMLStreamException {
+        if (value.getClass() != IpRangesType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IpRangesType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIpRangesType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIpRangeTypeAttributes(XMLStreamWriter writer, IpRangeType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeIpRangeTypeContent(XMLStreamWriter writer, IpRangeType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getStartAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "StartAddress", value.getStartAddress());
+        }
+        if (null != value.getEndAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "EndAddress", value.getEndAddress());
+        }
+    }
+
+    static void writeIpRangeType(XMLStreamWriter writer, IpRangeType value)
+            throws XMLStreamException {
+        writeIpRangeTypeAttributes(writer, value);
+        writeIpRangeTypeContent(writer, value);
+    }
+
+    private static void writeIpRangeType(XMLStreamWriter writer, String namespace,
+            String localName, IpRangeType value) throws XMLStreamException {
+        if (value.getClass() != IpRangeType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IpRangeType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIpRangeType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeGatewayFeaturesTypeAttributes(XMLStreamWriter writer, GatewayFeaturesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeGatewayFeaturesTypeContent(XMLStreamWriter writer, GatewayFeaturesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (JAXBElement<?> item : value.getNetworkService()) {
+            StaxBinding.writeElement(writer, item);
+        }
+    }
+
+    static void writeGatewayFeaturesType(XMLStreamWriter writer, GatewayFeaturesType value)
+            throws XMLStreamException {
+        writeGatewayFeaturesTypeAttributes(writer, value);
+        writeGatewayFeaturesTypeContent(writer, value);
+    }
+
+    private static void writeGatewayFeaturesType(XMLStreamWriter writer, String namespace,
+            String localName, GatewayFeaturesType value) throws XMLStreamException {
+        if (value.getClass() != GatewayFeaturesType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, GatewayFeaturesType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeGatewayFeaturesType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeInstantiateVAppTemplateParamsTypeAttributes(XMLStreamWriter writer, InstantiateVAppTemplateParamsType value)
+            throws XMLStreamException {
+        writeInstantiateVAppParamsTypeAttributes(writer, value);
+    }
+
+    private static void writeInstantiateVAppTemplateParamsTypeContent(XMLStreamWriter writer, InstantiateVAppTemplateParamsType value)
+            throws XMLStreamException {
+        writeInstantiateVAppParamsTypeContent(writer, value);
+        if (null != value.isAllEULAsAccepted()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "AllEULAsAccepted", DatatypeConverter.printBoolean(value.isAllEULAsAccepted()));
+        }
+    }
+
+    static void writeInstantiateVAppTemplateParamsType(XMLStreamWriter writer, InstantiateVAppTemplateParamsType value)
+            throws XMLStreamException {
+        writeInstantiateVAppTemplateParamsTypeAttributes(writer, value);
+        writeInstantiateVAppTemplateParamsTypeContent(writer, value);
+    }
+
+    private static void writeInstantiateVAppTemplateParamsType(XMLStreamWriter writer, String namespace,
+            String localName, InstantiateVAppTemplateParamsType value) throws XMLStreamException {
+        if (value.getClass() != InstantiateVAppTemplateParamsType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, InstantiateVAppTemplateParamsType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeInstantiateVAppTemplateParamsType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeInstantiateVAppParamsTypeAttributes(XMLStreamWriter writer, InstantiateVAppParamsType value)
+            throws XMLStreamException {
+        writeVAppCreationParamsTypeAttributes(writer, value);
+        if (null != value.isLinkedClone()) {
+            writer.writeAttribute("linkedClone", DatatypeConverter.printBoolean(value.isLinkedClone()));
+        }
+    }
+
+    private static void writeInstantiateVAppParamsTypeContent(XMLStreamWriter writer, InstantiateVAppParamsType value)
+            throws XMLStreamException {
+        writeVAppCreationParamsTypeContent(writer, value);
+        if (null != value.getSource()) {
+            writeReferenceType(writer, NS_VCLOUD, "Source", value.getSource());
+        }
+        if (null != value.isIsSourceDelete()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsSourceDelete", DatatypeConverter.printBoolean(value.isIsSourceDelete()));
+        }
+        for (SourcedVmInstantiationParamsType item : value.getSourcedVmInstantiationParams()) {
+            writeSourcedVmInstantiationParamsType(writer, NS_VCLOUD, "SourcedVmInstantiationParams", item);
+        }
+    }
+
+    static void writeInstantiateVAppParamsType(XMLStreamWriter writer, InstantiateVAppParamsType value)
+            throws XMLStreamException {
+        writeInstantiateVAppParamsTypeAttributes(writer, value);
+        writeInstantiateVAppParamsTypeContent(writer, value);
+    }
+
+    private static void writeInstantiateVAppParamsType(XMLStreamWriter writer, String namespace,
+            String localName, InstantiateVAppParamsType value) throws XMLStreamException {
+        if (value.getClass() != InstantiateVAppParamsType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, InstantiateVAppParamsType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeInstantiateVAppParamsType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVAppCreationParamsTypeAttributes(XMLStreamWriter writer, VAppCreationParamsType value)
+            throws XMLStreamException {
+        writeParamsTypeAttributes(writer, value);
+        if (null != value.isDeploy()) {
+            writer.writeAttribute("deploy", DatatypeConverter.printBoolean(value.isDeploy()));
+        }
+        if (null != value.isPowerOn()) {
+            writer.writeAttribute("powerOn", DatatypeConverter.printBoolean(value.isPowerOn()));
+        }
+    }
+
+    private static void writeVAppCreationParamsTypeContent(XMLStreamWriter writer, VAppCreationParamsType value)
+            throws XMLStreamException {
+        writeParamsTypeContent(writer, value);
+        if (null != value.getVAppParent()) {
+            writeReferenceType(writer, NS_VCLOUD, "VAppParent", value.getVAppParent());
+        }
+        if (null != value.getInstantiationParams()) {
+            writeInstantiationParamsType(writer, NS_VCLOUD, "InstantiationParams", value.getInstantiationParams());
+        }
+    }
+
+    static void writeVAppCreationParamsType(XMLStreamWriter writer, VAppCreationParamsType value)
+            throws XMLStreamException {
+        writeVAppCreationParamsTypeAttributes(writer, value);
+        writeVAppCreationParamsTypeContent(writer, value);
+    }
+
+    private static void writeVAppCreationParamsType(XMLStreamWriter writer, String namespace,
+            String localName, VAppCreationParamsType value) throws XMLStreamException {
+        if (value.getClass() != VAppCreationParamsType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VAppCreationParamsType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVAppCreationParamsType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeParamsTypeAttributes(XMLStreamWriter writer, ParamsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+        if (null != value.getName()) {
+            writer.writeAttribute("name", value.getName());
+        }
+    }
+
+    private static void writeParamsTypeContent(XMLStreamWriter writer, ParamsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getDescription()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Description", value.getDescription());
+        }
+    }
+
+    static void writeParamsType(XMLStreamWriter writer, ParamsType value)
+            throws XMLStreamException {
+        writeParamsTypeAttributes(writer, value);
+        writeParamsTypeContent(writer, value);
+    }
+
+    private static void writeParamsType(XMLStreamWriter writer, String namespace,
+            String localName, ParamsType value) throws XMLStreamException {
+        if (value.getClass() != ParamsType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ParamsType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeParamsType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeInstantiationParamsTypeAttributes(XMLStreamWriter writer, InstantiationParamsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeInstantiationParamsTypeContent(XMLStreamWriter writer, InstantiationParamsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (JAXBElement<?> item : value.getSection()) {
+            StaxBinding.writeElement(writer, item);
+        }
+    }
+
+    static void writeInstantiationParamsType(XMLStreamWriter writer, InstantiationParamsType value)
+            throws XMLStreamException {
+        writeInstantiationParamsTypeAttributes(writer, value);
+        writeInstantiationParamsTypeContent(writer, value);
+    }
+
+    private static void writeInstantiationParamsType(XMLStreamWriter writer, String namespace,
+            String localName, InstantiationParamsType value) throws XMLStreamException {
+        if (value.getClass() != InstantiationParamsType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, InstantiationParamsType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeInstantiationParamsType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeSourcedVmInstantiationParamsTypeAttributes(XMLStreamWriter writer, SourcedVmInstantiationParamsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeSourcedVmInstantiationParamsTypeContent(XMLStreamWriter writer, SourcedVmInstantiationParamsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getSource()) {
+            writeReferenceType(writer, NS_VCLOUD, "Source", value.getSource());
+        }
+        if (null != value.getStorageProfile()) {
+            writeReferenceType(writer, NS_VCLOUD, "StorageProfile", value.getStorageProfile());
+        }
+        if (null != value.getLocalityParams()) {
+            writeLocalityParamsType(writer, NS_VCLOUD, "LocalityParams", value.getLocalityParams());
+        }
+    }
+
+    static void writeSourcedVmInstantiationParamsType(XMLStreamWriter writer, SourcedVmInstantiationParamsType value)
+            throws XMLStreamException {
+        writeSourcedVmInstantiationParamsTypeAttributes(writer, value);
+        writeSourcedVmInstantiationParamsTypeContent(writer, value);
+    }
+
+    private static void writeSourcedVmInstantiationParamsType(XMLStreamWriter writer, String namespace,
+            String localName, SourcedVmInstantiationParamsType value) throws XMLStreamException {
+        if (value.getClass() != SourcedVmInstantiationParamsType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, SourcedVmInstantiationParamsType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeSourcedVmInstantiationParamsType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeLocalityParamsTypeAttributes(XMLStreamWriter writer, LocalityParamsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeLocalityParamsTypeContent(XMLStreamWriter writer, LocalityParamsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (ReferenceType item : value.getResourceEntity()) {
+            writeReferenceType(writer, NS_VCLOUD, "ResourceEntity", item);
+        }
+    }
+
+    static void writeLocalityParamsType(XMLStreamWriter writer, LocalityParamsType value)
+            throws XMLStreamException {
+        writeLocalityParamsTypeAttributes(writer, value);
+        writeLocalityParamsTypeContent(writer, value);
+    }
+
+    private static void writeLocalityParamsType(XMLStreamWriter writer, String namespace,
+            String localName, LocalityParamsType value) throws XMLStreamException {
+        if (value.getClass() != LocalityParamsType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, LocalityParamsType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeLocalityParamsType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeDeployVAppParamsTypeAttributes(XMLStreamWriter writer, DeployVAppParamsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+        if (null != value.getDeploymentLeaseSeconds()) {
+            writer.writeAttribute("deploymentLeaseSeconds", DatatypeConverter.printInt(value.getDeploymentLeaseSeconds()));
+        }
+        if (null != value.isForceCustomization()) {
+            writer.writeAttribute("forceCustomization", DatatypeConverter.printBoolean(value.isForceCustomization()));
+        }
+        if (null != value.isPowerOn()) {
+            writer.writeAttribute("powerOn", DatatypeConverter.printBoolean(value.isPowerOn()));
+        }
+    }
+
+    private static void writeDeployVAppParamsTypeContent(XMLStreamWriter writer, DeployVAppParamsType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+    }
+
+    static void writeDeployVAppParamsType(XMLStreamWriter writer, DeployVAppParamsType value)
+            throws XMLStreamException {
+        writeDeployVAppParamsTypeAttributes(writer, value);
+        writeDeployVAppParamsTypeContent(writer, value);
+    }
+
+    private static void writeDeployVAppParamsType(XMLStreamWriter writer, String namespace,
+            String localName, DeployVAppParamsType value) throws XMLStreamException {
+        if (value.getClass() != DeployVAppParamsType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, DeployVAppParamsType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeDeployVAppParamsType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVMWareToolsAttributes(XMLStreamWriter writer, VMWareTools value)
+            throws XMLStreamException {
+        if (null != value.getVersion()) {
+            writer.writeAttribute("version", value.getVersion());
+        }
+    }
+
+    private static void writeVMWareToolsContent(XMLStreamWriter writer, VMWareTools value)
+            throws XMLStreamException {
+    }
+
+    static void writeVMWareTools(XMLStreamWriter writer, VMWareTools value)
+            throws XMLStreamException {
+        writeVMWareToolsAttributes(writer, value);
+        writeVMWareToolsContent(writer, value);
+    }
+
+    private static void writeVMWareTools(XMLStreamWriter writer, String namespace,
+            String localName, VMWareTools value) throws XMLStreamException {
+        if (value.getClass() != VMWareTools.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VMWareTools.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVMWareTools(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVAppNetworkConfigurationTypeAttributes(XMLStreamWriter writer, VAppNetworkConfigurationType value)
+            throws XMLStreamException {
+        writeResourceType_schemaAttributes(writer, value);
+        if (null != value.getNetworkName()) {
+            writer.writeAttribute("networkName", value.getNetworkName());
+        }
+    }
+
+    private static void writeVAppNetworkConfigurationTypeContent(XMLStreamWriter writer, VAppNetworkConfigurationType value)
+            throws XMLStreamException {
+        writeResourceType_schemaContent(writer, value);
+        if (null != value.getDescription()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Description", value.getDescription());
+        }
+        if (null != value.getConfiguration()) {
+            writeNetworkConfigurationType(writer, NS_VCLOUD, "Configuration", value.getConfiguration());
+        }
+        if (null != value.isIsDeployed()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsDeployed", DatatypeConverter.printBoolean(value.isIsDeployed()));
+        }
+    }
+
+    static void writeVAppNetworkConfigurationType(XMLStreamWriter writer, VAppNetworkConfigurationType value)
+            throws XMLStreamException {
+        writeVAppNetworkConfigurationTypeAttributes(writer, value);
+        writeVAppNetworkConfigurationTypeContent(writer, value);
+    }
+
+    private static void writeVAppNetworkConfigurationType(XMLStreamWriter writer, String namespace,
+            String localName, VAppNetworkConfigurationType value) throws XMLStreamException {
+        if (value.getClass() != VAppNetworkConfigurationType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VAppNetworkConfigurationType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVAppNetworkConfigurationType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNetworkConfigurationTypeAttributes(XMLStreamWriter writer, NetworkConfigurationType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeNetworkConfigurationTypeContent(XMLStreamWriter writer, NetworkConfigurationType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.isBackwardCompatibilityMode()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "BackwardCompatibilityMode", DatatypeConverter.printBoolean(value.isBackwardCompatibilityMode()));
+        }
+        if (null != value.getIpScope()) {
+            writeIpScopeType(writer, NS_VCLOUD, "IpScope", value.getIpScope());
+        }
+        if (null != value.getIpScopes()) {
+            writeIpScopesType(writer, NS_VCLOUD, "IpScopes", value.getIpScopes());
+        }
+        if (null != value.getParentNetwork()) {
+            writeReferenceType(writer, NS_VCLOUD, "ParentNetwork", value.getParentNetwork());
+        }
+        if (null != value.getFenceMode()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "FenceMode", value.getFenceMode());
+        }
+        if (null != value.isRetainNetInfoAcrossDeployments()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "RetainNetInfoAcrossDeployments", DatatypeConverter.printBoolean(value.isRetainNetInfoAcrossDeployments()));
+        }
+        if (null != value.getFeatures()) {
+            writeNetworkFeaturesType(writer, NS_VCLOUD, "Features", value.getFeatures());
+        }
+        if (null != value.getSyslogServerSettings()) {
+            writeSyslogServerSettingsType(writer, NS_VCLOUD, "SyslogServerSettings", value.getSyslogServerSettings());
+        }
+        if (null != value.getRouterInfo()) {
+            writeRouterInfoType(writer, NS_VCLOUD, "RouterInfo", value.getRouterInfo());
+        }
+    }
+
+    static void writeNetworkConfigurationType(XMLStreamWriter writer, NetworkConfigurationType value)
+            throws XMLStreamException {
+        writeNetworkConfigurationTypeAttributes(writer, value);
+        writeNetworkConfigurationTypeContent(writer, value);
+    }
+
+    private static void writeNetworkConfigurationType(XMLStreamWriter writer, String namespace,
+            String localName, NetworkConfigurationType value) throws XMLStreamException {
+        if (value.getClass() != NetworkConfigurationType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, NetworkConfigurationType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeNetworkConfigurationType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIpScopeTypeAttributes(XMLStreamWriter writer, IpScopeType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeIpScopeTypeContent(XMLStreamWriter writer, IpScopeType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        StaxBinding.writeText(writer, NS_VCLOUD, "IsInherited", DatatypeConverter.printBoolean(value.isIsInherited()));
+        if (null != value.getGateway()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Gateway", value.getGateway());
+        }
+        if (null != value.getNetmask()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Netmask", value.getNetmask());
+        }
+        if (null != value.getDns1()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Dns1", value.getDns1());
+        }
+        if (null != value.getDns2()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Dns2", value.getDns2());
+        }
+        if (null != value.getDnsSuffix()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "DnsSuffix", value.getDnsSuffix());
+        }
+        if (null != value.isIsEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsEnabled", DatatypeConverter.printBoolean(value.isIsEnabled()));
+        }
+        if (null != value.getIpRanges()) {
+            writeIpRangesType(writer, NS_VCLOUD, "IpRanges", value.getIpRanges());
+        }
+        if (null != value.getAllocatedIpAddresses()) {
+            writeIpAddressesType(writer, NS_VCLOUD, "AllocatedIpAddresses", value.getAllocatedIpAddresses());
+        }
+        if (null != value.getSubAllocations()) {
+            writeSubAllocationsType(writer, NS_VCLOUD, "SubAllocations", value.getSubAllocations());
+        }
+    }
+
+    static void writeIpScopeType(XMLStreamWriter writer, IpScopeType value)
+            throws XMLStreamException {
+        writeIpScopeTypeAttributes(writer, value);
+        writeIpScopeTypeContent(writer, value);
+    }
+
+    private static void writeIpScopeType(XMLStreamWriter writer, String namespace,
+            String localName, IpScopeType value) throws XMLStreamException {
+        if (value.getClass() != IpScopeType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IpScopeType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIpScopeType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIpAddressesTypeAttributes(XMLStreamWriter writer, IpAddressesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeIpAddressesTypeContent(XMLStreamWriter writer, IpAddressesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (String item : value.getIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IpAddress", item);
+        }
+    }
+
+    static void writeIpAddressesType(XMLStreamWriter writer, IpAddressesType value)
+            throws XMLStreamException {
+        writeIpAddressesTypeAttributes(writer, value);
+        writeIpAddressesTypeContent(writer, value);
+    }
+
+    private static void writeIpAddressesType(XMLStreamWriter writer, String namespace,
+            String localName, IpAddressesType value) throws XMLStreamException {
+        if (value.getClass() != IpAddressesType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IpAddressesType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIpAddressesType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeSubAllocationsTypeAttributes(XMLStreamWriter writer, SubAllocationsType value)
+            throws XMLStreamException {
+        writeResourceType_schemaAttributes(writer, value);
+    }
+
+    private static void writeSubAllocationsTypeContent(XMLStreamWriter writer, SubAllocationsType value)
+            throws XMLStreamException {
+        writeResourceType_schemaContent(writer, value);
+        for (SubAllocationType item : value.getSubAllocation()) {
+            writeSubAllocationType(writer, NS_VCLOUD, "SubAllocation", item);
+        }
+    }
+
+    static void writeSubAllocationsType(XMLStreamWriter writer, SubAllocationsType value)
+            throws XMLStreamException {
+        writeSubAllocationsTypeAttributes(writer, value);
+        writeSubAllocationsTypeContent(writer, value);
+    }
+
+    private static void writeSubAllocationsType(XMLStreamWriter writer, String namespace,
+            String localName, SubAllocationsType value) throws XMLStreamException {
+        if (value.getClass() != SubAllocationsType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, SubAllocationsType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeSubAllocationsType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeSubAllocationTypeAttributes(XMLStreamWriter writer, SubAllocationType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeSubAllocationTypeContent(XMLStreamWriter writer, SubAllocationType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getEdgeGateway()) {
+            writeReferenceType(writer, NS_VCLOUD, "EdgeGateway", value.getEdgeGateway());
+        }
+        if (null != value.getIpRanges()) {
+            writeIpRangesType(writer, NS_VCLOUD, "IpRanges", value.getIpRanges());
+        }
+    }
+
+    static void writeSubAllocationType(XMLStreamWriter writer, SubAllocationType value)
+            throws XMLStreamException {
+        writeSubAllocationTypeAttributes(writer, value);
+        writeSubAllocationTypeContent(writer, value);
+    }
+
+    private static void writeSubAllocationType(XMLStreamWriter writer, String namespace,
+            String localName, SubAllocationType value) throws XMLStreamException {
+        if (value.getClass() != SubAllocationType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, SubAllocationType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeSubAllocationType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIpScopesTypeAttributes(XMLStreamWriter writer, IpScopesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeIpScopesTypeContent(XMLStreamWriter writer, IpScopesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        for (IpScopeType item : value.getIpScope()) {
+            writeIpScopeType(writer, NS_VCLOUD, "IpScope", item);
+        }
+    }
+
+    static void writeIpScopesType(XMLStreamWriter writer, IpScopesType value)
+            throws XMLStreamException {
+        writeIpScopesTypeAttributes(writer, value);
+        writeIpScopesTypeContent(writer, value);
+    }
+
+    private static void writeIpScopesType(XMLStreamWriter writer, String namespace,
+            String localName, IpScopesType value) throws XMLStreamException {
+        if (value.getClass() != IpScopesType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IpScopesType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIpScopesType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNetworkFeaturesTypeAttributes(XMLStreamWriter writer, NetworkFeaturesType value)
+            throws XMLStreamException {
+    }
+
+    private static void writeNetworkFeaturesTypeContent(XMLStreamWriter writer, NetworkFeaturesType value)
+            throws XMLStreamException {
+        for (JAXBElement<?> item : value.getNetworkService()) {
+            StaxBinding.writeElement(writer, item);
+        }
+    }
+
+    static void writeNetworkFeaturesType(XMLStreamWriter writer, NetworkFeaturesType value)
+            throws XMLStreamException {
+        writeNetworkFeaturesTypeAttributes(writer, value);
+        writeNetworkFeaturesTypeContent(writer, value);
+    }
+
+    private static void writeNetworkFeaturesType(XMLStreamWriter writer, String namespace,
+            String localName, NetworkFeaturesType value) throws XMLStreamException {
+        if (value.getClass() != NetworkFeaturesType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, NetworkFeaturesType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeNetworkFeaturesType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeSyslogServerSettingsTypeAttributes(XMLStreamWriter writer, SyslogServerSettingsType value)
+            throws XMLStreamException {
+    }
+
+    private static void writeSyslogServerSettingsTypeContent(XMLStreamWriter writer, SyslogServerSettingsType value)
+            throws XMLStreamException {
+        if (null != value.getSyslogServerIp1()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "SyslogServerIp1", value.getSyslogServerIp1());
+        }
+        if (null != value.getSyslogServerIp2()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "SyslogServerIp2", value.getSyslogServerIp2());
+        }
+    }
+
+    static void writeSyslogServerSettingsType(XMLStreamWriter writer, SyslogServerSettingsType value)
+            throws XMLStreamException {
+        writeSyslogServerSettingsTypeAttributes(writer, value);
+        writeSyslogServerSettingsTypeContent(writer, value);
+    }
+
+    private static void writeSyslogServerSettingsType(XMLStreamWriter writer, String namespace,
+            String localName, SyslogServerSettingsType value) throws XMLStreamException {
+        if (value.getClass() != SyslogServerSettingsType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, SyslogServerSettingsType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeSyslogServerSettingsType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeRouterInfoTypeAttributes(XMLStreamWriter writer, RouterInfoType value)
+            throws XMLStreamException {
+    }
+
+    private static void writeRouterInfoTypeContent(XMLStreamWriter writer, RouterInfoType value)
+            throws XMLStreamException {
+        if (null != value.getExternalIp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ExternalIp", value.getExternalIp());
+        }
+    }
+
+    static void writeRouterInfoType(XMLStreamWriter writer, RouterInfoType value)
+            throws XMLStreamException {
+        writeRouterInfoTypeAttributes(writer, value);
+        writeRouterInfoTypeContent(writer, value);
+    }
+
+    private static void writeRouterInfoType(XMLStreamWriter writer, String namespace,
+            String localName, RouterInfoType value) throws XMLStreamException {
+        if (value.getClass() != RouterInfoType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, RouterInfoType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeRouterInfoType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeSnapshotTypeAttributes(XMLStreamWriter writer, SnapshotType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+        if (null != value.getCreated()) {
+            writer.writeAttribute("created", value.getCreated().toXMLFormat());
+        }
+        writer.writeAttribute("poweredOn", DatatypeConverter.printBoolean(value.isPoweredOn()));
+        writer.writeAttribute("size", DatatypeConverter.printLong(value.getSize()));
+    }
+
+    private static void writeSnapshotTypeContent(XMLStreamWriter writer, SnapshotType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+    }
+
+    static void writeSnapshotType(XMLStreamWriter writer, SnapshotType value)
+            throws XMLStreamException {
+        writeSnapshotTypeAttributes(writer, value);
+        writeSnapshotTypeContent(writer, value);
+    }
+
+    private static void writeSnapshotType(XMLStreamWriter writer, String namespace,
+            String localName, SnapshotType value) throws XMLStreamException {
+        if (value.getClass() != SnapshotType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, SnapshotType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeSnapshotType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVirtualDiskDescTypeAttributes(XMLStreamWriter writer, VirtualDiskDescType value)
+            throws XMLStreamException {
+        if (null != value.getCapacity()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "capacity", value.getCapacity());
+        }
+        if (null != value.getCapacityAllocationUnits()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "capacityAllocationUnits", value.getCapacityAllocationUnits());
+        }
+        if (null != value.getDiskId()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "diskId", value.getDiskId());
+        }
+        if (null != value.getFileRef()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "fileRef", value.getFileRef());
+        }
+        if (null != value.getFormat()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "format", value.getFormat());
+        }
+        if (null != value.getParentRef()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "parentRef", value.getParentRef());
+        }
+        if (null != value.getPopulatedSize()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "populatedSize", DatatypeConverter.printLong(value.getPopulatedSize()));
+        }
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeVirtualDiskDescTypeContent(XMLStreamWriter writer, VirtualDiskDescType value)
+            throws XMLStreamException {
+        for (Object item : value.getAny()) {
+            StaxBinding.writeAny(writer, item);
+        }
+    }
+
+    static void writeVirtualDiskDescType(XMLStreamWriter writer, VirtualDiskDescType value)
+            throws XMLStreamException {
+        writeVirtualDiskDescTypeAttributes(writer, value);
+        writeVirtualDiskDescTypeContent(writer, value);
+    }
+
+    private static void writeVirtualDiskDescType(XMLStreamWriter writer, String namespace,
+            String localName, VirtualDiskDescType value) throws XMLStreamException {
+        if (value.getClass() != VirtualDiskDescType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VirtualDiskDescType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVirtualDiskDescType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCimStringAttributes(XMLStreamWriter writer, CimString value)
+            throws XMLStreamException {
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeCimStringContent(XMLStreamWriter writer, CimString value)
+            throws XMLStreamException {
+        if (null != value.getValue()) {
+            writer.writeCharacters(value.getValue());
+        }
+    }
+
+    static void writeCimString(XMLStreamWriter writer, CimString value)
+            throws XMLStreamException {
+        writeCimStringAttributes(writer, value);
+        writeCimStringContent(writer, value);
+    }
+
+    private static void writeCimString(XMLStreamWriter writer, String namespace,
+            String localName, CimString value) throws XMLStreamException {
+        if (value.getClass() != CimString.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CimString.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCimString(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeProductSectionIconAttributes(XMLStreamWriter writer, ProductSectionIcon value)
+            throws XMLStreamException {
+        writeIconAttributes(writer, value);
+    }
+
+    private static void writeProductSectionIconContent(XMLStreamWriter writer, ProductSectionIcon value)
+            throws XMLStreamException {
+        writeIconContent(writer, value);
+    }
+
+    static void writeProductSectionIcon(XMLStreamWriter writer, ProductSectionIcon value)
+            throws XMLStreamException {
+        writeProductSectionIconAttributes(writer, value);
+        writeProductSectionIconContent(writer, value);
+    }
+
+    private static void writeProductSectionIcon(XMLStreamWriter writer, String namespace,
+            String localName, ProductSectionIcon value) throws XMLStreamException {
+        if (value.getClass() != ProductSectionIcon.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ProductSectionIcon.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeProductSectionIcon(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIconAttributes(XMLStreamWriter writer, Icon value)
+            throws XMLStreamException {
+        if (null != value.getFileRef()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "fileRef", value.getFileRef());
+        }
+        if (null != value.getHeight()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "height", DatatypeConverter.printInt(value.getHeight()));
+        }
+        if (null != value.getMimeType()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "mimeType", value.getMimeType());
+        }
+        if (null != value.getWidth()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "width", DatatypeConverter.printInt(value.getWidth()));
+        }
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeIconContent(XMLStreamWriter writer, Icon value)
+            throws XMLStreamException {
+    }
+
+    static void writeIcon(XMLStreamWriter writer, Icon value)
+            throws XMLStreamException {
+        writeIconAttributes(writer, value);
+        writeIconContent(writer, value);
+    }
+
+    private static void writeIcon(XMLStreamWriter writer, String namespace,
+            String localName, Icon value) throws XMLStreamException {
+        if (value.getClass() != Icon.class) {
+            StaxBinding.writeElement(writer, namespace, localName, Icon.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIcon(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVSSDTypeAttributes(XMLStreamWriter writer, VSSDType value)
+            throws XMLStreamException {
+        writeCIMVirtualSystemSettingDataTypeAttributes(writer, value);
+    }
+
+    private static void writeVSSDTypeContent(XMLStreamWriter writer, VSSDType value)
+            throws XMLStreamException {
+        writeCIMVirtualSystemSettingDataTypeContent(writer, value);
+    }
+
+    static void writeVSSDType(XMLStreamWriter writer, VSSDType value)
+            throws XMLStreamException {
+        writeVSSDTypeAttributes(writer, value);
+        writeVSSDTypeContent(writer, value);
+    }
+
+    private static void writeVSSDType(XMLStreamWriter writer, String namespace,
+            String localName, VSSDType value) throws XMLStreamException {
+        if (value.getClass() != VSSDType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VSSDType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVSSDType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCIMVirtualSystemSettingDataTypeAttributes(XMLStreamWriter writer, CIMVirtualSystemSettingDataType value)
+            throws XMLStreamException {
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeCIMVirtualSystemSettingDataTypeContent(XMLStreamWriter writer, CIMVirtualSystemSettingDataType value)
+            throws XMLStreamException {
+        if (null != value.getAutomaticRecoveryAction()) {
+            writeAutomaticRecoveryAction(writer, NS_VSSD, "AutomaticRecoveryAction", value.getAutomaticRecoveryAction());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "AutomaticRecoveryAction");
+        }
+        if (null != value.getAutomaticShutdownAction()) {
+            writeAutomaticShutdownAction(writer, NS_VSSD, "AutomaticShutdownAction", value.getAutomaticShutdownAction());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "AutomaticShutdownAction");
+        }
+        if (null != value.getAutomaticStartupAction()) {
+            writeAutomaticStartupAction(writer, NS_VSSD, "AutomaticStartupAction", value.getAutomaticStartupAction());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "AutomaticStartupAction");
+        }
+        if (null != value.getAutomaticStartupActionDelay()) {
+            writeCimDateTime(writer, NS_VSSD, "AutomaticStartupActionDelay", value.getAutomaticStartupActionDelay());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "AutomaticStartupActionDelay");
+        }
+        if (null != value.getAutomaticStartupActionSequenceNumber()) {
+            writeCimUnsignedShort(writer, NS_VSSD, "AutomaticStartupActionSequenceNumber", value.getAutomaticStartupActionSequenceNumber());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "AutomaticStartupActionSequenceNumber");
+        }
+        if (null != value.getCaption()) {
+            writeVirtualSystemCaptionType(writer, NS_VSSD, "Caption", value.getCaption());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "Caption");
+        }
+        if (null != value.getChangeableType()) {
+            writeVirtualSystemChangeableTypeType(writer, NS_VSSD, "ChangeableType", value.getChangeableType());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "ChangeableType");
+        }
+        if (null != value.getConfigurationDataRoot()) {
+            writeCimString(writer, NS_VSSD, "ConfigurationDataRoot", value.getConfigurationDataRoot());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "ConfigurationDataRoot");
+        }
+        if (null != value.getConfigurationFile()) {
+            writeCimString(writer, NS_VSSD, "ConfigurationFile", value.getConfigurationFile());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "ConfigurationFile");
+        }
+        if (null != value.getConfigurationID()) {
+            writeCimString(writer, NS_VSSD, "ConfigurationID", value.getConfigurationID());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "ConfigurationID");
+        }
+        if (null != value.getConfigurationName()) {
+            writeCimString(writer, NS_VSSD, "ConfigurationName", value.getConfigurationName());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "ConfigurationName");
+        }
+        if (null != value.getCreationTime()) {
+            writeCimDateTime(writer, NS_VSSD, "CreationTime", value.getCreationTime());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "CreationTime");
+        }
+        if (null != value.getDescription()) {
+            writeCimString(writer, NS_VSSD, "Description", value.getDescription());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "Description");
+        }
+        if (null != value.getElementName()) {
+            writeCimString(writer, NS_VSSD, "ElementName", value.getElementName());
+        }
+        if (null != value.getGeneration()) {
+            writeCimUnsignedLong(writer, NS_VSSD, "Generation", value.getGeneration());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "Generation");
+        }
+        if (null != value.getInstanceID()) {
+            writeCimString(writer, NS_VSSD, "InstanceID", value.getInstanceID());
+        }
+        if (null != value.getLogDataRoot()) {
+            writeCimString(writer, NS_VSSD, "LogDataRoot", value.getLogDataRoot());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "LogDataRoot");
+        }
+        for (CimString item : value.getNotes()) {
+            if (null == item) {
+                StaxBinding.writeNil(writer, NS_VSSD, "Notes");
+            } else {
+                writeCimString(writer, NS_VSSD, "Notes", item);
+            }
+        }
+        if (null != value.getRecoveryFile()) {
+            writeCimString(writer, NS_VSSD, "RecoveryFile", value.getRecoveryFile());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "RecoveryFile");
+        }
+        if (null != value.getSnapshotDataRoot()) {
+            writeCimString(writer, NS_VSSD, "SnapshotDataRoot", value.getSnapshotDataRoot());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "SnapshotDataRoot");
+        }
+        if (null != value.getSuspendDataRoot()) {
+            writeCimString(writer, NS_VSSD, "SuspendDataRoot", value.getSuspendDataRoot());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "SuspendDataRoot");
+        }
+        if (null != value.getSwapFileDataRoot()) {
+            writeCimString(writer, NS_VSSD, "SwapFileDataRoot", value.getSwapFileDataRoot());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "SwapFileDataRoot");
+        }
+        if (null != value.getVirtualSystemIdentifier()) {
+            writeCimString(writer, NS_VSSD, "VirtualSystemIdentifier", value.getVirtualSystemIdentifier());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "VirtualSystemIdentifier");
+        }
+        if (null != value.getVirtualSystemType()) {
+            writeCimString(writer, NS_VSSD, "VirtualSystemType", value.getVirtualSystemType());
+        } else {
+            StaxBinding.writeNil(writer, NS_VSSD, "VirtualSystemType");
+        }
+        for (Object item : value.getAny()) {
+            StaxBinding.writeAny(writer, item);
+        }
+    }
+
+    static void writeCIMVirtualSystemSettingDataType(XMLStreamWriter writer, CIMVirtualSystemSettingDataType value)
+            throws XMLStreamException {
+        writeCIMVirtualSystemSettingDataTypeAttributes(writer, value);
+        writeCIMVirtualSystemSettingDataTypeContent(writer, value);
+    }
+
+    private static void writeCIMVirtualSystemSettingDataType(XMLStreamWriter writer, String namespace,
+            String localName, CIMVirtualSystemSettingDataType value) throws XMLStreamException {
+        if (value.getClass() != CIMVirtualSystemSettingDataType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CIMVirtualSystemSettingDataType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCIMVirtualSystemSettingDataType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeAutomaticRecoveryActionAttributes(XMLStreamWriter writer, AutomaticRecoveryAction value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeAttributes(writer, value);
+    }
+
+    private static void writeAutomaticRecoveryActionContent(XMLStreamWriter writer, AutomaticRecoveryAction value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeContent(writer, value);
+    }
+
+    static void writeAutomaticRecoveryAction(XMLStreamWriter writer, AutomaticRecoveryAction value)
+            throws XMLStreamException {
+        writeAutomaticRecoveryActionAttributes(writer, value);
+        writeAutomaticRecoveryActionContent(writer, value);
+    }
+
+    private static void writeAutomaticRecoveryAction(XMLStreamWriter writer, String namespace,
+            String localName, AutomaticRecoveryAction value) throws XMLStreamException {
+        if (value.getClass() != AutomaticRecoveryAction.class) {
+            StaxBinding.writeElement(writer, namespace, localName, AutomaticRecoveryAction.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeAutomaticRecoveryAction(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCimAnySimpleTypeAttributes(XMLStreamWriter writer, CimAnySimpleType value)
+            throws XMLStreamException {
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeCimAnySimpleTypeContent(XMLStreamWriter writer, CimAnySimpleType value)
+            throws XMLStreamException {
+        if (null != value.getValue()) {
+            writer.writeCharacters(value.getValue());
+        }
+    }
+
+    static void writeCimAnySimpleType(XMLStreamWriter writer, CimAnySimpleType value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeAttributes(writer, value);
+        writeCimAnySimpleTypeContent(writer, value);
+    }
+
+    private static void writeCimAnySimpleType(XMLStreamWriter writer, String namespace,
+            String localName, CimAnySimpleType value) throws XMLStreamException {
+        if (value.getClass() != CimAnySimpleType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CimAnySimpleType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCimAnySimpleType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeAutomaticShutdownActionAttributes(XMLStreamWriter writer, AutomaticShutdownAction value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeAttributes(writer, value);
+    }
+
+    private static void writeAutomaticShutdownActionContent(XMLStreamWriter writer, AutomaticShutdownAction value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeContent(writer, value);
+    }
+
+    static void writeAutomaticShutdownAction(XMLStreamWriter writer, AutomaticShutdownAction value)
+            throws XMLStreamException {
+        writeAutomaticShutdownActionAttributes(writer, value);
+        writeAutomaticShutdownActionContent(writer, value);
+    }
+
+    private static void writeAutomaticShutdownAction(XMLStreamWriter writer, String namespace,
+            String localName, AutomaticShutdownAction value) throws XMLStreamException {
+        if (value.getClass() != AutomaticShutdownAction.class) {
+            StaxBinding.writeElement(writer, namespace, localName, AutomaticShutdownAction.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeAutomaticShutdownAction(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeAutomaticStartupActionAttributes(XMLStreamWriter writer, AutomaticStartupAction value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeAttributes(writer, value);
+    }
+
+    private static void writeAutomaticStartupActionContent(XMLStreamWriter writer, AutomaticStartupAction value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeContent(writer, value);
+    }
+
+    static void writeAutomaticStartupAction(XMLStreamWriter writer, AutomaticStartupAction value)
+            throws XMLStreamException {
+        writeAutomaticStartupActionAttributes(writer, value);
+        writeAutomaticStartupActionContent(writer, value);
+    }
+
+    private static void writeAutomaticStartupAction(XMLStreamWriter writer, String namespace,
+            String localName, AutomaticStartupAction value) throws XMLStreamException {
+        if (value.getClass() != AutomaticStartupAction.class) {
+            StaxBinding.writeElement(writer, namespace, localName, AutomaticStartupAction.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeAutomaticStartupAction(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCimDateTimeAttributes(XMLStreamWriter writer, CimDateTime value)
+            throws XMLStreamException {
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeCimDateTimeContent(XMLStreamWriter writer, CimDateTime value)
+            throws XMLStreamException {
+        if (null != value.getCIMDateTime()) {
+            StaxBinding.writeElement(writer, value.getCIMDateTime());
+        }
+        if (null != value.getInterval()) {
+            StaxBinding.writeText(writer, NS_CIM, "Interval", value.getInterval().toString());
+        }
+        if (null != value.getDate()) {
+            StaxBinding.writeText(writer, NS_CIM, "Date", value.getDate().toXMLFormat());
+        }
+        if (null != value.getTime()) {
+            StaxBinding.writeText(writer, NS_CIM, "Time", value.getTime().toXMLFormat());
+        }
+        if (null != value.getDatetime()) {
+            StaxBinding.writeText(writer, NS_CIM, "Datetime", value.getDatetime().toXMLFormat());
+        }
+    }
+
+    static void writeCimDateTime(XMLStreamWriter writer, CimDateTime value)
+            throws XMLStreamException {
+        writeCimDateTimeAttributes(writer, value);
+        writeCimDateTimeContent(writer, value);
+    }
+
+    private static void writeCimDateTime(XMLStreamWriter writer, String namespace,
+            String localName, CimDateTime value) throws XMLStreamException {
+        if (value.getClass() != CimDateTime.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CimDateTime.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCimDateTime(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCimUnsignedShortAttributes(XMLStreamWriter writer, CimUnsignedShort value)
+            throws XMLStreamException {
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeCimUnsignedShortContent(XMLStreamWriter writer, CimUnsignedShort value)
+            throws XMLStreamException {
+        writer.writeCharacters(DatatypeConverter.printInt(value.getValue()));
+    }
+
+    static void writeCimUnsignedShort(XMLStreamWriter writer, CimUnsignedShort value)
+            throws XMLStreamException {
+        writeCimUnsignedShortAttributes(writer, value);
+        writeCimUnsignedShortContent(writer, value);
+    }
+
+    private static void writeCimUnsignedShort(XMLStreamWriter writer, String namespace,
+            String localName, CimUnsignedShort value) throws XMLStreamException {
+        if (value.getClass() != CimUnsignedShort.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CimUnsignedShort.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCimUnsignedShort(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVirtualSystemCaptionTypeAttributes(XMLStreamWriter writer, VirtualSystemCaptionType value)
+            throws XMLStreamException {
+        writeCimStringAttributes(writer, value);
+    }
+
+    private static void writeVirtualSystemCaptionTypeContent(XMLStreamWriter writer, VirtualSystemCaptionType value)
+            throws XMLStreamException {
+        writeCimStringContent(writer, value);
+    }
+
+    static void writeVirtualSystemCaptionType(XMLStreamWriter writer, VirtualSystemCaptionType value)
+            throws XMLStreamException {
+        writeVirtualSystemCaptionTypeAttributes(writer, value);
+        writeVirtualSystemCaptionTypeContent(writer, value);
+    }
+
+    private static void writeVirtualSystemCaptionType(XMLStreamWriter writer, String namespace,
+            String localName, VirtualSystemCaptionType value) throws XMLStreamException {
+        if (value.getClass() != VirtualSystemCaptionType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VirtualSystemCaptionType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVirtualSystemCaptionType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVirtualSystemChangeableTypeTypeAttributes(XMLStreamWriter writer, VirtualSystemChangeableTypeType value)
+            throws XMLStreamException {
+        writeCimUnsignedShortAttributes(writer, value);
+    }
+
+    private static void writeVirtualSystemChangeableTypeTypeContent(XMLStreamWriter writer, VirtualSystemChangeableTypeType value)
+            throws XMLStreamException {
+        writeCimUnsignedShortContent(writer, value);
+    }
+
+    static void writeVirtualSystemChangeableTypeType(XMLStreamWriter writer, VirtualSystemChangeableTypeType value)
+            throws XMLStreamException {
+        writeVirtualSystemChangeableTypeTypeAttributes(writer, value);
+        writeVirtualSystemChangeableTypeTypeContent(writer, value);
+    }
+
+    private static void writeVirtualSystemChangeableTypeType(XMLStreamWriter writer, String namespace,
+            String localName, VirtualSystemChangeableTypeType value) throws XMLStreamException {
+        if (value.getClass() != VirtualSystemChangeableTypeType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VirtualSystemChangeableTypeType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVirtualSystemChangeableTypeType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCimUnsignedLongAttributes(XMLStreamWriter writer, CimUnsignedLong value)
+            throws XMLStreamException {
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeCimUnsignedLongContent(XMLStreamWriter writer, CimUnsignedLong value)
+            throws XMLStreamException {
+        if (null != value.getValue()) {
+            writer.writeCharacters(DatatypeConverter.printInteger(value.getValue()));
+        }
+    }
+
+    static void writeCimUnsignedLong(XMLStreamWriter writer, CimUnsignedLong value)
+            throws XMLStreamException {
+        writeCimUnsignedLongAttributes(writer, value);
+        writeCimUnsignedLongContent(writer, value);
+    }
+
+    private static void writeCimUnsignedLong(XMLStreamWriter writer, String namespace,
+            String localName, CimUnsignedLong value) throws XMLStreamException {
+        if (value.getClass() != CimUnsignedLong.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CimUnsignedLong.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCimUnsignedLong(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCIMResourceAllocationSettingDataTypeAttributes(XMLStreamWriter writer, CIMResourceAllocationSettingDataType value)
+            throws XMLStreamException {
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeCIMResourceAllocationSettingDataTypeContent(XMLStreamWriter writer, CIMResourceAllocationSettingDataType value)
+            throws XMLStreamException {
+        if (null != value.getAddress()) {
+            writeCimString(writer, NS_RASD, "Address", value.getAddress());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "Address");
+        }
+        if (null != value.getAddressOnParent()) {
+            writeCimString(writer, NS_RASD, "AddressOnParent", value.getAddressOnParent());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "AddressOnParent");
+        }
+        if (null != value.getAllocationUnits()) {
+            writeCimString(writer, NS_RASD, "AllocationUnits", value.getAllocationUnits());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "AllocationUnits");
+        }
+        if (null != value.getAutomaticAllocation()) {
+            writeCimBoolean(writer, NS_RASD, "AutomaticAllocation", value.getAutomaticAllocation());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "AutomaticAllocation");
+        }
+        if (null != value.getAutomaticDeallocation()) {
+            writeCimBoolean(writer, NS_RASD, "AutomaticDeallocation", value.getAutomaticDeallocation());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "AutomaticDeallocation");
+        }
+        if (null != value.getCaption()) {
+            writeResourceAllocationCaptionType(writer, NS_RASD, "Caption", value.getCaption());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "Caption");
+        }
+        if (null != value.getChangeableType()) {
+            writeResourceAllocationChangeableTypeType(writer, NS_RASD, "ChangeableType", value.getChangeableType());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "ChangeableType");
+        }
+        if (null != value.getConfigurationName()) {
+            writeCimString(writer, NS_RASD, "ConfigurationName", value.getConfigurationName());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "ConfigurationName");
+        }
+        for (CimString item : value.getConnection()) {
+            if (null == item) {
+                StaxBinding.writeNil(writer, NS_RASD, "Connection");
+            } else {
+                writeCimString(writer, NS_RASD, "Connection", item);
+            }
+        }
+        if (null != value.getConsumerVisibility()) {
+            writeConsumerVisibility(writer, NS_RASD, "ConsumerVisibility", value.getConsumerVisibility());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "ConsumerVisibility");
+        }
+        if (null != value.getDescription()) {
+            writeCimString(writer, NS_RASD, "Description", value.getDescription());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "Description");
+        }
+        if (null != value.getElementName()) {
+            writeCimString(writer, NS_RASD, "ElementName", value.getElementName());
+        }
+        if (null != value.getGeneration()) {
+            writeCimUnsignedLong(writer, NS_RASD, "Generation", value.getGeneration());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "Generation");
+        }
+        for (CimString item : value.getHostResource()) {
+            if (null == item) {
+                StaxBinding.writeNil(writer, NS_RASD, "HostResource");
+            } else {
+                writeCimString(writer, NS_RASD, "HostResource", item);
+            }
+        }
+        if (null != value.getInstanceID()) {
+            writeCimString(writer, NS_RASD, "InstanceID", value.getInstanceID());
+        }
+        if (null != value.getLimit()) {
+            writeCimUnsignedLong(writer, NS_RASD, "Limit", value.getLimit());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "Limit");
+        }
+        if (null != value.getMappingBehavior()) {
+            writeMappingBehavior(writer, NS_RASD, "MappingBehavior", value.getMappingBehavior());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "MappingBehavior");
+        }
+        if (null != value.getOtherResourceType()) {
+            writeCimString(writer, NS_RASD, "OtherResourceType", value.getOtherResourceType());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "OtherResourceType");
+        }
+        if (null != value.getParent()) {
+            writeCimString(writer, NS_RASD, "Parent", value.getParent());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "Parent");
+        }
+        if (null != value.getPoolID()) {
+            writeCimString(writer, NS_RASD, "PoolID", value.getPoolID());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "PoolID");
+        }
+        if (null != value.getReservation()) {
+            writeCimUnsignedLong(writer, NS_RASD, "Reservation", value.getReservation());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "Reservation");
+        }
+        if (null != value.getResourceSubType()) {
+            writeCimString(writer, NS_RASD, "ResourceSubType", value.getResourceSubType());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "ResourceSubType");
+        }
+        if (null != value.getResourceType()) {
+            writeResourceType_ovf(writer, NS_RASD, "ResourceType", value.getResourceType());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "ResourceType");
+        }
+        if (null != value.getVirtualQuantity()) {
+            writeCimUnsignedLong(writer, NS_RASD, "VirtualQuantity", value.getVirtualQuantity());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "VirtualQuantity");
+        }
+        if (null != value.getVirtualQuantityUnits()) {
+            writeCimString(writer, NS_RASD, "VirtualQuantityUnits", value.getVirtualQuantityUnits());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "VirtualQuantityUnits");
+        }
+        if (null != value.getWeight()) {
+            writeCimUnsignedInt(writer, NS_RASD, "Weight", value.getWeight());
+        } else {
+            StaxBinding.writeNil(writer, NS_RASD, "Weight");
+        }
+        for (Object item : value.getAny()) {
+            StaxBinding.writeAny(writer, item);
+        }
+    }
+
+    static void writeCIMResourceAllocationSettingDataType(XMLStreamWriter writer, CIMResourceAllocationSettingDataType value)
+            throws XMLStreamException {
+        writeCIMResourceAllocationSettingDataTypeAttributes(writer, value);
+        writeCIMResourceAllocationSettingDataTypeContent(writer, value);
+    }
+
+    private static void writeCIMResourceAllocationSettingDataType(XMLStreamWriter writer, String namespace,
+            String localName, CIMResourceAllocationSettingDataType value) throws XMLStreamException {
+        if (value.getClass() != CIMResourceAllocationSettingDataType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CIMResourceAllocationSettingDataType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCIMResourceAllocationSettingDataType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCimBooleanAttributes(XMLStreamWriter writer, CimBoolean value)
+            throws XMLStreamException {
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeCimBooleanContent(XMLStreamWriter writer, CimBoolean value)
+            throws XMLStreamException {
+        writer.writeCharacters(DatatypeConverter.printBoolean(value.isValue()));
+    }
+
+    static void writeCimBoolean(XMLStreamWriter writer, CimBoolean value)
+            throws XMLStreamException {
+        writeCimBooleanAttributes(writer, value);
+        writeCimBooleanContent(writer, value);
+    }
+
+    private static void writeCimBoolean(XMLStreamWriter writer, String namespace,
+            String localName, CimBoolean value) throws XMLStreamException {
+        if (value.getClass() != CimBoolean.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CimBoolean.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCimBoolean(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeResourceAllocationCaptionTypeAttributes(XMLStreamWriter writer, ResourceAllocationCaptionType value)
+            throws XMLStreamException {
+        writeCimStringAttributes(writer, value);
+    }
+
+    private static void writeResourceAllocationCaptionTypeContent(XMLStreamWriter writer, ResourceAllocationCaptionType value)
+            throws XMLStreamException {
+        writeCimStringContent(writer, value);
+    }
+
+    static void writeResourceAllocationCaptionType(XMLStreamWriter writer, ResourceAllocationCaptionType value)
+            throws XMLStreamException {
+        writeResourceAllocationCaptionTypeAttributes(writer, value);
+        writeResourceAllocationCaptionTypeContent(writer, value);
+    }
+
+    private static void writeResourceAllocationCaptionType(XMLStreamWriter writer, String namespace,
+            String localName, ResourceAllocationCaptionType value) throws XMLStreamException {
+        if (value.getClass() != ResourceAllocationCaptionType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ResourceAllocationCaptionType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeResourceAllocationCaptionType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeResourceAllocationChangeableTypeTypeAttributes(XMLStreamWriter writer, ResourceAllocationChangeableTypeType value)
+            throws XMLStreamException {
+        writeCimUnsignedShortAttributes(writer, value);
+    }
+
+    private static void writeResourceAllocationChangeableTypeTypeContent(XMLStreamWriter writer, ResourceAllocationChangeableTypeType value)
+            throws XMLStreamException {
+        writeCimUnsignedShortContent(writer, value);
+    }
+
+    static void writeResourceAllocationChangeableTypeType(XMLStreamWriter writer, ResourceAllocationChangeableTypeType value)
+            throws XMLStreamException {
+        writeResourceAllocationChangeableTypeTypeAttributes(writer, value);
+        writeResourceAllocationChangeableTypeTypeContent(writer, value);
+    }
+
+    private static void writeResourceAllocationChangeableTypeType(XMLStreamWriter writer, String namespace,
+            String localName, ResourceAllocationChangeableTypeType value) throws XMLStreamException {
+        if (value.getClass() != ResourceAllocationChangeableTypeType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ResourceAllocationChangeableTypeType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeResourceAllocationChangeableTypeType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeConsumerVisibilityAttributes(XMLStreamWriter writer, ConsumerVisibility value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeAttributes(writer, value);
+    }
+
+    private static void writeConsumerVisibilityContent(XMLStreamWriter writer, ConsumerVisibility value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeContent(writer, value);
+    }
+
+    static void writeConsumerVisibility(XMLStreamWriter writer, ConsumerVisibility value)
+            throws XMLStreamException {
+        writeConsumerVisibilityAttributes(writer, value);
+        writeConsumerVisibilityContent(writer, value);
+    }
+
+    private static void writeConsumerVisibility(XMLStreamWriter writer, String namespace,
+            String localName, ConsumerVisibility value) throws XMLStreamException {
+        if (value.getClass() != ConsumerVisibility.class) {
+            StaxBinding.writeElement(writer, namespace, localName, ConsumerVisibility.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeConsumerVisibility(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeMappingBehaviorAttributes(XMLStreamWriter writer, MappingBehavior value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeAttributes(writer, value);
+    }
+
+    private static void writeMappingBehaviorContent(XMLStreamWriter writer, MappingBehavior value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeContent(writer, value);
+    }
+
+    static void writeMappingBehavior(XMLStreamWriter writer, MappingBehavior value)
+            throws XMLStreamException {
+        writeMappingBehaviorAttributes(writer, value);
+        writeMappingBehaviorContent(writer, value);
+    }
+
+    private static void writeMappingBehavior(XMLStreamWriter writer, String namespace,
+            String localName, MappingBehavior value) throws XMLStreamException {
+        if (value.getClass() != MappingBehavior.class) {
+            StaxBinding.writeElement(writer, namespace, localName, MappingBehavior.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeMappingBehavior(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeResourceType_ovfAttributes(XMLStreamWriter writer, com.vmware.vcloud.api.rest.schema.ovf.ResourceType value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeAttributes(writer, value);
+    }
+
+    private static void writeResourceType_ovfContent(XMLStreamWriter writer, com.vmware.vcloud.api.rest.schema.ovf.ResourceType value)
+            throws XMLStreamException {
+        writeCimAnySimpleTypeContent(writer, value);
+    }
+
+    static void writeResourceType_ovf(XMLStreamWriter writer, com.vmware.vcloud.api.rest.schema.ovf.ResourceType value)
+            throws XMLStreamException {
+        writeResourceType_ovfAttributes(writer, value);
+        writeResourceType_ovfContent(writer, value);
+    }
+
+    private static void writeResourceType_ovf(XMLStreamWriter writer, String namespace,
+            String localName, com.vmware.vcloud.api.rest.schema.ovf.ResourceType value) throws XMLStreamException {
+        if (value.getClass() != com.vmware.vcloud.api.rest.schema.ovf.ResourceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, com.vmware.vcloud.api.rest.schema.ovf.ResourceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeResourceType_ovf(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeCimUnsignedIntAttributes(XMLStreamWriter writer, CimUnsignedInt value)
+            throws XMLStreamException {
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeCimUnsignedIntContent(XMLStreamWriter writer, CimUnsignedInt value)
+            throws XMLStreamException {
+        writer.writeCharacters(DatatypeConverter.printLong(value.getValue()));
+    }
+
+    static void writeCimUnsignedInt(XMLStreamWriter writer, CimUnsignedInt value)
+            throws XMLStreamException {
+        writeCimUnsignedIntAttributes(writer, value);
+        writeCimUnsignedIntContent(writer, value);
+    }
+
+    private static void writeCimUnsignedInt(XMLStreamWriter writer, String namespace,
+            String localName, CimUnsignedInt value) throws XMLStreamException {
+        if (value.getClass() != CimUnsignedInt.class) {
+            StaxBinding.writeElement(writer, namespace, localName, CimUnsignedInt.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeCimUnsignedInt(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNetworkSectionNetworkAttributes(XMLStreamWriter writer, NetworkSectionNetwork value)
+            throws XMLStreamException {
+        writeNetworkAttributes(writer, value);
+    }
+
+    private static void writeNetworkSectionNetworkContent(XMLStreamWriter writer, NetworkSectionNetwork value)
+            throws XMLStreamException {
+        writeNetworkContent(writer, value);
+    }
+
+    static void writeNetworkSectionNetwork(XMLStreamWriter writer, NetworkSectionNetwork value)
+            throws XMLStreamException {
+        writeNetworkSectionNetworkAttributes(writer, value);
+        writeNetworkSectionNetworkContent(writer, value);
+    }
+
+    private static void writeNetworkSectionNetwork(XMLStreamWriter writer, String namespace,
+            String localName, NetworkSectionNetwork value) throws XMLStreamException {
+        if (value.getClass() != NetworkSectionNetwork.class) {
+            StaxBinding.writeElement(writer, namespace, localName, NetworkSectionNetwork.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeNetworkSectionNetwork(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNetworkAttributes(XMLStreamWriter writer, Network value)
+            throws XMLStreamException {
+        if (null != value.getName()) {
+            StaxBinding.writeAttribute(writer, NS_OVF, "name", value.getName());
+        }
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeNetworkContent(XMLStreamWriter writer, Network value)
+            throws XMLStreamException {
+        if (null != value.getDescription()) {
+            writeMsgType(writer, NS_OVF, "Description", value.getDescription());
+        }
+    }
+
+    static void writeNetwork(XMLStreamWriter writer, Network value)
+            throws XMLStreamException {
+        writeNetworkAttributes(writer, value);
+        writeNetworkContent(writer, value);
+    }
+
+    private static void writeNetwork(XMLStreamWriter writer, String namespace,
+            String localName, Network value) throws XMLStreamException {
+        if (value.getClass() != Network.class) {
+            StaxBinding.writeElement(writer, namespace, localName, Network.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeNetwork(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeSectionType_environmentAttributes(XMLStreamWriter writer, com.vmware.vcloud.api.rest.schema.ovf.environment.SectionType value)
+            throws XMLStreamException {
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writeSectionType_environmentContent(XMLStreamWriter writer, com.vmware.vcloud.api.rest.schema.ovf.environment.SectionType value)
+            throws XMLStreamException {
+    }
+
+    private static void writePlatformSectionTypeAttributes(XMLStreamWriter writer, PlatformSectionType value)
+            throws XMLStreamException {
+        writeSectionType_environmentAttributes(writer, value);
+    }
+
+    private static void writePlatformSectionTypeContent(XMLStreamWriter writer, PlatformSectionType value)
+            throws XMLStreamException {
+        writeSectionType_environmentContent(writer, value);
+        if (null != value.getKind()) {
+            writeCimString(writer, NS_OVFENV, "Kind", value.getKind());
+        }
+        if (null != value.getVersion()) {
+            writeCimString(writer, NS_OVFENV, "Version", value.getVersion());
+        }
+        if (null != value.getVendor()) {
+            writeCimString(writer, NS_OVFENV, "Vendor", value.getVendor());
+        }
+        if (null != value.getLocale()) {
+            writeCimString(writer, NS_OVFENV, "Locale", value.getLocale());
+        }
+        if (null != value.getTimezone()) {
+            StaxBinding.writeText(writer, NS_OVFENV, "Timezone", DatatypeConverter.printInt(value.getTimezone()));
+        }
+        for (Object item : value.getAny()) {
+            StaxBinding.writeAny(writer, item);
+        }
+    }
+
+    static void writePlatformSectionType(XMLStreamWriter writer, PlatformSectionType value)
+            throws XMLStreamException {
+        writePlatformSectionTypeAttributes(writer, value);
+        writePlatformSectionTypeContent(writer, value);
+    }
+
+    private static void writePlatformSectionType(XMLStreamWriter writer, String namespace,
+            String localName, PlatformSectionType value) throws XMLStreamException {
+        if (value.getClass() != PlatformSectionType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, PlatformSectionType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writePlatformSectionType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writePropertySectionTypeAttributes(XMLStreamWriter writer, PropertySectionType value)
+            throws XMLStreamException {
+        writeSectionType_environmentAttributes(writer, value);
+    }
+
+    private static void writePropertySectionTypeContent(XMLStreamWriter writer, PropertySectionType value)
+            throws XMLStreamException {
+        writeSectionType_environmentContent(writer, value);
+        for (Property item : value.getProperty()) {
+            writeProperty(writer, NS_OVFENV, "Property", item);
+        }
+        for (Object item : value.getAny()) {
+            StaxBinding.writeAny(writer, item);
+        }
+    }
+
+    static void writePropertySectionType(XMLStreamWriter writer, PropertySectionType value)
+            throws XMLStreamException {
+        writePropertySectionTypeAttributes(writer, value);
+        writePropertySectionTypeContent(writer, value);
+    }
+
+    private static void writePropertySectionType(XMLStreamWriter writer, String namespace,
+            String localName, PropertySectionType value) throws XMLStreamException {
+        if (value.getClass() != PropertySectionType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, PropertySectionType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writePropertySectionType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writePropertyAttributes(XMLStreamWriter writer, Property value)
+            throws XMLStreamException {
+        if (null != value.getKey()) {
+            StaxBinding.writeAttribute(writer, NS_OVFENV, "key", value.getKey());
+        }
+        if (null != value.getValue()) {
+            StaxBinding.writeAttribute(writer, NS_OVFENV, "value", value.getValue());
+        }
+        StaxBinding.writeOtherAttributes(writer, value.getOtherAttributes());
+    }
+
+    private static void writePropertyContent(XMLStreamWriter writer, Property value)
+            throws XMLStreamException {
+    }
+
+    static void writeProperty(XMLStreamWriter writer, Property value)
+            throws XMLStreamException {
+        writePropertyAttributes(writer, value);
+        writePropertyContent(writer, value);
+    }
+
+    private static void writeProperty(XMLStreamWriter writer, String namespace,
+            String localName, Property value) throws XMLStreamException {
+        if (value.getClass() != Property.class) {
+            StaxBinding.writeElement(writer, namespace, localName, Property.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeProperty(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNetworkServiceTypeAttributes(XMLStreamWriter writer, NetworkServiceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeNetworkServiceTypeContent(XMLStreamWriter writer, NetworkServiceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.isIsEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsEnabled", DatatypeConverter.printBoolean(value.isIsEnabled()));
+        }
+    }
+
+    private static void writeGatewayIpsecVpnServiceTypeAttributes(XMLStreamWriter writer, GatewayIpsecVpnServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeAttributes(writer, value);
+    }
+
+    private static void writeGatewayIpsecVpnServiceTypeContent(XMLStreamWriter writer, GatewayIpsecVpnServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeContent(writer, value);
+        for (GatewayIpsecVpnEndpointType item : value.getEndpoint()) {
+            writeGatewayIpsecVpnEndpointType(writer, NS_VCLOUD, "Endpoint", item);
+        }
+        for (GatewayIpsecVpnTunnelType item : value.getTunnel()) {
+            writeGatewayIpsecVpnTunnelType(writer, NS_VCLOUD, "Tunnel", item);
+        }
+    }
+
+    static void writeGatewayIpsecVpnServiceType(XMLStreamWriter writer, GatewayIpsecVpnServiceType value)
+            throws XMLStreamException {
+        writeGatewayIpsecVpnServiceTypeAttributes(writer, value);
+        writeGatewayIpsecVpnServiceTypeContent(writer, value);
+    }
+
+    private static void writeGatewayIpsecVpnServiceType(XMLStreamWriter writer, String namespace,
+            String localName, GatewayIpsecVpnServiceType value) throws XMLStreamException {
+        if (value.getClass() != GatewayIpsecVpnServiceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, GatewayIpsecVpnServiceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeGatewayIpsecVpnServiceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeGatewayIpsecVpnEndpointTypeAttributes(XMLStreamWriter writer, GatewayIpsecVpnEndpointType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeGatewayIpsecVpnEndpointTypeContent(XMLStreamWriter writer, GatewayIpsecVpnEndpointType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getNetwork()) {
+            writeReferenceType(writer, NS_VCLOUD, "Network", value.getNetwork());
+        }
+        if (null != value.getPublicIp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "PublicIp", value.getPublicIp());
+        }
+    }
+
+    static void writeGatewayIpsecVpnEndpointType(XMLStreamWriter writer, GatewayIpsecVpnEndpointType value)
+            throws XMLStreamException {
+        writeGatewayIpsecVpnEndpointTypeAttributes(writer, value);
+        writeGatewayIpsecVpnEndpointTypeContent(writer, value);
+    }
+
+    private static void writeGatewayIpsecVpnEndpointType(XMLStreamWriter writer, String namespace,
+            String localName, GatewayIpsecVpnEndpointType value) throws XMLStreamException {
+        if (value.getClass() != GatewayIpsecVpnEndpointType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, GatewayIpsecVpnEndpointType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeGatewayIpsecVpnEndpointType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeGatewayIpsecVpnTunnelTypeAttributes(XMLStreamWriter writer, GatewayIpsecVpnTunnelType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeGatewayIpsecVpnTunnelTypeContent(XMLStreamWriter writer, GatewayIpsecVpnTunnelType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Name", value.getName());
+        }
+        if (null != value.getDescription()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Description", value.getDescription());
+        }
+        if (null != value.getIpsecVpnPeer()) {
+            StaxBinding.writeElement(writer, value.getIpsecVpnPeer());
+        }
+        if (null != value.getPeerIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "PeerIpAddress", value.getPeerIpAddress());
+        }
+        if (null != value.getPeerId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "PeerId", value.getPeerId());
+        }
+        if (null != value.getLocalIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "LocalIpAddress", value.getLocalIpAddress());
+        }
+        if (null != value.getLocalId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "LocalId", value.getLocalId());
+        }
+        for (IpsecVpnSubnetType item : value.getLocalSubnet()) {
+            writeIpsecVpnSubnetType(writer, NS_VCLOUD, "LocalSubnet", item);
+        }
+        for (IpsecVpnSubnetType item : value.getPeerSubnet()) {
+            writeIpsecVpnSubnetType(writer, NS_VCLOUD, "PeerSubnet", item);
+        }
+        if (null != value.getSharedSecret()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "SharedSecret", value.getSharedSecret());
+        }
+        if (null != value.isSharedSecretEncrypted()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "SharedSecretEncrypted", DatatypeConverter.printBoolean(value.isSharedSecretEncrypted()));
+        }
+        if (null != value.getEncryptionProtocol()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "EncryptionProtocol", value.getEncryptionProtocol());
+        }
+        if (null != value.getMtu()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Mtu", DatatypeConverter.printInt(value.getMtu()));
+        }
+        if (null != value.isIsEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsEnabled", DatatypeConverter.printBoolean(value.isIsEnabled()));
+        }
+        if (null != value.isIsOperational()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsOperational", DatatypeConverter.printBoolean(value.isIsOperational()));
+        }
+        if (null != value.getErrorDetails()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ErrorDetails", value.getErrorDetails());
+        }
+    }
+
+    static void writeGatewayIpsecVpnTunnelType(XMLStreamWriter writer, GatewayIpsecVpnTunnelType value)
+            throws XMLStreamException {
+        writeGatewayIpsecVpnTunnelTypeAttributes(writer, value);
+        writeGatewayIpsecVpnTunnelTypeContent(writer, value);
+    }
+
+    private static void writeGatewayIpsecVpnTunnelType(XMLStreamWriter writer, String namespace,
+            String localName, GatewayIpsecVpnTunnelType value) throws XMLStreamException {
+        if (value.getClass() != GatewayIpsecVpnTunnelType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, GatewayIpsecVpnTunnelType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeGatewayIpsecVpnTunnelType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIpsecVpnSubnetTypeAttributes(XMLStreamWriter writer, IpsecVpnSubnetType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeIpsecVpnSubnetTypeContent(XMLStreamWriter writer, IpsecVpnSubnetType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Name", value.getName());
+        }
+        if (null != value.getGateway()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Gateway", value.getGateway());
+        }
+        if (null != value.getNetmask()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Netmask", value.getNetmask());
+        }
+    }
+
+    static void writeIpsecVpnSubnetType(XMLStreamWriter writer, IpsecVpnSubnetType value)
+            throws XMLStreamException {
+        writeIpsecVpnSubnetTypeAttributes(writer, value);
+        writeIpsecVpnSubnetTypeContent(writer, value);
+    }
+
+    private static void writeIpsecVpnSubnetType(XMLStreamWriter writer, String namespace,
+            String localName, IpsecVpnSubnetType value) throws XMLStreamException {
+        if (value.getClass() != IpsecVpnSubnetType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IpsecVpnSubnetType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIpsecVpnSubnetType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeDhcpServiceTypeAttributes(XMLStreamWriter writer, DhcpServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeAttributes(writer, value);
+    }
+
+    private static void writeDhcpServiceTypeContent(XMLStreamWriter writer, DhcpServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeContent(writer, value);
+        if (null != value.getDefaultLeaseTime()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "DefaultLeaseTime", DatatypeConverter.printInt(value.getDefaultLeaseTime()));
+        }
+        if (null != value.getMaxLeaseTime()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "MaxLeaseTime", DatatypeConverter.printInt(value.getMaxLeaseTime()));
+        }
+        if (null != value.getIpRange()) {
+            writeIpRangeType(writer, NS_VCLOUD, "IpRange", value.getIpRange());
+        }
+        if (null != value.getRouterIp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "RouterIp", value.getRouterIp());
+        }
+        if (null != value.getSubMask()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "SubMask", value.getSubMask());
+        }
+        if (null != value.getPrimaryNameServer()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "PrimaryNameServer", value.getPrimaryNameServer());
+        }
+        if (null != value.getSecondaryNameServer()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "SecondaryNameServer", value.getSecondaryNameServer());
+        }
+        if (null != value.getDomainName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "DomainName", value.getDomainName());
+        }
+    }
+
+    static void writeDhcpServiceType(XMLStreamWriter writer, DhcpServiceType value)
+            throws XMLStreamException {
+        writeDhcpServiceTypeAttributes(writer, value);
+        writeDhcpServiceTypeContent(writer, value);
+    }
+
+    private static void writeDhcpServiceType(XMLStreamWriter writer, String namespace,
+            String localName, DhcpServiceType value) throws XMLStreamException {
+        if (value.getClass() != DhcpServiceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, DhcpServiceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeDhcpServiceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNatServiceTypeAttributes(XMLStreamWriter writer, NatServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeAttributes(writer, value);
+    }
+
+    private static void writeNatServiceTypeContent(XMLStreamWriter writer, NatServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeContent(writer, value);
+        if (null != value.getNatType()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "NatType", value.getNatType());
+        }
+        if (null != value.getPolicy()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Policy", value.getPolicy());
+        }
+        for (NatRuleType item : value.getNatRule()) {
+            writeNatRuleType(writer, NS_VCLOUD, "NatRule", item);
+        }
+        if (null != value.getExternalIp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ExternalIp", value.getExternalIp());
+        }
+    }
+
+    static void writeNatServiceType(XMLStreamWriter writer, NatServiceType value)
+            throws XMLStreamException {
+        writeNatServiceTypeAttributes(writer, value);
+        writeNatServiceTypeContent(writer, value);
+    }
+
+    private static void writeNatServiceType(XMLStreamWriter writer, String namespace,
+            String localName, NatServiceType value) throws XMLStreamException {
+        if (value.getClass() != NatServiceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, NatServiceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeNatServiceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNatRuleTypeAttributes(XMLStreamWriter writer, NatRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeNatRuleTypeContent(XMLStreamWriter writer, NatRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getDescription()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Description", value.getDescription());
+        }
+        if (null != value.getRuleType()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "RuleType", value.getRuleType());
+        }
+        if (null != value.isIsEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsEnabled", DatatypeConverter.printBoolean(value.isIsEnabled()));
+        }
+        if (null != value.getId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Id", DatatypeConverter.printInt(value.getId()));
+        }
+        if (null != value.getGatewayNatRule()) {
+            writeGatewayNatRuleType(writer, NS_VCLOUD, "GatewayNatRule", value.getGatewayNatRule());
+        }
+        if (null != value.getOneToOneBasicRule()) {
+            writeNatOneToOneBasicRuleType(writer, NS_VCLOUD, "OneToOneBasicRule", value.getOneToOneBasicRule());
+        }
+        if (null != value.getOneToOneVmRule()) {
+            writeNatOneToOneVmRuleType(writer, NS_VCLOUD, "OneToOneVmRule", value.getOneToOneVmRule());
+        }
+        if (null != value.getPortForwardingRule()) {
+            writeNatPortForwardingRuleType(writer, NS_VCLOUD, "PortForwardingRule", value.getPortForwardingRule());
+        }
+        if (null != value.getVmRule()) {
+            writeNatVmRuleType(writer, NS_VCLOUD, "VmRule", value.getVmRule());
+        }
+    }
+
+    static void writeNatRuleType(XMLStreamWriter writer, NatRuleType value)
+            throws XMLStreamException {
+        writeNatRuleTypeAttributes(writer, value);
+        writeNatRuleTypeContent(writer, value);
+    }
+
+    private static void writeNatRuleType(XMLStreamWriter writer, String namespace,
+            String localName, NatRuleType value) throws XMLStreamException {
+        if (value.getClass() != NatRuleType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, NatRuleType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeNatRuleType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeGatewayNatRuleTypeAttributes(XMLStreamWriter writer, GatewayNatRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeGatewayNatRuleTypeContent(XMLStreamWriter writer, GatewayNatRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getInterface()) {
+            writeReferenceType(writer, NS_VCLOUD, "Interface", value.getInterface());
+        }
+        if (null != value.getOriginalIp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "OriginalIp", value.getOriginalIp());
+        }
+        if (null != value.getOriginalPort()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "OriginalPort", value.getOriginalPort());
+        }
+        if (null != value.getTranslatedIp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "TranslatedIp", value.getTranslatedIp());
+        }
+        if (null != value.getTranslatedPort()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "TranslatedPort", value.getTranslatedPort());
+        }
+        if (null != value.getProtocol()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Protocol", value.getProtocol());
+        }
+        if (null != value.getIcmpSubType()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IcmpSubType", value.getIcmpSubType());
+        }
+    }
+
+    static void writeGatewayNatRuleType(XMLStreamWriter writer, GatewayNatRuleType value)
+            throws XMLStreamException {
+        writeGatewayNatRuleTypeAttributes(writer, value);
+        writeGatewayNatRuleTypeContent(writer, value);
+    }
+
+    private static void writeGatewayNatRuleType(XMLStreamWriter writer, String namespace,
+            String localName, GatewayNatRuleType value) throws XMLStreamException {
+        if (value.getClass() != GatewayNatRuleType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, GatewayNatRuleType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeGatewayNatRuleType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNatOneToOneBasicRuleTypeAttributes(XMLStreamWriter writer, NatOneToOneBasicRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeNatOneToOneBasicRuleTypeContent(XMLStreamWriter writer, NatOneToOneBasicRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getMappingMode()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "MappingMode", value.getMappingMode());
+        }
+        if (null != value.getExternalIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ExternalIpAddress", value.getExternalIpAddress());
+        }
+        if (null != value.getInternalIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "InternalIpAddress", value.getInternalIpAddress());
+        }
+    }
+
+    static void writeNatOneToOneBasicRuleType(XMLStreamWriter writer, NatOneToOneBasicRuleType value)
+            throws XMLStreamException {
+        writeNatOneToOneBasicRuleTypeAttributes(writer, value);
+        writeNatOneToOneBasicRuleTypeContent(writer, value);
+    }
+
+    private static void writeNatOneToOneBasicRuleType(XMLStreamWriter writer, String namespace,
+            String localName, NatOneToOneBasicRuleType value) throws XMLStreamException {
+        if (value.getClass() != NatOneToOneBasicRuleType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, NatOneToOneBasicRuleType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeNatOneToOneBasicRuleType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNatOneToOneVmRuleTypeAttributes(XMLStreamWriter writer, NatOneToOneVmRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeNatOneToOneVmRuleTypeContent(XMLStreamWriter writer, NatOneToOneVmRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getMappingMode()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "MappingMode", value.getMappingMode());
+        }
+        if (null != value.getExternalIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ExternalIpAddress", value.getExternalIpAddress());
+        }
+        if (null != value.getVAppScopedVmId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "VAppScopedVmId", value.getVAppScopedVmId());
+        }
+        StaxBinding.writeText(writer, NS_VCLOUD, "VmNicId", DatatypeConverter.printInt(value.getVmNicId()));
+    }
+
+    static void writeNatOneToOneVmRuleType(XMLStreamWriter writer, NatOneToOneVmRuleType value)
+            throws XMLStreamException {
+        writeNatOneToOneVmRuleTypeAttributes(writer, value);
+        writeNatOneToOneVmRuleTypeContent(writer, value);
+    }
+
+    private static void writeNatOneToOneVmRuleType(XMLStreamWriter writer, String namespace,
+            String localName, NatOneToOneVmRuleType value) throws XMLStreamException {
+        if (value.getClass() != NatOneToOneVmRuleType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, NatOneToOneVmRuleType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeNatOneToOneVmRuleType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNatPortForwardingRuleTypeAttributes(XMLStreamWriter writer, NatPortForwardingRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeNatPortForwardingRuleTypeContent(XMLStreamWriter writer, NatPortForwardingRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getExternalIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ExternalIpAddress", value.getExternalIpAddress());
+        }
+        StaxBinding.writeText(writer, NS_VCLOUD, "ExternalPort", DatatypeConverter.printInt(value.getExternalPort()));
+        if (null != value.getInternalIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "InternalIpAddress", value.getInternalIpAddress());
+        }
+        StaxBinding.writeText(writer, NS_VCLOUD, "InternalPort", DatatypeConverter.printInt(value.getInternalPort()));
+        if (null != value.getProtocol()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Protocol", value.getProtocol());
+        }
+    }
+
+    static void writeNatPortForwardingRuleType(XMLStreamWriter writer, NatPortForwardingRuleType value)
+            throws XMLStreamException {
+        writeNatPortForwardingRuleTypeAttributes(writer, value);
+        writeNatPortForwardingRuleTypeContent(writer, value);
+    }
+
+    private static void writeNatPortForwardingRuleType(XMLStreamWriter writer, String namespace,
+            String localName, NatPortForwardingRuleType value) throws XMLStreamException {
+        if (value.getClass() != NatPortForwardingRuleType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, NatPortForwardingRuleType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeNatPortForwardingRuleType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeNatVmRuleTypeAttributes(XMLStreamWriter writer, NatVmRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeNatVmRuleTypeContent(XMLStreamWriter writer, NatVmRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getExternalIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ExternalIpAddress", value.getExternalIpAddress());
+        }
+        StaxBinding.writeText(writer, NS_VCLOUD, "ExternalPort", DatatypeConverter.printInt(value.getExternalPort()));
+        if (null != value.getVAppScopedVmId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "VAppScopedVmId", value.getVAppScopedVmId());
+        }
+        StaxBinding.writeText(writer, NS_VCLOUD, "VmNicId", DatatypeConverter.printInt(value.getVmNicId()));
+        StaxBinding.writeText(writer, NS_VCLOUD, "InternalPort", DatatypeConverter.printInt(value.getInternalPort()));
+        if (null != value.getProtocol()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Protocol", value.getProtocol());
+        }
+    }
+
+    static void writeNatVmRuleType(XMLStreamWriter writer, NatVmRuleType value)
+            throws XMLStreamException {
+        writeNatVmRuleTypeAttributes(writer, value);
+        writeNatVmRuleTypeContent(writer, value);
+    }
+
+    private static void writeNatVmRuleType(XMLStreamWriter writer, String namespace,
+            String localName, NatVmRuleType value) throws XMLStreamException {
+        if (value.getClass() != NatVmRuleType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, NatVmRuleType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeNatVmRuleType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeStaticRoutingServiceTypeAttributes(XMLStreamWriter writer, StaticRoutingServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeAttributes(writer, value);
+    }
+
+    private static void writeStaticRoutingServiceTypeContent(XMLStreamWriter writer, StaticRoutingServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeContent(writer, value);
+        for (StaticRouteType item : value.getStaticRoute()) {
+            writeStaticRouteType(writer, NS_VCLOUD, "StaticRoute", item);
+        }
+    }
+
+    static void writeStaticRoutingServiceType(XMLStreamWriter writer, StaticRoutingServiceType value)
+            throws XMLStreamException {
+        writeStaticRoutingServiceTypeAttributes(writer, value);
+        writeStaticRoutingServiceTypeContent(writer, value);
+    }
+
+    private static void writeStaticRoutingServiceType(XMLStreamWriter writer, String namespace,
+            String localName, StaticRoutingServiceType value) throws XMLStreamException {
+        if (value.getClass() != StaticRoutingServiceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, StaticRoutingServiceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeStaticRoutingServiceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeStaticRouteTypeAttributes(XMLStreamWriter writer, StaticRouteType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeStaticRouteTypeContent(XMLStreamWriter writer, StaticRouteType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Name", value.getName());
+        }
+        if (null != value.getNetwork()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Network", value.getNetwork());
+        }
+        if (null != value.getNextHopIp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "NextHopIp", value.getNextHopIp());
+        }
+        if (null != value.getInterface()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Interface", value.getInterface());
+        }
+        if (null != value.getGatewayInterface()) {
+            writeReferenceType(writer, NS_VCLOUD, "GatewayInterface", value.getGatewayInterface());
+        }
+    }
+
+    static void writeStaticRouteType(XMLStreamWriter writer, StaticRouteType value)
+            throws XMLStreamException {
+        writeStaticRouteTypeAttributes(writer, value);
+        writeStaticRouteTypeContent(writer, value);
+    }
+
+    private static void writeStaticRouteType(XMLStreamWriter writer, String namespace,
+            String localName, StaticRouteType value) throws XMLStreamException {
+        if (value.getClass() != StaticRouteType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, StaticRouteType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeStaticRouteType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeGatewayDhcpServiceTypeAttributes(XMLStreamWriter writer, GatewayDhcpServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeAttributes(writer, value);
+    }
+
+    private static void writeGatewayDhcpServiceTypeContent(XMLStreamWriter writer, GatewayDhcpServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeContent(writer, value);
+        for (DhcpPoolServiceType item : value.getPool()) {
+            writeDhcpPoolServiceType(writer, NS_VCLOUD, "Pool", item);
+        }
+    }
+
+    static void writeGatewayDhcpServiceType(XMLStreamWriter writer, GatewayDhcpServiceType value)
+            throws XMLStreamException {
+        writeGatewayDhcpServiceTypeAttributes(writer, value);
+        writeGatewayDhcpServiceTypeContent(writer, value);
+    }
+
+    private static void writeGatewayDhcpServiceType(XMLStreamWriter writer, String namespace,
+            String localName, GatewayDhcpServiceType value) throws XMLStreamException {
+        if (value.getClass() != GatewayDhcpServiceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, GatewayDhcpServiceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeGatewayDhcpServiceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeDhcpPoolServiceTypeAttributes(XMLStreamWriter writer, DhcpPoolServiceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeDhcpPoolServiceTypeContent(XMLStreamWriter writer, DhcpPoolServiceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.isIsEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsEnabled", DatatypeConverter.printBoolean(value.isIsEnabled()));
+        }
+        if (null != value.getNetwork()) {
+            writeReferenceType(writer, NS_VCLOUD, "Network", value.getNetwork());
+        }
+        if (null != value.getDefaultLeaseTime()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "DefaultLeaseTime", DatatypeConverter.printInt(value.getDefaultLeaseTime()));
+        }
+        if (null != value.getMaxLeaseTime()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "MaxLeaseTime", DatatypeConverter.printInt(value.getMaxLeaseTime()));
+        }
+        if (null != value.getLowIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "LowIpAddress", value.getLowIpAddress());
+        }
+        if (null != value.getHighIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "HighIpAddress", value.getHighIpAddress());
+        }
+    }
+
+    static void writeDhcpPoolServiceType(XMLStreamWriter writer, DhcpPoolServiceType value)
+            throws XMLStreamException {
+        writeDhcpPoolServiceTypeAttributes(writer, value);
+        writeDhcpPoolServiceTypeContent(writer, value);
+    }
+
+    private static void writeDhcpPoolServiceType(XMLStreamWriter writer, String namespace,
+            String localName, DhcpPoolServiceType value) throws XMLStreamException {
+        if (value.getClass() != DhcpPoolServiceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, DhcpPoolServiceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeDhcpPoolServiceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeFirewallServiceTypeAttributes(XMLStreamWriter writer, FirewallServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeAttributes(writer, value);
+    }
+
+    private static void writeFirewallServiceTypeContent(XMLStreamWriter writer, FirewallServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeContent(writer, value);
+        if (null != value.getDefaultAction()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "DefaultAction", value.getDefaultAction());
+        }
+        if (null != value.isLogDefaultAction()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "LogDefaultAction", DatatypeConverter.printBoolean(value.isLogDefaultAction()));
+        }
+        for (FirewallRuleType item : value.getFirewallRule()) {
+            writeFirewallRuleType(writer, NS_VCLOUD, "FirewallRule", item);
+        }
+    }
+
+    static void writeFirewallServiceType(XMLStreamWriter writer, FirewallServiceType value)
+            throws XMLStreamException {
+        writeFirewallServiceTypeAttributes(writer, value);
+        writeFirewallServiceTypeContent(writer, value);
+    }
+
+    private static void writeFirewallServiceType(XMLStreamWriter writer, String namespace,
+            String localName, FirewallServiceType value) throws XMLStreamException {
+        if (value.getClass() != FirewallServiceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, FirewallServiceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeFirewallServiceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeFirewallRuleTypeAttributes(XMLStreamWriter writer, FirewallRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeFirewallRuleTypeContent(XMLStreamWriter writer, FirewallRuleType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Id", value.getId());
+        }
+        if (null != value.isIsEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsEnabled", DatatypeConverter.printBoolean(value.isIsEnabled()));
+        }
+        if (null != value.isMatchOnTranslate()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "MatchOnTranslate", DatatypeConverter.printBoolean(value.isMatchOnTranslate()));
+        }
+        if (null != value.getDescription()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Description", value.getDescription());
+        }
+        if (null != value.getPolicy()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Policy", value.getPolicy());
+        }
+        if (null != value.getProtocols()) {
+            writeFirewallRuleProtocols(writer, NS_VCLOUD, "Protocols", value.getProtocols());
+        }
+        if (null != value.getIcmpSubType()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IcmpSubType", value.getIcmpSubType());
+        }
+        if (null != value.getPort()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Port", DatatypeConverter.printInt(value.getPort()));
+        }
+        if (null != value.getDestinationPortRange()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "DestinationPortRange", value.getDestinationPortRange());
+        }
+        if (null != value.getDestinationIp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "DestinationIp", value.getDestinationIp());
+        }
+        if (null != value.getDestinationVm()) {
+            writeVmSelectionType(writer, NS_VCLOUD, "DestinationVm", value.getDestinationVm());
+        }
+        if (null != value.getSourcePort()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "SourcePort", DatatypeConverter.printInt(value.getSourcePort()));
+        }
+        if (null != value.getSourcePortRange()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "SourcePortRange", value.getSourcePortRange());
+        }
+        if (null != value.getSourceIp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "SourceIp", value.getSourceIp());
+        }
+        if (null != value.getSourceVm()) {
+            writeVmSelectionType(writer, NS_VCLOUD, "SourceVm", value.getSourceVm());
+        }
+        if (null != value.getDirection()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Direction", value.getDirection());
+        }
+        if (null != value.isEnableLogging()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "EnableLogging", DatatypeConverter.printBoolean(value.isEnableLogging()));
+        }
+    }
+
+    static void writeFirewallRuleType(XMLStreamWriter writer, FirewallRuleType value)
+            throws XMLStreamException {
+        writeFirewallRuleTypeAttributes(writer, value);
+        writeFirewallRuleTypeContent(writer, value);
+    }
+
+    private static void writeFirewallRuleType(XMLStreamWriter writer, String namespace,
+            String localName, FirewallRuleType value) throws XMLStreamException {
+        if (value.getClass() != FirewallRuleType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, FirewallRuleType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeFirewallRuleType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeFirewallRuleProtocolsAttributes(XMLStreamWriter writer, FirewallRuleProtocols value)
+            throws XMLStreamException {
+        writeProtocolsAttributes(writer, value);
+    }
+
+    private static void writeFirewallRuleProtocolsContent(XMLStreamWriter writer, FirewallRuleProtocols value)
+            throws XMLStreamException {
+        writeProtocolsContent(writer, value);
+    }
+
+    static void writeFirewallRuleProtocols(XMLStreamWriter writer, FirewallRuleProtocols value)
+            throws XMLStreamException {
+        writeFirewallRuleProtocolsAttributes(writer, value);
+        writeFirewallRuleProtocolsContent(writer, value);
+    }
+
+    private static void writeFirewallRuleProtocols(XMLStreamWriter writer, String namespace,
+            String localName, FirewallRuleProtocols value) throws XMLStreamException {
+        if (value.getClass() != FirewallRuleProtocols.class) {
+            StaxBinding.writeElement(writer, namespace, localName, FirewallRuleProtocols.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeFirewallRuleProtocols(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeProtocolsAttributes(XMLStreamWriter writer, Protocols value)
+            throws XMLStreamException {
+    }
+
+    private static void writeProtocolsContent(XMLStreamWriter writer, Protocols value)
+            throws XMLStreamException {
+        if (null != value.isTcp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Tcp", DatatypeConverter.printBoolean(value.isTcp()));
+        }
+        if (null != value.isUdp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Udp", DatatypeConverter.printBoolean(value.isUdp()));
+        }
+        if (null != value.isIcmp()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Icmp", DatatypeConverter.printBoolean(value.isIcmp()));
+        }
+        if (null != value.isAny()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Any", DatatypeConverter.printBoolean(value.isAny()));
+        }
+        if (null != value.getOther()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Other", value.getOther());
+        }
+    }
+
+    static void writeProtocols(XMLStreamWriter writer, Protocols value)
+            throws XMLStreamException {
+        writeProtocolsAttributes(writer, value);
+        writeProtocolsContent(writer, value);
+    }
+
+    private static void writeProtocols(XMLStreamWriter writer, String namespace,
+            String localName, Protocols value) throws XMLStreamException {
+        if (value.getClass() != Protocols.class) {
+            StaxBinding.writeElement(writer, namespace, localName, Protocols.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeProtocols(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVmSelectionTypeAttributes(XMLStreamWriter writer, VmSelectionType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeVmSelectionTypeContent(XMLStreamWriter writer, VmSelectionType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getVAppScopedVmId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "VAppScopedVmId", value.getVAppScopedVmId());
+        }
+        StaxBinding.writeText(writer, NS_VCLOUD, "VmNicId", DatatypeConverter.printInt(value.getVmNicId()));
+        if (null != value.getIpType()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IpType", value.getIpType());
+        }
+    }
+
+    static void writeVmSelectionType(XMLStreamWriter writer, VmSelectionType value)
+            throws XMLStreamException {
+        writeVmSelectionTypeAttributes(writer, value);
+        writeVmSelectionTypeContent(writer, value);
+    }
+
+    private static void writeVmSelectionType(XMLStreamWriter writer, String namespace,
+            String localName, VmSelectionType value) throws XMLStreamException {
+        if (value.getClass() != VmSelectionType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VmSelectionType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVmSelectionType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIpsecVpnServiceTypeAttributes(XMLStreamWriter writer, IpsecVpnServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeAttributes(writer, value);
+    }
+
+    private static void writeIpsecVpnServiceTypeContent(XMLStreamWriter writer, IpsecVpnServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeContent(writer, value);
+        if (null != value.getExternalIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ExternalIpAddress", value.getExternalIpAddress());
+        }
+        if (null != value.getPublicIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "PublicIpAddress", value.getPublicIpAddress());
+        }
+        for (IpsecVpnTunnelType item : value.getIpsecVpnTunnel()) {
+            writeIpsecVpnTunnelType(writer, NS_VCLOUD, "IpsecVpnTunnel", item);
+        }
+    }
+
+    static void writeIpsecVpnServiceType(XMLStreamWriter writer, IpsecVpnServiceType value)
+            throws XMLStreamException {
+        writeIpsecVpnServiceTypeAttributes(writer, value);
+        writeIpsecVpnServiceTypeContent(writer, value);
+    }
+
+    private static void writeIpsecVpnServiceType(XMLStreamWriter writer, String namespace,
+            String localName, IpsecVpnServiceType value) throws XMLStreamException {
+        if (value.getClass() != IpsecVpnServiceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IpsecVpnServiceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIpsecVpnServiceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIpsecVpnTunnelTypeAttributes(XMLStreamWriter writer, IpsecVpnTunnelType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeIpsecVpnTunnelTypeContent(XMLStreamWriter writer, IpsecVpnTunnelType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Name", value.getName());
+        }
+        if (null != value.getDescription()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Description", value.getDescription());
+        }
+        if (null != value.getIpsecVpnPeer()) {
+            StaxBinding.writeElement(writer, value.getIpsecVpnPeer());
+        }
+        if (null != value.getPeerIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "PeerIpAddress", value.getPeerIpAddress());
+        }
+        if (null != value.getPeerNetworkAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "PeerNetworkAddress", value.getPeerNetworkAddress());
+        }
+        if (null != value.getPeerNetworkMask()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "PeerNetworkMask", value.getPeerNetworkMask());
+        }
+        if (null != value.getSharedSecret()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "SharedSecret", value.getSharedSecret());
+        }
+        if (null != value.getEncryptionProtocol()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "EncryptionProtocol", value.getEncryptionProtocol());
+        }
+        StaxBinding.writeText(writer, NS_VCLOUD, "Mtu", DatatypeConverter.printInt(value.getMtu()));
+        StaxBinding.writeText(writer, NS_VCLOUD, "IsEnabled", DatatypeConverter.printBoolean(value.isIsEnabled()));
+        if (null != value.isIsOperational()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsOperational", DatatypeConverter.printBoolean(value.isIsOperational()));
+        }
+        if (null != value.getErrorDetails()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ErrorDetails", value.getErrorDetails());
+        }
+    }
+
+    static void writeIpsecVpnTunnelType(XMLStreamWriter writer, IpsecVpnTunnelType value)
+            throws XMLStreamException {
+        writeIpsecVpnTunnelTypeAttributes(writer, value);
+        writeIpsecVpnTunnelTypeContent(writer, value);
+    }
+
+    private static void writeIpsecVpnTunnelType(XMLStreamWriter writer, String namespace,
+            String localName, IpsecVpnTunnelType value) throws XMLStreamException {
+        if (value.getClass() != IpsecVpnTunnelType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IpsecVpnTunnelType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIpsecVpnTunnelType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeLoadBalancerServiceTypeAttributes(XMLStreamWriter writer, LoadBalancerServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeAttributes(writer, value);
+    }
+
+    private static void writeLoadBalancerServiceTypeContent(XMLStreamWriter writer, LoadBalancerServiceType value)
+            throws XMLStreamException {
+        writeNetworkServiceTypeContent(writer, value);
+        for (LoadBalancerPoolType item : value.getPool()) {
+            writeLoadBalancerPoolType(writer, NS_VCLOUD, "Pool", item);
+        }
+        for (LoadBalancerVirtualServerType item : value.getVirtualServer()) {
+            writeLoadBalancerVirtualServerType(writer, NS_VCLOUD, "VirtualServer", item);
+        }
+    }
+
+    static void writeLoadBalancerServiceType(XMLStreamWriter writer, LoadBalancerServiceType value)
+            throws XMLStreamException {
+        writeLoadBalancerServiceTypeAttributes(writer, value);
+        writeLoadBalancerServiceTypeContent(writer, value);
+    }
+
+    private static void writeLoadBalancerServiceType(XMLStreamWriter writer, String namespace,
+            String localName, LoadBalancerServiceType value) throws XMLStreamException {
+        if (value.getClass() != LoadBalancerServiceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, LoadBalancerServiceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeLoadBalancerServiceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeLoadBalancerPoolTypeAttributes(XMLStreamWriter writer, LoadBalancerPoolType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeLoadBalancerPoolTypeContent(XMLStreamWriter writer, LoadBalancerPoolType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Id", value.getId());
+        }
+        if (null != value.getName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Name", value.getName());
+        }
+        if (null != value.getDescription()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Description", value.getDescription());
+        }
+        for (LBPoolServicePortType item : value.getServicePort()) {
+            writeLBPoolServicePortType(writer, NS_VCLOUD, "ServicePort", item);
+        }
+        for (LBPoolMemberType item : value.getMember()) {
+            writeLBPoolMemberType(writer, NS_VCLOUD, "Member", item);
+        }
+        if (null != value.isOperational()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Operational", DatatypeConverter.printBoolean(value.isOperational()));
+        }
+        if (null != value.getErrorDetails()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "ErrorDetails", value.getErrorDetails());
+        }
+    }
+
+    static void writeLoadBalancerPoolType(XMLStreamWriter writer, LoadBalancerPoolType value)
+            throws XMLStreamException {
+        writeLoadBalancerPoolTypeAttributes(writer, value);
+        writeLoadBalancerPoolTypeContent(writer, value);
+    }
+
+    private static void writeLoadBalancerPoolType(XMLStreamWriter writer, String namespace,
+            String localName, LoadBalancerPoolType value) throws XMLStreamException {
+        if (value.getClass() != LoadBalancerPoolType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, LoadBalancerPoolType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeLoadBalancerPoolType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeLBPoolServicePortTypeAttributes(XMLStreamWriter writer, LBPoolServicePortType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeLBPoolServicePortTypeContent(XMLStreamWriter writer, LBPoolServicePortType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.isIsEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsEnabled", DatatypeConverter.printBoolean(value.isIsEnabled()));
+        }
+        if (null != value.getProtocol()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Protocol", value.getProtocol());
+        }
+        if (null != value.getAlgorithm()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Algorithm", value.getAlgorithm());
+        }
+        if (null != value.getPort()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Port", value.getPort());
+        }
+        if (null != value.getHealthCheckPort()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "HealthCheckPort", value.getHealthCheckPort());
+        }
+        for (LBPoolHealthCheckType item : value.getHealthCheck()) {
+            writeLBPoolHealthCheckType(writer, NS_VCLOUD, "HealthCheck", item);
+        }
+    }
+
+    static void writeLBPoolServicePortType(XMLStreamWriter writer, LBPoolServicePortType value)
+            throws XMLStreamException {
+        writeLBPoolServicePortTypeAttributes(writer, value);
+        writeLBPoolServicePortTypeContent(writer, value);
+    }
+
+    private static void writeLBPoolServicePortType(XMLStreamWriter writer, String namespace,
+            String localName, LBPoolServicePortType value) throws XMLStreamException {
+        if (value.getClass() != LBPoolServicePortType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, LBPoolServicePortType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeLBPoolServicePortType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeLBPoolHealthCheckTypeAttributes(XMLStreamWriter writer, LBPoolHealthCheckType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeLBPoolHealthCheckTypeContent(XMLStreamWriter writer, LBPoolHealthCheckType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getMode()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Mode", value.getMode());
+        }
+        if (null != value.getUri()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Uri", value.getUri());
+        }
+        if (null != value.getHealthThreshold()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "HealthThreshold", value.getHealthThreshold());
+        }
+        if (null != value.getUnhealthThreshold()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "UnhealthThreshold", value.getUnhealthThreshold());
+        }
+        if (null != value.getInterval()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Interval", value.getInterval());
+        }
+        if (null != value.getTimeout()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Timeout", value.getTimeout());
+        }
+    }
+
+    static void writeLBPoolHealthCheckType(XMLStreamWriter writer, LBPoolHealthCheckType value)
+            throws XMLStreamException {
+        writeLBPoolHealthCheckTypeAttributes(writer, value);
+        writeLBPoolHealthCheckTypeContent(writer, value);
+    }
+
+    private static void writeLBPoolHealthCheckType(XMLStreamWriter writer, String namespace,
+            String localName, LBPoolHealthCheckType value) throws XMLStreamException {
+        if (value.getClass() != LBPoolHealthCheckType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, LBPoolHealthCheckType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeLBPoolHealthCheckType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeLBPoolMemberTypeAttributes(XMLStreamWriter writer, LBPoolMemberType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeLBPoolMemberTypeContent(XMLStreamWriter writer, LBPoolMemberType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IpAddress", value.getIpAddress());
+        }
+        if (null != value.getWeight()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Weight", value.getWeight());
+        }
+        for (LBPoolServicePortType item : value.getServicePort()) {
+            writeLBPoolServicePortType(writer, NS_VCLOUD, "ServicePort", item);
+        }
+    }
+
+    static void writeLBPoolMemberType(XMLStreamWriter writer, LBPoolMemberType value)
+            throws XMLStreamException {
+        writeLBPoolMemberTypeAttributes(writer, value);
+        writeLBPoolMemberTypeContent(writer, value);
+    }
+
+    private static void writeLBPoolMemberType(XMLStreamWriter writer, String namespace,
+            String localName, LBPoolMemberType value) throws XMLStreamException {
+        if (value.getClass() != LBPoolMemberType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, LBPoolMemberType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeLBPoolMemberType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeLoadBalancerVirtualServerTypeAttributes(XMLStreamWriter writer, LoadBalancerVirtualServerType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeLoadBalancerVirtualServerTypeContent(XMLStreamWriter writer, LoadBalancerVirtualServerType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.isIsEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsEnabled", DatatypeConverter.printBoolean(value.isIsEnabled()));
+        }
+        if (null != value.getName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Name", value.getName());
+        }
+        if (null != value.getDescription()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Description", value.getDescription());
+        }
+        if (null != value.getInterface()) {
+            writeReferenceType(writer, NS_VCLOUD, "Interface", value.getInterface());
+        }
+        if (null != value.getIpAddress()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IpAddress", value.getIpAddress());
+        }
+        for (LBVirtualServerServiceProfileType item : value.getServiceProfile()) {
+            writeLBVirtualServerServiceProfileType(writer, NS_VCLOUD, "ServiceProfile", item);
+        }
+        if (null != value.isLogging()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Logging", DatatypeConverter.printBoolean(value.isLogging()));
+        }
+        if (null != value.getPool()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Pool", value.getPool());
+        }
+        for (VendorTemplateType item : value.getLoadBalancerTemplates()) {
+            writeVendorTemplateType(writer, NS_VCLOUD, "LoadBalancerTemplates", item);
+        }
+    }
+
+    static void writeLoadBalancerVirtualServerType(XMLStreamWriter writer, LoadBalancerVirtualServerType value)
+            throws XMLStreamException {
+        writeLoadBalancerVirtualServerTypeAttributes(writer, value);
+        writeLoadBalancerVirtualServerTypeContent(writer, value);
+    }
+
+    private static void writeLoadBalancerVirtualServerType(XMLStreamWriter writer, String namespace,
+            String localName, LoadBalancerVirtualServerType value) throws XMLStreamException {
+        if (value.getClass() != LoadBalancerVirtualServerType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, LoadBalancerVirtualServerType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeLoadBalancerVirtualServerType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeLBVirtualServerServiceProfileTypeAttributes(XMLStreamWriter writer, LBVirtualServerServiceProfileType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeLBVirtualServerServiceProfileTypeContent(XMLStreamWriter writer, LBVirtualServerServiceProfileType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.isIsEnabled()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "IsEnabled", DatatypeConverter.printBoolean(value.isIsEnabled()));
+        }
+        if (null != value.getProtocol()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Protocol", value.getProtocol());
+        }
+        if (null != value.getPort()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Port", value.getPort());
+        }
+        if (null != value.getPersistence()) {
+            writeLBPersistenceType(writer, NS_VCLOUD, "Persistence", value.getPersistence());
+        }
+    }
+
+    static void writeLBVirtualServerServiceProfileType(XMLStreamWriter writer, LBVirtualServerServiceProfileType value)
+            throws XMLStreamException {
+        writeLBVirtualServerServiceProfileTypeAttributes(writer, value);
+        writeLBVirtualServerServiceProfileTypeContent(writer, value);
+    }
+
+    private static void writeLBVirtualServerServiceProfileType(XMLStreamWriter writer, String namespace,
+            String localName, LBVirtualServerServiceProfileType value) throws XMLStreamException {
+        if (value.getClass() != LBVirtualServerServiceProfileType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, LBVirtualServerServiceProfileType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeLBVirtualServerServiceProfileType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeLBPersistenceTypeAttributes(XMLStreamWriter writer, LBPersistenceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeLBPersistenceTypeContent(XMLStreamWriter writer, LBPersistenceType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getMethod()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Method", value.getMethod());
+        }
+        if (null != value.getCookieName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "CookieName", value.getCookieName());
+        }
+        if (null != value.getCookieMode()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "CookieMode", value.getCookieMode());
+        }
+    }
+
+    static void writeLBPersistenceType(XMLStreamWriter writer, LBPersistenceType value)
+            throws XMLStreamException {
+        writeLBPersistenceTypeAttributes(writer, value);
+        writeLBPersistenceTypeContent(writer, value);
+    }
+
+    private static void writeLBPersistenceType(XMLStreamWriter writer, String namespace,
+            String localName, LBPersistenceType value) throws XMLStreamException {
+        if (value.getClass() != LBPersistenceType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, LBPersistenceType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeLBPersistenceType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVendorTemplateTypeAttributes(XMLStreamWriter writer, VendorTemplateType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeVendorTemplateTypeContent(XMLStreamWriter writer, VendorTemplateType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Name", value.getName());
+        }
+        if (null != value.getId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Id", value.getId());
+        }
+        for (VendorTemplateAttributesType item : value.getVendorTemplateAttributes()) {
+            writeVendorTemplateAttributesType(writer, NS_VCLOUD, "VendorTemplateAttributes", item);
+        }
+    }
+
+    static void writeVendorTemplateType(XMLStreamWriter writer, VendorTemplateType value)
+            throws XMLStreamException {
+        writeVendorTemplateTypeAttributes(writer, value);
+        writeVendorTemplateTypeContent(writer, value);
+    }
+
+    private static void writeVendorTemplateType(XMLStreamWriter writer, String namespace,
+            String localName, VendorTemplateType value) throws XMLStreamException {
+        if (value.getClass() != VendorTemplateType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VendorTemplateType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVendorTemplateType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeVendorTemplateAttributesTypeAttributes(XMLStreamWriter writer, VendorTemplateAttributesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeVendorTemplateAttributesTypeContent(XMLStreamWriter writer, VendorTemplateAttributesType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+        if (null != value.getName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Name", value.getName());
+        }
+        if (null != value.getKey()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Key", value.getKey());
+        }
+        if (null != value.getValue()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Value", value.getValue());
+        }
+    }
+
+    static void writeVendorTemplateAttributesType(XMLStreamWriter writer, VendorTemplateAttributesType value)
+            throws XMLStreamException {
+        writeVendorTemplateAttributesTypeAttributes(writer, value);
+        writeVendorTemplateAttributesTypeContent(writer, value);
+    }
+
+    private static void writeVendorTemplateAttributesType(XMLStreamWriter writer, String namespace,
+            String localName, VendorTemplateAttributesType value) throws XMLStreamException {
+        if (value.getClass() != VendorTemplateAttributesType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, VendorTemplateAttributesType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeVendorTemplateAttributesType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIpsecVpnPeerTypeAttributes(XMLStreamWriter writer, IpsecVpnPeerType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeAttributes(writer, value);
+    }
+
+    private static void writeIpsecVpnPeerTypeContent(XMLStreamWriter writer, IpsecVpnPeerType value)
+            throws XMLStreamException {
+        writeVCloudExtensibleTypeContent(writer, value);
+    }
+
+    private static void writeIpsecVpnRemotePeerTypeAttributes(XMLStreamWriter writer, IpsecVpnRemotePeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnManagedPeerTypeAttributes(writer, value);
+    }
+
+    private static void writeIpsecVpnRemotePeerTypeContent(XMLStreamWriter writer, IpsecVpnRemotePeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnManagedPeerTypeContent(writer, value);
+        if (null != value.getVcdUrl()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "VcdUrl", value.getVcdUrl());
+        }
+        if (null != value.getVcdOrganization()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "VcdOrganization", value.getVcdOrganization());
+        }
+        if (null != value.getVcdUsername()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "VcdUsername", value.getVcdUsername());
+        }
+    }
+
+    static void writeIpsecVpnRemotePeerType(XMLStreamWriter writer, IpsecVpnRemotePeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnRemotePeerTypeAttributes(writer, value);
+        writeIpsecVpnRemotePeerTypeContent(writer, value);
+    }
+
+    private static void writeIpsecVpnRemotePeerType(XMLStreamWriter writer, String namespace,
+            String localName, IpsecVpnRemotePeerType value) throws XMLStreamException {
+        if (value.getClass() != IpsecVpnRemotePeerType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IpsecVpnRemotePeerType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIpsecVpnRemotePeerType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIpsecVpnManagedPeerTypeAttributes(XMLStreamWriter writer, IpsecVpnManagedPeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnPeerTypeAttributes(writer, value);
+    }
+
+    private static void writeIpsecVpnManagedPeerTypeContent(XMLStreamWriter writer, IpsecVpnManagedPeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnPeerTypeContent(writer, value);
+        if (null != value.getId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Id", value.getId());
+        }
+        if (null != value.getName()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "Name", value.getName());
+        }
+    }
+
+    private static void writeIpsecVpnThirdPartyPeerTypeAttributes(XMLStreamWriter writer, IpsecVpnThirdPartyPeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnUnmanagedPeerTypeAttributes(writer, value);
+    }
+
+    private static void writeIpsecVpnThirdPartyPeerTypeContent(XMLStreamWriter writer, IpsecVpnThirdPartyPeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnUnmanagedPeerTypeContent(writer, value);
+        if (null != value.getPeerId()) {
+            StaxBinding.writeText(writer, NS_VCLOUD, "PeerId", value.getPeerId());
+        }
+    }
+
+    static void writeIpsecVpnThirdPartyPeerType(XMLStreamWriter writer, IpsecVpnThirdPartyPeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnThirdPartyPeerTypeAttributes(writer, value);
+        writeIpsecVpnThirdPartyPeerTypeContent(writer, value);
+    }
+
+    private static void writeIpsecVpnThirdPartyPeerType(XMLStreamWriter writer, String namespace,
+            String localName, IpsecVpnThirdPartyPeerType value) throws XMLStreamException {
+        if (value.getClass() != IpsecVpnThirdPartyPeerType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IpsecVpnThirdPartyPeerType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIpsecVpnThirdPartyPeerType(writer, value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIpsecVpnUnmanagedPeerTypeAttributes(XMLStreamWriter writer, IpsecVpnUnmanagedPeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnPeerTypeAttributes(writer, value);
+    }
+
+    private static void writeIpsecVpnUnmanagedPeerTypeContent(XMLStreamWriter writer, IpsecVpnUnmanagedPeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnPeerTypeContent(writer, value);
+    }
+
+    private static void writeIpsecVpnLocalPeerTypeAttributes(XMLStreamWriter writer, IpsecVpnLocalPeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnManagedPeerTypeAttributes(writer, value);
+    }
+
+    private static void writeIpsecVpnLocalPeerTypeContent(XMLStreamWriter writer, IpsecVpnLocalPeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnManagedPeerTypeContent(writer, value);
+    }
+
+    static void writeIpsecVpnLocalPeerType(XMLStreamWriter writer, IpsecVpnLocalPeerType value)
+            throws XMLStreamException {
+        writeIpsecVpnLocalPeerTypeAttributes(writer, value);
+        writeIpsecVpnLocalPeerTypeContent(writer, value);
+    }
+
+    private static void writeIpsecVpnLocalPeerType(XMLStreamWriter writer, String namespace,
+            String localName, IpsecVpnLocalPeerType value) throws XMLStreamException {
+        if (value.getClass() != IpsecVpnLocalPeerType.class) {
+            StaxBinding.writeElement(writer, namespace, localName, IpsecVpnLocalPeerType.class, value);
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeIpsecVpnLocalPeerType(writer, value);
+        writer.writeEndElement();
+    }
+}
@@ -0,0 +1,978 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.bind.DatatypeConverter;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.annotation.adapters.NormalizedStringAdapter;
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.Duration;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * This class binds the schema types StaxBinders has readers and writers for with them rather than
+ * with JAXB. The generated code walks the XML with a pull parser, creating the objects with their
+ * constructors and setters, so that reading a Task needs neither the JAXBContext nor its
+ * reflection based model. Documents are written with Utf8XmlStreamWriter.
+ * 
+ * An xsi:type naming a type StaxBinders has a reader for, and an object of a subclass it has a
+ * writer for, are bound with them too. Content the generated code does not bind itself (types
+ * using a mapping the generator does not support, lax wildcard content, or an xsi:type naming any
+ * other type) is handed over to JAXB, element by element, so that the objects read and the XML
+ * written are the same as with JAXB. Setting the system property
+ * SampleConstants.STAX_BINDING_PROPERTY to false binds everything with JAXB.
+ */
+final class StaxBinding {
+    /**
+     * Reads an element of a type, leaving the reader on the event following its end
+     */
+    interface ElementReader<T> {
+        T read(XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    /**
+     * Writes the attributes and the content of an element of a type, once its start is written
+     */
+    interface ElementWriter<T> {
+        void write(XMLStreamWriter writer, T value) throws XMLStreamException;
+    }
+
+    /*
+     * Property of the JDK pull parser factory reusing the same parser for every document, which
+     * saves allocating its buffers and symbol table every time
+     */
+    private static final String REUSE_INSTANCE_PROPERTY = "reuse-instance";
+
+    /*
+     * Factory of the pull parsers of each thread, each reusing the same parser. Reads are never
+     * nested so a thread only ever needs one at a time
+     */
+    private static final ThreadLocal<XMLInputFactory> xmlInputFactories =
+            new ThreadLocal<XMLInputFactory>() {
+        @Override
+        protected XMLInputFactory initialValue() {
+            return createXmlInputFactory();
+        }
+    };
+
+    private static final NormalizedStringAdapter normalizedStringAdapter =
+            new NormalizedStringAdapter();
+
+    private static final Map<Class<?>, ElementReader<?>> readers =
+            new HashMap<Class<?>, ElementReader<?>>();
+    private static final Map<Class<?>, ElementWriter<?>> writers =
+            new HashMap<Class<?>, ElementWriter<?>>();
+    private static final Map<QName, Class<?>> types = new HashMap<QName, Class<?>>();
+    private static final Map<Class<?>, QName> typeNames = new HashMap<Class<?>, QName>();
+
+    private static volatile boolean enabled = !"false".equalsIgnoreCase(System
+            .getProperty(SampleConstants.STAX_BINDING_PROPERTY));
+
+    static {
+        StaxBinders.register();
+    }
+
+    /*
+     * Prevent this class from being instantiated
+     */
+    private StaxBinding() {
+    }
+
+    /*
+     * Holder idiom so that the DatatypeFactory is only looked up once a date is read
+     */
+    private static final class DatatypeFactoryHolder {
+        static final DatatypeFactory FACTORY = createDatatypeFactory();
+    }
+
+    /*
+     * Holder idiom so that the DocumentBuilderFactory is only looked up once wildcard content is
+     * read
+     */
+    private static final class DocumentBuilderFactoryHolder {
+        static final DocumentBuilderFactory FACTORY = createDocumentBuilderFactory();
+    }
+
+    /*
+     * Reader keeping track of the namespace declarations in scope, which JAXB copies onto the DOM
+     * elements of wildcard content so that any QName within them still resolves
+     */
+    private static final class ScopedReader extends StreamReaderDelegate {
+        // The prefix and namespace of every declaration in scope, innermost last
+        private final List<String> declarations = new ArrayList<String>();
+        // The number of declarations of each element being read, outermost first
+        private int[] counts = new int[16];
+        private int depth;
+
+        ScopedReader(XMLStreamReader reader) {
+            super(reader);
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+            leave();
+            return enter(super.next());
+        }
+
+        @Override
+        public int nextTag() throws XMLStreamException {
+            leave();
+            return enter(super.nextTag());
+        }
+
+        Map<String, String> getNamespacesInScope() {
+            Map<String, String> namespaces = new LinkedHashMap<String, String>();
+
+            for (int i = 0; i < declarations.size(); i += 2) {
+                namespaces.put(declarations.get(i), declarations.get(i + 1));
+            }
+
+            return namespaces;
+        }
+
+        private void leave() {
+            if (getEventType() == XMLStreamConstants.END_ELEMENT) {
+                int count = counts[--depth];
+                declarations.subList(declarations.size() - 2 * count, declarations.size()).clear();
+            }
+        }
+
+        private int enter(int event) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (depth == counts.length) {
+                    counts = Arrays.copyOf(counts, 2 * depth);
+                }
+
+                int count = getNamespaceCount();
+                counts[depth++] = count;
+
+                for (int i = 0; i < count; i++) {
+                    String prefix = getNamespacePrefix(i);
+                    declarations.add(null == prefix ? "" : prefix);
+                    declarations.add(namespace(getNamespaceURI(i)));
+                }
+            }
+
+            return event;
+        }
+    }
+
+    /**
+     * Turns the generated readers and writers on or off, falling back to JAXB for every type when
+     * off. They are on unless the system property SampleConstants.STAX_BINDING_PROPERTY is set to
+     * false.
+     * 
+     * @param on
+     *            true to bind the types StaxBinders has readers and writers for with them
+     */
+    static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * Registers the reader, and optionally the writer, of a type.
+     * 
+     * @param type
+     *            the class type
+     * @param typeName
+     *            the name of the schema type, or null for an anonymous type
+     * @param reader
+     *            the reader of the elements of the type
+     * @param writer
+     *            the writer of the elements of the type, or null when it is written with JAXB
+     */
+    static void register(Class<?> type, QName typeName, ElementReader<?> reader,
+            ElementWriter<?> writer) {
+        readers.put(type, reader);
+
+        if (null != writer) {
+            writers.put(type, writer);
+        }
+
+        if (null != typeName) {
+            types.put(typeName, type);
+            typeNames.put(type, typeName);
+        }
+    }
+
+    /**
+     * @param type
+     *            the class type to unmarshal
+     * @return true if the passed in type is read with a generated reader
+     */
+    static boolean canRead(Class<?> type) {
+        return enabled && readers.containsKey(type);
+    }
+
+    /**
+     * @param jaxbElement
+     *            the JAXB element to marshal
+     * @return true if the passed in JAXB element is written with a generated writer
+     */
+    static boolean canWrite(Object jaxbElement) {
+        if (!enabled || !(jaxbElement instanceof JAXBElement)) {
+            return false;
+        }
+
+        JAXBElement<?> element = (JAXBElement<?>) jaxbElement;
+        return !element.isNil() && canWrite(element.getDeclaredType(), element.getValue());
+    }
+
+    /*
+     * Returns true if there is a writer for the class of the value, and a type name to write as
+     * its xsi:type unless of exactly the declared type
+     */
+    private static boolean canWrite(Class<?> type, Object value) {
+        Class<?> valueType = value.getClass();
+        return writers.containsKey(valueType)
+                && (valueType == type || typeNames.containsKey(valueType));
+    }
+
+    /**
+     * Reads the XML document from the passed in stream into the passed in class type. The
+     * encoding is detected from the XML document.
+     * 
+     * @param is
+     *            the stream to read the XML from
+     * @param type
+     *            a class type canRead() returns true for
+     * @return an instance of the provided class type
+     */
+    static <T> T read(InputStream is, Class<T> type) {
+        try {
+            return read(xmlInputFactories.get().createXMLStreamReader(is), type);
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Problem unmarshalling " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Reads the XML document from the passed in reader into the passed in class type.
+     * 
+     * @param reader
+     *            the reader to read the XML from
+     * @param type
+     *            a class type canRead() returns true for
+     * @return an instance of the provided class type
+     */
+    static <T> T read(Reader reader, Class<T> type) {
+        try {
+            return read(xmlInputFactories.get().createXMLStreamReader(reader), type);
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Problem unmarshalling " + type.getSimpleName(), e);
+        }
+    }
+
+    private static <T> T read(XMLStreamReader xmlStreamReader, Class<T> type)
+            throws XMLStreamException {
+        XMLStreamReader reader = new ScopedReader(xmlStreamReader);
+
+        try {
+            // As with JAXB the document element is read as the type whatever its name
+            reader.nextTag();
+
+            if (hasXsiType(reader)) {
+                return readDerived(reader, type);
+            }
+
+            return type.cast(readers.get(type).read(reader));
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Writes the passed in JAXB element as an XML document encoded in UTF-8 to the passed in
+     * stream.
+     * 
+     * @param jaxbElement
+     *            a JAXB element canWrite() returns true for
+     * @param os
+     *            the stream to write the XML to
+     */
+    static void write(JAXBElement<?> jaxbElement, OutputStream os) {
+        try {
+            XMLStreamWriter writer = new Utf8XmlStreamWriter(os);
+            QName name = jaxbElement.getName();
+
+            writer.writeStartDocument("UTF-8", "1.0");
+            StaxBinders.bindNamespaces(writer);
+            writer.writeStartElement(name.getNamespaceURI(), name.getLocalPart());
+            StaxBinders.declareNamespaces(writer);
+            writeValue(writer, jaxbElement.getDeclaredType(), jaxbElement.getValue());
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Problem marshalling " + jaxbElement, e);
+        }
+    }
+
+    /**
+     * @param namespace
+     *            the namespace of an attribute, as returned by the reader
+     * @return the namespace, or the empty string when there is none
+     */
+    static String namespace(String namespace) {
+        return null == namespace ? XMLConstants.NULL_NS_URI : namespace;
+    }
+
+    /**
+     * @param reader
+     *            the reader, positioned on the start of an element
+     * @return true if the element names its type with an xsi:type attribute
+     */
+    static boolean hasXsiType(XMLStreamReader reader) {
+        return null != reader.getAttributeValue(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI,
+                "type");
+    }
+
+    /**
+     * Reads the element the reader is positioned on as an instance of the type named by its
+     * xsi:type, with the reader of that type when it is a subtype of the passed in class type and
+     * with JAXB otherwise.
+     * 
+     * @param reader
+     *            the reader, positioned on the start of the element
+     * @param type
+     *            the declared type of the element
+     * @return an instance of the provided class type
+     */
+    static <T> T readDerived(XMLStreamReader reader, Class<T> type) throws XMLStreamException {
+        String typeName = reader.getAttributeValue(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI,
+                "type");
+
+        if (null != typeName) {
+            typeName = typeName.trim();
+            int colon = typeName.indexOf(':');
+            String namespace = namespace(reader.getNamespaceURI(colon < 0 ? ""
+                    : typeName.substring(0, colon)));
+            Class<?> derived = types.get(new QName(namespace, typeName.substring(colon + 1)));
+
+            if (null != derived && type.isAssignableFrom(derived)) {
+                return type.cast(readers.get(derived).read(reader));
+            }
+        }
+
+        return unmarshal(reader, type);
+    }
+
+    /**
+     * Skips the element the reader is positioned on if it is nil, as JAXB reads a nillable
+     * element with an xsi:nil of true as null.
+     * 
+     * @param reader
+     *            the reader, positioned on the start of the element
+     * @return true if the element was nil and skipped
+     */
+    static boolean readNil(XMLStreamReader reader) throws XMLStreamException {
+        String nil = reader.getAttributeValue(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "nil");
+
+        if (null == nil || !DatatypeConverter.parseBoolean(nil)) {
+            return false;
+        }
+
+        skip(reader);
+        return true;
+    }
+
+    /**
+     * Moves the reader to the start of the next child element of the element being read, or past
+     * its end when it has no more, skipping any text.
+     * 
+     * @param reader
+     *            the reader, positioned within the content of the element
+     * @return true if positioned on the start of a child element, false once past the end of the
+     *         element
+     */
+    static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.getEventType();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                reader.next();
+                return false;
+            }
+
+            reader.next();
+        }
+    }
+
+    /**
+     * Skips the element the reader is positioned on, along with all its content.
+     * 
+     * @param reader
+     *            the reader, positioned on the start of the element
+     */
+    static void skip(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+
+        do {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        } while (depth >= 0);
+
+        reader.next();
+    }
+
+    /**
+     * Reads the text of the element the reader is positioned on.
+     * 
+     * @param reader
+     *            the reader, positioned on the start of the element
+     * @return the text of the element
+     */
+    static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = reader.getElementText();
+        reader.next();
+        return text;
+    }
+
+    /**
+     * Adds the attribute at the passed in index, unless it is an xsi attribute, to the attributes
+     * of an object not bound to any of its properties.
+     * 
+     * @param otherAttributes
+     *            the attributes of the object not bound to any of its properties
+     * @param reader
+     *            the reader, positioned on the start of an element
+     * @param index
+     *            the index of the attribute
+     */
+    static void readOtherAttribute(Map<QName, String> otherAttributes, XMLStreamReader reader,
+            int index) {
+        QName name = reader.getAttributeName(index);
+
+        if (!XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI.equals(name.getNamespaceURI())) {
+            otherAttributes.put(name, reader.getAttributeValue(index));
+        }
+    }
+
+    /**
+     * Reads the element the reader is positioned on with JAXB, as an instance of the passed in
+     * class type or of the type named by its xsi:type.
+     * 
+     * @param reader
+     *            the reader, positioned on the start of the element
+     * @param type
+     *            the declared type of the element
+     * @return an instance of the provided class type
+     */
+    static <T> T unmarshal(XMLStreamReader reader, Class<T> type) {
+        return XmlBinding.unmarshal(reader, type);
+    }
+
+    /**
+     * Reads the element the reader is positioned on with JAXB as the JAXBElement its name is
+     * bound to, as done for the elements of a substitution group.
+     * 
+     * @param reader
+     *            the reader, positioned on the start of the element
+     * @return the JAXBElement
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T unmarshalElement(XMLStreamReader reader) {
+        return (T) XmlBinding.unmarshal(reader);
+    }
+
+    /**
+     * Reads the element the reader is positioned on as lax wildcard content: as the JAXBElement or
+     * object its name is bound to by JAXB, or else as a DOM element.
+     * 
+     * @param reader
+     *            the reader, positioned on the start of the element
+     * @return the JAXBElement, object or DOM element
+     */
+    static Object readAny(XMLStreamReader reader) throws XMLStreamException {
+        Element element = readElement(reader);
+
+        try {
+            return XmlBinding.unmarshal(element);
+        } catch (JAXBException e) {
+            // Not bound by JAXB, which keeps it as DOM too
+            return element;
+        }
+    }
+
+    /**
+     * Reads the element of type anyType the reader is positioned on: as an instance of the type
+     * named by its xsi:type, or else as a DOM element.
+     * 
+     * @param reader
+     *            the reader, positioned on the start of the element
+     * @return the object or DOM element
+     */
+    static Object readAnyType(XMLStreamReader reader) throws XMLStreamException {
+        if (hasXsiType(reader)) {
+            return readDerived(reader, Object.class);
+        }
+
+        return readElement(reader);
+    }
+
+    /*
+     * Reads the element the reader is positioned on as a DOM element declaring, as JAXB does, all
+     * the namespaces in scope
+     */
+    private static Element readElement(XMLStreamReader reader) throws XMLStreamException {
+        Document document;
+
+        try {
+            document = DocumentBuilderFactoryHolder.FACTORY.newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new RuntimeException(e);
+        }
+
+        Element element = readElement(reader, document);
+        document.appendChild(element);
+
+        if (reader instanceof ScopedReader) {
+            for (Map.Entry<String, String> namespace : ((ScopedReader) reader)
+                    .getNamespacesInScope().entrySet()) {
+                String prefix = namespace.getKey();
+                String localName = prefix.isEmpty() ? XMLConstants.XMLNS_ATTRIBUTE : prefix;
+
+                if (!element.hasAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, localName)) {
+                    element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                            qualifiedName(prefix, XMLConstants.XMLNS_ATTRIBUTE),
+                            namespace.getValue());
+                }
+            }
+        }
+
+        return element;
+    }
+
+    private static Element readElement(XMLStreamReader reader, Document document)
+            throws XMLStreamException {
+        Element element = document.createElementNS(reader.getNamespaceURI(),
+                qualifiedName(reader.getPrefix(), reader.getLocalName()));
+
+        for (int i = 0, n = reader.getNamespaceCount(); i < n; i++) {
+            String prefix = reader.getNamespacePrefix(i);
+            element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                    qualifiedName(prefix, XMLConstants.XMLNS_ATTRIBUTE),
+                    namespace(reader.getNamespaceURI(i)));
+        }
+
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+            element.setAttributeNS(reader.getAttributeNamespace(i),
+                    qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                    reader.getAttributeValue(i));
+        }
+
+        reader.next();
+
+        while (true) {
+            int event = reader.getEventType();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                element.appendChild(readElement(reader, document));
+                continue;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                reader.next();
+                return element;
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE) {
+                element.appendChild(document.createTextNode(reader.getText()));
+            }
+
+            reader.next();
+        }
+    }
+
+    /*
+     * Returns prefix:localName, or localName for the empty prefix, and xmlns for a default
+     * namespace declaration
+     */
+    private static String qualifiedName(String prefix, String localName) {
+        if (null == prefix || prefix.isEmpty()) {
+            return localName;
+        }
+
+        if (XMLConstants.XMLNS_ATTRIBUTE.equals(localName)) {
+            return localName + ":" + prefix;
+        }
+
+        return prefix + ":" + localName;
+    }
+
+    /**
+     * Writes an element with the passed in text as its content.
+     * 
+     * @param writer
+     *            the writer of the document
+     * @param namespace
+     *            the namespace of the element
+     * @param localName
+     *            the local name of the element
+     * @param text
+     *            the text of the element
+     */
+    static void writeText(XMLStreamWriter writer, String namespace, String localName, String text)
+            throws XMLStreamException {
+        writer.writeStartElement(namespace, localName);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes an empty element with an xsi:nil of true, as JAXB does for a nillable element bound
+     * to null.
+     * 
+     * @param writer
+     *            the writer of the document
+     * @param namespace
+     *            the namespace of the element
+     * @param localName
+     *            the local name of the element
+     */
+    static void writeNil(XMLStreamWriter writer, String namespace, String localName)
+            throws XMLStreamException {
+        writer.writeStartElement(namespace, localName);
+        writeAttribute(writer, XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "xsi", "nil", "true");
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes a namespace qualified attribute, declaring a prefix for its namespace on the element
+     * being written unless one is already bound.
+     * 
+     * @param writer
+     *            the writer of the document, having just written the start of an element
+     * @param namespace
+     *            the namespace of the attribute
+     * @param localName
+     *            the local name of the attribute
+     * @param value
+     *            the value of the attribute
+     */
+    static void writeAttribute(XMLStreamWriter writer, String namespace, String localName,
+            String value) throws XMLStreamException {
+        writeAttribute(writer, namespace, "", localName, value);
+    }
+
+    private static void writeAttribute(XMLStreamWriter writer, String namespace, String prefix,
+            String localName, String value) throws XMLStreamException {
+        if (namespace.isEmpty()) {
+            writer.writeAttribute(localName, value);
+            return;
+        }
+
+        String boundPrefix = writer.getPrefix(namespace);
+
+        if (null == boundPrefix || boundPrefix.isEmpty()) {
+            // Unprefixed attributes have no namespace
+            boundPrefix = declarePrefix(writer, prefix, namespace);
+        }
+
+        writer.writeAttribute(boundPrefix, namespace, localName, value);
+    }
+
+    /*
+     * Declares the passed in prefix for the namespace on the element being written, or a prefix
+     * not yet in use when it is empty or already in use
+     */
+    private static String declarePrefix(XMLStreamWriter writer, String prefix, String namespace)
+            throws XMLStreamException {
+        String declared = null == prefix ? "" : prefix;
+
+        for (int i = 1; declared.isEmpty() || !isUnbound(writer, declared); i++) {
+            declared = "ns" + i;
+        }
+
+        writer.writeNamespace(declared, namespace);
+        writer.setPrefix(declared, namespace);
+        return declared;
+    }
+
+    private static boolean isUnbound(XMLStreamWriter writer, String prefix) {
+        return namespace(writer.getNamespaceContext().getNamespaceURI(prefix)).isEmpty();
+    }
+
+    private static boolean isBound(XMLStreamWriter writer, String prefix, String namespace) {
+        return namespace.equals(namespace(writer.getNamespaceContext().getNamespaceURI(prefix)));
+    }
+
+    /**
+     * Writes the attributes of an object not bound to any of its properties.
+     * 
+     * @param writer
+     *            the writer of the document, having just written the start of an element
+     * @param otherAttributes
+     *            the attributes of the object not bound to any of its properties
+     */
+    static void writeOtherAttributes(XMLStreamWriter writer, Map<QName, String> otherAttributes)
+            throws XMLStreamException {
+        for (Map.Entry<QName, String> attribute : otherAttributes.entrySet()) {
+            QName name = attribute.getKey();
+            writeAttribute(writer, name.getNamespaceURI(), name.getPrefix(), name.getLocalPart(),
+                    attribute.getValue());
+        }
+    }
+
+    /**
+     * Writes an element of the passed in declared type with the writer of the class of its value,
+     * along with an xsi:type when that is a subclass, or else with JAXB.
+     * 
+     * @param writer
+     *            the writer of the document
+     * @param namespace
+     *            the namespace of the element
+     * @param localName
+     *            the local name of the element
+     * @param type
+     *            the declared type of the element
+     * @param value
+     *            the value of the element
+     */
+    static <T> void writeElement(XMLStreamWriter writer, String namespace, String localName,
+            Class<T> type, T value) throws XMLStreamException {
+        if (!canWrite(type, value)
+                || (!namespace.isEmpty() && null == writer.getPrefix(namespace))) {
+            marshal(writer, new JAXBElement<T>(new QName(namespace, localName), type, value));
+            return;
+        }
+
+        writer.writeStartElement(namespace, localName);
+        writeValue(writer, type, value);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes the passed in JAXBElement, such as an element of a substitution group, with the
+     * writer of the class of its value or else with JAXB.
+     * 
+     * @param writer
+     *            the writer of the document
+     * @param jaxbElement
+     *            the JAXB element
+     */
+    static <T> void writeElement(XMLStreamWriter writer, JAXBElement<T> jaxbElement)
+            throws XMLStreamException {
+        if (jaxbElement.isNil()) {
+            marshal(writer, jaxbElement);
+            return;
+        }
+
+        QName name = jaxbElement.getName();
+        writeElement(writer, name.getNamespaceURI(), name.getLocalPart(),
+                jaxbElement.getDeclaredType(), jaxbElement.getValue());
+    }
+
+    /*
+     * Writes the xsi:type of the value unless of exactly the declared type, then its attributes
+     * and content
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void writeValue(XMLStreamWriter writer, Class<?> type, T value)
+            throws XMLStreamException {
+        ElementWriter<T> elementWriter = (ElementWriter<T>) writers.get(value.getClass());
+
+        if (value.getClass() != type) {
+            writeXsiType(writer, typeNames.get(value.getClass()));
+        }
+
+        elementWriter.write(writer, value);
+    }
+
+    private static void writeXsiType(XMLStreamWriter writer, QName typeName)
+            throws XMLStreamException {
+        String namespace = typeName.getNamespaceURI();
+        String prefix = writer.getPrefix(namespace);
+
+        if (null == prefix) {
+            prefix = declarePrefix(writer, "", namespace);
+        }
+
+        writeAttribute(writer, XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "xsi", "type",
+                qualifiedName(prefix, typeName.getLocalPart()));
+    }
+
+    /**
+     * Writes the passed in JAXBElement, or object bound to an element, with JAXB.
+     * 
+     * @param writer
+     *            the writer of the document
+     * @param jaxbElement
+     *            the JAXB element
+     */
+    static void marshal(XMLStreamWriter writer, Object jaxbElement) {
+        XmlBinding.marshal(jaxbElement, writer);
+    }
+
+    /**
+     * Writes lax wildcard content, either a DOM element or an object bound by JAXB.
+     * 
+     * @param writer
+     *            the writer of the document
+     * @param any
+     *            the DOM element, JAXBElement or object
+     */
+    static void writeAny(XMLStreamWriter writer, Object any) throws XMLStreamException {
+        if (any instanceof Element) {
+            writeElement(writer, (Element) any);
+        } else if (any instanceof JAXBElement) {
+            writeElement(writer, (JAXBElement<?>) any);
+        } else {
+            marshal(writer, any);
+        }
+    }
+
+    private static void writeElement(XMLStreamWriter writer, Element element)
+            throws XMLStreamException {
+        String namespace = namespace(element.getNamespaceURI());
+        String prefix = element.getPrefix();
+
+        if (null == prefix) {
+            prefix = "";
+        }
+
+        // Looked up first as writing the start of the element binds its prefix
+        boolean declare = !isBound(writer, prefix, namespace);
+        writer.writeStartElement(prefix, element.getLocalName(), namespace);
+
+        if (declare) {
+            writer.writeNamespace(prefix, namespace);
+            writer.setPrefix(prefix, namespace);
+        }
+
+        NamedNodeMap attributes = element.getAttributes();
+
+        // The namespace declarations first, unless already in scope
+        for (int i = 0, n = attributes.getLength(); i < n; i++) {
+            Attr attribute = (Attr) attributes.item(i);
+
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())) {
+                String declared = XMLConstants.XMLNS_ATTRIBUTE.equals(attribute.getLocalName())
+                        ? "" : attribute.getLocalName();
+
+                if (!declared.equals(prefix) && !isBound(writer, declared, attribute.getValue())) {
+                    writer.writeNamespace(declared, attribute.getValue());
+                    writer.setPrefix(declared, attribute.getValue());
+                }
+            }
+        }
+
+        for (int i = 0, n = attributes.getLength(); i < n; i++) {
+            Attr attribute = (Attr) attributes.item(i);
+
+            if (!XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())) {
+                writeAttribute(writer, namespace(attribute.getNamespaceURI()),
+                        attribute.getPrefix(), attribute.getLocalName(), attribute.getValue());
+            }
+        }
+
+        for (Node child = element.getFirstChild(); null != child; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                writeElement(writer, (Element) child);
+            } else if (child.getNodeType() == Node.TEXT_NODE
+                    || child.getNodeType() == Node.CDATA_SECTION_NODE) {
+                writer.writeCharacters(child.getNodeValue());
+            }
+        }
+
+        writer.writeEndElement();
+    }
+
+    /**
+     * @param value
+     *            an xsd:dateTime, xsd:date or xsd:time
+     * @return the value as an XMLGregorianCalendar
+     */
+    static XMLGregorianCalendar parseCalendar(String value) {
+        return DatatypeFactoryHolder.FACTORY.newXMLGregorianCalendar(value.trim());
+    }
+
+    /**
+     * @param value
+     *            an xsd:duration
+     * @return the value as a Duration
+     */
+    static Duration parseDuration(String value) {
+        return DatatypeFactoryHolder.FACTORY.newDuration(value.trim());
+    }
+
+    /**
+     * @param value
+     *            an xsd:normalizedString
+     * @return the value with its tabs, carriage returns and line feeds replaced by spaces
+     */
+    static String normalize(String value) {
+        return normalizedStringAdapter.unmarshal(value);
+    }
+
+    /*
+     * Creates a factory of hardened pull parsers, reusing the same parser when supported
+     */
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XmlBinding.createXmlInputFactory();
+
+        if (factory.isPropertySupported(REUSE_INSTANCE_PROPERTY)) {
+            factory.setProperty(REUSE_INSTANCE_PROPERTY, Boolean.TRUE);
+        }
+
+        return factory;
+    }
+
+    private static DatatypeFactory createDatatypeFactory() {
+        try {
+            return DatatypeFactory.newInstance();
+        } catch (DatatypeConfigurationException e) {
+            throw new RuntimeException("Problem creating DatatypeFactory", e);
+        }
+    }
+
+    private static DocumentBuilderFactory createDocumentBuilderFactory() {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory;
+    }
+}
@@ -0,0 +1,475 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBElement;
+
+import org.apache.http.HttpStatus;
+
+import com.vmware.vcloud.api.rest.schema.QueryResultRecordType;
+import com.vmware.vcloud.api.rest.schema.QueryResultRecordsType;
+import com.vmware.vcloud.api.rest.schema.QueryResultTaskRecordType;
+import com.vmware.vcloud.api.rest.schema.TaskType;
+
+/**
+ * This class waits for many vCloud tasks at once. Rather than polling the href of each task, it
+ * refreshes the status of every task it watches with a single vCloud Query API request per tick,
+ * /api/query?type=task filtered by the ids of the tasks, and completes the future of each task as
+ * soon as it finished. One monitor can be shared by any number of threads and samples, e.g. by
+ * every flow of VMCreateLoadDriver, so the number of polls made depends on how often the monitor
+ * ticks, not on how many tasks are running.
+ * 
+ * The monitor ticks shortly after a task is added and the time between two ticks then grows by
+ * backoff up to maxInterval, the same as TaskPoller. Tasks of the same vCloud endpoint and session
+ * are queried together with the token of that session, at most MAX_TASKS_PER_QUERY per request,
+ * since a query only returns the tasks the session can see. A task that finished successfully
+ * completes with its status and end time updated from the query; any other finished task is
+ * fetched once more to complete with its error details.
+ * 
+ * A task still running when the task timeout of its options has elapsed completes with its last
+ * known state, or exceptionally if its last refresh failed.
+ * 
+ * Once listening to a NotificationListener, a task is completed as soon as an event for it arrives
+ * and the monitor only ticks every eventTimeout, to catch the tasks whose event was lost.
+ */
+public class TaskMonitor {
+    // The most tasks refreshed by a single query, bounding the length of the query url
+    static final int MAX_TASKS_PER_QUERY = 50;
+
+    private static final String TASK_ID_PREFIX = "urn:vcloud:task:";
+
+    // The time in milliseconds waited before the first tick after a task is added
+    long initialInterval = 250;
+
+    // The factor by which the time between two ticks grows
+    double backoff = 1.5;
+
+    // The longest time in milliseconds waited between two ticks
+    long maxInterval = TimeUnit.SECONDS.toMillis(10);
+
+    // The time in milliseconds between two ticks while listening to task events
+    long eventTimeout = TimeUnit.SECONDS.toMillis(15);
+
+    // True once listening to task events
+    private volatile boolean listening;
+
+    // The tasks being watched by href, in the order they were added. Guarded by this.
+    private final Map<String, Watch> watches = new LinkedHashMap<String, Watch>();
+
+    // The time in milliseconds waited before the tick scheduled last
+    private long interval;
+
+    // The number of the tick scheduled last, earlier ticks still pending are ignored
+    private int tick;
+
+    // True while a tick is scheduled or running
+    private boolean ticking;
+
+    // System.nanoTime() at which the tick scheduled last is due
+    private long nextTick;
+
+    /**
+     * Waits for the passed in task to finish and returns its last state.
+     * 
+     * @param task
+     *            the task to wait for
+     * @param vcd
+     *            the vCloud endpoint and token to query the task with
+     * @param options
+     *            the options holding the vCloud version and the task timeout
+     * @return the finished task, or its last known state if the task timeout elapsed first
+     */
+    public TaskType waitFor(TaskType task, Vcd vcd, DefaultSampleCommandLineOptions options) {
+        return HttpUtils.await(watch(task, vcd, options));
+    }
+
+    /**
+     * Adds the passed in task to the tasks refreshed at each tick. The returned future is
+     * completed with the finished task, or its last known state if the task timeout elapsed
+     * first, or exceptionally if the last refresh of the task failed by then.
+     * 
+     * @param task
+     *            the task to wait for
+     * @param vcd
+     *            the vCloud endpoint and token to query the task with
+     * @param options
+     *            the options holding the vCloud version and the task timeout
+     * @return a future completed with the finished (or last known) task
+     */
+    public CompletableFuture<TaskType> watch(TaskType task, Vcd vcd,
+            DefaultSampleCommandLineOptions options) {
+        if (TaskPoller.isFinished(task)) {
+            return CompletableFuture.completedFuture(task);
+        }
+
+        Watch watch = new Watch(task, vcd, options, System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(options.taskTimeout));
+
+        synchronized (this) {
+            Watch watched = watches.get(task.getHref());
+            if (null != watched) {
+                return watched.future;
+            }
+
+            watches.put(task.getHref(), watch);
+
+            // Check on the new task soon, unless a tick is already due before then. While
+            // listening the event of the task is expected first.
+            interval = listening ? eventTimeout : initialInterval;
+            long due = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(interval);
+            if (!ticking || nextTick - due > 0) {
+                schedule(interval);
+            }
+        }
+
+        return watch.future;
+    }
+
+    /**
+     * Completes the watched tasks from the task events received by the passed in listener, polling
+     * only every eventTimeout from then on.
+     * 
+     * @param listener
+     *            the listener of the task events, started by the caller
+     */
+    public void listenTo(NotificationListener listener) {
+        listening = true;
+        listener.addTaskListener(this::taskEvent);
+    }
+
+    /**
+     * Subscribes to the task notifications published to the AMQP broker of the passed in options,
+     * if one was given. If the broker cannot be subscribed to, the tasks are polled as usual.
+     * 
+     * @param options
+     *            the command line options holding the broker uri and exchange
+     */
+    public void listenToBroker(DefaultSampleCommandLineOptions options) {
+        if (null == options.notificationBroker) {
+            return;
+        }
+
+        AmqpNotificationListener listener = new AmqpNotificationListener(
+                options.notificationBroker, options.notificationExchange);
+
+        try {
+            listener.start();
+        } catch (RuntimeException e) {
+            System.err.println("\nCould not subscribe to vCloud notifications, polling tasks: "
+                    + e.getMessage());
+            return;
+        }
+
+        listenTo(listener);
+    }
+
+    /**
+     * Starts listening to the notification feed of MockVchsServer at the passed in url.
+     * 
+     * @param feedUrl
+     *            the url of the notification feed of the stand-in, null not to listen
+     */
+    public void listenToStandin(String feedUrl) {
+        if (null != feedUrl) {
+            StandinNotificationListener listener = new StandinNotificationListener(feedUrl);
+            listenTo(listener);
+            listener.start();
+        }
+    }
+
+    /**
+     * Gets the task with the passed in id if it is being watched and completes it if it finished.
+     * Called when an event was posted for the task.
+     * 
+     * @param taskId
+     *            the id of the task, e.g. urn:vcloud:task:[uuid]
+     */
+    public void taskEvent(String taskId) {
+        Watch found = null;
+
+        synchronized (this) {
+            for (Watch watch : watches.values()) {
+                if (taskId.equals(id(watch.task))) {
+                    found = watch;
+                    break;
+                }
+            }
+        }
+
+        if (null == found) {
+            return;
+        }
+
+        final Watch watch = found;
+        HttpUtils.httpInvokeAsync(watch.vcd.get(watch.task.getHref(), watch.options),
+                HttpStatus.SC_OK, TaskType.class).whenComplete((task, e) -> {
+            // Left to the next tick if the task could not be retrieved
+            if (null != task && TaskPoller.isFinished(task)) {
+                remove(watch);
+                watch.future.complete(task);
+            }
+        });
+    }
+
+    /**
+     * @return the number of tasks being watched
+     */
+    public synchronized int size() {
+        return watches.size();
+    }
+
+    /**
+     * Schedules the next tick after the passed in delay, superseding any tick already scheduled.
+     * Must be called holding the lock of this monitor.
+     */
+    private void schedule(long delay) {
+        final int scheduled = ++tick;
+        ticking = true;
+        nextTick = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+
+        HttpUtils.delay(delay, TimeUnit.MILLISECONDS).thenRun(() -> tick(scheduled));
+    }
+
+    /**
+     * Refreshes every task being watched, completing the finished ones, then schedules the next
+     * tick if tasks are left.
+     * 
+     * @param scheduled
+     *            the number of this tick, it does nothing if a later tick was scheduled since
+     */
+    private void tick(int scheduled) {
+        List<List<Watch>> batches;
+
+        synchronized (this) {
+            if (scheduled != tick) {
+                return;
+            }
+
+            batches = batches();
+        }
+
+        List<CompletableFuture<Void>> refreshes = new ArrayList<CompletableFuture<Void>>();
+        for (List<Watch> batch : batches) {
+            refreshes.add(refresh(batch));
+        }
+
+        CompletableFuture.allOf(refreshes.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((done, e) -> {
+                    synchronized (this) {
+                        expire();
+
+                        // A task added while refreshing may already have scheduled a tick
+                        if (scheduled == tick) {
+                            ticking = false;
+
+                            if (!watches.isEmpty()) {
+                                interval = listening ? eventTimeout : Math.min(maxInterval,
+                                        (long) (interval * backoff));
+                                schedule(interval);
+                            }
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Splits the tasks being watched into the batches refreshed by a single query: tasks of the
+     * same vCloud endpoint and session token, at most MAX_TASKS_PER_QUERY each. Must be called
+     * holding the lock of this monitor.
+     */
+    private List<List<Watch>> batches() {
+        Map<String, List<Watch>> bySession = new LinkedHashMap<String, List<Watch>>();
+        List<List<Watch>> batches = new ArrayList<List<Watch>>();
+
+        for (Watch watch : watches.values()) {
+            String session = HttpUtils.getHostname(watch.task.getHref()) + ' '
+                    + watch.vcd.vcdToken;
+            List<Watch> batch = bySession.get(session);
+
+            if (null == batch || batch.size() == MAX_TASKS_PER_QUERY) {
+                batch = new ArrayList<Watch>();
+                bySession.put(session, batch);
+                batches.add(batch);
+            }
+
+            batch.add(watch);
+        }
+
+        return batches;
+    }
+
+    /**
+     * Queries the status of the tasks of the passed in batch and completes the finished ones. A
+     * failed query is remembered by each task of the batch and retried at the next tick.
+     * 
+     * @return a future completed once the batch has been refreshed
+     */
+    private CompletableFuture<Void> refresh(final List<Watch> batch) {
+        // Every task of the batch belongs to the same session
+        Watch first = batch.get(0);
+        String url = HttpUtils.getHostname(first.task.getHref()) + "/api/query?" + query(batch);
+
+        return HttpUtils.httpInvokeAsync(first.vcd.get(url, first.options), HttpStatus.SC_OK,
+                QueryResultRecordsType.class).handle((records, e) -> {
+            if (null != e) {
+                for (Watch watch : batch) {
+                    watch.failure = e.getCause() instanceof RuntimeException ? e.getCause() : e;
+                }
+            } else {
+                update(batch, records);
+            }
+
+            return null;
+        });
+    }
+
+    /**
+     * Returns the query parameters selecting the tasks of the passed in batch.
+     */
+    private static String query(List<Watch> batch) {
+        StringBuilder filter = new StringBuilder("(");
+        for (Watch watch : batch) {
+            if (filter.length() > 1) {
+                filter.append(',');
+            }
+
+            filter.append("id==").append(id(watch.task));
+        }
+
+        filter.append(')');
+
+        try {
+            return "type=task&format=records&pageSize=" + MAX_TASKS_PER_QUERY + "&filter="
+                    + URLEncoder.encode(filter.toString(), "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the id of the passed in task, derived from its href if the task does not carry it.
+     */
+    private static String id(TaskType task) {
+        if (null != task.getId()) {
+            return task.getId();
+        }
+
+        String href = task.getHref();
+        return TASK_ID_PREFIX + href.substring(href.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Updates the tasks of the passed in batch with the query results, completing the tasks that
+     * finished.
+     */
+    private void update(List<Watch> batch, QueryResultRecordsType records) {
+        Map<String, Watch> byHref = new HashMap<String, Watch>();
+        for (Watch watch : batch) {
+            watch.failure = null;
+            byHref.put(watch.task.getHref(), watch);
+        }
+
+        for (JAXBElement<? extends QueryResultRecordType> element : records.getRecord()) {
+            if (!(element.getValue() instanceof QueryResultTaskRecordType)) {
+                continue;
+            }
+
+            QueryResultTaskRecordType record = (QueryResultTaskRecordType) element.getValue();
+            final Watch watch = byHref.get(record.getHref());
+
+            if (null == watch) {
+                continue;
+            }
+
+            watch.task.setStatus(record.getStatus());
+            if (!TaskPoller.isFinished(watch.task)) {
+                continue;
+            }
+
+            watch.task.setEndTime(record.getEndDate());
+            remove(watch);
+
+            if ("success".equals(record.getStatus())) {
+                watch.future.complete(watch.task);
+            } else {
+                // The query record has no error details, get the task itself for them
+                HttpUtils.httpInvokeAsync(watch.vcd.get(watch.task.getHref(), watch.options),
+                        HttpStatus.SC_OK, TaskType.class).whenComplete((task, e) -> {
+                    watch.future.complete(null != task ? task : watch.task);
+                });
+            }
+        }
+    }
+
+    /**
+     * Completes the tasks whose task timeout elapsed. Must be called holding the lock of this
+     * monitor.
+     */
+    private void expire() {
+        long now = System.nanoTime();
+
+        for (Iterator<Watch> it = watches.values().iterator(); it.hasNext();) {
+            Watch watch = it.next();
+
+            if (now - watch.deadline >= 0) {
+                it.remove();
+
+                if (null != watch.failure) {
+                    watch.future.completeExceptionally(watch.failure);
+                } else {
+                    watch.future.complete(watch.task);
+                }
+            }
+        }
+    }
+
+    private synchronized void remove(Watch watch) {
+        watches.remove(watch.task.getHref());
+    }
+
+    /**
+     * A task being watched.
+     */
+    private static final class Watch {
+        final TaskType task;
+        final Vcd vcd;
+        final DefaultSampleCommandLineOptions options;
+        final CompletableFuture<TaskType> future = new CompletableFuture<TaskType>();
+
+        // System.nanoTime() after which the task is no longer refreshed
+        final long deadline;
+
+        // The error of the last refresh of the task, null if it succeeded
+        volatile Throwable failure;
+
+        Watch(TaskType task, Vcd vcd, DefaultSampleCommandLineOptions options, long deadline) {
+            this.task = task;
+            this.vcd = vcd;
+            this.options = options;
+            this.deadline = deadline;
+        }
+    }
+}
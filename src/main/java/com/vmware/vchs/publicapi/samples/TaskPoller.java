@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.http.HttpStatus;
+
+import com.vmware.vcloud.api.rest.schema.TaskType;
+
+/**
+ * This class waits for vCloud tasks to finish by polling their href, shared by the samples that
+ * start tasks.
+ * 
+ * The first poll is made shortly after the task started and the time between two polls then
+ * grows by backoff up to maxInterval, so short tasks are seen finishing quickly while long ones
+ * are not polled more than needed. Once the task progress has moved between two polls, the time
+ * it still needs is predicted from how fast it moves and the next poll is made when the task is
+ * expected to finish rather than after the backoff delay, again within maxInterval.
+ * 
+ * The wait ends when the task finishes or when the task timeout of the options has elapsed,
+ * however many polls were made. Waiting does not block a thread, the delays between polls are
+ * scheduled by HttpUtils.delay().
+ */
+public class TaskPoller {
+    // The statuses of a task that will not change anymore
+    private static final String[] FINISHED_STATUSES = new String[] { "success", "error",
+            "canceled", "aborted" };
+
+    // The time in milliseconds waited before the first poll
+    long initialInterval = 250;
+
+    // The factor by which the time between two polls grows while the progress is unknown
+    double backoff = 1.5;
+
+    // The longest time in milliseconds waited between two polls
+    long maxInterval = TimeUnit.SECONDS.toMillis(10);
+
+    // Passed the state of the task returned by each poll, e.g. to display the progress of the
+    // wait, null for none
+    Consumer<TaskType> pollListener;
+
+    /**
+     * Waits for the passed in task to finish and returns its last state.
+     * 
+     * @param task
+     *            the task to wait for
+     * @param vcd
+     *            the vCloud endpoint and token to poll the task with
+     * @param options
+     *            the options holding the vCloud version and the task timeout
+     * @return the finished task, or its last polled state if the task timeout elapsed first
+     */
+    public TaskType waitFor(TaskType task, Vcd vcd, DefaultSampleCommandLineOptions options) {
+        return HttpUtils.await(waitForAsync(task, vcd, options));
+    }
+
+    /**
+     * Asynchronous counterpart of waitFor(). The returned future is completed with the finished
+     * task, or its last polled state if the task timeout elapsed first, or exceptionally if a poll
+     * failed.
+     * 
+     * @param task
+     *            the task to wait for
+     * @param vcd
+     *            the vCloud endpoint and token to poll the task with
+     * @param options
+     *            the options holding the vCloud version and the task timeout
+     * @return a future completed with the finished (or last polled) task
+     */
+    public CompletableFuture<TaskType> waitForAsync(TaskType task, Vcd vcd,
+            DefaultSampleCommandLineOptions options) {
+        long now = System.nanoTime();
+        Wait wait = new Wait(now + TimeUnit.SECONDS.toNanos(options.taskTimeout), now,
+                progress(task));
+
+        return poll(task, vcd, options, wait);
+    }
+
+    /**
+     * @return true if the passed in task will not change anymore
+     */
+    static boolean isFinished(TaskType task) {
+        for (String status : FINISHED_STATUSES) {
+            if (status.equals(task.getStatus())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Waits for the next poll to be due, then polls the task until it finished or the deadline
+     * passed.
+     */
+    private CompletableFuture<TaskType> poll(final TaskType task, final Vcd vcd,
+            final DefaultSampleCommandLineOptions options, final Wait wait) {
+        long remaining = wait.deadline - System.nanoTime();
+
+        if (isFinished(task) || remaining <= 0) {
+            return CompletableFuture.completedFuture(task);
+        }
+
+        long delay = Math.min(nextDelay(task, wait), TimeUnit.NANOSECONDS.toMillis(remaining));
+
+        return HttpUtils.delay(delay, TimeUnit.MILLISECONDS).thenCompose(
+                done -> HttpUtils.httpInvokeAsync(vcd.get(task.getHref(), options),
+                        HttpStatus.SC_OK, TaskType.class)).thenCompose(updated -> {
+                    if (null != pollListener) {
+                        pollListener.accept(updated);
+                    }
+
+                    return poll(updated, vcd, options, wait);
+                });
+    }
+
+    /**
+     * Returns the time to wait before polling the task again: until its predicted completion if
+     * its progress moved since the wait started, otherwise the next backoff delay.
+     * 
+     * @param task
+     *            the last polled state of the task
+     * @param wait
+     *            the state of the wait, updated with the delay returned
+     * @return the delay in milliseconds
+     */
+    private long nextDelay(TaskType task, Wait wait) {
+        long now = System.nanoTime();
+        int progress = progress(task);
+
+        wait.interval = null == wait.interval ? initialInterval : Math.min(maxInterval,
+                (long) (wait.interval * backoff));
+
+        if (progress > wait.startProgress && progress < 100) {
+            double nanosPerPercent = (double) (now - wait.start) / (progress - wait.startProgress);
+            long predicted = TimeUnit.NANOSECONDS
+                    .toMillis((long) (nanosPerPercent * (100 - progress)));
+
+            return Math.max(initialInterval, Math.min(maxInterval, predicted));
+        }
+
+        return wait.interval;
+    }
+
+    /**
+     * @return the progress of the task between 0 and 100, 0 if the task does not report it
+     */
+    private static int progress(TaskType task) {
+        return null != task.getProgress() ? task.getProgress() : 0;
+    }
+
+    /**
+     * The state of one task being waited for.
+     */
+    private static final class Wait {
+        // System.nanoTime() after which the task is no longer polled
+        final long deadline;
+
+        // System.nanoTime() and progress of the task when the wait started
+        final long start;
+        final int startProgress;
+
+        // The last backoff delay in milliseconds, null before the first poll
+        Long interval;
+
+        Wait(long deadline, long start, int startProgress) {
+            this.deadline = deadline;
+            this.start = start;
+            this.startProgress = startProgress;
+        }
+    }
+}
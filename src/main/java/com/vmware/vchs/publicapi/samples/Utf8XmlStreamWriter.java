@@ -0,0 +1,554 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * A non repairing XMLStreamWriter writing compact XML encoded in UTF-8 to a stream, through a
+ * buffer flushed whenever full. Unlike the JDK writer, which hands the stream every character on
+ * its own, it writes whole buffers, and keeps the namespaces in scope in a couple of arrays
+ * rather than a map per element, which is what StaxBinding needs to write documents faster than
+ * JAXB does.
+ * 
+ * As allowed by the StAX specification the names and namespaces are not checked, and the prefix
+ * of a namespace is looked up among the prefixes bound with setPrefix(), setDefaultNamespace(),
+ * writeNamespace() and writeDefaultNamespace(). Closing the writer does not close the stream.
+ */
+final class Utf8XmlStreamWriter implements XMLStreamWriter {
+    private static final int BUFFER_SIZE = 2048;
+
+    private final OutputStream os;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int count;
+
+    // The prefix and local name of the elements being written, outermost first
+    private String[] prefixes = new String[16];
+    private String[] localNames = new String[16];
+    // The number of namespace bindings in scope when each element was started
+    private int[] marks = new int[16];
+    private int depth;
+
+    // The prefix and namespace of every binding in scope, innermost last
+    private String[] bindings = new String[32];
+    private int bindingCount;
+
+    private NamespaceContext rootContext;
+
+    // Whether the start tag being written still needs its closing '>'
+    private boolean startTagOpen;
+    // Whether the start tag being written is that of an empty element
+    private boolean empty;
+
+    /**
+     * @param os
+     *            the stream to write the XML to
+     */
+    Utf8XmlStreamWriter(OutputStream os) {
+        this.os = os;
+    }
+
+    @Override
+    public void writeStartDocument() throws XMLStreamException {
+        writeStartDocument("1.0");
+    }
+
+    @Override
+    public void writeStartDocument(String version) throws XMLStreamException {
+        writeAscii("<?xml version=\"");
+        writeAscii(version);
+        writeAscii("\"?>");
+    }
+
+    @Override
+    public void writeStartDocument(String encoding, String version) throws XMLStreamException {
+        if (!"UTF-8".equalsIgnoreCase(encoding)) {
+            throw new XMLStreamException("Unsupported encoding: " + encoding);
+        }
+
+        writeAscii("<?xml version=\"");
+        writeAscii(version);
+        writeAscii("\" encoding=\"UTF-8\"?>");
+    }
+
+    @Override
+    public void writeEndDocument() throws XMLStreamException {
+        while (depth > 0) {
+            writeEndElement();
+        }
+    }
+
+    @Override
+    public void writeStartElement(String localName) throws XMLStreamException {
+        startElement("", localName);
+    }
+
+    @Override
+    public void writeStartElement(String namespaceURI, String localName)
+            throws XMLStreamException {
+        startElement(boundPrefix(namespaceURI), localName);
+    }
+
+    @Override
+    public void writeStartElement(String prefix, String localName, String namespaceURI)
+            throws XMLStreamException {
+        startElement(null == prefix ? "" : prefix, localName);
+    }
+
+    @Override
+    public void writeEmptyElement(String localName) throws XMLStreamException {
+        writeStartElement(localName);
+        empty = true;
+    }
+
+    @Override
+    public void writeEmptyElement(String namespaceURI, String localName)
+            throws XMLStreamException {
+        writeStartElement(namespaceURI, localName);
+        empty = true;
+    }
+
+    @Override
+    public void writeEmptyElement(String prefix, String localName, String namespaceURI)
+            throws XMLStreamException {
+        writeStartElement(prefix, localName, namespaceURI);
+        empty = true;
+    }
+
+    private void startElement(String prefix, String localName) throws XMLStreamException {
+        closeStartTag();
+
+        if (depth == prefixes.length) {
+            prefixes = Arrays.copyOf(prefixes, 2 * depth);
+            localNames = Arrays.copyOf(localNames, 2 * depth);
+            marks = Arrays.copyOf(marks, 2 * depth);
+        }
+
+        prefixes[depth] = prefix;
+        localNames[depth] = localName;
+        marks[depth] = bindingCount;
+        depth++;
+
+        write('<');
+        writeName(prefix, localName);
+        startTagOpen = true;
+    }
+
+    @Override
+    public void writeEndElement() throws XMLStreamException {
+        if (empty) {
+            closeStartTag();
+        }
+
+        if (depth == 0) {
+            throw new XMLStreamException("No element to end");
+        }
+
+        depth--;
+
+        if (startTagOpen) {
+            // Written as an empty element tag
+            write('/');
+            write('>');
+            startTagOpen = false;
+            empty = false;
+        } else {
+            write('<');
+            write('/');
+            writeName(prefixes[depth], localNames[depth]);
+            write('>');
+        }
+
+        bindingCount = marks[depth];
+        prefixes[depth] = null;
+        localNames[depth] = null;
+    }
+
+    @Override
+    public void writeAttribute(String localName, String value) throws XMLStreamException {
+        writeAttribute("", null, localName, value);
+    }
+
+    @Override
+    public void writeAttribute(String namespaceURI, String localName, String value)
+            throws XMLStreamException {
+        writeAttribute(boundPrefix(namespaceURI), namespaceURI, localName, value);
+    }
+
+    @Override
+    public void writeAttribute(String prefix, String namespaceURI, String localName,
+            String value) throws XMLStreamException {
+        if (!startTagOpen) {
+            throw new XMLStreamException("Attribute " + localName + " written outside of a start"
+                    + " tag");
+        }
+
+        write(' ');
+        writeName(prefix, localName);
+        write('=');
+        write('"');
+        writeEscaped(value, true);
+        write('"');
+    }
+
+    @Override
+    public void writeNamespace(String prefix, String namespaceURI) throws XMLStreamException {
+        if (null == prefix || prefix.isEmpty() || XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+            writeDefaultNamespace(namespaceURI);
+            return;
+        }
+
+        writeAttribute(XMLConstants.XMLNS_ATTRIBUTE, XMLConstants.XMLNS_ATTRIBUTE_NS_URI, prefix,
+                namespaceURI);
+        bind(prefix, namespaceURI);
+    }
+
+    @Override
+    public void writeDefaultNamespace(String namespaceURI) throws XMLStreamException {
+        writeAttribute("", XMLConstants.XMLNS_ATTRIBUTE_NS_URI, XMLConstants.XMLNS_ATTRIBUTE,
+                namespaceURI);
+        bind("", namespaceURI);
+    }
+
+    @Override
+    public void writeComment(String data) throws XMLStreamException {
+        closeStartTag();
+        writeAscii("<!--");
+        writeUtf8(data);
+        writeAscii("-->");
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target) throws XMLStreamException {
+        writeProcessingInstruction(target, null);
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target, String data)
+            throws XMLStreamException {
+        closeStartTag();
+        writeAscii("<?");
+        writeUtf8(target);
+        if (null != data) {
+            write(' ');
+            writeUtf8(data);
+        }
+        writeAscii("?>");
+    }
+
+    @Override
+    public void writeCData(String data) throws XMLStreamException {
+        closeStartTag();
+        writeAscii("<![CDATA[");
+        writeUtf8(data);
+        writeAscii("]]>");
+    }
+
+    @Override
+    public void writeDTD(String dtd) throws XMLStreamException {
+        writeUtf8(dtd);
+    }
+
+    @Override
+    public void writeEntityRef(String name) throws XMLStreamException {
+        closeStartTag();
+        write('&');
+        writeUtf8(name);
+        write(';');
+    }
+
+    @Override
+    public void writeCharacters(String text) throws XMLStreamException {
+        closeStartTag();
+        writeEscaped(text, false);
+    }
+
+    @Override
+    public void writeCharacters(char[] text, int start, int len) throws XMLStreamException {
+        closeStartTag();
+        for (int i = start, end = start + len; i < end; i++) {
+            i = writeEscaped(text[i], i + 1 < end ? text[i + 1] : 0, false) ? i + 1 : i;
+        }
+    }
+
+    @Override
+    public String getPrefix(String uri) throws XMLStreamException {
+        return lookupPrefix(uri);
+    }
+
+    @Override
+    public void setPrefix(String prefix, String uri) throws XMLStreamException {
+        bind(null == prefix ? "" : prefix, uri);
+    }
+
+    @Override
+    public void setDefaultNamespace(String uri) throws XMLStreamException {
+        bind("", uri);
+    }
+
+    @Override
+    public void setNamespaceContext(NamespaceContext context) throws XMLStreamException {
+        rootContext = context;
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return new NamespaceContext() {
+            @Override
+            public String getNamespaceURI(String prefix) {
+                return lookupNamespace(prefix);
+            }
+
+            @Override
+            public String getPrefix(String namespaceURI) {
+                return lookupPrefix(namespaceURI);
+            }
+
+            @Override
+            public Iterator<String> getPrefixes(String namespaceURI) {
+                List<String> prefixes = new ArrayList<String>();
+                String prefix = lookupPrefix(namespaceURI);
+                if (null != prefix) {
+                    prefixes.add(prefix);
+                }
+                return prefixes.iterator();
+            }
+        };
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        throw new IllegalArgumentException("Property " + name + " is not supported");
+    }
+
+    @Override
+    public void flush() throws XMLStreamException {
+        flushBuffer();
+
+        try {
+            os.flush();
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        flushBuffer();
+    }
+
+    private void bind(String prefix, String namespaceURI) {
+        if (bindingCount + 2 > bindings.length) {
+            bindings = Arrays.copyOf(bindings, 2 * bindings.length);
+        }
+
+        bindings[bindingCount++] = prefix;
+        bindings[bindingCount++] = null == namespaceURI ? "" : namespaceURI;
+    }
+
+    private String lookupNamespace(String prefix) {
+        for (int i = bindingCount - 2; i >= 0; i -= 2) {
+            if (bindings[i].equals(prefix)) {
+                return bindings[i + 1];
+            }
+        }
+
+        if (XMLConstants.XML_NS_PREFIX.equals(prefix)) {
+            return XMLConstants.XML_NS_URI;
+        } else if (XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+            return XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+        }
+
+        return null == rootContext ? null : rootContext.getNamespaceURI(prefix);
+    }
+
+    private String lookupPrefix(String namespaceURI) {
+        for (int i = bindingCount - 2; i >= 0; i -= 2) {
+            // Unless an inner binding of the same prefix hides it
+            if (bindings[i + 1].equals(namespaceURI)
+                    && namespaceURI.equals(lookupNamespace(bindings[i]))) {
+                return bindings[i];
+            }
+        }
+
+        if (XMLConstants.XML_NS_URI.equals(namespaceURI)) {
+            return XMLConstants.XML_NS_PREFIX;
+        } else if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(namespaceURI)) {
+            return XMLConstants.XMLNS_ATTRIBUTE;
+        }
+
+        return null == rootContext ? null : rootContext.getPrefix(namespaceURI);
+    }
+
+    private String boundPrefix(String namespaceURI) throws XMLStreamException {
+        if (null == namespaceURI || namespaceURI.isEmpty()) {
+            return "";
+        }
+
+        String prefix = lookupPrefix(namespaceURI);
+        if (null == prefix) {
+            throw new XMLStreamException("No prefix bound to " + namespaceURI);
+        }
+
+        return prefix;
+    }
+
+    private void closeStartTag() throws XMLStreamException {
+        if (!startTagOpen) {
+            return;
+        }
+
+        startTagOpen = false;
+
+        if (empty) {
+            empty = false;
+            write('/');
+            write('>');
+            depth--;
+            bindingCount = marks[depth];
+        } else {
+            write('>');
+        }
+    }
+
+    private void writeName(String prefix, String localName) throws XMLStreamException {
+        if (null != prefix && !prefix.isEmpty()) {
+            writeUtf8(prefix);
+            write(':');
+        }
+
+        writeUtf8(localName);
+    }
+
+    private void writeAscii(String s) throws XMLStreamException {
+        for (int i = 0, n = s.length(); i < n; i++) {
+            write((byte) s.charAt(i));
+        }
+    }
+
+    private void writeUtf8(String s) throws XMLStreamException {
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+
+            if (c < 0x80) {
+                write((byte) c);
+            } else if (writeChar(c, i + 1 < n ? s.charAt(i + 1) : 0)) {
+                i++;
+            }
+        }
+    }
+
+    private void writeEscaped(String s, boolean attribute) throws XMLStreamException {
+        for (int i = 0, n = s.length(); i < n; i++) {
+            if (writeEscaped(s.charAt(i), i + 1 < n ? s.charAt(i + 1) : 0, attribute)) {
+                i++;
+            }
+        }
+    }
+
+    /*
+     * Writes the passed in character, escaped as needed, returning true if it was the high
+     * surrogate of a pair and the next character was written with it
+     */
+    private boolean writeEscaped(char c, char next, boolean attribute) throws XMLStreamException {
+        switch (c) {
+        case '&':
+            writeAscii("&amp;");
+            return false;
+        case '<':
+            writeAscii("&lt;");
+            return false;
+        case '>':
+            writeAscii("&gt;");
+            return false;
+        case '"':
+            if (attribute) {
+                writeAscii("&quot;");
+                return false;
+            }
+            break;
+        default:
+            break;
+        }
+
+        if (c < 0x80) {
+            write((byte) c);
+            return false;
+        }
+
+        return writeChar(c, next);
+    }
+
+    private boolean writeChar(char c, char next) throws XMLStreamException {
+        if (c < 0x800) {
+            write((byte) (0xc0 | (c >> 6)));
+            write((byte) (0x80 | (c & 0x3f)));
+            return false;
+        }
+
+        if (Character.isHighSurrogate(c) && Character.isLowSurrogate(next)) {
+            int codePoint = Character.toCodePoint(c, next);
+            write((byte) (0xf0 | (codePoint >> 18)));
+            write((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+            write((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+            write((byte) (0x80 | (codePoint & 0x3f)));
+            return true;
+        }
+
+        if (Character.isSurrogate(c)) {
+            throw new XMLStreamException("Unpaired surrogate in the XML written");
+        }
+
+        write((byte) (0xe0 | (c >> 12)));
+        write((byte) (0x80 | ((c >> 6) & 0x3f)));
+        write((byte) (0x80 | (c & 0x3f)));
+        return false;
+    }
+
+    private void write(char c) throws XMLStreamException {
+        write((byte) c);
+    }
+
+    private void write(byte b) throws XMLStreamException {
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+
+        buffer[count++] = b;
+    }
+
+    private void flushBuffer() throws XMLStreamException {
+        if (count == 0) {
+            return;
+        }
+
+        try {
+            os.write(buffer, 0, count);
+            count = 0;
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+
+/**
+ * This class defines the command line arguments that can be processed by the VDCListSample in
+ * addition to the common ones.
+ */
+public class VDCListCommandLineOptions extends DefaultSampleCommandLineOptions {
+    static final String OPTION_FORMAT = "format";
+
+    // Apache CLI Option array for VDCListSample command line options
+    Option[] options = new Option[] {
+        new Option(OPTION_FORMAT, true, "The format to list the VDCs and templates in, either " + SampleConstants.FORMAT_TEXT + ", " + SampleConstants.FORMAT_NDJSON + " or " + SampleConstants.FORMAT_CSV + ", if the default of " + SampleConstants.DEFAULT_FORMAT + " is not to be used.")
+    };
+
+    /*
+     * The format of the listing, the machine readable formats are written as the records are
+     * retrieved
+     */
+    String format = SampleConstants.DEFAULT_FORMAT;
+
+    @Override
+    public Options getOptions() {
+        Options opts = super.getOptions();
+        for (Option opt : options) {
+            opts.addOption(opt);
+        }
+
+        return opts;
+    }
+
+    @Override
+    protected CommandLine parseOptions(String[] args) {
+        CommandLine cl = super.parseOptions(args);
+
+        // use the returned CommandLine response to parse this sample's specific arguments
+        if (cl.hasOption(OPTION_FORMAT)) {
+            format = cl.getOptionValue(OPTION_FORMAT);
+        }
+
+        return cl;
+    }
+}
@@ -14,13 +14,14 @@
  */
 package com.vmware.vchs.publicapi.samples;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
-import javax.xml.bind.JAXBElement;
-
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 
 import com.vmware.ares.pub.api.ComputeType;
@@ -28,9 +29,6 @@ import com.vmware.ares.pub.api.LinkType;
 import com.vmware.ares.pub.api.ServiceListType;
 import com.vmware.ares.pub.api.ServiceType;
 import com.vmware.ares.pub.api.VdcReferenceType;
-import com.vmware.vcloud.api.rest.schema.QueryResultRecordType;
-import com.vmware.vcloud.api.rest.schema.QueryResultRecordsType;
-import com.vmware.vcloud.api.rest.schema.QueryResultVAppTemplateRecordType;
 
 /**
  * VDCListSample
@@ -45,6 +43,9 @@ import com.vmware.vcloud.api.rest.schema.QueryResultVAppTemplateRecordType;
  * password         [required] : password for the  vCHS authentication.
  * vchsversion      [required] : version of vCHS API.
  * vcloudversion    [required] : version of vCloud API.
+ * format           [optional] : text, ndjson or csv, defaults to text. The machine readable
+ *                               formats write a record per VDC and per template as soon as
+ *                               they are retrieved, and display progress on the error console.
  * 
  * Argument Line:
  * 
@@ -52,11 +53,18 @@ import com.vmware.vcloud.api.rest.schema.QueryResultVAppTemplateRecordType;
  * vApp templates under each VDC.
  * 
  * --url [vchs webservice url] --username [vchs username] --password [vchs password] 
- * --vchsversion [vchs version] --vcloudversion [vcloud version]
+ * --vchsversion [vchs version] --vcloudversion [vcloud version] [--format text|ndjson|csv]
  */
 public class VDCListSample {
     private Vchs vchs = null;
-    private DefaultSampleCommandLineOptions options = null;
+    private VDCListCommandLineOptions options = null;
+
+    // Where the progress of the sample is displayed, the console unless the listing is written
+    // to it in a machine readable format
+    private PrintStream console = System.out;
+
+    // Limits the requests in flight to each host while listing the templates of every VDC
+    private final HostLimiter hostLimiter = new HostLimiter(SampleConstants.MAX_REQUESTS_PER_HOST);
 
     /**
      * @param args
@@ -76,81 +84,177 @@ public class VDCListSample {
      * @param args the arguments passed on the command line
      */
     private void run(String[] args){
-        options = new DefaultSampleCommandLineOptions();
+        options = new VDCListCommandLineOptions();
 
         // process arguments
         options.parseOptions(args);
 
+        // Records in a machine readable format are written to the console as they are retrieved,
+        // so the progress of the sample is displayed on the error console instead
+        InventoryWriter writer = null;
+        if (!SampleConstants.FORMAT_TEXT.equalsIgnoreCase(options.format)) {
+            writer = InventoryWriter.create(options.format, System.out);
+            console = System.err;
+        }
+
         // Log in to vCHS API, getting a session in response if login is successful
-        System.out.print("\nConnecting to vCHS...");
+        console.print("\nConnecting to vCHS...");
 
         // Instance of Vchs for this sample
         vchs = new Vchs();
 
         // Log in to vCHS, passing the command line arguments
         if (vchs.login(options)) {
-            System.out.println("Success\n");
+            console.println("Success\n");
 
             // Retrieve the collection of compute services which can be of type dedicated cloud or vpc
             // and has VDC in it.
-            System.out.print("Retrieving compute services...");
+            console.print("Retrieving compute services...");
 
             // collection of compute services
             Collection<ServiceType> computeServices = getComputeServices();
 
-            System.out.println("Success\n");
+            console.println("Success\n");
+
+            if (null == writer) {
+                printVdcs(computeServices);
+            } else {
+                writeVdcs(computeServices, writer);
+            }
+        }
+    }
 
-            // Collection of VDC
-            Collection<VdcServiceReference> allVdcs = new ArrayList<VdcServiceReference>();
+    /**
+     * Displays to the console every active VDC of the passed in compute services and the names of
+     * the vApp templates available in each.
+     * 
+     * @param computeServices
+     *            the compute services to list the VDCs of
+     */
+    private void printVdcs(Collection<ServiceType> computeServices) {
+        // Every stage of the listing is pipelined: the VDC references of every compute service
+        // are requested at once, and the templates of each active VDC as soon as the VDC
+        // references of its compute service are retrieved. The listings are kept in the order
+        // of the compute services and of their VDCs so that the output does not depend on which
+        // request completes first.
+        List<CompletableFuture<List<VdcListing>>> pending =
+                new ArrayList<CompletableFuture<List<VdcListing>>>();
+
+        for (final ServiceType service : computeServices) {
+            pending.add(getVdcRefsAsync(service).thenApply(vdcs -> {
+                List<VdcListing> listings = new ArrayList<VdcListing>();
+
+                for (VdcReferenceType vdc : vdcs) {
+                    // Make sure VDC is active before listing templates for it
+                    if (vdc.getStatus().equalsIgnoreCase("ACTIVE")) {
+                        listings.add(new VdcListing(vdc, service,
+                                listSystemTemplatesAsync(vdc)));
+                    }
+                }
 
-            // Loop through each of the compute service
-            for (ServiceType service : computeServices) {
-                // For each compute service, get the collection of VDC reference
-                Collection<VdcReferenceType> vdcs = getVdcRefs(service, options.vchsVersion,
-                        vchs.vchsToken);
+                return listings;
+            }));
+        }
 
-                // vdcs stores the collection of VDC reference and compute service in which they fall
-                VdcServiceReference ref = new VdcServiceReference(vdcs, service);
-                allVdcs.add(ref);
+        // Should be > 0, but be sure
+        if (pending.size() > 0) {
+            // Loop through each returned VDC and print out its name to the console
+            System.out.println("Available VDCs");
+            System.out.println("----------------\n");
+
+            // Print each listing as soon as it and all the listings before it are complete
+            for (CompletableFuture<List<VdcListing>> listings : pending) {
+                for (VdcListing listing : HttpUtils.await(listings)) {
+                    VdcReferenceType vdc = listing.getVdc();
+                    ServiceType service = listing.getService();
+
+                    System.out.println(vdc.getName() + "\t" + service.getServiceType() + "\t"
+                            + service.getRegion());
+
+                    // To display the name of vApp Template available under VDC
+                    printSystemTemplates(HttpUtils.await(listing.getTemplates()));
+                    System.out.println();
+                }
             }
+        }
+    }
 
-            // Should be > 0, but be sure
-            if (allVdcs.size() > 0) {
-                // Loop through each returned VDC and print out its name to the console
-                System.out.println("Available VDCs");
-                System.out.println("----------------\n");
-
-                // Loop through each of the VdcServiceReference containing compute service and list of VDC
-                // reference in it
-                for (VdcServiceReference ref : allVdcs) {
-                    Collection<VdcReferenceType> vdcs = ref.getVdcs();
-                    ServiceType service = ref.getService();
-
-                    // Loop through each of the VDC
-                    for (VdcReferenceType vdc : vdcs) {
-                        // Make sure VDC is active before listing templates for it
-                        if(vdc.getStatus().equalsIgnoreCase("ACTIVE")){
-                            System.out.println(vdc.getName() + "\t" + service.getServiceType() + "\t"
-                                    + service.getRegion());
-
-                            // To display the name of vApp Template available under VDC
-                            listSystemTemplates(vdc);
-                            System.out.println();
-                        }
+    /**
+     * Writes a record of every active VDC of the passed in compute services and of every vApp
+     * template available in each, as soon as they are retrieved. Nothing is kept once written.
+     * 
+     * @param computeServices
+     *            the compute services to list the VDCs of
+     * @param writer
+     *            the writer of the records
+     */
+    private void writeVdcs(Collection<ServiceType> computeServices, final InventoryWriter writer) {
+        List<CompletableFuture<Void>> pending = new ArrayList<CompletableFuture<Void>>();
+
+        for (final ServiceType service : computeServices) {
+            pending.add(getVdcRefsAsync(service).thenCompose(vdcs -> {
+                List<CompletableFuture<Boolean>> templates =
+                        new ArrayList<CompletableFuture<Boolean>>();
+
+                for (final VdcReferenceType vdc : vdcs) {
+                    // Make sure VDC is active before listing templates for it
+                    if (vdc.getStatus().equalsIgnoreCase("ACTIVE")) {
+                        writer.writeVdc(service, vdc);
+
+                        // Each template is written as its row is read and each page is
+                        // flushed once read. A query failing part way is reported on the error
+                        // console, after the records of the pages read before the failure.
+                        templates.add(queryTemplatesAsync(vdc,
+                                name -> writer.writeTemplate(service, vdc, name),
+                                writer::flush));
                     }
                 }
-            }
+
+                return CompletableFuture.allOf(templates.toArray(
+                        new CompletableFuture<?>[templates.size()]));
+            }));
         }
+
+        // Wait for every record to be written
+        HttpUtils.await(CompletableFuture.allOf(pending.toArray(
+                new CompletableFuture<?>[pending.size()])));
+    }
+
+    /**
+     * Lists the names of the vApp templates available in a VDC, see queryTemplatesAsync().
+     * 
+     * @param vdc
+     *            the reference to VDC for which the available vApp template to be listed
+     * @return a future completed with the names of the vApp templates, empty if there are none
+     *         or the query failed
+     */
+    private CompletableFuture<List<String>> listSystemTemplatesAsync(final VdcReferenceType vdc) {
+        final List<String> names = new ArrayList<String>();
+
+        // A page after the first one failing fails the query, list no template of this VDC
+        // rather than a part of them
+        return queryTemplatesAsync(vdc, names::add, () -> {
+        }).thenApply(complete -> complete ? names : Collections.<String> emptyList());
     }
 
     /**
-     * This method retrieves a vCloud API EndPoint to get access to its organization, then its 
-     * catalog and finally display names of vApp templates available to the console
+     * This method retrieves a vCloud API EndPoint for the VDC, then uses the vCloud Query API to
+     * pass the names of the vApp templates available in it to the passed in action, one page
+     * after the other as they are returned. Both steps are run on the pool of the asynchronous
+     * requests, with no more than SampleConstants.MAX_REQUESTS_PER_HOST requests in flight to
+     * the vCHS host and to each vCloud host.
      * 
      * @param vdc
-     *            the reference to VDC for which the available vApp template to be displayed
+     *            the reference to VDC for which the available vApp template to be listed
+     * @param action
+     *            the action run on the name of each vApp template
+     * @param endOfPage
+     *            run once the names of a page of results were passed to the action
+     * @return a future completed with true once every name was passed to the action, or false
+     *         if the query failed part way
      */
-    private void listSystemTemplates(VdcReferenceType vdc) {
+    private CompletableFuture<Boolean> queryTemplatesAsync(final VdcReferenceType vdc,
+            final Consumer<String> action, final Runnable endOfPage) {
         String vcloudSessionHref = null;
 
         // Retrieve the List of Links associated with VDC Reference
@@ -158,7 +262,7 @@ public class VDCListSample {
 
         // Iterate through the list of links associated VDC Reference
         for (LinkType link : vdcLinks) {
-            if (link.getType().equals("application/xml;class=vnd.vmware.vchs.vcloudsession")) {
+            if ("application/xml;class=vnd.vmware.vchs.vcloudsession".equals(link.getType())) {
                 vcloudSessionHref = link.getHref();
 
                 // Found it, break out of loop
@@ -166,35 +270,78 @@ public class VDCListSample {
             }
         }
 
+        if (null == vcloudSessionHref) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        // Retrieve the vCloud API EndPoint for the VDC, sharing the session of another VDC of
+        // the same organization if there is one
+        final String href = vcloudSessionHref;
+        CompletableFuture<Vcd> session = hostLimiter.submit(href,
+                () -> HttpUtils.supplyAsync(() -> vchs.vcdSessions.get(vchs, options, href, vdc)));
+
+        return session.thenCompose(vcd -> hostLimiter.submit(vcd.vdcHref,
+                () -> HttpUtils.supplyAsync(() -> queryTemplateNames(vcd, action, endOfPage))));
+    }
+
+    /**
+     * Runs the vApp template query and passes the names of the templates found to the action as
+     * each page of the results is returned
+     * 
+     * @param vcd
+     *            the vCloud API EndPoint of the VDC
+     * @param action
+     *            the action run on the name of each vApp template
+     * @param endOfPage
+     *            run once the names of a page of results were passed to the action
+     * @return true once every name was passed to the action, false if the query failed
+     */
+    private boolean queryTemplateNames(final Vcd vcd, Consumer<String> action,
+            Runnable endOfPage) {
+        // Use the vCloud Query API service to get a list of all the system templates,
+        // opening a new session if the cached one expired on the vCloud side.
+        //
+        // About filtering templates:
+        //   filter=isPublished==true  : retrieve only vCHS system templates.
+        //   filter=isPublished==false : retrieve user uploaded templates.
+        //   (without isPublished filter query parameter) : retrieve all templates.
+        // Example: type=vAppTemplate&filter=isPublished==true
+        //
+        // Only the name of the templates is displayed, so it is the only field asked for and the
+        // only attribute decoded
+        PagedQuery<QueryRow> query = PagedQuery.rows(HttpUtils.getHostname(vcd.vdcHref),
+                Query.of(Query.VAPP_TEMPLATE).fields(Query.NAME),
+                url -> vchs.vcdSessions.invoke(vchs, options, vcd,
+                        session -> session.get(url, options)), Query.NAME);
+
+        // A page after the first one failing fails the query, without failing the listing of
+        // the other VDCs
+        try {
+            query.forEachRecord(row -> action.accept(row.get(0)), endOfPage);
+        } catch (RuntimeException e) {
+            System.err.println("Could not list the templates of " + vcd.vdcHref + ": "
+                    + e.getMessage());
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Displays the names of the vApp templates of a VDC to the console
+     * 
+     * @param templates
+     *            the names of the vApp templates
+     */
+    private void printSystemTemplates(List<String> templates) {
         System.out.println();
         System.out.println("  Available templates");
         System.out.println("  -------------------");
 
-        if (null != vcloudSessionHref){
-            // Retrieve the vCloud API EndPoint for the VDC.
-            Vcd vcd = HttpUtils.getVCDEndPoint(vchs, options, vcloudSessionHref);
-
-            // getQueryResults() will use the vCloud Query API service and get a list of all the system
-            // templates.
-            //
-            // About filtering templates:
-            //   filter=isPublished==true  : retrieve only vCHS system templates.
-            //   filter=isPublished==false : retrieve user uploaded templates.
-            //   (without isPublished filter query parameter) : retrieve all templates.
-            // Example: type=vAppTemplate&filter=isPublished==true
-            //
-            QueryResultRecordsType queryResults = HttpUtils.getQueryResults(HttpUtils.getHostname(vcd.vdcHref), "type=vAppTemplate", options, vcd.vcdToken);
-
-            if (null != queryResults && queryResults.getRecord().size() > 0) {
-                List<JAXBElement<? extends QueryResultRecordType>> records = queryResults.getRecord();
-                for(JAXBElement<? extends QueryResultRecordType> record : records) {
-                // We should have only one record with the name matching templateName
-                    QueryResultVAppTemplateRecordType qrrt = (QueryResultVAppTemplateRecordType) record.getValue();
-                    // Print the name of the system template to the console
-                    System.out.println("  " + qrrt.getName());
-                }
-            } else {
-                System.out.println("  None");
+        if (templates.size() > 0) {
+            for (String template : templates) {
+                // Print the name of the system template to the console
+                System.out.println("  " + template);
             }
         } else {
             System.out.println("  None");
@@ -213,18 +360,9 @@ public class VDCListSample {
         // Collection of only compute service types
         Collection<ServiceType> computeServices = null;
 
-        // invoke the serviceList API
-        HttpResponse response = HttpUtils.httpInvoke(vchs.get(vchs.vchsServiceListHref, options));
-
-        // Make sure the response status is 200 OK
-        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
-            throw new RuntimeException("Failed : HTTP error code : "
-                    + response.getStatusLine().getStatusCode());
-        }
-
-        // Parse the response entity to get the vCHS services
-        ServiceListType serviceList = HttpUtils.unmarshal(response.getEntity(),
-                ServiceListType.class);
+        // invoke the serviceList API to get the vCHS services, making sure the response status
+        // is 200 OK
+        ServiceListType serviceList = HttpUtils.await(vchs.getServiceListAsync(options));
         List<ServiceType> services = serviceList.getService();
         computeServices = new ArrayList<ServiceType>(services.size());
 
@@ -241,60 +379,51 @@ public class VDCListSample {
     }
 
     /**
-     * This method will retrieve a collection of VdcReferenceType instances.
+     * This method will retrieve a collection of VdcReferenceType instances. The request is made
+     * asynchronously so that the compute services can be queried concurrently.
      * 
      * @param computeService
      *            the compute service type to get the vCloud API href from
-     * @param version
-     *            the vCHS API version to make requests against
-     * @param authorization
-     *            the vCHS API authorization token
      * 
-     * @return Collection of VDC References in the Service
+     * @return a future completed with the Collection of VDC References in the Service
      */
-    private Collection<VdcReferenceType> getVdcRefs(ServiceType computeService, String version,
-            String authorization) {
-        // Collection of References to VDC
-        Collection<VdcReferenceType> vdcRefs = null;
-
+    private CompletableFuture<Collection<VdcReferenceType>> getVdcRefsAsync(
+            ServiceType computeService) {
         // Get href to compute service
         String href = computeService.getHref();
 
-        // Invoke the computeService API
-        HttpResponse computeTypeResponse = HttpUtils.httpInvoke(vchs.get(href, options));
-
-        // Make sure the response status is 200 OK
-        if (computeTypeResponse.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
-            throw new RuntimeException("Failed : HTTP error code : "
-                    + computeTypeResponse.getStatusLine().getStatusCode());
-        }
-
-        // Get the compute object which contains the collection of VDC references.
-        ComputeType compute = HttpUtils.unmarshal(computeTypeResponse.getEntity(),
-                ComputeType.class);
-        vdcRefs = compute.getVdcRef();
-
-        return vdcRefs;
+        // Invoke the computeService API, making sure the response status is 200 OK and getting
+        // the compute object which contains the collection of VDC references.
+        return HttpUtils.httpInvokeAsync(vchs.get(href, options), HttpStatus.SC_OK,
+                ComputeType.class).thenApply(compute -> compute.getVdcRef());
     }
 
     /**
-     * Encapsulates a collection of VDC's with the service they fall under
+     * Encapsulates an active VDC with the service it falls under and the pending list of its
+     * vApp templates
      */
-    private final class VdcServiceReference{
-        private Collection<VdcReferenceType> vdcs;
+    private final class VdcListing {
+        private VdcReferenceType vdc;
         private ServiceType service;
+        private CompletableFuture<List<String>> templates;
 
-        public VdcServiceReference(Collection<VdcReferenceType> vdcs, ServiceType service) {
-            this.vdcs = vdcs;
+        public VdcListing(VdcReferenceType vdc, ServiceType service,
+                CompletableFuture<List<String>> templates) {
+            this.vdc = vdc;
             this.service = service;
+            this.templates = templates;
         }
 
-        public Collection<VdcReferenceType> getVdcs() {
-            return vdcs;
+        public VdcReferenceType getVdc() {
+            return vdc;
         }
 
         public ServiceType getService() {
             return service;
         }
+
+        public CompletableFuture<List<String>> getTemplates() {
+            return templates;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+
+/**
+ * This class adds the command line arguments of the VMCreateLoadDriver to the VMCreateSample
+ * options. With --standin the driver runs against an embedded MockVchsServer, and the options the
+ * stand-in does not need default to the names it serves.
+ */
+public class VMCreateLoadCommandLineOptions extends VMCreateCommandLineOptions {
+    static final String OPTION_USERS = "users";
+    static final String OPTION_RATE = "rate";
+    static final String OPTION_FLOWS = "flows";
+    static final String OPTION_POLL_INTERVAL = "pollinterval";
+    static final String OPTION_VDC_DIRECTORY = "vdcdirectory";
+    static final String OPTION_PAYLOAD_TEMPLATES = "payloadtemplates";
+    static final String OPTION_STANDIN = "standin";
+    static final String OPTION_NOTIFICATIONS = "notifications";
+
+    // Command line arguments
+    Option[] options = new Option[] {
+        new Option(OPTION_USERS, true, "The number of flows run at once. Defaults to 10."),
+        new Option(OPTION_RATE, true, "The number of flows started per second whether or not earlier flows finished, 0 to start a flow as soon as a user is free. Defaults to 0."),
+        new Option(OPTION_FLOWS, true, "The total number of flows to run. Defaults to 100."),
+        new Option(OPTION_POLL_INTERVAL, true, "The longest time in milliseconds between two polls of a task. Defaults to 1000."),
+        new Option(OPTION_VDC_DIRECTORY, false, "Find the VDC in a directory of the compute services crawled once and shared by the flows rather than searching the services in every flow."),
+        new Option(OPTION_PAYLOAD_TEMPLATES, false, "Render the instantiate and deploy request bodies from templates marshalled once rather than marshalling them for every flow."),
+        new Option(OPTION_STANDIN, false, "Run against an embedded vCHS stand-in server instead of --url."),
+        new Option(MockServerCommandLineOptions.OPTION_LATENCY, true, "The latency in milliseconds of the stand-in server. Defaults to 0."),
+        new Option(MockServerCommandLineOptions.OPTION_JITTER, true, "The jitter in milliseconds of the stand-in server. Defaults to 0."),
+        new Option(MockServerCommandLineOptions.OPTION_TASK_DURATION, true, "The task duration in milliseconds of the stand-in server. Defaults to 2000."),
+        new Option(MockServerCommandLineOptions.OPTION_ERROR_RATE, true, "The fraction of requests failed by the stand-in server. Defaults to 0."),
+        new Option(OPTION_NOTIFICATIONS, false, "Complete the tasks from the notification feed of the stand-in server rather than by polling them."),
+        new Option(MockServerCommandLineOptions.OPTION_EVENT_LOSS_RATE, true, "The fraction of task notifications lost by the stand-in server. Defaults to 0.")
+    };
+
+    // variables to hold the shape of the load passed in via the command line
+    int users = 10;
+    double rate = 0;
+    int flows = 100;
+    long pollInterval = 1000;
+
+    // true to find the VDC in a directory shared by the flows
+    boolean vdcDirectory;
+
+    // true to render the request bodies from templates marshalled once
+    boolean payloadTemplates;
+
+    // true to run against an embedded stand-in configured by standinOptions
+    boolean standin;
+
+    // true to listen to the notification feed of the stand-in
+    boolean notifications;
+
+    // the url of the notification feed of the stand-in, set once it started
+    String notificationUrl;
+    MockServerCommandLineOptions standinOptions = new MockServerCommandLineOptions();
+
+    @Override
+    public Options getOptions() {
+        Options opts = super.getOptions();
+        for (Option opt : options) {
+            opts.addOption(opt);
+        }
+
+        return opts;
+    }
+
+    @Override
+    protected CommandLine parseOptions(String[] args) {
+        CommandLine cl = super.parseOptions(args);
+
+        try {
+            if (cl.hasOption(OPTION_USERS)) {
+                users = Integer.parseInt(cl.getOptionValue(OPTION_USERS));
+            }
+
+            if (cl.hasOption(OPTION_RATE)) {
+                rate = Double.parseDouble(cl.getOptionValue(OPTION_RATE));
+            }
+
+            if (cl.hasOption(OPTION_FLOWS)) {
+                flows = Integer.parseInt(cl.getOptionValue(OPTION_FLOWS));
+            }
+
+            if (cl.hasOption(OPTION_POLL_INTERVAL)) {
+                pollInterval = Long.parseLong(cl.getOptionValue(OPTION_POLL_INTERVAL));
+            }
+
+            vdcDirectory = cl.hasOption(OPTION_VDC_DIRECTORY);
+            payloadTemplates = cl.hasOption(OPTION_PAYLOAD_TEMPLATES);
+
+            if (cl.hasOption(MockServerCommandLineOptions.OPTION_LATENCY)) {
+                standinOptions.latency = Long.parseLong(cl
+                        .getOptionValue(MockServerCommandLineOptions.OPTION_LATENCY));
+            }
+
+            if (cl.hasOption(MockServerCommandLineOptions.OPTION_JITTER)) {
+                standinOptions.jitter = Long.parseLong(cl
+                        .getOptionValue(MockServerCommandLineOptions.OPTION_JITTER));
+            }
+
+            if (cl.hasOption(MockServerCommandLineOptions.OPTION_TASK_DURATION)) {
+                standinOptions.taskDuration = Long.parseLong(cl
+                        .getOptionValue(MockServerCommandLineOptions.OPTION_TASK_DURATION));
+            }
+
+            if (cl.hasOption(MockServerCommandLineOptions.OPTION_ERROR_RATE)) {
+                standinOptions.errorRate = Double.parseDouble(cl
+                        .getOptionValue(MockServerCommandLineOptions.OPTION_ERROR_RATE));
+            }
+
+            if (cl.hasOption(MockServerCommandLineOptions.OPTION_EVENT_LOSS_RATE)) {
+                standinOptions.eventLossRate = Double.parseDouble(cl
+                        .getOptionValue(MockServerCommandLineOptions.OPTION_EVENT_LOSS_RATE));
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number: " + e.getMessage());
+            new org.apache.commons.cli.HelpFormatter().printHelp(
+                    "vCHS Sample command line syntax", getOptions());
+            System.exit(1);
+        }
+
+        if (cl.hasOption(OPTION_STANDIN)) {
+            standin = true;
+            standinOptions.port = 0;
+            // Enough threads to serve every user at once whatever the latency
+            standinOptions.threads = Math.max(standinOptions.threads, users);
+
+            // Log in as anyone and look for the names the stand-in serves
+            vchsUsername = null != vchsUsername ? vchsUsername : "user";
+            vchsPassword = null != vchsPassword ? vchsPassword : "password";
+            vdcName = null != vdcName ? vdcName : standinOptions.vdcName;
+            networkName = null != networkName ? networkName : standinOptions.networkName;
+            templateName = null != templateName ? templateName : standinOptions.templateName;
+            vcdVersion = null != vcdVersion ? vcdVersion : SampleConstants.DEFAULT_VCD_VERSION;
+            notifications = cl.hasOption(OPTION_NOTIFICATIONS);
+        }
+
+        // The vApp name is a prefix, each flow appends its number
+        vappName = null != vappName ? vappName : "loadtest";
+
+        return cl;
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import com.vmware.vcloud.api.rest.schema.VAppTemplateType;
+import com.vmware.vcloud.api.rest.schema.VAppType;
+import com.vmware.vcloud.api.rest.schema.VdcType;
+import com.vmware.vcloud.api.rest.schema.VmType;
+
+/**
+ * VMCreateLoadDriver
+ * 
+ * This program replays the VMCreateSample workflow with many users at once and reports the
+ * throughput and latency percentiles of each step and of the whole flow, to find how many vApp
+ * provisioning flows per minute a single client JVM sustains.
+ * 
+ * Each flow logs in, finds the vCloud session of the VDC, gets the vCloud endpoint and the VDC,
+ * looks up the template, instantiates a vApp named [targetvappname]-[flow number] and waits for
+ * it, updates the vApp and Vm networks, deploys the vApp and reads the Vm ips, exactly as
+ * VMCreateSample does. The tasks of all the flows are watched by a single TaskMonitor, so each
+ * poll refreshes every running task with one query, or with --standin --notifications the tasks
+ * are completed from the events of the stand-in.
+ * 
+ * By default each user starts its next flow as soon as the previous one finished (closed model).
+ * With --rate flows are started at a fixed rate whether or not earlier flows finished (open
+ * model), queuing for a free user; the flow latency then includes the time spent queued.
+ * 
+ * Parameters:
+ * 
+ * The VMCreateSample parameters, see VMCreateLoadCommandLineOptions for the others.
+ * 
+ * users            [optional] : number of flows run at once, defaults to 10.
+ * rate             [optional] : flows started per second, defaults to 0 (closed model).
+ * flows            [optional] : total number of flows, defaults to 100.
+ * pollinterval     [optional] : longest time in milliseconds between two polls of a task,
+ *                              defaults to 1000.
+ * standin          [optional] : run against an embedded MockVchsServer instead of --url.
+ * notifications    [optional] : complete the tasks from the notification feed of the stand-in.
+ * vdcdirectory     [optional] : find the VDC in a directory of the compute services crawled once.
+ * payloadtemplates [optional] : render the instantiate and deploy bodies from templates compiled
+ *                              once.
+ * 
+ * Argument Line:
+ * 
+ * --standin [--latency ms] [--jitter ms] [--taskduration ms] --users [users] --flows [flows]
+ * 
+ * or the VMCreateSample arguments followed by --users [users] --flows [flows]
+ */
+public class VMCreateLoadDriver {
+    static final String STEP_LOGIN = "login";
+    static final String STEP_SESSION_HREF = "sessionHref";
+    static final String STEP_VCD_ENDPOINT = "vcdEndpoint";
+    static final String STEP_VDC = "vdc";
+    static final String STEP_TEMPLATE_LOOKUP = "templateLookup";
+    static final String STEP_INSTANTIATE = "instantiate";
+    static final String STEP_NETWORK_UPDATE = "networkUpdate";
+    static final String STEP_DEPLOY = "deploy";
+    static final String STEP_IP_DISPLAY = "ipDisplay";
+
+    private final VMCreateLoadCommandLineOptions options;
+
+    // Latency of each step, in the order they run, and of the whole flow
+    private final Map<String, LatencyRecorder> steps = new LinkedHashMap<String, LatencyRecorder>();
+    private final LatencyRecorder flows = new LatencyRecorder();
+
+    // Watches the tasks of every flow
+    private final TaskMonitor taskMonitor = new TaskMonitor();
+
+    // The VDCs of the compute services, shared by the flows, null to search them in each flow
+    private final VdcDirectory vdcDirectory;
+
+    // Number of failures by step and message
+    private final Map<String, AtomicInteger> errors = new ConcurrentHashMap<String, AtomicInteger>();
+
+    /**
+     * @param args
+     *            any arguments passed by the command line, see VMCreateLoadCommandLineOptions
+     */
+    public static void main(String[] args) throws Exception {
+        VMCreateLoadCommandLineOptions options = new VMCreateLoadCommandLineOptions();
+        options.parseOptions(args);
+
+        MockVchsServer standin = null;
+        if (options.standin) {
+            standin = new MockVchsServer(options.standinOptions);
+            standin.start();
+            options.vchsHostname = standin.getBaseUrl();
+
+            if (options.notifications) {
+                options.notificationUrl = standin.getBaseUrl() + SampleConstants.NOTIFICATIONS_URL;
+            }
+        }
+
+        try {
+            new VMCreateLoadDriver(options).run();
+        } finally {
+            if (null != standin) {
+                standin.stop();
+            }
+        }
+    }
+
+    VMCreateLoadDriver(VMCreateLoadCommandLineOptions options) {
+        this.options = options;
+        taskMonitor.maxInterval = options.pollInterval;
+        taskMonitor.listenToStandin(options.notificationUrl);
+        taskMonitor.listenToBroker(options);
+        vdcDirectory = options.vdcDirectory ? new VdcDirectory() : null;
+
+        for (String step : new String[] { STEP_LOGIN, STEP_SESSION_HREF, STEP_VCD_ENDPOINT,
+                STEP_VDC, STEP_TEMPLATE_LOOKUP, STEP_INSTANTIATE, STEP_NETWORK_UPDATE,
+                STEP_DEPLOY, STEP_IP_DISPLAY }) {
+            steps.put(step, new LatencyRecorder());
+        }
+    }
+
+    /**
+     * Runs all the flows and prints the report.
+     */
+    void run() throws InterruptedException {
+        System.out.println("Running " + options.flows + " flows with " + options.users
+                + " users against " + options.vchsHostname + " using the " + options.transport
+                + " transport"
+                + (options.rate > 0 ? ", starting " + options.rate + " flows per second" : ""));
+
+        ExecutorService users = Executors.newFixedThreadPool(options.users,
+                HttpUtils.daemonThreadFactory("vmcreate-user"));
+        List<Future<?>> pending = new ArrayList<Future<?>>();
+        final long start = System.nanoTime();
+
+        if (options.rate > 0) {
+            // Open model: flow n is due at a fixed time and waits for a free user if need be
+            long interval = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate);
+            for (int n = 0; n < options.flows; n++) {
+                final int flow = n + 1;
+                final long due = start + n * interval;
+
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                pending.add(users.submit(() -> flow(flow, due)));
+            }
+        } else {
+            // Closed model: each user starts its next flow as soon as the previous one finished
+            final AtomicInteger next = new AtomicInteger();
+            for (int user = 0; user < options.users; user++) {
+                pending.add(users.submit(() -> {
+                    int flow;
+                    while ((flow = next.incrementAndGet()) <= options.flows) {
+                        flow(flow, System.nanoTime());
+                    }
+                }));
+            }
+        }
+
+        for (Future<?> future : pending) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        users.shutdown();
+
+        report(elapsed);
+    }
+
+    /**
+     * Runs one VMCreateSample flow, recording the latency of each step. The flow stops at the
+     * first step that fails.
+     * 
+     * @param flow
+     *            the number of the flow, appended to the vApp name
+     * @param due
+     *            the time the flow was due to start, in System.nanoTime() terms
+     */
+    private void flow(int flow, long due) {
+        VMCreateCommandLineOptions flowOptions = copyOptions(options, options.vappName + "-"
+                + flow);
+        VMCreateSample sample = new VMCreateSample(flowOptions);
+        sample.taskMonitor = taskMonitor;
+        sample.payloadTemplates = options.payloadTemplates;
+
+        String step = STEP_LOGIN;
+        long time = System.nanoTime();
+
+        try {
+            sample.vchs = new Vchs();
+            sample.vchs.vdcDirectory = vdcDirectory;
+            sample.vchs.login(flowOptions);
+            time = record(step, time);
+
+            step = STEP_SESSION_HREF;
+            String vcdSessionHref = HttpUtils.await(sample.vchs
+                    .getVCloudDSessionHrefAsync(flowOptions));
+            time = record(step, time);
+
+            step = STEP_VCD_ENDPOINT;
+            sample.vcd = HttpUtils.getVCDEndPoint(sample.vchs, flowOptions, vcdSessionHref);
+            String vcdBaseUrl = HttpUtils.getHostname(sample.vcd.vdcHref);
+            time = record(step, time);
+
+            step = STEP_VDC;
+            VdcType vdc = sample.getVdc(sample.vcd.vdcHref);
+            time = record(step, time);
+
+            step = STEP_TEMPLATE_LOOKUP;
+            VAppTemplateType template = sample.getVAppTemplate(vcdBaseUrl);
+            time = record(step, time);
+
+            step = STEP_INSTANTIATE;
+            VAppType vApp = sample.createVApp(sample.getInstantiateVAppLink(vdc),
+                    template.getHref(), vdc);
+            sample.waitForTasks(vApp.getTasks());
+            time = record(step, time);
+
+            step = STEP_NETWORK_UPDATE;
+            vApp = sample.getVApp(vApp);
+            VmType vm = sample.getVmFromVApp(vApp);
+            sample.getVAppVdcNetwork(vcdBaseUrl, vdc);
+            sample.waitForTaskCompletion(sample.updateVAppNetwork(vApp, vdc));
+            sample.waitForTaskCompletion(sample.updateVMWithNetworkDetails(vm));
+            time = record(step, time);
+
+            step = STEP_DEPLOY;
+            sample.waitForTaskCompletion(sample.deploy(vApp));
+            time = record(step, time);
+
+            step = STEP_IP_DISPLAY;
+            for (VmType child : vApp.getChildren().getVm()) {
+                sample.getIpForVm(child);
+            }
+            time = record(step, time);
+
+            flows.record(time - due);
+        } catch (RuntimeException e) {
+            steps.get(step).error();
+            flows.error();
+
+            String key = step + ": " + String.valueOf(e.getMessage()).trim();
+            AtomicInteger count = errors.get(key);
+            if (null == count) {
+                AtomicInteger first = new AtomicInteger();
+                count = errors.putIfAbsent(key, first);
+                count = null != count ? count : first;
+            }
+            count.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records the latency of the step started at the passed in time.
+     * 
+     * @return the current time, the start of the next step
+     */
+    private long record(String step, long start) {
+        long now = System.nanoTime();
+        steps.get(step).record(now - start);
+        return now;
+    }
+
+    /**
+     * Prints the throughput and latency percentiles of each step and of the whole flow, followed
+     * by the errors if any.
+     * 
+     * @param elapsed
+     *            the duration of the run in nanoseconds
+     */
+    private void report(long elapsed) {
+        double seconds = elapsed / 1e9;
+
+        System.out.println();
+        System.out.println(String.format("%-16s %8s %8s %10s %10s %10s %10s %10s %10s", "step",
+                "count", "errors", "ops/s", "mean ms", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+
+        for (Map.Entry<String, LatencyRecorder> entry : steps.entrySet()) {
+            printRow(entry.getKey(), entry.getValue(), seconds);
+        }
+
+        printRow("flow", flows, seconds);
+
+        System.out.println();
+        System.out.println(String.format(
+                "%d flows completed in %.1f s: %.1f flows per minute", flows.latency.count(),
+                seconds, flows.latency.count() / seconds * 60));
+
+        if (!errors.isEmpty()) {
+            System.out.println();
+            System.out.println("Errors");
+            System.out.println("------");
+            for (Map.Entry<String, AtomicInteger> entry : errors.entrySet()) {
+                System.out.println(entry.getValue() + " x " + entry.getKey());
+            }
+        }
+
+        System.out.println();
+        HttpMetrics.report(System.out);
+    }
+
+    private static void printRow(String name, LatencyRecorder recorder, double seconds) {
+        LatencyHistogram latency = recorder.latency.copy();
+
+        System.out.println(String.format("%-16s %8d %8d %10.2f %10.1f %10.1f %10.1f %10.1f %10.1f",
+                name, latency.count(), recorder.errors.get(), latency.count() / seconds,
+                latency.mean() / 1e6, latency.percentile(50) / 1e6,
+                latency.percentile(95) / 1e6, latency.percentile(99) / 1e6,
+                latency.max() / 1e6));
+    }
+
+    /**
+     * Returns a copy of the sample options with its own vApp name so each flow creates a distinct
+     * vApp.
+     */
+    private static VMCreateCommandLineOptions copyOptions(VMCreateCommandLineOptions options,
+            String vappName) {
+        VMCreateCommandLineOptions copy = new VMCreateCommandLineOptions();
+        copy.vchsHostname = options.vchsHostname;
+        copy.vchsVersion = options.vchsVersion;
+        copy.vchsUsername = options.vchsUsername;
+        copy.vchsPassword = options.vchsPassword;
+        copy.vcdVersion = options.vcdVersion;
+        copy.vdcName = options.vdcName;
+        copy.transport = options.transport;
+        copy.taskTimeout = options.taskTimeout;
+        copy.tokenCache = options.tokenCache;
+        copy.tokenTtl = options.tokenTtl;
+        copy.templateName = options.templateName;
+        copy.networkName = options.networkName;
+        copy.vappName = vappName;
+
+        return copy;
+    }
+
+    /**
+     * The latencies, in nanoseconds, and the number of failures of a step.
+     */
+    private static final class LatencyRecorder {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final AtomicInteger errors = new AtomicInteger();
+
+        void record(long nanos) {
+            latency.record(nanos);
+        }
+
+        void error() {
+            errors.incrementAndGet();
+        }
+    }
+}
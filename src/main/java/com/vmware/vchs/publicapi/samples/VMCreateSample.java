@@ -14,16 +14,13 @@
  */
 package com.vmware.vchs.publicapi.samples;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
-import javax.xml.bind.JAXBException;
 import javax.xml.namespace.QName;
 
 import org.apache.http.HttpResponse;
@@ -31,8 +28,6 @@ import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
 
 import com.vmware.vcloud.api.rest.schema.AvailableNetworksType;
 import com.vmware.vcloud.api.rest.schema.DeployVAppParamsType;
@@ -44,9 +39,6 @@ import com.vmware.vcloud.api.rest.schema.NetworkConfigurationType;
 import com.vmware.vcloud.api.rest.schema.NetworkConnectionSectionType;
 import com.vmware.vcloud.api.rest.schema.ObjectFactory;
 import com.vmware.vcloud.api.rest.schema.OrgVdcNetworkType;
-import com.vmware.vcloud.api.rest.schema.QueryResultRecordType;
-import com.vmware.vcloud.api.rest.schema.QueryResultRecordsType;
-import com.vmware.vcloud.api.rest.schema.QueryResultVAppTemplateRecordType;
 import com.vmware.vcloud.api.rest.schema.ReferenceType;
 import com.vmware.vcloud.api.rest.schema.TaskType;
 import com.vmware.vcloud.api.rest.schema.TasksInProgressType;
@@ -132,9 +124,21 @@ public class VMCreateSample {
     private static final int SUCCESS = 4;
     private static final int FAIL = -1;
 
-    private Vchs vchs = null;
-    private Vcd vcd = null;
-    private VMCreateCommandLineOptions options = null;
+    Vchs vchs = null;
+    Vcd vcd = null;
+    VMCreateCommandLineOptions options = null;
+
+    // Waits for the vCloud tasks started by the sample, refreshing them all with one query
+    TaskMonitor taskMonitor = new TaskMonitor();
+
+    // Whether the instantiate and deploy bodies are rendered from the PayloadTemplates, as done
+    // when creating many vApps, rather than marshalled for each request
+    boolean payloadTemplates = false;
+
+    // The slots of the instantiate body
+    private static final PayloadTemplate.Slot<String> VAPP_NAME = PayloadTemplate.slot("vappName");
+    private static final PayloadTemplate.Slot<String> VAPP_TEMPLATE_HREF = PayloadTemplate
+            .slot("vappTemplateHref");
 
     /**
      * @param args
@@ -146,6 +150,20 @@ public class VMCreateSample {
         sample.run(args);
     }
 
+    VMCreateSample() {
+    }
+
+    /**
+     * Creates an instance using already parsed options, so that the steps of the sample can be
+     * run one at a time, e.g. by VMCreateLoadDriver.
+     * 
+     * @param options
+     *            the options of the sample
+     */
+    VMCreateSample(VMCreateCommandLineOptions options) {
+        this.options = options;
+    }
+
     /**
      * Called by the static main method on the instance of this class with the command line args
      * array.
@@ -158,6 +176,9 @@ public class VMCreateSample {
         options = new VMCreateCommandLineOptions();
         options.parseOptions(args);
 
+        // Complete the tasks from their events if a notification broker was given
+        taskMonitor.listenToBroker(options);
+
         System.out.print("\nConnecting to vCHS...");
 
         // Instance of Vchs for this sample
@@ -183,12 +204,15 @@ public class VMCreateSample {
 
             // Retrieve the VAppTemplateType that matches the command line arg --templatename
             // passed in
+            System.out.print("Searching for template " + options.templateName + "...");
             VAppTemplateType template = getVAppTemplate(vcdBaseUrl);
+            System.out.println("found.\n");
 
             // Retrieve the url to perform initializevApp method
             String instantiateHref = getInstantiateVAppLink(vdc);
 
             // Initialize the vApp template using the vApp template
+            System.out.print("Attempting to create vApp...");
             VAppType vApp = createVApp(instantiateHref, template.getHref(), vdc);
 
             // Wait for the vApp creation to complete by monitoring the vApp task
@@ -261,7 +285,7 @@ public class VMCreateSample {
      * @param vdc the VDC this vApp is deployed to
      * @return a TaskType instance if successful, otherwise an exception is thrown
      */
-    private TaskType updateVAppNetwork(VAppType vApp, VdcType vdc) {
+    TaskType updateVAppNetwork(VAppType vApp, VdcType vdc) {
         List<JAXBElement<? extends SectionType>> sections = vApp.getSection();
         for(JAXBElement<? extends SectionType> section : sections) {
             if(section.getName().toString().contains("NetworkConfigSection")) {
@@ -300,32 +324,12 @@ public class VMCreateSample {
 
                     // Make the PUT call to update the vApp network configuration
                     HttpPut updateVAppNetwork = vcd.put(editHref, options);
-                    OutputStream os = null;
                     ObjectFactory objectFactory = new ObjectFactory();
                     JAXBElement<NetworkConfigSectionType> networkConfigSectionType = objectFactory.createNetworkConfigSection(ncst);
 
-                    JAXBContext jaxbContexts = null;
-                    try {
-                        jaxbContexts = JAXBContext.newInstance(NetworkConfigSectionType.class);
-                    } catch (JAXBException ex) {
-                        throw new RuntimeException("Problem creating JAXB Context: ", ex);
-                    }
-
-                    try {
-                        javax.xml.bind.Marshaller marshaller = jaxbContexts.createMarshaller();
-                        marshaller.setProperty(javax.xml.bind.Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-                        os = new ByteArrayOutputStream();
-                        // Marshal the object via JAXB to XML
-                        marshaller.marshal(networkConfigSectionType, os);
-                    } catch (JAXBException e) {
-                        throw new RuntimeException("Problem marshalling VirtualHardwareSection", e);
-                    }
-
-                    // Set the Content-Type header for NetworkConfigSection
-                    ContentType contentType = ContentType.create(
-                            "application/vnd.vmware.vcloud.networkConfigSection+xml", "ISO-8859-1");
-                    StringEntity update = new StringEntity(os.toString(), contentType);
-                    updateVAppNetwork.setEntity(update);
+                    // Stream the object as XML with the Content-Type for NetworkConfigSection
+                    updateVAppNetwork.setEntity(new XmlEntity(networkConfigSectionType,
+                            "application/vnd.vmware.vcloud.networkConfigSection+xml"));
 
                     // Invoke the HttoPut to update the VirtualHardwareSection of the Vm
                     HttpResponse response = HttpUtils.httpInvoke(updateVAppNetwork);
@@ -334,6 +338,8 @@ public class VMCreateSample {
                         TaskType taskType = HttpUtils.unmarshal(response.getEntity(),  TaskType.class);
                         return taskType;
                     }
+
+                    HttpUtils.consume(response);
                 }
             }
         }
@@ -358,7 +364,7 @@ public class VMCreateSample {
      * 
      * @param vm the Vm to change network settings on
      */
-    private TaskType updateVMWithNetworkDetails(VmType vm) {
+    TaskType updateVMWithNetworkDetails(VmType vm) {
         // the Href to use for GET and PUT calls for the VirtualHardwareSection
         String hardwareHref = null;
         // With the VDC network details, we can now update the Vm network section to connect the Vm to the vApp network
@@ -415,38 +421,20 @@ public class VMCreateSample {
                                 break;
                             }
                         }
+                    } else {
+                        HttpUtils.consume(response);
                     }
 
                     // Now do a PUT with update data
                     com.vmware.vcloud.api.rest.schema.ovf.ObjectFactory objectFactory = new com.vmware.vcloud.api.rest.schema.ovf.ObjectFactory();
                     JAXBElement<VirtualHardwareSectionType> hardwareSection = objectFactory.createVirtualHardwareSection(hardware);
 
-                    JAXBContext jaxbContexts = null;
-                    try {
-                        jaxbContexts = JAXBContext.newInstance(VirtualHardwareSectionType.class);
-                    } catch (JAXBException ex) {
-                        throw new RuntimeException("Problem creating JAXB Context: ", ex);
-                    }
-
                     // Create HttpPut request to update the VirtualHardwareSection
                     HttpPut updateVmNetwork = vcd.put(hardwareHref, options);
-                    OutputStream os = null;
-
-                    try {
-                        javax.xml.bind.Marshaller marshaller = jaxbContexts.createMarshaller();
-                        marshaller.setProperty(javax.xml.bind.Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-                        os = new ByteArrayOutputStream();
-                        // Marshal the object via JAXB to XML
-                        marshaller.marshal(hardwareSection, os);
-                    } catch (JAXBException e) {
-                        throw new RuntimeException("Problem marshalling VirtualHardwareSection", e);
-                    }
 
-                    // Set the Content-Type header for VirtualHardwareSection
-                    ContentType contentType = ContentType.create(
-                            "application/vnd.vmware.vcloud.virtualHardwareSection+xml", "ISO-8859-1");
-                    StringEntity update = new StringEntity(os.toString(), contentType);
-                    updateVmNetwork.setEntity(update);
+                    // Stream the object as XML with the Content-Type for VirtualHardwareSection
+                    updateVmNetwork.setEntity(new XmlEntity(hardwareSection,
+                            "application/vnd.vmware.vcloud.virtualHardwareSection+xml"));
 
                     // Invoke the HttoPut to update the VirtualHardwareSection of the Vm
                     response = HttpUtils.httpInvoke(updateVmNetwork);
@@ -457,6 +445,8 @@ public class VMCreateSample {
                         return taskType;
                     }
 
+                    HttpUtils.consume(response);
+
                     break;
                 }
             }
@@ -474,7 +464,7 @@ public class VMCreateSample {
      * @param vdc the Vdc containing the available networks to search
      * @return the matched OrgVdcNetworkType instance
      */
-    private OrgVdcNetworkType getVAppVdcNetwork(String vcdBaseUrl, VdcType vdc){
+    OrgVdcNetworkType getVAppVdcNetwork(String vcdBaseUrl, VdcType vdc){
         AvailableNetworksType l = vdc.getAvailableNetworks();
         List<ReferenceType> networks = l.getNetwork();
 
@@ -486,6 +476,8 @@ public class VMCreateSample {
                     OrgVdcNetworkType network = HttpUtils.unmarshal(response.getEntity(), OrgVdcNetworkType.class);
                     return network;
                 }
+
+                HttpUtils.consume(response);
             }
         }
 
@@ -500,7 +492,7 @@ public class VMCreateSample {
      * @param vApp the vApp to search for a matching Vm
      * @return the VmType instance
      */
-    private VmType getVmFromVApp(VAppType vApp){
+    VmType getVmFromVApp(VAppType vApp){
         // Get the status of initialization operation and IP details
         if (null != vApp.getChildren()) {
             List<VmType> vms = vApp.getChildren().getVm();
@@ -520,6 +512,8 @@ public class VMCreateSample {
                             if(upVApp.getName().equalsIgnoreCase(options.vappName)){
                                 return vm;
                             }
+                        } else {
+                            HttpUtils.consume(response);
                         }
                     }
                 }
@@ -541,13 +535,14 @@ public class VMCreateSample {
      * @param vApp the vApp to refresh from the API
      * @return a new instance of VAppType
      */
-    private VAppType getVApp(VAppType vApp){
+    VAppType getVApp(VAppType vApp){
         HttpResponse response = HttpUtils.httpInvoke(vcd.get(vApp.getHref(), options));
         if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK){
             VAppType updatedVApp = HttpUtils.unmarshal(response.getEntity(), VAppType.class);
             return updatedVApp;
         }
-        
+
+        HttpUtils.consume(response);
         throw new RuntimeException(vApp.getName() + " with Href " + vApp.getHref() + " are invalid.");
     }
 
@@ -558,12 +553,13 @@ public class VMCreateSample {
      *            the vCloud href
      * @return a VdcType instance
      */
-    private VdcType getVdc(String href) {
+    VdcType getVdc(String href) {
         // Request the VDC details using the vCloud API End point for the VDC
         HttpResponse response = HttpUtils.httpInvoke(vcd.get(href, options));
 
         // Make sure response status is 200
         if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+            HttpUtils.consume(response);
             throw new RuntimeException("\nFailed : HTTP error code : "
                     + response.getStatusLine().getStatusCode());
         }
@@ -616,23 +612,23 @@ public class VMCreateSample {
      *            the base url to the vCloud API to make REST calls to
      * @return the instance of VAppTemplateType if found, null if not
      */
-    private VAppTemplateType getVAppTemplate(String baseVcdUrl) {
-        System.out.print("Searching for template " + options.templateName + "...");
-
+    VAppTemplateType getVAppTemplate(String baseVcdUrl) {
         // Query the vCloud Query API to search for a vAppTemplate matching the
-        // options.templateName (command line option --templatename)
-        QueryResultRecordsType queryResults = HttpUtils.getQueryResults(baseVcdUrl,
-                "type=vAppTemplate&filter=name==" + options.templateName, options, vcd.vcdToken);
-
-        List<JAXBElement<? extends QueryResultRecordType>> rslt = queryResults.getRecord();
+        // options.templateName (command line option --templatename). Only the href of the
+        // template is needed, so ask for references rather than full records.
+        Query query = Query.of(Query.VAPP_TEMPLATE).format(Query.Format.REFERENCES)
+                .filter(Query.Filter.eq(Query.NAME, options.templateName));
+
+        List<QueryRecord> rslt = new ArrayList<QueryRecord>();
+        for (QueryRecord record : HttpUtils.query(baseVcdUrl, query, options, vcd.vcdToken)) {
+            rslt.add(record);
+        }
 
         VAppTemplateType vat = null;
 
         // We should have only one record with the name matching templateName
         if (rslt.size() == 1) {
-            QueryResultVAppTemplateRecordType qrrt = (QueryResultVAppTemplateRecordType) rslt
-                    .get(0).getValue();
-            String templateHref = qrrt.getHref();
+            String templateHref = rslt.get(0).getHref();
 
             // invoke the GET request to the template href to get the VAppTemplateType
             HttpGet httpGet = vcd.get(templateHref, options);
@@ -642,7 +638,8 @@ public class VMCreateSample {
             if (null != response && response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
                 // unmarshal the response entity into a VAppTemplateType
                 vat = HttpUtils.unmarshal(response.getEntity(), VAppTemplateType.class);
-                System.out.println("found.\n");
+            } else {
+                HttpUtils.consume(response);
             }
         }
 
@@ -660,7 +657,7 @@ public class VMCreateSample {
      *            the href for the vCloud API End point for the VDC.
      * @return href to perform instantiate vApp action
      */
-    private String getInstantiateVAppLink(VdcType vdc) {
+    String getInstantiateVAppLink(VdcType vdc) {
         // List of links associated with the VDC
         List<com.vmware.vcloud.api.rest.schema.LinkType> linklist = vdc.getLink();
         String instantiateHref = null;
@@ -694,16 +691,62 @@ public class VMCreateSample {
      *            the vdc
      * @return VappType if the initialize vapp succeeds, null otherwise
      */
-    private VAppType createVApp(final String instantiateHref, final String vappTempalteHref, VdcType vdc) {
-        System.out.print("Attempting to create vApp...");
+    VAppType createVApp(final String instantiateHref, final String vappTempalteHref, VdcType vdc) {
+        // Create HttpPost request to perform InstantiatevApp action
+        HttpPost instantiateVAppPost = vcd.post(instantiateHref, options);
+
+        // Stream the object as XML with the Content-Type for the vApp template parameters, or
+        // only fill in the name and template of the vApp in the precompiled body
+        if (payloadTemplates) {
+            instantiateVAppPost.setEntity(PayloadTemplates.INSTANTIATE.entity(
+                    VAPP_NAME.value(options.vappName),
+                    VAPP_TEMPLATE_HREF.value(vappTempalteHref)));
+        } else {
+            JAXBElement<InstantiateVAppTemplateParamsType> instvAppTemplate = createInstantiateVAppTemplateParams(
+                    options.vappName, vappTempalteHref);
+            instantiateVAppPost.setEntity(new XmlEntity(instvAppTemplate,
+                    SampleConstants.CONTENT_TYPE_INSTANTIATE_VAPP_TEMPLATE));
+        }
+
+        // Invoke the HttoPost to initiate the VM creation process
+        HttpResponse response = HttpUtils.httpInvoke(instantiateVAppPost);
+
+        VAppType vApp = null;
+
+        // Make sure response status is 201 Created
+        if (response.getStatusLine().getStatusCode() == HttpStatus.SC_CREATED) {
+            vApp = HttpUtils.unmarshal(response.getEntity(), VAppType.class);
+        } else {
+            HttpUtils.consume(response);
+        }
+
+        if (null == vApp) {
+            throw new RuntimeException("Could not instatiate or deploy the vApp.");
+        }
+
+        return vApp;
+    }
+
+    /**
+     * Creates the InstantiateVAppTemplateParams request body used to create a vApp from a vApp
+     * template. The vApp is neither deployed nor powered on so its network can be updated first.
+     * 
+     * @param vappName
+     *            the name of the vApp to create
+     * @param vappTemplateHref
+     *            the href to the vApp Template to be used to create vApp
+     * @return the JAXB element to marshal as the request body
+     */
+    static JAXBElement<InstantiateVAppTemplateParamsType> createInstantiateVAppTemplateParams(
+            String vappName, String vappTemplateHref) {
         ReferenceType vappReference = new ReferenceType();
-        vappReference.setHref(vappTempalteHref);
+        vappReference.setHref(vappTemplateHref);
 
         // Create an InstantiateVAppTemplateParamsType object and initialize it
         InstantiateVAppTemplateParamsType instvApp = new InstantiateVAppTemplateParamsType();
 
         // Set the name of vApp using the options.vappname (command line option --targetvappname)
-        instvApp.setName(options.vappName);
+        instvApp.setName(vappName);
 
         // do not deploy this vApp.. we still need to update network info which requires the
         // vApp to be undeployed and not powered on.
@@ -719,51 +762,8 @@ public class VMCreateSample {
 
         instvApp.setInstantiationParams(instParams);
 
-        JAXBContext jaxbContexts = null;
-        try {
-            jaxbContexts = JAXBContext.newInstance(InstantiateVAppTemplateParamsType.class);
-        } catch (JAXBException ex) {
-            throw new RuntimeException("Problem creating JAXB Context: ", ex);
-        }
-
-        // Create HttpPost request to perform InstantiatevApp action
-        HttpPost instantiateVAppPost = vcd.post(instantiateHref, options);
         com.vmware.vcloud.api.rest.schema.ObjectFactory obj = new com.vmware.vcloud.api.rest.schema.ObjectFactory();
-        JAXBElement<InstantiateVAppTemplateParamsType> instvAppTemplate = obj
-                .createInstantiateVAppTemplateParams(instvApp);
-        OutputStream os = null;
-
-        try {
-            javax.xml.bind.Marshaller marshaller = jaxbContexts.createMarshaller();
-            marshaller.setProperty(javax.xml.bind.Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            os = new ByteArrayOutputStream();
-            // Marshal the object via JAXB to XML
-            marshaller.marshal(instvAppTemplate, os);
-        } catch (JAXBException e) {
-            throw new RuntimeException("Problem marshalling instantiation vApp template", e);
-        }
-
-        // Set the Content-Type header for the VM vApp template parameters
-        ContentType contentType = ContentType.create(
-                "application/vnd.vmware.vcloud.instantiateVAppTemplateParams+xml", "ISO-8859-1");
-        StringEntity vapp = new StringEntity(os.toString(), contentType);
-        instantiateVAppPost.setEntity(vapp);
-
-        // Invoke the HttoPost to initiate the VM creation process
-        HttpResponse response = HttpUtils.httpInvoke(instantiateVAppPost);
-
-        VAppType vApp = null;
-
-        // Make sure response status is 201 Created
-        if (response.getStatusLine().getStatusCode() == HttpStatus.SC_CREATED) {
-            vApp = HttpUtils.unmarshal(response.getEntity(), VAppType.class);
-        }
-
-        if (null == vApp) {
-            throw new RuntimeException("Could not instatiate or deploy the vApp.");
-        }
-
-        return vApp;
+        return obj.createInstantiateVAppTemplateParams(instvApp);
     }
 
     /**
@@ -773,7 +773,7 @@ public class VMCreateSample {
      * @param vApp the vApp instance to deploy
      * @return a TaskType that can be used to monitor the status of the task
      */
-    private TaskType deploy(VAppType vApp) {
+    TaskType deploy(VAppType vApp) {
         String deployHref = null;
 
         // Search the list of links for the vApp rel="deploy" to get the correct Href
@@ -786,41 +786,17 @@ public class VMCreateSample {
 
         // Only proceed if we found a valid deploy Href
         if (null != deployHref) {
-            DeployVAppParamsType deployParams = new DeployVAppParamsType();
-            deployParams.setPowerOn(Boolean.TRUE);
-            
-            // Create HttpPost request to perform InstantiatevApp action
-            HttpPost instantiateVAppPost = vcd.post(deployHref, options);
-
-            ObjectFactory objFactory = new ObjectFactory();
-            JAXBElement<DeployVAppParamsType> deployParamsType = objFactory.createDeployVAppParams(deployParams);
-
-            OutputStream os = null;
-
-            JAXBContext jaxbContexts = null;
-            try {
-                jaxbContexts = JAXBContext.newInstance(DeployVAppParamsType.class);
-            } catch (JAXBException ex) {
-                throw new RuntimeException("Problem creating JAXB Context: ", ex);
-            }
-
-            try {
-                javax.xml.bind.Marshaller marshaller = jaxbContexts.createMarshaller();
-                marshaller.setProperty(javax.xml.bind.Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-                os = new ByteArrayOutputStream();
-                // Marshal the object via JAXB to XML
-                marshaller.marshal(deployParamsType, os);
-            } catch (JAXBException e) {
-                throw new RuntimeException("Problem marshalling instantiation vApp template", e);
+            HttpPost deployPost = vcd.post(deployHref, options);
+            // Stream the object as XML with the Content-Type for the deploy parameters, the
+            // precompiled body being the same for every vApp
+            if (payloadTemplates) {
+                deployPost.setEntity(PayloadTemplates.DEPLOY.entity());
+            } else {
+                JAXBElement<DeployVAppParamsType> deployParamsType = createDeployVAppParams();
+                deployPost.setEntity(new XmlEntity(deployParamsType,
+                        SampleConstants.CONTENT_TYPE_DEPLOY_VAPP));
             }
 
-            HttpPost deployPost = vcd.post(deployHref, options);;
-            // Set the Content-Type header for the VM vApp template parameters
-            ContentType contentType = ContentType.create(
-                    "application/vnd.vmware.vcloud.deployVAppParams+xml", "ISO-8859-1");
-            StringEntity deployEntity = new StringEntity(os.toString(), contentType);
-            deployPost.setEntity(deployEntity);
-
             // Invoke the HttoPost to initiate the VM creation process
             HttpResponse response = HttpUtils.httpInvoke(deployPost);
 
@@ -829,11 +805,26 @@ public class VMCreateSample {
                 TaskType taskType = HttpUtils.unmarshal(response.getEntity(),  TaskType.class);
                 return taskType;
             }
+
+            HttpUtils.consume(response);
         }
 
         throw new RuntimeException("Could not deploy " + vApp.getName());
     }
 
+    /**
+     * Creates the DeployVAppParams request body used to deploy and power on a vApp.
+     * 
+     * @return the JAXB element to marshal as the request body
+     */
+    static JAXBElement<DeployVAppParamsType> createDeployVAppParams() {
+        DeployVAppParamsType deployParams = new DeployVAppParamsType();
+        deployParams.setPowerOn(Boolean.TRUE);
+
+        ObjectFactory objFactory = new ObjectFactory();
+        return objFactory.createDeployVAppParams(deployParams);
+    }
+
     /**
      * This method will retrieve the internal ip value for the passed in Vm
      * using the Vms NetworkConfigSection to obtain the ip.
@@ -841,7 +832,7 @@ public class VMCreateSample {
      * @param vm the VmType to obtain the internal ip from
      * @return the internal ip if found, otherwise "none" is returned
      */
-    private String getIpForVm(VmType vm) {
+    String getIpForVm(VmType vm) {
         // Request the NetworkConnection information for the VM to extract IP from it.
         HttpResponse response = HttpUtils.httpInvoke(vcd.get(vm.getHref() + VM_NETWORK_URL, options));
 
@@ -853,6 +844,8 @@ public class VMCreateSample {
                 String ip = nwsc.getNetworkConnection().get(0).getIpAddress();
                 return ip;
             }
+        } else {
+            HttpUtils.consume(response);
         }
 
         return "none";
@@ -874,49 +867,79 @@ public class VMCreateSample {
     }
 
     /**
-     * Continually makes a GET request to the passed in Taks's Href with a 10 second delay between
-     * each request to avoid sending too many requests to the API too fast.
+     * Waits for the passed in task to finish, watching it with the taskMonitor, and makes sure it
+     * finished successfully.
      * 
      * @param task the to wait on
      */
     public void waitForTaskCompletion(TaskType task){
-        int retry = 0;
-
-        while ((!task.getStatus().equals("success") && !task.getStatus().equals("error")) && retry++ < 10) {
-            HttpResponse response = HttpUtils.httpInvoke(vcd.get(task.getHref(), options));
-            task = HttpUtils.unmarshal(response.getEntity(), TaskType.class);
+        checkTaskCompletion(HttpUtils.await(waitForTaskCompletionAsync(task)));
+    }
 
-            try {
-                TimeUnit.SECONDS.sleep(10);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-        }
+    /**
+     * Asynchronous counterpart of waitForTaskCompletion(). The task is refreshed by the
+     * taskMonitor along with any other task it watches, without blocking a thread while waiting,
+     * and the returned future is completed with the last retrieved state of the task.
+     * 
+     * @param task the to wait on
+     * @return a future completed with the finished (or last polled) task
+     */
+    public CompletableFuture<TaskType> waitForTaskCompletionAsync(TaskType task) {
+        return taskMonitor.watch(task, vcd, options);
+    }
 
-        // If the retry count reached 10 or the status is error, display task details to help
-        // with figuring out what went wrong.
-        if (retry == 10 || task.getStatus().equals("error")){
+    /**
+     * Makes sure the passed in task finished successfully.
+     * 
+     * If the task did not finish or the status is error, display task details to help with
+     * figuring out what went wrong and throw a RuntimeException.
+     * 
+     * @param task the task to check
+     */
+    void checkTaskCompletion(TaskType task) {
+        if (!task.getStatus().equals("success")){
             System.out.println("\n         Task details : " + task.getDetails());
             System.out.println("      Task description : " + task.getDescription());
             System.out.println("        Task Operation : " + task.getOperation());
-            System.out.println("        Task error msg : " +task.getError().getMessage());
-            System.out.println(" Task major error code : " + task.getError().getMajorErrorCode());
-            System.out.println("Task error stack trace : " + task.getError().getStackTrace());
+
+            if (null != task.getError()) {
+                System.out.println("        Task error msg : " +task.getError().getMessage());
+                System.out.println(" Task major error code : " + task.getError().getMajorErrorCode());
+                System.out.println("Task error stack trace : " + task.getError().getStackTrace());
+            }
 
             throw new RuntimeException("Could not complete creation of vApp");
         }
     }
 
     /**
-     * Loops through the list of tasks provided by the tasksInProgressType parameter, calling
-     * the waitForTaskCompletion method with each individual task.
+     * Waits on all the tasks provided by the tasksInProgressType parameter at the same time,
+     * refreshed together by the taskMonitor, returning once every task has finished.
      * 
      * @param tasksInProgressType a collection of tasks to wait for
      */
     public void waitForTasks(TasksInProgressType tasksInProgressType) {
-        List<TaskType> tasks = tasksInProgressType.getTask();
-        for (TaskType task : tasks) {
-            this.waitForTaskCompletion(task);
+        List<CompletableFuture<TaskType>> pending = new ArrayList<CompletableFuture<TaskType>>();
+        for (TaskType task : tasksInProgressType.getTask()) {
+            pending.add(waitForTaskCompletionAsync(task));
         }
+
+        for (CompletableFuture<TaskType> task : pending) {
+            checkTaskCompletion(HttpUtils.await(task));
+        }
+    }
+
+    /**
+     * The request bodies of the sample compiled once, on first use, and shared by every flow.
+     */
+    private static final class PayloadTemplates {
+        static final PayloadTemplate INSTANTIATE = PayloadTemplate.compile(
+                createInstantiateVAppTemplateParams(VAPP_NAME.marker(),
+                        VAPP_TEMPLATE_HREF.marker()),
+                SampleConstants.CONTENT_TYPE_INSTANTIATE_VAPP_TEMPLATE, VAPP_NAME,
+                VAPP_TEMPLATE_HREF);
+
+        static final PayloadTemplate DEPLOY = PayloadTemplate.compile(createDeployVAppParams(),
+                SampleConstants.CONTENT_TYPE_DEPLOY_VAPP);
     }
-}
\ No newline at end of file
+}
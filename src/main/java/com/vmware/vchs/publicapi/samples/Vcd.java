@@ -26,8 +26,9 @@ public class Vcd {
     // The vCloud API VDC Href
     String vdcHref;
 
-    // The token to be used for subsequent requests to the vCloud API
-    String vcdToken;
+    // The token to be used for subsequent requests to the vCloud API, replaced at once when the
+    // session is renewed
+    volatile String vcdToken;
 
     /**
      * Creates an org.apache.http.client.methods.HttpGet object adding in the http headers for a
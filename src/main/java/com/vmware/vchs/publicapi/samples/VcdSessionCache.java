@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpRequestBase;
+
+import com.vmware.ares.pub.api.VdcReferenceType;
+import com.vmware.vcloud.api.rest.schema.LinkType;
+import com.vmware.vcloud.api.rest.schema.OrgType;
+
+/**
+ * This class caches the vCloud sessions opened through a vCHS login, so that getting the vCloud
+ * API endpoint of a VDC again reuses its session rather than posting to its vcloudsession href.
+ * 
+ * A vCloud token is valid for the whole organization it was issued for. When the VDC reference
+ * is known, a VDC of an organization already holding a session reuses that session's token and
+ * looks its href up in the organization, one GET instead of opening another session.
+ * 
+ * Sessions are kept for ttl milliseconds, below the idle timeout of vCloud Director. The Vcd
+ * returned for a VDC is the same every time and its token is renewed in place, at once, when the
+ * session expired, when a request made with it is rejected with a 401 (see invoke()) or ahead of
+ * time by renewExpiring(). The cache is safe for use by several threads; sessions of the same VDC
+ * or organization are opened only once.
+ */
+public class VcdSessionCache {
+    // The time in milliseconds a vCloud session is used after it was opened
+    long ttl = TimeUnit.MINUTES.toMillis(25);
+
+    // The sessions by vcloudsession href
+    private final ConcurrentMap<String, Session> sessions =
+            new ConcurrentHashMap<String, Session>();
+
+    // The sessions whose token is shared with the other VDCs of their organization, by org href
+    private final ConcurrentMap<String, Session> orgs = new ConcurrentHashMap<String, Session>();
+
+    // The monitors held while opening the session of a VDC or organization, by its href, or while
+    // renewing a session, by its old token
+    private final ConcurrentMap<String, Object> monitors = new ConcurrentHashMap<String, Object>();
+
+    /**
+     * Returns the vCloud API endpoint of the VDC with the passed in vcloudsession href, opening a
+     * session only if there is none cached.
+     * 
+     * @param vchs
+     *            the vCHS login to open the session with
+     * @param options
+     *            the command line options
+     * @param vcdSessionHref
+     *            the vcloudsession href of the VDC
+     * @return the vCloud API endpoint and token of the VDC
+     */
+    public Vcd get(Vchs vchs, DefaultSampleCommandLineOptions options, String vcdSessionHref) {
+        return get(vchs, options, vcdSessionHref, null);
+    }
+
+    /**
+     * Returns the vCloud API endpoint of the passed in VDC. If there is no session cached for it,
+     * the token of another VDC of the same organization is reused if there is one, and a session
+     * is opened otherwise.
+     * 
+     * @param vchs
+     *            the vCHS login to open the session with
+     * @param options
+     *            the command line options
+     * @param vcdSessionHref
+     *            the vcloudsession href of the VDC
+     * @param vdc
+     *            the reference to the VDC, whose href is the one of its organization, or null
+     * @return the vCloud API endpoint and token of the VDC
+     */
+    public Vcd get(Vchs vchs, DefaultSampleCommandLineOptions options, String vcdSessionHref,
+            VdcReferenceType vdc) {
+        Session session = sessions.get(vcdSessionHref);
+        if (isLive(session)) {
+            return session.vcd;
+        }
+
+        // VDCs of the same organization wait for each other so the first session is shared
+        String orgHref = null != vdc ? vdc.getHref() : null;
+        Object monitor = monitors.computeIfAbsent(null != orgHref ? orgHref : vcdSessionHref,
+                key -> new Object());
+
+        synchronized (monitor) {
+            session = sessions.get(vcdSessionHref);
+            if (isLive(session)) {
+                return session.vcd;
+            }
+
+            // An expired session is renewed in place for the callers already holding it
+            if (null != session) {
+                renew(vchs, options, session.vcd.vcdToken);
+                return session.vcd;
+            }
+
+            Session org = null != orgHref ? orgs.get(orgHref) : null;
+            if (isLive(org)) {
+                String token = org.vcd.vcdToken;
+                String vdcHref = findVdcInOrg(token, orgHref, vdc.getName(), options);
+
+                if (null != vdcHref) {
+                    Vcd vcd = new Vcd();
+                    vcd.vcdSessHref = vcdSessionHref;
+                    vcd.vdcHref = vdcHref;
+                    vcd.vcdToken = token;
+
+                    session = new Session(vcd, org.expires);
+                    sessions.put(vcdSessionHref, session);
+                    return vcd;
+                }
+            }
+
+            Vcd vcd = HttpUtils.createVCDSession(vchs, options, vcdSessionHref);
+            session = new Session(vcd, System.currentTimeMillis() + ttl);
+            sessions.put(vcdSessionHref, session);
+
+            if (null != orgHref) {
+                orgs.put(orgHref, session);
+            }
+
+            return vcd;
+        }
+    }
+
+    /**
+     * Replaces the session of the passed in endpoint, rejected by vCloud, with a new one unless
+     * another thread already did. The endpoint is updated in place and returned.
+     * 
+     * @param vchs
+     *            the vCHS login to open the session with
+     * @param options
+     *            the command line options
+     * @param stale
+     *            the endpoint whose token was rejected
+     * @return the endpoint, holding a new token
+     */
+    public Vcd refresh(Vchs vchs, DefaultSampleCommandLineOptions options, Vcd stale) {
+        renew(vchs, options, stale.vcdToken);
+
+        // Not the cached endpoint of its VDC, copy the token of the cached one
+        Vcd vcd = get(vchs, options, stale.vcdSessHref);
+        if (vcd != stale) {
+            stale.vdcHref = vcd.vdcHref;
+            stale.vcdToken = vcd.vcdToken;
+        }
+
+        return stale;
+    }
+
+    /**
+     * Renews the sessions expiring within the passed in time, so that they are replaced before
+     * vCloud rejects them rather than after.
+     * 
+     * @param vchs
+     *            the vCHS login to open the sessions with
+     * @param options
+     *            the command line options
+     * @param within
+     *            the time in milliseconds from now
+     */
+    public void renewExpiring(Vchs vchs, DefaultSampleCommandLineOptions options, long within) {
+        long deadline = System.currentTimeMillis() + within;
+        Set<String> tokens = new HashSet<String>();
+
+        for (Session session : sessions.values()) {
+            if (session.expires < deadline) {
+                tokens.add(session.vcd.vcdToken);
+            }
+        }
+
+        for (String token : tokens) {
+            renew(vchs, options, token);
+        }
+    }
+
+    /**
+     * Opens a new session in place of the one with the passed in token, swapping the new token
+     * into every VDC sharing the old one. Does nothing if no session holds the token anymore,
+     * i.e. it was renewed already. Only the callers renewing the same token wait for each other.
+     */
+    private void renew(Vchs vchs, DefaultSampleCommandLineOptions options, String token) {
+        Object monitor = monitors.computeIfAbsent(token, key -> new Object());
+
+        synchronized (monitor) {
+            try {
+                List<Session> shared = new ArrayList<Session>();
+
+                for (Session session : sessions.values()) {
+                    if (session.vcd.vcdToken.equals(token)) {
+                        shared.add(session);
+                    }
+                }
+
+                if (shared.isEmpty()) {
+                    return;
+                }
+
+                // The new token is valid for the whole organization of the old one
+                Vcd vcd = HttpUtils.createVCDSession(vchs, options,
+                        shared.get(0).vcd.vcdSessHref);
+                long expires = System.currentTimeMillis() + ttl;
+
+                for (Session session : shared) {
+                    session.expires = expires;
+                    session.vcd.vcdToken = vcd.vcdToken;
+                }
+            } finally {
+                // The old token is never renewed again, callers still waiting find it gone
+                monitors.remove(token, monitor);
+            }
+        }
+    }
+
+    /**
+     * Makes the request built for the passed in endpoint. If vCloud rejects its token with a 401
+     * the session is refreshed and the request built and made again once.
+     * 
+     * @param vchs
+     *            the vCHS login to open a new session with
+     * @param options
+     *            the command line options
+     * @param vcd
+     *            the endpoint to make the request with, updated in place if refreshed
+     * @param request
+     *            builds the request from the endpoint, e.g. session -> session.get(url, options)
+     * @return the response, whose entity must be consumed by the caller
+     */
+    public HttpResponse invoke(Vchs vchs, DefaultSampleCommandLineOptions options, Vcd vcd,
+            Function<Vcd, HttpRequestBase> request) {
+        HttpResponse response = HttpUtils.httpInvoke(request.apply(vcd));
+
+        if (response.getStatusLine().getStatusCode() == HttpStatus.SC_UNAUTHORIZED
+                && null != vcd.vcdSessHref) {
+            HttpUtils.consume(response);
+            refresh(vchs, options, vcd);
+            response = HttpUtils.httpInvoke(request.apply(vcd));
+        }
+
+        return response;
+    }
+
+    /**
+     * Drops every cached session.
+     */
+    public void clear() {
+        sessions.clear();
+        orgs.clear();
+    }
+
+    /**
+     * Gets the organization with the passed in token and returns the href of its VDC vdcName, or
+     * null if it could not be found, in which case a session is opened for the VDC instead.
+     */
+    private String findVdcInOrg(String token, String orgHref, String vdcName,
+            DefaultSampleCommandLineOptions options) {
+        Vcd vcd = new Vcd();
+        vcd.vcdToken = token;
+
+        HttpResponse response;
+        try {
+            response = HttpUtils.httpInvoke(vcd.get(orgHref, options));
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+            HttpUtils.consume(response);
+            return null;
+        }
+
+        OrgType org = HttpUtils.unmarshal(response.getEntity(), OrgType.class);
+
+        for (LinkType link : org.getLink()) {
+            if (SampleConstants.VDC.equals(link.getType())
+                    && vdcName.equalsIgnoreCase(link.getName())) {
+                return link.getHref();
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isLive(Session session) {
+        return null != session && session.expires > System.currentTimeMillis();
+    }
+
+    /**
+     * A vCloud session: the endpoint handed out for the VDC and the time it expires at.
+     */
+    private static final class Session {
+        final Vcd vcd;
+        volatile long expires;
+
+        Session(Vcd vcd, long expires) {
+            this.vcd = vcd;
+            this.expires = expires;
+        }
+    }
+}
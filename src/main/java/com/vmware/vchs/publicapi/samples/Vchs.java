@@ -14,15 +14,16 @@
  */
 package com.vmware.vchs.publicapi.samples;
 
-import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.http.Header;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
-import org.apache.http.client.ClientProtocolException;
-import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 
@@ -37,19 +38,97 @@ import com.vmware.ares.pub.api.VdcReferenceType;
 
 public class Vchs {
     // The vCHS Public API token in response to authentication with the username and password and
-    // used for subsequent requests.
-   String vchsToken;
+    // used for subsequent requests. Replaced at once when the session is renewed.
+   volatile String vchsToken;
+
+   // The time in milliseconds the token is used until
+   volatile long vchsTokenExpires;
 
    // The serviceListHref to vchs
-   String vchsServiceListHref;
+   volatile String vchsServiceListHref;
+
+   // The cache the session was read from and is refreshed in, null if not cached
+   VchsTokenCache tokenCache;
+
+   // The vCloud sessions opened with this login
+   final VcdSessionCache vcdSessions = new VcdSessionCache();
+
+   // Renews the sessions in the background, null unless the keepalive option is set
+   SessionKeepAlive keepAlive;
+
+   // The directory VDCs are found in, null to search the compute services on every lookup
+   VdcDirectory vdcDirectory;
 
    /**
      * Logs in to vCHS and retrieves the authorization token and serviceList href. It will
      * return true if login is a success, otherwise a runtime exception will be thrown
      * 
+     * If the options name a token cache, the session cached for the user is used as is when it
+     * has not expired, without contacting vCHS. getServiceListAsync() logs in again if vCHS
+     * rejects it. If the keepalive option is set, the sessions are renewed in the background
+     * before they expire.
+     * 
      * @return true if login was successful
      */
-    public boolean login(DefaultSampleCommandLineOptions options) {
+    public boolean login(final DefaultSampleCommandLineOptions options) {
+        // vCloud sessions are used no longer than the vCHS one
+        vcdSessions.ttl = Math.min(vcdSessions.ttl, TimeUnit.SECONDS.toMillis(options.tokenTtl));
+
+        if (null == options.tokenCache) {
+            use(authenticate(options));
+        } else {
+            tokenCache = new VchsTokenCache(options.tokenCache);
+            VchsTokenCache.Session session = tokenCache.get(options.vchsHostname,
+                    options.vchsUsername);
+
+            if (null == session) {
+                session = tokenCache.refresh(options.vchsHostname, options.vchsUsername, null,
+                        () -> authenticate(options));
+            }
+
+            use(session);
+        }
+
+        if (options.keepAlive && null == keepAlive) {
+            keepAlive = new SessionKeepAlive(this, options);
+            keepAlive.start();
+        }
+
+        return true;
+    }
+
+    /**
+     * Replaces the vCHS session with a new one, through the token cache if there is one. The new
+     * token is swapped in at once: requests already made with the old one are not affected.
+     * 
+     * @param options
+     *            the command line options used to log in
+     */
+    public void renew(final DefaultSampleCommandLineOptions options) {
+        if (null == tokenCache) {
+            use(authenticate(options));
+        } else {
+            // Another process sharing the cache may have renewed it already
+            use(tokenCache.refresh(options.vchsHostname, options.vchsUsername, vchsToken,
+                    () -> authenticate(options)));
+        }
+    }
+
+    /**
+     * Makes the passed in session the one used by the subsequent requests.
+     */
+    private void use(VchsTokenCache.Session session) {
+        vchsServiceListHref = session.serviceListHref;
+        vchsTokenExpires = session.expires;
+        vchsToken = session.token;
+    }
+
+    /**
+     * Posts the username and password to vCHS to open a new session.
+     * 
+     * @return the new session
+     */
+    private VchsTokenCache.Session authenticate(DefaultSampleCommandLineOptions options) {
         HttpPost httpPost = post(options.vchsHostname + SampleConstants.SESSION_URL, options);
 
         // Set the Basic Auth header for login only
@@ -60,123 +139,157 @@ public class Vchs {
                                 + options.vchsPassword).getBytes()));
         httpPost.setHeader(HttpHeaders.ACCEPT, SampleConstants.APPLICATION_XML_VERSION
                 + options.vchsVersion);
-        HttpResponse response;
-
-        try {
-            HttpClient httpClient = HttpUtils.createHttpClient();
-            response = httpClient.execute(httpPost);
-            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_CREATED) {
-                throw new RuntimeException("Failed : HTTP error code : "
-                        + response.getStatusLine().getStatusCode());
-            }
+        HttpResponse response = HttpUtils.httpInvoke(httpPost);
 
-            SessionType sessionType = HttpUtils.unmarshal(response.getEntity(), SessionType.class);
-            List<LinkType> linklist = sessionType.getLink();
-            for (LinkType link : linklist) {
-                if (link.getType() != null
-                        && link.getType().equals(SampleConstants.APPLICATION_XML_SERVICE_LIST)) {
-                    vchsServiceListHref = link.getHref();
-                    // Found it, break out of loop
-                    break;
-                }
-            }
+        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_CREATED) {
+            HttpUtils.consume(response);
+            throw new RuntimeException("Failed : HTTP error code : "
+                    + response.getStatusLine().getStatusCode());
+        }
 
-            if (vchsServiceListHref == null) {
-                throw new RuntimeException("Could not find Href for the Service List");
+        SessionType sessionType = HttpUtils.unmarshal(response.getEntity(), SessionType.class);
+        List<LinkType> linklist = sessionType.getLink();
+        String serviceListHref = null;
+        for (LinkType link : linklist) {
+            if (link.getType() != null
+                    && link.getType().equals(SampleConstants.APPLICATION_XML_SERVICE_LIST)) {
+                serviceListHref = link.getHref();
+                // Found it, break out of loop
+                break;
             }
+        }
 
-            // Extracting SAML Token to make further calls
-            Header[] vchsHeader = response.getHeaders(SampleConstants.VCHS_AUTHORIZATION_HEADER);
-            vchsToken = vchsHeader[0].getValue();
-
-            return true;
-        } catch (ClientProtocolException e) {
-            throw new RuntimeException(e);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        if (serviceListHref == null) {
+            throw new RuntimeException("Could not find Href for the Service List");
         }
+
+        // Extracting SAML Token to make further calls
+        Header[] vchsHeader = response.getHeaders(SampleConstants.VCHS_AUTHORIZATION_HEADER);
+
+        return new VchsTokenCache.Session(vchsHeader[0].getValue(), serviceListHref,
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(options.tokenTtl));
+    }
+
+    /**
+     * Retrieves the list of vCHS services. A cached session rejected with a 401 is replaced by a
+     * new login, and the request made again once.
+     * 
+     * @param options
+     *            the command line options used to log in
+     * @return a future completed with the service list
+     */
+    CompletableFuture<ServiceListType> getServiceListAsync(
+            final DefaultSampleCommandLineOptions options) {
+        return HttpUtils.httpInvokeAsync(get(vchsServiceListHref, options)).thenCompose(
+                response -> {
+                    int status = response.getStatusLine().getStatusCode();
+
+                    if (status == HttpStatus.SC_UNAUTHORIZED && null != tokenCache) {
+                        HttpUtils.consume(response);
+                        renew(options);
+
+                        return HttpUtils.httpInvokeAsync(get(vchsServiceListHref, options),
+                                HttpStatus.SC_OK, ServiceListType.class);
+                    }
+
+                    if (status != HttpStatus.SC_OK) {
+                        HttpUtils.consume(response);
+                        throw new RuntimeException("Failed : HTTP error code : " + status);
+                    }
+
+                    return CompletableFuture.completedFuture(HttpUtils.unmarshal(
+                            response.getEntity(), ServiceListType.class));
+                });
     }
 
     /**
      * Retrieve the vCloud session href for the VDC vdcName.
      *  
      * It will first make a call to the vCHS API to get a list of
-     * all services. It then iterates through the services to find the specific VDC.
+     * all services. It then looks the services up concurrently to find the specific VDC.
      * 
      * If the VDC is found, the corresponding vCloud session href is returned.
      */
     String getVCloudDSessionHref(DefaultSampleCommandLineOptions options) {
         System.out.print("Retrieving vCloud session href...");
 
-        // invoke the serviceList API to retrieve the list of services
-        HttpResponse response = HttpUtils.httpInvoke(get(vchsServiceListHref, options));
+        String vdcVCloudSessionHref = HttpUtils.await(getVCloudDSessionHrefAsync(options));
+        System.out.println("Success\n");
 
-        // Make sure the response status is 200 OK
-        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
-            throw new RuntimeException("\nFailed : HTTP error code : "
-                    + response.getStatusLine().getStatusCode());
-        }
+        return vdcVCloudSessionHref;
+    }
 
-        // Parse the response entity to get the vCHS serviceList
-        ServiceListType serviceList = HttpUtils.unmarshal(response.getEntity(),
-                ServiceListType.class);
-
-        // services is the List of the services under serviceList
-        List<ServiceType> services = serviceList.getService();
-
-        // Iterate through services to find the href for 
-        // the VDC provided as parameter vdcName
-        for (ServiceType service : services) {
-            if (service.getHref() != null) {
-                // search this service for the VDC by vdcName
-                String vdcVCloudSessionHref = findVDCByName(service.getHref(), options);
-                if (vdcVCloudSessionHref != null) {  // If not null then VDC is found
-                    System.out.println("Success\n");
-                    return vdcVCloudSessionHref;
+    /**
+     * Asynchronous counterpart of getVCloudDSessionHref(). The returned future completes with
+     * the vCloud session href for the VDC vdcName, or exceptionally if the VDC is not found, so
+     * callers can compose further calls on it without blocking. If vdcDirectory is set the VDC is
+     * found in it rather than by searching the compute services.
+     * 
+     * @param options
+     *            the command line options containing the vdcName to look for
+     * @return a future completed with the vCloudSession Href for the VDC
+     */
+    CompletableFuture<String> getVCloudDSessionHrefAsync(
+            final DefaultSampleCommandLineOptions options) {
+        // look the VDC up without any request if a directory was set
+        if (null != vdcDirectory) {
+            return vdcDirectory.findAsync(this, options, options.vdcName).thenApply(entry -> {
+                if (null == entry || null == entry.vcloudSessionHref) {
+                    throw new RuntimeException("\nCould not find VDC: " + options.vdcName);
                 }
-            }
+
+                return entry.vcloudSessionHref;
+            });
         }
 
-        // VDC not found
-        throw new RuntimeException("\nCould not find VDC: " + options.vdcName);
+        // invoke the serviceList API to retrieve the list of services, then search the services
+        // for the VDC provided as parameter vdcName
+        return getServiceListAsync(options).thenCompose(
+                serviceList -> findVDCInServices(serviceList.getService().iterator(), options));
+    }
+
+    /**
+     * Searches the services of the passed in iterator for the VDC vdcName, looking up to
+     * MAX_CONCURRENT_LOOKUPS compute services at once rather than one after another.
+     * 
+     * @param services
+     *            the services to be searched
+     * @param options
+     *            the command line options containing the vdcName to look for
+     * @return a future completed with the vCloudSession Href for the VDC
+     */
+    private CompletableFuture<String> findVDCInServices(final Iterator<ServiceType> services,
+            final DefaultSampleCommandLineOptions options) {
+        VdcLookup lookup = new VdcLookup(services, options);
+        lookup.launch();
+
+        return lookup.result;
     }
 
     /**
-     * This method finds a VDC by name within a service.
+     * This method finds a VDC by name within a compute service.
      * 
-     * @param serviceHref
-     *            Href to the service.
+     * @param compute
+     *            the compute service which contains the collection of VDC references.
      * @param vdcName
      *            name of the vdc
      * @return vCloudSession Href for VDC
      *          null if the VDC is not found
      */
-    private String findVDCByName(String serviceHref, DefaultSampleCommandLineOptions options) {
+    private String findVDCByName(ComputeType compute, DefaultSampleCommandLineOptions options) {
         String vcloudSessionHref = null;
-
-        // Invoke the computeService API
-        HttpResponse response = HttpUtils.httpInvoke(get(serviceHref, options));
-
-        // To Make sure the response status is 200 OK
-        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
-            throw new RuntimeException("\nFailed : HTTP error code : "
-                    + response.getStatusLine().getStatusCode());
-        }
-
-        // Get the compute object which contains the collection of VDC references.
-        ComputeType compute = HttpUtils.unmarshal(response.getEntity(), ComputeType.class);
         List<VdcReferenceType> vdcRef = compute.getVdcRef();
 
         // Iterating through all the VDC under the service to find the desired VDC and get its
         // vCloudSession Href
         for (VdcReferenceType vdc : vdcRef) {
-            if (vdc.getName().equalsIgnoreCase(options.vdcName)) {
+            if (options.vdcName.equalsIgnoreCase(vdc.getName())) {
                 List<LinkType> vdcLinks = vdc.getLink();
 
                 for (LinkType link : vdcLinks) {
                     // To filter vcloudsession link
-                    if (link.getType()
-                            .equals("application/xml;class=vnd.vmware.vchs.vcloudsession")) {
+                    if ("application/xml;class=vnd.vmware.vchs.vcloudsession"
+                            .equals(link.getType())) {
                         vcloudSessionHref = link.getHref();
                     }
                 }
@@ -187,7 +300,120 @@ public class Vchs {
         return vcloudSessionHref;
     }
 
-    
+
+    /**
+     * A search of the compute services for a VDC. The first service found to contain the VDC
+     * completes the search and no further service is looked up; the lookups already in flight
+     * are still checked, to warn when the VDC name is found in more than one service.
+     */
+    private final class VdcLookup {
+        final CompletableFuture<String> result = new CompletableFuture<String>();
+
+        private final Iterator<ServiceType> services;
+        private final DefaultSampleCommandLineOptions options;
+
+        // Guarded by this
+        private int running;
+        private ServiceType found;
+        private RuntimeException failure;
+
+        VdcLookup(Iterator<ServiceType> services, DefaultSampleCommandLineOptions options) {
+            this.services = services;
+            this.options = options;
+        }
+
+        /**
+         * Starts looking up services until MAX_CONCURRENT_LOOKUPS are in flight, unless the VDC
+         * was found. Fails the search once every service was looked up without finding it.
+         */
+        synchronized void launch() {
+            while (running < SampleConstants.MAX_CONCURRENT_LOOKUPS && !result.isDone()
+                    && services.hasNext()) {
+                final ServiceType service = services.next();
+
+                if (service.getHref() != null) {
+                    CompletableFuture<ComputeType> lookup;
+
+                    try {
+                        lookup = HttpUtils.httpInvokeAsync(get(service.getHref(), options),
+                                HttpStatus.SC_OK, ComputeType.class);
+                    } catch (RuntimeException e) {
+                        // E.g. a malformed href, the other services may still hold the VDC
+                        fail(e);
+                        continue;
+                    }
+
+                    running++;
+                    lookup.whenComplete((compute, e) -> completed(service, compute, e));
+                }
+            }
+
+            if (running == 0 && !result.isDone()) {
+                // A failed lookup may have hidden the VDC, report it rather than not found
+                result.completeExceptionally(null != failure ? failure : new RuntimeException(
+                        "\nCould not find VDC: " + options.vdcName));
+            }
+        }
+
+        /**
+         * Called with the outcome of the lookup of a service. It runs as a whenComplete() action,
+         * whose exceptions nobody sees, so a failure is recorded like a failed lookup and the
+         * search goes on, or ends, rather than never completing.
+         */
+        synchronized void completed(ServiceType service, ComputeType compute, Throwable e) {
+            running--;
+
+            try {
+                if (null != e) {
+                    fail(e);
+                } else {
+                    found(service, compute);
+                }
+            } catch (RuntimeException t) {
+                // E.g. a VDC reference without a name, the other services may still hold the VDC
+                fail(t);
+            }
+
+            try {
+                launch();
+            } catch (RuntimeException t) {
+                result.completeExceptionally(t);
+            }
+        }
+
+        /*
+         * Records the first failed lookup, reported if the VDC is not found in another service
+         */
+        private void fail(Throwable e) {
+            Throwable cause = e instanceof CompletionException && null != e.getCause() ? e
+                    .getCause() : e;
+            if (null == failure) {
+                failure = cause instanceof RuntimeException ? (RuntimeException) cause
+                        : new RuntimeException(cause);
+            }
+        }
+
+        /*
+         * Completes the search if the passed in compute service holds the VDC
+         */
+        private void found(ServiceType service, ComputeType compute) {
+            String vdcVCloudSessionHref = findVDCByName(compute, options);
+
+            if (vdcVCloudSessionHref != null) {  // If not null then VDC is found
+                if (null == found) {
+                    found = service;
+                    result.complete(vdcVCloudSessionHref);
+                } else {
+                    // Found after the search completed, maybe while the caller is printing: warn
+                    // on the error console rather than in the middle of its output
+                    System.err.println("\nWarning: VDC " + options.vdcName
+                            + " found in services " + found.getServiceId() + " and "
+                            + service.getServiceId() + ", using " + found.getServiceId());
+                }
+            }
+        }
+    }
+
     /**
      * Creates an org.apache.http.client.methods.HttpGet object adding in the http headers for a
      * VCHS GET
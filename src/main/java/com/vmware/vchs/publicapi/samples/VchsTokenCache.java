@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * This class caches vCHS login sessions on disk, one file per vCHS url and username, so that
+ * samples run one after another, or at the same time, share a single login instead of each
+ * posting the username and password to /api/vchs/sessions.
+ * 
+ * A session is kept until the time it expires at and is otherwise not checked when read: the
+ * first request made with it is the check, and a 401 response is handled by calling refresh()
+ * with the rejected token to log in again.
+ * 
+ * Sessions are written to a temporary file then moved over the previous one, so readers never see
+ * a partial file and need no lock. Logins take an exclusive lock on the lock file of the session,
+ * so that processes finding the session missing or rejected at the same time log in only once.
+ * The session files hold the vCHS token and are only readable by their owner.
+ */
+public class VchsTokenCache {
+    private static final String TOKEN = "token";
+    private static final String SERVICE_LIST_HREF = "serviceListHref";
+    private static final String EXPIRES = "expires";
+
+    // The monitors of the sessions being refreshed in this JVM. A file lock is held by the whole
+    // JVM and cannot be taken twice, so threads of the same JVM wait on these first.
+    private static final ConcurrentMap<String, Object> monitors = new ConcurrentHashMap<String, Object>();
+
+    private final Path directory;
+
+    /**
+     * @param directory
+     *            the directory holding the session files, created if it does not exist
+     */
+    public VchsTokenCache(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * A vCHS login session: the token authorizing vCHS requests, the href of the service list
+     * and the time the session is used until.
+     */
+    public static class Session {
+        final String token;
+        final String serviceListHref;
+        final long expires;
+
+        /**
+         * @param token
+         *            the value of the x-vchs-authorization header
+         * @param serviceListHref
+         *            the href of the vCHS service list
+         * @param expires
+         *            the time in milliseconds since the epoch the session is used until
+         */
+        public Session(String token, String serviceListHref, long expires) {
+            this.token = token;
+            this.serviceListHref = serviceListHref;
+            this.expires = expires;
+        }
+    }
+
+    /**
+     * Returns the cached session of the passed in user if it has not expired.
+     * 
+     * @param hostname
+     *            the vCHS url logged in to
+     * @param username
+     *            the user logged in
+     * @return the cached session or null if there is none or it expired
+     */
+    public Session get(String hostname, String username) {
+        Properties properties = new Properties();
+
+        try (InputStream in = Files.newInputStream(sessionFile(hostname, username))) {
+            properties.load(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            // An unreadable session is a missing one
+            return null;
+        }
+
+        String token = properties.getProperty(TOKEN);
+        String serviceListHref = properties.getProperty(SERVICE_LIST_HREF);
+        String expires = properties.getProperty(EXPIRES);
+
+        if (null == token || null == serviceListHref || null == expires) {
+            return null;
+        }
+
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(expires);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        if (expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+
+        return new Session(token, serviceListHref, expiresAt);
+    }
+
+    /**
+     * Logs in with the passed in login and caches the new session, unless another thread or
+     * process already replaced the stale session while waiting for the lock, in which case the
+     * session it cached is returned.
+     * 
+     * @param hostname
+     *            the vCHS url logged in to
+     * @param username
+     *            the user logged in
+     * @param staleToken
+     *            the token rejected by vCHS, or null if there was no session
+     * @param login
+     *            logs in to vCHS, returning the new session
+     * @return the session to use from now on
+     */
+    public Session refresh(String hostname, String username, String staleToken,
+            Supplier<Session> login) {
+        Path file = sessionFile(hostname, username);
+        Object monitor = monitors.computeIfAbsent(file.toString(), key -> new Object());
+
+        synchronized (monitor) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+
+            Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+
+                try {
+                    Session cached = get(hostname, username);
+                    if (null != cached && !cached.token.equals(staleToken)) {
+                        return cached;
+                    }
+
+                    Session session = login.get();
+                    write(file, session);
+
+                    return session;
+                } finally {
+                    lock.release();
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes the session next to its file then moves it in place in a single step.
+     */
+    private void write(Path file, Session session) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(TOKEN, session.token);
+        properties.setProperty(SERVICE_LIST_HREF, session.serviceListHref);
+        properties.setProperty(EXPIRES, Long.toString(session.expires));
+
+        // Temporary files are created readable by their owner only
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "vCHS session");
+            }
+
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Returns the session file of the passed in user, named after a hash of the url and username.
+     */
+    private Path sessionFile(String hostname, String username) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((username + "@" + hostname)
+                    .getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder name = new StringBuilder(hash.length * 2 + 8);
+            for (byte b : hash) {
+                name.append(String.format("%02x", b));
+            }
+
+            return directory.resolve(name.append(".session").toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
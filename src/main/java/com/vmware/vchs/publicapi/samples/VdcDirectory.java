@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpStatus;
+
+import com.vmware.ares.pub.api.ComputeType;
+import com.vmware.ares.pub.api.LinkType;
+import com.vmware.ares.pub.api.ServiceType;
+import com.vmware.ares.pub.api.VdcReferenceType;
+
+/**
+ * This class is a directory of the VDCs of every compute service, built from one crawl of the
+ * vCHS service list: the service list then every compute service at once. Once built, finding a
+ * VDC by name, or the VDCs of a service type or region, is a hash lookup without any request.
+ * 
+ * Names, service types and regions are matched ignoring case. The directory is crawled again when
+ * it is older than ttl, when refresh() is called, or when a name is not found and the directory
+ * is older than negativeTtl, in case the VDC was created since. A name not found in a directory
+ * younger than negativeTtl is reported missing without any request.
+ * 
+ * The directory does not hold a login: each call takes the Vchs to crawl with if needed. The VDCs
+ * are kept apart for each vCHS url and user of the options passed in, so a single directory can
+ * be shared by the logins of a process without handing one account the VDCs of another.
+ * Concurrent callers of the same account share a single crawl.
+ */
+public class VdcDirectory {
+    // The time in milliseconds the directory is used before it is crawled again
+    long ttl = TimeUnit.MINUTES.toMillis(10);
+
+    // The age in milliseconds of the directory above which a VDC not found triggers a crawl
+    long negativeTtl = TimeUnit.MINUTES.toMillis(1);
+
+    // The current or in-flight crawl of each account. Guarded by this.
+    private final Map<String, CompletableFuture<Index>> current =
+            new HashMap<String, CompletableFuture<Index>>();
+
+    /**
+     * Finds the VDC with the passed in name.
+     * 
+     * @param vchs
+     *            the login to crawl the service list with if needed
+     * @param options
+     *            the command line options
+     * @param vdcName
+     *            the name of the VDC, in any case
+     * @return the VDC or null if there is none with that name
+     */
+    public Entry find(Vchs vchs, DefaultSampleCommandLineOptions options, String vdcName) {
+        return HttpUtils.await(findAsync(vchs, options, vdcName));
+    }
+
+    /**
+     * Asynchronous counterpart of find(), completed at once unless a crawl is needed.
+     * 
+     * @param vchs
+     *            the login to crawl the service list with if needed
+     * @param options
+     *            the command line options
+     * @param vdcName
+     *            the name of the VDC, in any case
+     * @return a future completed with the VDC or null if there is none with that name
+     */
+    public CompletableFuture<Entry> findAsync(final Vchs vchs,
+            final DefaultSampleCommandLineOptions options, String vdcName) {
+        final String key = fold(vdcName);
+
+        return index(vchs, options).thenCompose(index -> {
+            Entry entry = index.byName.get(key);
+
+            // Not found in a recent crawl, it does not exist
+            if (null != entry || System.currentTimeMillis() - index.built < negativeTtl) {
+                return CompletableFuture.completedFuture(entry);
+            }
+
+            // The VDC may have been created since the directory was crawled
+            return refreshIfCurrent(vchs, options, index).thenApply(
+                    fresh -> fresh.byName.get(key));
+        });
+    }
+
+    /**
+     * @return the VDCs of the compute services of the passed in type, e.g. compute:vpc
+     */
+    public List<Entry> findByServiceType(Vchs vchs, DefaultSampleCommandLineOptions options,
+            String serviceType) {
+        return lookup(HttpUtils.await(index(vchs, options)).byServiceType, serviceType);
+    }
+
+    /**
+     * @return the VDCs of the compute services in the passed in region
+     */
+    public List<Entry> findByRegion(Vchs vchs, DefaultSampleCommandLineOptions options,
+            String region) {
+        return lookup(HttpUtils.await(index(vchs, options)).byRegion, region);
+    }
+
+    /**
+     * @return every VDC, in the order of the service list then of each compute service
+     */
+    public List<Entry> entries(Vchs vchs, DefaultSampleCommandLineOptions options) {
+        return Collections.unmodifiableList(HttpUtils.await(index(vchs, options)).entries);
+    }
+
+    /**
+     * Crawls the service list again now, replacing the directory once done.
+     * 
+     * @param vchs
+     *            the login to crawl the service list with
+     * @param options
+     *            the command line options
+     */
+    public void refresh(Vchs vchs, DefaultSampleCommandLineOptions options) {
+        CompletableFuture<Index> crawl;
+
+        synchronized (this) {
+            crawl = crawl(vchs, options);
+            current.put(account(options), crawl);
+        }
+
+        HttpUtils.await(crawl);
+    }
+
+    /**
+     * Returns the current directory, starting a crawl if there is none, it expired or the last
+     * crawl failed.
+     */
+    private synchronized CompletableFuture<Index> index(Vchs vchs,
+            DefaultSampleCommandLineOptions options) {
+        String account = account(options);
+        CompletableFuture<Index> index = current.get(account);
+
+        if (null == index || index.isCompletedExceptionally()
+                || (index.isDone() && isExpired(index.join()))) {
+            index = crawl(vchs, options);
+            current.put(account, index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Starts a crawl replacing the passed in directory, unless another caller already did.
+     */
+    private synchronized CompletableFuture<Index> refreshIfCurrent(Vchs vchs,
+            DefaultSampleCommandLineOptions options, Index seen) {
+        String account = account(options);
+        CompletableFuture<Index> index = current.get(account);
+
+        if (index.isDone() && !index.isCompletedExceptionally() && index.join() == seen) {
+            index = crawl(vchs, options);
+            current.put(account, index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the key of the account of the passed in options: its vCHS url and user.
+     */
+    private static String account(DefaultSampleCommandLineOptions options) {
+        return options.vchsHostname + ' ' + fold(options.vchsUsername);
+    }
+
+    private boolean isExpired(Index index) {
+        return System.currentTimeMillis() - index.built >= ttl;
+    }
+
+    /**
+     * Gets the service list then every compute service at once, and indexes their VDCs.
+     */
+    private static CompletableFuture<Index> crawl(final Vchs vchs,
+            final DefaultSampleCommandLineOptions options) {
+        return vchs.getServiceListAsync(options).thenCompose(serviceList -> {
+            final List<ServiceType> services = new ArrayList<ServiceType>();
+            final List<CompletableFuture<ComputeType>> computes =
+                    new ArrayList<CompletableFuture<ComputeType>>();
+
+            for (ServiceType service : serviceList.getService()) {
+                if (service.getHref() != null && service.getServiceType() != null && service
+                        .getServiceType().startsWith(SampleConstants.COMPUTE_SERVICE_TYPE)) {
+                    services.add(service);
+                    computes.add(HttpUtils.httpInvokeAsync(vchs.get(service.getHref(), options),
+                            HttpStatus.SC_OK, ComputeType.class));
+                }
+            }
+
+            return CompletableFuture.allOf(computes.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(done -> {
+                        Index index = new Index();
+
+                        for (int i = 0; i < services.size(); i++) {
+                            for (VdcReferenceType vdc : computes.get(i).join().getVdcRef()) {
+                                index.add(new Entry(services.get(i), vdc));
+                            }
+                        }
+
+                        return index;
+                    });
+        });
+    }
+
+    private static List<Entry> lookup(Map<String, List<Entry>> map, String key) {
+        List<Entry> entries = map.get(fold(key));
+        return null != entries ? Collections.unmodifiableList(entries) : Collections
+                .<Entry> emptyList();
+    }
+
+    private static String fold(String key) {
+        return null != key ? key.toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * A VDC of the directory with the compute service it belongs to.
+     */
+    public static final class Entry {
+        final ServiceType service;
+        final VdcReferenceType vdc;
+
+        // The href to open a vCloud session for the VDC, null if it has none
+        final String vcloudSessionHref;
+
+        Entry(ServiceType service, VdcReferenceType vdc) {
+            this.service = service;
+            this.vdc = vdc;
+
+            String href = null;
+            for (LinkType link : vdc.getLink()) {
+                if (SampleConstants.APPLICATION_XML_VCD_SESSION.equals(link.getType())) {
+                    href = link.getHref();
+                    break;
+                }
+            }
+            this.vcloudSessionHref = href;
+        }
+
+        public String getName() {
+            return vdc.getName();
+        }
+
+        public ServiceType getService() {
+            return service;
+        }
+
+        public VdcReferenceType getVdc() {
+            return vdc;
+        }
+
+        public String getVCloudSessionHref() {
+            return vcloudSessionHref;
+        }
+    }
+
+    /**
+     * The VDCs found by one crawl and their indexes, never modified once built.
+     */
+    private static final class Index {
+        final long built = System.currentTimeMillis();
+        final List<Entry> entries = new ArrayList<Entry>();
+        final Map<String, Entry> byName = new HashMap<String, Entry>();
+        final Map<String, List<Entry>> byServiceType = new HashMap<String, List<Entry>>();
+        final Map<String, List<Entry>> byRegion = new HashMap<String, List<Entry>>();
+
+        void add(Entry entry) {
+            entries.add(entry);
+
+            // The first VDC of a name wins, as when searching the services in order
+            byName.putIfAbsent(fold(entry.getName()), entry);
+            byServiceType.computeIfAbsent(fold(entry.service.getServiceType()),
+                    key -> new ArrayList<Entry>()).add(entry);
+            byRegion.computeIfAbsent(fold(entry.service.getRegion()),
+                    key -> new ArrayList<Entry>()).add(entry);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
+import org.w3c.dom.Node;
+
+/**
+ * This class provides the JAXB binding of the vCHS and vCloud API schema types used by the
+ * samples. A single JAXBContext covering all the schema packages is created once, on first use,
+ * and each thread reuses its own Marshaller and Unmarshaller created from it, rather than creating
+ * a JAXBContext (and its reflection based model) for every request.
+ * 
+ * The types the samples read and write the most are bound by the StAX readers and writers
+ * generated into StaxBinders instead, which never create the JAXBContext unless they come across
+ * content only JAXB can bind, see StaxBinding.
+ */
+public final class XmlBinding {
+    /*
+     * The schema packages bound by the shared JAXBContext
+     */
+    static final String CONTEXT_PATH = "com.vmware.vcloud.api.rest.schema"
+            + ":com.vmware.vcloud.api.rest.schema.ovf"
+            + ":com.vmware.ares.pub.api";
+
+    /*
+     * Prevent this class from being instantiated
+     */
+    private XmlBinding() {
+    }
+
+    /*
+     * Holder idiom so that the (expensive) JAXBContext is created lazily, exactly once
+     */
+    private static final class ContextHolder {
+        static final JAXBContext CONTEXT = createContext();
+    }
+
+    private static final ThreadLocal<Unmarshaller> unmarshallers = new ThreadLocal<Unmarshaller>() {
+        @Override
+        protected Unmarshaller initialValue() {
+            try {
+                return getContext().createUnmarshaller();
+            } catch (JAXBException e) {
+                throw new RuntimeException("Problem creating JAXB Unmarshaller", e);
+            }
+        }
+    };
+
+    private static final ThreadLocal<Marshaller> marshallers = new ThreadLocal<Marshaller>() {
+        @Override
+        protected Marshaller initialValue() {
+            try {
+                Marshaller marshaller = getContext().createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+                return marshaller;
+            } catch (JAXBException e) {
+                throw new RuntimeException("Problem creating JAXB Marshaller", e);
+            }
+        }
+    };
+
+    private static final ThreadLocal<Marshaller> compactMarshallers =
+            new ThreadLocal<Marshaller>() {
+        @Override
+        protected Marshaller initialValue() {
+            try {
+                return getContext().createMarshaller();
+            } catch (JAXBException e) {
+                throw new RuntimeException("Problem creating JAXB Marshaller", e);
+            }
+        }
+    };
+
+    private static final ThreadLocal<Marshaller> fragmentMarshallers =
+            new ThreadLocal<Marshaller>() {
+        @Override
+        protected Marshaller initialValue() {
+            try {
+                Marshaller marshaller = getContext().createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+                return marshaller;
+            } catch (JAXBException e) {
+                throw new RuntimeException("Problem creating JAXB Marshaller", e);
+            }
+        }
+    };
+
+    /**
+     * Returns the JAXBContext shared by all the samples.
+     * 
+     * @return the JAXBContext
+     */
+    public static JAXBContext getContext() {
+        return ContextHolder.CONTEXT;
+    }
+
+    /**
+     * Unmarshals the XML read from the passed in stream into the passed in class type. The
+     * encoding is detected from the XML document.
+     * 
+     * @param is
+     *            the stream to read the XML from
+     * @param clazz
+     *            the class type to unmarshal the XML to
+     * @return an instance of the provided class type
+     */
+    public static <T> T unmarshal(InputStream is, Class<T> clazz) {
+        if (StaxBinding.canRead(clazz)) {
+            return StaxBinding.read(is, clazz);
+        }
+
+        return unmarshal(new StreamSource(is), clazz);
+    }
+
+    /**
+     * Unmarshals the XML read from the passed in reader into the passed in class type.
+     * 
+     * @param reader
+     *            the reader to read the XML from
+     * @param clazz
+     *            the class type to unmarshal the XML to
+     * @return an instance of the provided class type
+     */
+    public static <T> T unmarshal(Reader reader, Class<T> clazz) {
+        if (StaxBinding.canRead(clazz)) {
+            return StaxBinding.read(reader, clazz);
+        }
+
+        return unmarshal(new StreamSource(reader), clazz);
+    }
+
+    /**
+     * Unmarshals the XML from the passed in source into the passed in class type using this
+     * thread's Unmarshaller.
+     * 
+     * @param source
+     *            the source of the XML
+     * @param clazz
+     *            the class type to unmarshal the XML to
+     * @return an instance of the provided class type
+     */
+    public static <T> T unmarshal(Source source, Class<T> clazz) {
+        try {
+            return unmarshallers.get().unmarshal(source, clazz).getValue();
+        } catch (JAXBException e) {
+            throw new RuntimeException("Problem unmarshalling " + clazz.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Marshals the passed in JAXB element (typically created with an ObjectFactory) to the
+     * passed in stream using this thread's Marshaller.
+     * 
+     * @param jaxbElement
+     *            the JAXB element to marshal
+     * @param os
+     *            the stream to write the XML to
+     */
+    public static void marshal(Object jaxbElement, OutputStream os) {
+        marshal(jaxbElement, os, true);
+    }
+
+    /**
+     * Marshals the passed in JAXB element (typically created with an ObjectFactory) to the
+     * passed in stream as XML encoded in UTF-8, indented or not. The StaxBinders writers never
+     * indent.
+     * 
+     * @param jaxbElement
+     *            the JAXB element to marshal
+     * @param os
+     *            the stream to write the XML to
+     * @param formatted
+     *            true to indent the XML, false to write it compact as sent in requests
+     */
+    public static void marshal(Object jaxbElement, OutputStream os, boolean formatted) {
+        if (StaxBinding.canWrite(jaxbElement)) {
+            StaxBinding.write((JAXBElement<?>) jaxbElement, os);
+            return;
+        }
+
+        try {
+            (formatted ? marshallers : compactMarshallers).get().marshal(jaxbElement, os);
+        } catch (JAXBException e) {
+            throw new RuntimeException("Problem marshalling " + jaxbElement, e);
+        }
+    }
+
+    /**
+     * Unmarshals the element the passed in reader is positioned on into the passed in class type,
+     * leaving the reader on the event following the end of the element.
+     * 
+     * @param reader
+     *            the reader, positioned on the start of the element
+     * @param clazz
+     *            the class type to unmarshal the element to
+     * @return an instance of the provided class type
+     */
+    static <T> T unmarshal(XMLStreamReader reader, Class<T> clazz) {
+        try {
+            return unmarshallers.get().unmarshal(reader, clazz).getValue();
+        } catch (JAXBException e) {
+            throw new RuntimeException("Problem unmarshalling " + clazz.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Unmarshals the element the passed in reader is positioned on into whatever its name is
+     * bound to, typically a JAXBElement, leaving the reader on the event following the end of the
+     * element.
+     * 
+     * @param reader
+     *            the reader, positioned on the start of the element
+     * @return the JAXBElement or object the element is bound to
+     */
+    static Object unmarshal(XMLStreamReader reader) {
+        try {
+            return unmarshallers.get().unmarshal(reader);
+        } catch (JAXBException e) {
+            throw new RuntimeException("Problem unmarshalling " + reader.getName(), e);
+        }
+    }
+
+    /**
+     * Unmarshals the passed in DOM node into whatever its name is bound to.
+     * 
+     * @param node
+     *            the DOM element or document
+     * @return the JAXBElement or object the node is bound to
+     * @throws JAXBException
+     *             when the name of the node is not bound
+     */
+    static Object unmarshal(Node node) throws JAXBException {
+        return unmarshallers.get().unmarshal(node);
+    }
+
+    /**
+     * Marshals the passed in JAXB element as a fragment of the document being written by the
+     * passed in writer.
+     * 
+     * @param jaxbElement
+     *            the JAXB element to marshal
+     * @param writer
+     *            the writer of the document
+     */
+    static void marshal(Object jaxbElement, XMLStreamWriter writer) {
+        try {
+            fragmentMarshallers.get().marshal(jaxbElement, writer);
+        } catch (JAXBException e) {
+            throw new RuntimeException("Problem marshalling " + jaxbElement, e);
+        }
+    }
+
+    /**
+     * Creates a factory of namespace aware pull parsers that neither read DTDs nor resolve
+     * external entities, to parse the XML received from the network. Like the factories it
+     * creates, the returned factory is safe to share between threads as long as its properties
+     * are not changed.
+     * 
+     * @return the new factory
+     */
+    static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+
+    /**
+     * Creates the JAXBContext for all the schema packages in CONTEXT_PATH.
+     * 
+     * @return the JAXBContext
+     */
+    private static JAXBContext createContext() {
+        try {
+            return JAXBContext.newInstance(CONTEXT_PATH, XmlBinding.class.getClassLoader());
+        } catch (JAXBException e) {
+            throw new RuntimeException("Problem creating JAXB Context: ", e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2013 VMware, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use
+ * this file except in compliance with the License.    You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS,  WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.vmware.vchs.publicapi.samples;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.http.Consts;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+/**
+ * This class is an HttpEntity that marshals a JAXB element straight to the request stream as
+ * compact UTF-8 XML, instead of building the whole body as a String first. The element is
+ * marshalled again each time the entity is written, so the entity is repeatable and a request
+ * can be retried or redirected with the same body.
+ * 
+ * The length of the body is not known up front, so requests using this entity are sent with
+ * chunked transfer encoding.
+ */
+public class XmlEntity extends AbstractHttpEntity {
+    private final Object jaxbElement;
+
+    /**
+     * Creates an entity for the passed in JAXB element, typically created with an ObjectFactory.
+     * 
+     * @param jaxbElement
+     *            the JAXB element to send
+     * @param mimeType
+     *            the vCloud media type of the element, sent with a UTF-8 charset
+     */
+    public XmlEntity(Object jaxbElement, String mimeType) {
+        if (null == jaxbElement) {
+            throw new IllegalArgumentException("JAXB element may not be null");
+        }
+
+        this.jaxbElement = jaxbElement;
+        setContentType(ContentType.create(mimeType, Consts.UTF_8).toString());
+        setChunked(true);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        XmlBinding.marshal(jaxbElement, os, false);
+        return new ByteArrayInputStream(os.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        if (null == os) {
+            throw new IllegalArgumentException("Output stream may not be null");
+        }
+
+        XmlBinding.marshal(jaxbElement, os, false);
+        os.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}